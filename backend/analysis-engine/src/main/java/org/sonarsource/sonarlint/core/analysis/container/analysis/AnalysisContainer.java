@@ -23,6 +23,7 @@ import org.sonar.api.batch.rule.CheckFactory;
 import org.sonar.api.resources.Languages;
 import org.sonar.api.scan.filesystem.PathResolver;
 import org.sonarsource.sonarlint.core.analysis.container.ContainerLifespan;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileContentCache;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileIndexer;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileMetadata;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.InputFileBuilder;
@@ -84,6 +85,7 @@ public class AnalysisContainer extends SpringComponentContainer {
       // file system
       InputFileIndex.class,
       InputFileBuilder.class,
+      FileContentCache.class,
       FileMetadata.class,
       LanguageDetection.class,
       FileIndexer.class,
@@ -31,6 +31,10 @@ import org.sonar.api.batch.fs.InputFile;
 public abstract class AbstractFilePredicate implements OptimizedFilePredicate {
 
   protected static final int DEFAULT_PRIORITY = 10;
+  /**
+   * Priority of predicates able to look up matching files in the {@link InputFileIndex} instead of scanning all files.
+   */
+  protected static final int USE_INDEX = 20;
 
   @Override
   public Iterable<InputFile> filter(Iterable<InputFile> target) {
@@ -81,12 +81,31 @@ class AndPredicate extends AbstractFilePredicate {
     if (predicates.isEmpty()) {
       return index.inputFiles();
     }
-    // Optimization, use get on first predicate then filter with next predicates
+    // Optimization, use get on the most selective indexed predicate (or the first one if none is indexed) then filter with the others
+    var lookupPredicateIndex = 0;
     var result = predicates.get(0).get(index);
-    for (var i = 1; i < predicates.size(); i++) {
-      result = predicates.get(i).filter(result);
+    for (var i = 1; i < predicates.size() && predicates.get(i).priority() >= USE_INDEX; i++) {
+      var candidates = predicates.get(i).get(index);
+      if (size(candidates) < size(result)) {
+        result = candidates;
+        lookupPredicateIndex = i;
+      }
+    }
+    for (var i = 0; i < predicates.size(); i++) {
+      if (i != lookupPredicateIndex) {
+        result = predicates.get(i).filter(result);
+      }
     }
     return result;
   }
 
+  @Override
+  public int priority() {
+    return predicates.isEmpty() ? DEFAULT_PRIORITY : predicates.get(0).priority();
+  }
+
+  private static int size(Iterable<InputFile> files) {
+    return files instanceof Collection<?> collection ? collection.size() : Integer.MAX_VALUE;
+  }
+
 }
@@ -64,7 +64,7 @@ public class DefaultFilePredicates implements FilePredicates {
    */
   @Override
   public FilePredicate hasRelativePath(String s) {
-    throw new UnsupportedOperationException("hasRelativePath");
+    return new RelativePathPredicate(s);
   }
 
   @Override
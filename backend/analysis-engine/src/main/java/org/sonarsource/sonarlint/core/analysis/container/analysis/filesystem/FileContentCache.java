@@ -0,0 +1,159 @@
+/*
+ * SonarLint Core - Analysis Engine
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.sonar.api.Startable;
+import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
+
+/**
+ * Reads the content of each analyzed file at most once, and shares it between the metadata computation, the issue exclusions
+ * and all the sensors. The text is decoded from the cached bytes with the file charset. The least recently used entries are
+ * released once the estimated size of the cache goes over {@code sonarlint.analysis.contentCache.maxSizeMb} (64 MB by default),
+ * and all of them at the end of the analysis.
+ */
+public class FileContentCache implements Startable {
+
+  private static final int DEFAULT_MAX_SIZE_MB = 64;
+
+  private final long maxSizeInBytes;
+  private final Map<URI, CachedContent> contentByUri = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeInBytes;
+
+  public FileContentCache() {
+    this(Integer.getInteger("sonarlint.analysis.contentCache.maxSizeMb", DEFAULT_MAX_SIZE_MB) * 1024L * 1024L);
+  }
+
+  FileContentCache(long maxSizeInBytes) {
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  public InputStream inputStream(ClientInputFile file) throws IOException {
+    return new ByteArrayInputStream(contentOf(file).bytes());
+  }
+
+  public String contents(ClientInputFile file) throws IOException {
+    var content = contentOf(file);
+    var text = content.text();
+    if (text == null) {
+      var charset = file.getCharset();
+      text = new String(content.bytes(), charset != null ? charset : Charset.defaultCharset());
+      cacheText(file.uri(), content, text);
+    }
+    return text;
+  }
+
+  private CachedContent contentOf(ClientInputFile file) throws IOException {
+    var uri = file.uri();
+    var cached = get(uri);
+    if (cached != null) {
+      return cached;
+    }
+    byte[] bytes;
+    try (var inputStream = file.inputStream()) {
+      bytes = inputStream.readAllBytes();
+    }
+    return putIfAbsent(uri, new CachedContent(bytes));
+  }
+
+  private synchronized CachedContent get(URI uri) {
+    return contentByUri.get(uri);
+  }
+
+  private synchronized CachedContent putIfAbsent(URI uri, CachedContent content) {
+    var existing = contentByUri.get(uri);
+    if (existing != null) {
+      return existing;
+    }
+    contentByUri.put(uri, content);
+    sizeInBytes += content.estimatedSizeInBytes();
+    evictOverflow();
+    return content;
+  }
+
+  private synchronized void cacheText(URI uri, CachedContent content, String text) {
+    if (content.text() != null) {
+      return;
+    }
+    var stillCached = contentByUri.get(uri) == content;
+    if (stillCached) {
+      sizeInBytes -= content.estimatedSizeInBytes();
+    }
+    content.setText(text);
+    if (stillCached) {
+      sizeInBytes += content.estimatedSizeInBytes();
+      evictOverflow();
+    }
+  }
+
+  private void evictOverflow() {
+    var iterator = contentByUri.values().iterator();
+    while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+      sizeInBytes -= iterator.next().estimatedSizeInBytes();
+      iterator.remove();
+    }
+  }
+
+  synchronized int size() {
+    return contentByUri.size();
+  }
+
+  @Override
+  public void start() {
+    // nothing to do
+  }
+
+  @Override
+  public synchronized void stop() {
+    contentByUri.clear();
+    sizeInBytes = 0;
+  }
+
+  private static class CachedContent {
+    private final byte[] bytes;
+    private volatile String text;
+
+    CachedContent(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    byte[] bytes() {
+      return bytes;
+    }
+
+    String text() {
+      return text;
+    }
+
+    void setText(String text) {
+      this.text = text;
+    }
+
+    long estimatedSizeInBytes() {
+      return bytes.length + (text == null ? 0 : (2L * text.length()));
+    }
+  }
+}
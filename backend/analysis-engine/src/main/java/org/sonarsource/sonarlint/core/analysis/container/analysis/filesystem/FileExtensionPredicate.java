@@ -41,6 +41,11 @@ public class FileExtensionPredicate extends AbstractFilePredicate {
     return index.getFilesByExtension(extension);
   }
 
+  @Override
+  public int priority() {
+    return USE_INDEX;
+  }
+
   public static String getExtension(InputFile inputFile) {
     return getExtension(inputFile.filename());
   }
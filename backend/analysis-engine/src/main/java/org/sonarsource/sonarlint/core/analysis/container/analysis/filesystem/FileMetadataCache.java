@@ -0,0 +1,144 @@
+/*
+ * SonarLint Core - Analysis Engine
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileMetadata.Metadata;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+
+/**
+ * Keeps the metadata of analyzed files, and the issue exclusions found while computing it, between analyses of a module.
+ * An entry is reused only if the file has the same fingerprint: size and last modification time for unmodified files on disk,
+ * a hash of the content for the others (e.g. unsaved editor buffers). The least recently used entries are evicted once the
+ * estimated size of the cache goes over {@code sonarlint.analysis.metadataCache.maxSizeMb} (32 MB by default).
+ */
+public class FileMetadataCache {
+
+  private static final SonarLintLogger LOG = SonarLintLogger.get();
+  private static final int DEFAULT_MAX_SIZE_MB = 32;
+  private static final long ENTRY_OVERHEAD_BYTES = 200;
+
+  private final long maxSizeInBytes;
+  private final Map<URI, CachedMetadata> metadataByUri = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeInBytes;
+
+  public FileMetadataCache() {
+    this(Integer.getInteger("sonarlint.analysis.metadataCache.maxSizeMb", DEFAULT_MAX_SIZE_MB) * 1024L * 1024L);
+  }
+
+  FileMetadataCache(long maxSizeInBytes) {
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  /**
+   * Return the cached metadata of the file and restore the issue exclusions that were found when computing it, or compute it
+   * and cache the result if the file changed since it was last computed.
+   *
+   * @param issueExclusionsKey identifies the issue exclusion patterns applied while computing the metadata
+   */
+  public Metadata getOrCompute(SonarLintInputFile inputFile, Charset charset, String issueExclusionsKey, Supplier<Metadata> metadataComputer) {
+    var fingerprint = fingerprint(inputFile, charset, issueExclusionsKey);
+    if (fingerprint == null) {
+      return metadataComputer.get();
+    }
+    var uri = inputFile.uri();
+    var cached = get(uri, fingerprint);
+    if (cached != null) {
+      LOG.debug("Reusing metadata of unchanged file {}", uri);
+      if (cached.ignoreAllIssues()) {
+        inputFile.setIgnoreAllIssues(true);
+      }
+      if (cached.ignoredLineRanges() != null) {
+        inputFile.addIgnoreIssuesOnLineRanges(cached.ignoredLineRanges());
+      }
+      return cached.metadata();
+    }
+    var metadata = metadataComputer.get();
+    var ignoredLineRanges = inputFile.ignoredLineRanges();
+    put(uri, new CachedMetadata(fingerprint, metadata, inputFile.ignoresAllIssues(), ignoredLineRanges == null ? null : List.copyOf(ignoredLineRanges)));
+    return metadata;
+  }
+
+  @CheckForNull
+  private synchronized CachedMetadata get(URI uri, Fingerprint fingerprint) {
+    var cached = metadataByUri.get(uri);
+    return cached != null && cached.fingerprint().equals(fingerprint) ? cached : null;
+  }
+
+  private synchronized void put(URI uri, CachedMetadata cachedMetadata) {
+    var previous = metadataByUri.put(uri, cachedMetadata);
+    if (previous != null) {
+      sizeInBytes -= previous.estimatedSizeInBytes();
+    }
+    sizeInBytes += cachedMetadata.estimatedSizeInBytes();
+    var iterator = metadataByUri.values().iterator();
+    while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+      sizeInBytes -= iterator.next().estimatedSizeInBytes();
+      iterator.remove();
+    }
+  }
+
+  synchronized int size() {
+    return metadataByUri.size();
+  }
+
+  @CheckForNull
+  private static Fingerprint fingerprint(SonarLintInputFile inputFile, Charset charset, String issueExclusionsKey) {
+    var clientInputFile = inputFile.getClientInputFile();
+    var uri = clientInputFile.uri();
+    if (!clientInputFile.isDirty() && "file".equals(uri.getScheme())) {
+      try {
+        var attributes = Files.readAttributes(Path.of(uri), BasicFileAttributes.class);
+        return new Fingerprint(charset.name(), issueExclusionsKey, attributes.size(), attributes.lastModifiedTime().toMillis(), null);
+      } catch (IOException | RuntimeException e) {
+        LOG.debug("Unable to read attributes of file {}, falling back to content hash", uri);
+      }
+    }
+    try (var inputStream = inputFile.inputStream()) {
+      return new Fingerprint(charset.name(), issueExclusionsKey, -1, -1, DigestUtils.md5Hex(inputStream));
+    } catch (IOException e) {
+      // let the metadata computation report the error
+      return null;
+    }
+  }
+
+  private record Fingerprint(String charset, String issueExclusionsKey, long size, long lastModified, @Nullable String contentHash) {
+  }
+
+  private record CachedMetadata(Fingerprint fingerprint, Metadata metadata, boolean ignoreAllIssues, @Nullable Collection<int[]> ignoredLineRanges) {
+    long estimatedSizeInBytes() {
+      var rangesSize = ignoredLineRanges == null ? 0 : (ignoredLineRanges.size() * 24L);
+      return ENTRY_OVERHEAD_BYTES + metadata.originalLineOffsets().length * 4L + rangesSize;
+    }
+  }
+}
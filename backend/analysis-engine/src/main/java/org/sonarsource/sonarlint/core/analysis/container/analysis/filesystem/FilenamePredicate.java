@@ -39,4 +39,9 @@ public class FilenamePredicate extends AbstractFilePredicate {
     return index.getFilesByName(filename);
   }
 
+  @Override
+  public int priority() {
+    return USE_INDEX;
+  }
+
 }
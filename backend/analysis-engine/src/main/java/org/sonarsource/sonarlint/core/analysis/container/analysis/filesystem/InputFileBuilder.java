@@ -24,6 +24,7 @@ import java.io.InputStream;
 import java.nio.charset.Charset;
 import org.sonar.api.batch.fs.InputFile.Type;
 import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileMetadata.Metadata;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.issue.ignore.scanner.IssueExclusionsLoader;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 
@@ -32,25 +33,24 @@ public class InputFileBuilder {
   private final LanguageDetection langDetection;
   private final FileMetadata fileMetadata;
   private final IssueExclusionsLoader exclusionsScanner;
+  private final FileContentCache contentCache;
+  private final FileMetadataCache metadataCache;
 
-  public InputFileBuilder(LanguageDetection langDetection, FileMetadata fileMetadata, IssueExclusionsLoader exclusionsScanner) {
+  public InputFileBuilder(LanguageDetection langDetection, FileMetadata fileMetadata, IssueExclusionsLoader exclusionsScanner, FileContentCache contentCache,
+    FileMetadataCache metadataCache) {
     this.langDetection = langDetection;
     this.fileMetadata = fileMetadata;
     this.exclusionsScanner = exclusionsScanner;
+    this.contentCache = contentCache;
+    this.metadataCache = metadataCache;
   }
 
   SonarLintInputFile create(ClientInputFile inputFile) {
     var defaultInputFile = new SonarLintInputFile(inputFile, f -> {
-      LOG.debug("Initializing metadata of file {}", f.uri());
-      var charset = f.charset();
-      InputStream stream;
-      try {
-        stream = f.inputStream();
-      } catch (IOException e) {
-        throw new IllegalStateException("Failed to open a stream on file: " + f.uri(), e);
-      }
-      return fileMetadata.readMetadata(stream, charset != null ? charset : Charset.defaultCharset(), f.uri(), exclusionsScanner.createCharHandlerFor(f));
-    });
+      var fileCharset = f.charset();
+      var charset = fileCharset != null ? fileCharset : Charset.defaultCharset();
+      return metadataCache.getOrCompute(f, charset, exclusionsScanner.getCharHandlerKey(), () -> readMetadata(f, charset));
+    }, contentCache);
     defaultInputFile.setType(inputFile.isTest() ? Type.TEST : Type.MAIN);
     var fileLanguage = inputFile.language();
     if (fileLanguage != null) {
@@ -63,4 +63,15 @@ public class InputFileBuilder {
     return defaultInputFile;
   }
 
+  private Metadata readMetadata(SonarLintInputFile f, Charset charset) {
+    LOG.debug("Initializing metadata of file {}", f.uri());
+    InputStream stream;
+    try {
+      stream = f.inputStream();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to open a stream on file: " + f.uri(), e);
+    }
+    return fileMetadata.readMetadata(stream, charset, f.uri(), exclusionsScanner.createCharHandlerFor(f));
+  }
+
 }
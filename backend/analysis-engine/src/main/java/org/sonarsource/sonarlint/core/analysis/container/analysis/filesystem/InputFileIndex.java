@@ -19,14 +19,20 @@
  */
 package org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import javax.annotation.CheckForNull;
 import org.sonar.api.batch.fs.FileSystem;
 import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.utils.PathUtils;
 import org.sonarsource.api.sonarlint.SonarLintSide;
 
 @SonarLintSide
@@ -35,6 +41,9 @@ public class InputFileIndex implements FileSystem.Index {
   private final Set<InputFile> inputFiles = new LinkedHashSet<>();
   private final Map<String, Set<InputFile>> filesByNameIndex = new LinkedHashMap<>();
   private final Map<String, Set<InputFile>> filesByExtensionIndex = new LinkedHashMap<>();
+  private final Map<String, Set<InputFile>> filesByLanguageIndex = new HashMap<>();
+  private final Map<InputFile.Type, Set<InputFile>> filesByTypeIndex = new EnumMap<>(InputFile.Type.class);
+  private final Map<String, InputFile> filesByRelativePathIndex = new HashMap<>();
   private final SortedSet<String> languages = new TreeSet<>();
 
   @Override
@@ -43,27 +52,50 @@ public class InputFileIndex implements FileSystem.Index {
   }
 
   public void doAdd(InputFile inputFile) {
-    if (inputFile.language() != null) {
-      languages.add(inputFile.language());
+    var language = inputFile.language();
+    if (language != null) {
+      languages.add(language);
+      filesByLanguageIndex.computeIfAbsent(language, l -> new LinkedHashSet<>()).add(inputFile);
+    }
+    var type = inputFile.type();
+    if (type != null) {
+      filesByTypeIndex.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(inputFile);
+    }
+    var relativePath = inputFile.relativePath();
+    if (relativePath != null) {
+      filesByRelativePathIndex.put(relativePath, inputFile);
     }
     inputFiles.add(inputFile);
     filesByNameIndex.computeIfAbsent(inputFile.filename(), f -> new LinkedHashSet<>()).add(inputFile);
     filesByExtensionIndex.computeIfAbsent(FileExtensionPredicate.getExtension(inputFile), f -> new LinkedHashSet<>()).add(inputFile);
   }
 
+  /**
+   * Non-normalized and Windows-style paths are supported.
+   */
+  @CheckForNull
   @Override
   public InputFile inputFile(String relativePath) {
-    throw new UnsupportedOperationException("inputFile(String relativePath)");
+    var normalizedPath = PathUtils.sanitize(relativePath);
+    return normalizedPath == null ? null : filesByRelativePathIndex.get(normalizedPath);
   }
 
   @Override
-  public Iterable<InputFile> getFilesByName(String filename) {
-    return filesByNameIndex.get(filename);
+  public Collection<InputFile> getFilesByName(String filename) {
+    return filesByNameIndex.getOrDefault(filename, Collections.emptySet());
   }
 
   @Override
-  public Iterable<InputFile> getFilesByExtension(String extension) {
-    return filesByExtensionIndex.get(extension);
+  public Collection<InputFile> getFilesByExtension(String extension) {
+    return filesByExtensionIndex.getOrDefault(extension, Collections.emptySet());
+  }
+
+  public Collection<InputFile> getFilesByLanguage(String language) {
+    return filesByLanguageIndex.getOrDefault(language, Collections.emptySet());
+  }
+
+  public Collection<InputFile> getFilesByType(InputFile.Type type) {
+    return filesByTypeIndex.getOrDefault(type, Collections.emptySet());
   }
 
   protected SortedSet<String> languages() {
@@ -21,7 +21,9 @@ package org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import org.sonar.api.batch.fs.FilePredicate;
+import org.sonar.api.batch.fs.FileSystem.Index;
 import org.sonar.api.batch.fs.InputFile;
 
 /**
@@ -30,6 +32,7 @@ import org.sonar.api.batch.fs.InputFile;
 class OrPredicate extends AbstractFilePredicate {
 
   private final Collection<FilePredicate> predicates = new ArrayList<>();
+  private boolean usesIndex;
 
   private OrPredicate() {
   }
@@ -50,6 +53,8 @@ class OrPredicate extends AbstractFilePredicate {
         result.predicates.add(filePredicate);
       }
     }
+    result.usesIndex = result.predicates.stream()
+      .allMatch(p -> p instanceof OptimizedFilePredicate optimizedPredicate && optimizedPredicate.priority() >= USE_INDEX);
     return result;
   }
 
@@ -63,6 +68,24 @@ class OrPredicate extends AbstractFilePredicate {
     return false;
   }
 
+  @Override
+  public Iterable<InputFile> get(Index index) {
+    if (!usesIndex) {
+      return super.get(index);
+    }
+    // Optimization, union of the files found in the index by each predicate
+    var result = new LinkedHashSet<InputFile>();
+    for (FilePredicate predicate : predicates) {
+      ((OptimizedFilePredicate) predicate).get(index).forEach(result::add);
+    }
+    return result;
+  }
+
+  @Override
+  public int priority() {
+    return usesIndex ? USE_INDEX : DEFAULT_PRIORITY;
+  }
+
   Collection<FilePredicate> predicates() {
     return predicates;
   }
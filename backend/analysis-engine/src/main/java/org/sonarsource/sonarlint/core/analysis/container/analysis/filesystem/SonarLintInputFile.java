@@ -53,11 +53,18 @@ public class SonarLintInputFile implements InputFile {
   private boolean ignoreAllIssues;
   private final Set<Integer> noSonarLines = new HashSet<>();
   private Collection<int[]> ignoreIssuesOnlineRanges;
+  @Nullable
+  private final FileContentCache contentCache;
 
   public SonarLintInputFile(ClientInputFile clientInputFile, Function<SonarLintInputFile, Metadata> metadataGenerator) {
+    this(clientInputFile, metadataGenerator, null);
+  }
+
+  public SonarLintInputFile(ClientInputFile clientInputFile, Function<SonarLintInputFile, Metadata> metadataGenerator, @Nullable FileContentCache contentCache) {
     this.clientInputFile = clientInputFile;
     this.metadataGenerator = metadataGenerator;
     this.relativePath = PathUtils.sanitize(clientInputFile.relativePath());
+    this.contentCache = contentCache;
   }
 
   public void checkMetadata() {
@@ -130,12 +137,12 @@ public class SonarLintInputFile implements InputFile {
 
   @Override
   public InputStream inputStream() throws IOException {
-    return clientInputFile.inputStream();
+    return contentCache != null ? contentCache.inputStream(clientInputFile) : clientInputFile.inputStream();
   }
 
   @Override
   public String contents() throws IOException {
-    return clientInputFile.contents();
+    return contentCache != null ? contentCache.contents(clientInputFile) : clientInputFile.contents();
   }
 
   @Override
@@ -273,6 +280,18 @@ public class SonarLintInputFile implements InputFile {
     this.ignoreAllIssues = ignoreAllIssues;
   }
 
+  /**
+   * Exclusion state as set during metadata initialization, without triggering it.
+   */
+  boolean ignoresAllIssues() {
+    return ignoreAllIssues;
+  }
+
+  @CheckForNull
+  Collection<int[]> ignoredLineRanges() {
+    return ignoreIssuesOnlineRanges;
+  }
+
   public void addIgnoreIssuesOnLineRanges(Collection<int[]> lineRanges) {
     if (this.ignoreIssuesOnlineRanges == null) {
       this.ignoreIssuesOnlineRanges = new ArrayList<>();
@@ -19,6 +19,7 @@
  */
 package org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem;
 
+import org.sonar.api.batch.fs.FileSystem;
 import org.sonar.api.batch.fs.InputFile;
 
 /**
@@ -37,4 +38,17 @@ class TypePredicate extends AbstractFilePredicate {
     return type == f.type();
   }
 
+  @Override
+  public Iterable<InputFile> get(FileSystem.Index index) {
+    if (index instanceof InputFileIndex inputFileIndex) {
+      return inputFileIndex.getFilesByType(type);
+    }
+    return super.get(index);
+  }
+
+  @Override
+  public int priority() {
+    return USE_INDEX;
+  }
+
 }
@@ -37,6 +37,7 @@ public class IssueExclusionsLoader {
   private final IgnoreIssuesFilter ignoreIssuesFilter;
   private final IssueExclusionPatternInitializer patternsInitializer;
   private final boolean enableCharHandler;
+  private final String charHandlerKey;
 
   public IssueExclusionsLoader(IssueExclusionPatternInitializer patternsInitializer, IgnoreIssuesFilter ignoreIssuesFilter) {
     this.patternsInitializer = patternsInitializer;
@@ -53,6 +54,10 @@ public class IssueExclusionsLoader {
         java.util.regex.Pattern.compile(pattern.getEndBlockRegexp())));
     }
     enableCharHandler = !allFilePatterns.isEmpty() || !blockMatchers.isEmpty();
+    var keyBuilder = new StringBuilder();
+    patternsInitializer.getAllFilePatterns().forEach(p -> keyBuilder.append("all:").append(p).append('\n'));
+    patternsInitializer.getBlockPatterns().forEach(p -> keyBuilder.append("block:").append(p.getBeginBlockRegexp()).append('\n').append(p.getEndBlockRegexp()).append('\n'));
+    charHandlerKey = keyBuilder.toString();
   }
 
   public void addMulticriteriaPatterns(SonarLintInputFile inputFile) {
@@ -71,6 +76,13 @@ public class IssueExclusionsLoader {
     return null;
   }
 
+  /**
+   * Identifies the patterns evaluated by the char handler: files having the same content get the same exclusions for the same key.
+   */
+  public String getCharHandlerKey() {
+    return charHandlerKey;
+  }
+
   public static class DoubleRegexpMatcher {
 
     private final java.util.regex.Pattern firstPattern;
@@ -28,6 +28,7 @@ import org.sonarsource.sonarlint.core.analysis.container.ContainerLifespan;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.AnalysisContainer;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.IssueListenerHolder;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileMetadata;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileMetadataCache;
 import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.LanguageDetection;
 import org.sonarsource.sonarlint.core.analysis.container.global.AnalysisExtensionInstaller;
 import org.sonarsource.sonarlint.core.analysis.sonarapi.ActiveRulesAdapter;
@@ -53,6 +54,7 @@ public class ModuleContainer extends SpringComponentContainer {
       SonarLintModuleFileSystem.class,
       ModuleInputFileBuilder.class,
       FileMetadata.class,
+      FileMetadataCache.class,
       LanguageDetection.class,
 
       ModuleFileEventNotifier.class);
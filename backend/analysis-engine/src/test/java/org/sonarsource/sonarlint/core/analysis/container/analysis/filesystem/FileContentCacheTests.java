@@ -0,0 +1,103 @@
+/*
+ * SonarLint Core - Analysis Engine
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
+import testutils.OnDiskTestClientInputFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class FileContentCacheTests {
+
+  @TempDir
+  private Path tempDir;
+
+  private final FileContentCache underTest = new FileContentCache();
+
+  @Test
+  void should_read_and_decode_each_file_once() throws IOException {
+    var file = aFile("content");
+
+    assertThat(underTest.contents(file)).isEqualTo("content");
+    assertThat(underTest.contents(file)).isEqualTo("content");
+    assertThat(underTest.inputStream(file).readAllBytes()).isEqualTo("content".getBytes(StandardCharsets.UTF_8));
+    assertThat(underTest.inputStream(file).readAllBytes()).isEqualTo("content".getBytes(StandardCharsets.UTF_8));
+
+    verify(file, never()).contents();
+    verify(file, times(1)).inputStream();
+  }
+
+  @Test
+  void should_decode_cached_bytes_with_file_charset() throws IOException {
+    var path = tempDir.resolve("latin1.txt");
+    Files.write(path, "caf\u00e9".getBytes(StandardCharsets.ISO_8859_1));
+    var file = spy(new OnDiskTestClientInputFile(path, "latin1.txt", false, StandardCharsets.ISO_8859_1));
+
+    assertThat(underTest.contents(file)).isEqualTo("caf\u00e9");
+
+    verify(file, never()).contents();
+  }
+
+  @Test
+  void should_release_least_recently_used_content_when_over_max_size() throws IOException {
+    var boundedCache = new FileContentCache(10);
+    var first = aFile("first.txt", "123456");
+    var second = aFile("second.txt", "abcdef");
+
+    boundedCache.inputStream(first);
+    boundedCache.inputStream(second);
+    boundedCache.inputStream(first);
+
+    assertThat(boundedCache.size()).isEqualTo(1);
+    verify(first, times(2)).inputStream();
+    verify(second, times(1)).inputStream();
+  }
+
+  @Test
+  void should_release_content_when_stopped() throws IOException {
+    var file = aFile("content");
+    underTest.contents(file);
+
+    underTest.stop();
+    underTest.contents(file);
+
+    verify(file, times(2)).inputStream();
+  }
+
+  private ClientInputFile aFile(String content) throws IOException {
+    return aFile("file.txt", content);
+  }
+
+  private ClientInputFile aFile(String name, String content) throws IOException {
+    var path = tempDir.resolve(name);
+    Files.writeString(path, content);
+    return spy(new OnDiskTestClientInputFile(path, name, false, StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * SonarLint Core - Analysis Engine
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileMetadata.Metadata;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+import testutils.OnDiskTestClientInputFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileMetadataCacheTests {
+  @RegisterExtension
+  private static final SonarLintLogTester logTester = new SonarLintLogTester();
+
+  private final FileMetadata fileMetadata = new FileMetadata();
+  private final AtomicInteger computations = new AtomicInteger();
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void should_reuse_metadata_of_unchanged_file_on_disk() throws IOException {
+    var path = tempDir.resolve("Foo.java");
+    Files.writeString(path, "line1\nline2\n");
+    var cache = new FileMetadataCache();
+
+    var first = getOrCompute(cache, onDisk(path), "");
+    var second = getOrCompute(cache, onDisk(path), "");
+
+    assertThat(second).isSameAs(first);
+    assertThat(second.lines()).isEqualTo(3);
+    assertThat(computations).hasValue(1);
+  }
+
+  @Test
+  void should_recompute_metadata_of_modified_file_on_disk() throws IOException {
+    var path = tempDir.resolve("Foo.java");
+    Files.writeString(path, "line1\nline2\n");
+    var cache = new FileMetadataCache();
+    getOrCompute(cache, onDisk(path), "");
+
+    Files.writeString(path, "line1\nline2\nline3\n");
+    Files.setLastModifiedTime(path, FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 10_000));
+    var metadata = getOrCompute(cache, onDisk(path), "");
+
+    assertThat(metadata.lines()).isEqualTo(4);
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void should_recompute_metadata_when_issue_exclusions_changed() throws IOException {
+    var path = tempDir.resolve("Foo.java");
+    Files.writeString(path, "line1\nline2\n");
+    var cache = new FileMetadataCache();
+
+    getOrCompute(cache, onDisk(path), "");
+    getOrCompute(cache, onDisk(path), "all:@generated\n");
+
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void should_fingerprint_dirty_files_by_content() throws IOException {
+    var cache = new FileMetadataCache();
+    var content = new AtomicReference<>("line1\nline2\n");
+
+    getOrCompute(cache, dirty(content), "");
+    getOrCompute(cache, dirty(content), "");
+    content.set("line1\nline2\nline3\n");
+    var metadata = getOrCompute(cache, dirty(content), "");
+
+    assertThat(metadata.lines()).isEqualTo(4);
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void should_restore_issue_exclusions_found_when_computing_metadata() throws IOException {
+    var path = tempDir.resolve("Foo.java");
+    Files.writeString(path, "line1\nline2\n");
+    var cache = new FileMetadataCache();
+    var computedFile = onDisk(path);
+    cache.getOrCompute(computedFile, StandardCharsets.UTF_8, "key", () -> {
+      computedFile.setIgnoreAllIssues(true);
+      computedFile.addIgnoreIssuesOnLineRanges(List.of(new int[] {1, 2}));
+      return new Metadata(3, new int[] {0, 6, 12}, 12);
+    });
+
+    var reusedFile = onDisk(path);
+    cache.getOrCompute(reusedFile, StandardCharsets.UTF_8, "key", () -> {
+      throw new AssertionError("Metadata should have been reused");
+    });
+
+    assertThat(reusedFile.ignoresAllIssues()).isTrue();
+    assertThat(reusedFile.ignoredLineRanges()).containsExactly(new int[] {1, 2});
+  }
+
+  @Test
+  void should_evict_least_recently_used_entries_when_full() throws IOException {
+    var path1 = tempDir.resolve("Foo1.java");
+    var path2 = tempDir.resolve("Foo2.java");
+    var path3 = tempDir.resolve("Foo3.java");
+    Files.writeString(path1, "line1\n");
+    Files.writeString(path2, "line1\n");
+    Files.writeString(path3, "line1\n");
+    var cache = new FileMetadataCache(500);
+
+    getOrCompute(cache, onDisk(path1), "");
+    getOrCompute(cache, onDisk(path2), "");
+    getOrCompute(cache, onDisk(path1), "");
+    getOrCompute(cache, onDisk(path3), "");
+    assertThat(cache.size()).isEqualTo(2);
+    getOrCompute(cache, onDisk(path1), "");
+
+    assertThat(computations).hasValue(3);
+  }
+
+  private Metadata getOrCompute(FileMetadataCache cache, SonarLintInputFile inputFile, String issueExclusionsKey) {
+    return cache.getOrCompute(inputFile, StandardCharsets.UTF_8, issueExclusionsKey, () -> {
+      computations.incrementAndGet();
+      try {
+        return fileMetadata.readMetadata(inputFile.inputStream(), StandardCharsets.UTF_8, inputFile.uri(), null);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  private static SonarLintInputFile onDisk(Path path) {
+    return new SonarLintInputFile(new OnDiskTestClientInputFile(path, path.getFileName().toString(), false, StandardCharsets.UTF_8), f -> null);
+  }
+
+  private static SonarLintInputFile dirty(AtomicReference<String> content) throws IOException {
+    var clientInputFile = mock(ClientInputFile.class);
+    when(clientInputFile.isDirty()).thenReturn(true);
+    when(clientInputFile.relativePath()).thenReturn("Foo.java");
+    when(clientInputFile.uri()).thenReturn(URI.create("file:///unsaved/Foo.java"));
+    when(clientInputFile.inputStream()).thenAnswer(invocation -> new ByteArrayInputStream(content.get().getBytes(StandardCharsets.UTF_8)));
+    return new SonarLintInputFile(clientInputFile, f -> null);
+  }
+}
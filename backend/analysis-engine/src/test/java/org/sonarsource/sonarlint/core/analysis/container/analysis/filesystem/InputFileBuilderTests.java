@@ -62,7 +62,7 @@ class InputFileBuilderTests {
     Files.write(path, "test".getBytes(StandardCharsets.ISO_8859_1));
     ClientInputFile file = new OnDiskTestClientInputFile(path, "file", true, StandardCharsets.ISO_8859_1);
 
-    var builder = new InputFileBuilder(langDetection, metadata, issueExclusionsLoader);
+    var builder = new InputFileBuilder(langDetection, metadata, issueExclusionsLoader, new FileContentCache(), new FileMetadataCache());
     var inputFile = builder.create(file);
 
     assertThat(inputFile.type()).isEqualTo(InputFile.Type.TEST);
@@ -81,7 +81,7 @@ class InputFileBuilderTests {
     Files.write(path, "test".getBytes(StandardCharsets.ISO_8859_1));
     ClientInputFile file = new OnDiskTestClientInputFile(path, "file", true, StandardCharsets.ISO_8859_1, SonarLanguage.CPP);
 
-    var builder = new InputFileBuilder(langDetection, metadata, issueExclusionsLoader);
+    var builder = new InputFileBuilder(langDetection, metadata, issueExclusionsLoader, new FileContentCache(), new FileMetadataCache());
     var inputFile = builder.create(file);
 
     assertThat(inputFile.language()).isEqualTo("cpp");
@@ -93,7 +93,7 @@ class InputFileBuilderTests {
     when(langDetection.language(any(InputFile.class))).thenReturn(SonarLanguage.JAVA);
     ClientInputFile file = new OnDiskTestClientInputFile(Paths.get("INVALID"), "INVALID", true, StandardCharsets.ISO_8859_1);
 
-    var builder = new InputFileBuilder(langDetection, metadata, issueExclusionsLoader);
+    var builder = new InputFileBuilder(langDetection, metadata, issueExclusionsLoader, new FileContentCache(), new FileMetadataCache());
     var slFile = builder.create(file);
 
     // Call any method that will trigger metadata initialization
@@ -24,7 +24,6 @@ import org.junit.jupiter.api.Test;
 import org.sonar.api.batch.fs.InputFile;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -49,13 +48,39 @@ class InputFileCacheTests {
     cache.doAdd(file2);
     assertThat(cache.inputFiles()).containsOnly(file1, file2);
 
-    assertThrows(UnsupportedOperationException.class, () -> cache.inputFile("file1.java"));
+    assertThat(cache.inputFile("file1.java")).isNull();
 
     assertThat(cache.getFilesByExtension("java")).containsOnly(file1);
     assertThat(cache.getFilesByExtension("")).containsOnly(file2);
     assertThat(cache.getFilesByName("file1.java")).containsOnly(file1);
+    assertThat(cache.getFilesByName("unknown")).isEmpty();
+    assertThat(cache.getFilesByExtension("php")).isEmpty();
+    assertThat(cache.getFilesByLanguage("lang1")).containsOnly(file1);
+    assertThat(cache.getFilesByLanguage("lang3")).isEmpty();
 
     assertThat(cache.languages()).containsExactly("lang1", "lang2");
 
   }
+
+  @Test
+  void testIndexByTypeAndRelativePath() {
+    var mainFile = mock(InputFile.class);
+    when(mainFile.filename()).thenReturn("Foo.java");
+    when(mainFile.relativePath()).thenReturn("src/main/Foo.java");
+    when(mainFile.type()).thenReturn(InputFile.Type.MAIN);
+    var testFile = mock(InputFile.class);
+    when(testFile.filename()).thenReturn("FooTest.java");
+    when(testFile.relativePath()).thenReturn("src/test/FooTest.java");
+    when(testFile.type()).thenReturn(InputFile.Type.TEST);
+
+    cache.doAdd(mainFile);
+    cache.doAdd(testFile);
+
+    assertThat(cache.getFilesByType(InputFile.Type.MAIN)).containsOnly(mainFile);
+    assertThat(cache.getFilesByType(InputFile.Type.TEST)).containsOnly(testFile);
+    assertThat(cache.inputFile("src/main/Foo.java")).isSameAs(mainFile);
+    assertThat(cache.inputFile("src\\test\\FooTest.java")).isSameAs(testFile);
+    assertThat(cache.inputFile("./src/main/../test/FooTest.java")).isSameAs(testFile);
+    assertThat(cache.inputFile("src/main/Bar.java")).isNull();
+  }
 }
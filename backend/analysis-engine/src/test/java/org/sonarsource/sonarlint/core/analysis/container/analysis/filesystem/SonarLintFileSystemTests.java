@@ -25,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.io.TempDir;
+import org.sonar.api.batch.fs.InputFile;
 import org.sonarsource.sonarlint.core.analysis.api.AnalysisConfiguration;
 import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
@@ -119,6 +120,30 @@ class SonarLintFileSystemTests {
     assertThat(fs.inputFile(fs.predicates().hasLanguage("java"))).isNotNull();
   }
 
+  @Test
+  void combined_predicates_use_indexes() {
+    var mainJava = new TestInputFileBuilder("src/Foo.java").setBaseDir(basedir).setLanguage(SonarLanguage.JAVA).setType(InputFile.Type.MAIN).build();
+    var testJava = new TestInputFileBuilder("test/FooTest.java").setBaseDir(basedir).setLanguage(SonarLanguage.JAVA).setType(InputFile.Type.TEST).build();
+    var mainPhp = new TestInputFileBuilder("src/index.php").setBaseDir(basedir).setLanguage(SonarLanguage.PHP).setType(InputFile.Type.MAIN).build();
+    var mainXml = new TestInputFileBuilder("src/pom.xml").setBaseDir(basedir).setLanguage(SonarLanguage.XML).setType(InputFile.Type.MAIN).build();
+    inputFileCache.doAdd(mainJava);
+    inputFileCache.doAdd(testJava);
+    inputFileCache.doAdd(mainPhp);
+    inputFileCache.doAdd(mainXml);
+    var p = fs.predicates();
+
+    assertThat(fs.inputFiles(p.hasType(InputFile.Type.TEST))).containsExactly(testJava);
+    assertThat(fs.inputFiles(p.and(p.hasLanguage("java"), p.hasType(InputFile.Type.MAIN)))).containsExactly(mainJava);
+    assertThat(fs.inputFiles(p.and(p.hasType(InputFile.Type.MAIN), p.hasLanguages("java", "php")))).containsExactlyInAnyOrder(mainJava, mainPhp);
+    assertThat(fs.inputFiles(p.or(p.hasLanguage("xml"), p.hasType(InputFile.Type.TEST)))).containsExactlyInAnyOrder(mainXml, testJava);
+    assertThat(fs.inputFiles(p.or(p.hasLanguage("xml"), p.matchesPathPattern("test/**")))).containsExactlyInAnyOrder(mainXml, testJava);
+    assertThat(fs.inputFiles(p.and(p.hasLanguage("java"), p.not(p.hasType(InputFile.Type.TEST))))).containsExactly(mainJava);
+    assertThat(fs.inputFiles(p.and(p.hasLanguage("java"), p.hasExtension("php")))).isEmpty();
+    assertThat(fs.hasFiles(p.and(p.hasLanguages("cobol"), p.hasType(InputFile.Type.MAIN)))).isFalse();
+    assertThat(fs.inputFile(p.hasRelativePath("src/index.php"))).isSameAs(mainPhp);
+    assertThat(fs.inputFile(p.and(p.hasRelativePath("src/index.php"), p.hasLanguage("java")))).isNull();
+  }
+
   @Test
   void unsupported_resolve_path() {
     assertThrows(UnsupportedOperationException.class, () -> fs.resolvePath("foo"));
@@ -0,0 +1,72 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sonarsource.sonarlint.core.benchmarks.fixtures.SourceTreeFixture;
+import org.sonarsource.sonarlint.core.serverconnection.prefix.FileTreeMatcher;
+
+/**
+ * Matches the file tree of an IDE project opened on a sub-directory against the file tree of the whole project on the server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileTreeMatcherBenchmark {
+
+  @Param({"1000", "50000"})
+  int fileCount;
+
+  private final FileTreeMatcher matcher = new FileTreeMatcher();
+  private List<Path> serverPaths;
+  private List<Path> idePaths;
+
+  @Setup
+  public void setUp() {
+    var relativePaths = new SourceTreeFixture(42).relativePaths(fileCount, 10);
+    var idePrefix = Path.of("module-3");
+    serverPaths = relativePaths.stream().map(path -> Path.of("repository-root").resolve(path)).toList();
+    idePaths = relativePaths.stream()
+      .filter(path -> path.startsWith(idePrefix))
+      .map(idePrefix::relativize)
+      .toList();
+  }
+
+  @Benchmark
+  public FileTreeMatcher.Result match() {
+    return matcher.match(serverPaths, idePaths);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.FileMetadata;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.SonarLintInputFile;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.issue.ignore.IgnoreIssuesFilter;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.issue.ignore.pattern.IssueExclusionPatternInitializer;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.issue.ignore.scanner.IssueExclusionsLoader;
+import org.sonarsource.sonarlint.core.benchmarks.fixtures.FixtureClientInputFile;
+import org.sonarsource.sonarlint.core.benchmarks.fixtures.SourceTreeFixture;
+import org.sonarsource.sonarlint.core.plugin.commons.sonarapi.MapSettings;
+
+/**
+ * Measures reading a file while evaluating block and all-file issue exclusions, i.e. what {@link IssueExclusionsLoader} plugs into
+ * {@link FileMetadata#readMetadata}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IssueExclusionsBenchmark {
+
+  @Param({"2000", "20000"})
+  int lineCount;
+
+  private final FileMetadata fileMetadata = new FileMetadata();
+  private Path baseDir;
+  private Path relativePath;
+  private IssueExclusionsLoader loader;
+
+  @Setup
+  public void setUp() throws IOException {
+    baseDir = Files.createTempDirectory("sonarlint-benchmark-exclusions");
+    relativePath = Path.of("src", "main", "java", "Generated.java");
+    Files.createDirectories(baseDir.resolve(relativePath).getParent());
+    Files.writeString(baseDir.resolve(relativePath), new SourceTreeFixture(42).sourceFile("Generated", lineCount), StandardCharsets.UTF_8);
+    var config = new MapSettings(Map.of(
+      IssueExclusionPatternInitializer.PATTERNS_BLOCK_KEY, "1,2",
+      IssueExclusionPatternInitializer.PATTERNS_BLOCK_KEY + ".1." + IssueExclusionPatternInitializer.BEGIN_BLOCK_REGEXP, "// SONAR-OFF",
+      IssueExclusionPatternInitializer.PATTERNS_BLOCK_KEY + ".1." + IssueExclusionPatternInitializer.END_BLOCK_REGEXP, "// SONAR-ON",
+      IssueExclusionPatternInitializer.PATTERNS_BLOCK_KEY + ".2." + IssueExclusionPatternInitializer.BEGIN_BLOCK_REGEXP, "BEGIN-GENERATED\\s+\\w+",
+      IssueExclusionPatternInitializer.PATTERNS_BLOCK_KEY + ".2." + IssueExclusionPatternInitializer.END_BLOCK_REGEXP, "END-GENERATED",
+      IssueExclusionPatternInitializer.PATTERNS_ALLFILE_KEY, "1",
+      IssueExclusionPatternInitializer.PATTERNS_ALLFILE_KEY + ".1." + IssueExclusionPatternInitializer.FILE_REGEXP, "@Generated\\(\"[^\"]+\"\\)"))
+      .asConfig();
+    loader = new IssueExclusionsLoader(new IssueExclusionPatternInitializer(config), new IgnoreIssuesFilter());
+  }
+
+  @TearDown
+  public void tearDown() {
+    FileUtils.deleteQuietly(baseDir.toFile());
+  }
+
+  @Benchmark
+  public SonarLintInputFile scan() throws IOException {
+    var inputFile = new SonarLintInputFile(new FixtureClientInputFile(baseDir, relativePath), f -> {
+      throw new IllegalStateException("Metadata is computed by the benchmark");
+    });
+    var charHandler = loader.createCharHandlerFor(inputFile);
+    try (var stream = Files.newInputStream(baseDir.resolve(relativePath))) {
+      fileMetadata.readMetadata(stream, StandardCharsets.UTF_8, inputFile.uri(), charHandler);
+    }
+    return inputFile;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.LanguageDetection;
+import org.sonarsource.sonarlint.core.analysis.container.analysis.filesystem.SonarLintInputFile;
+import org.sonarsource.sonarlint.core.benchmarks.fixtures.FixtureClientInputFile;
+import org.sonarsource.sonarlint.core.benchmarks.fixtures.SourceTreeFixture;
+import org.sonarsource.sonarlint.core.plugin.commons.sonarapi.MapSettings;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LanguageDetectionBenchmark {
+
+  @Param({"1000", "20000"})
+  int fileCount;
+
+  private LanguageDetection languageDetection;
+  private List<SonarLintInputFile> inputFiles;
+
+  @Setup
+  public void setUp() {
+    languageDetection = new LanguageDetection(new MapSettings(Map.of()).asConfig());
+    var baseDir = Path.of("project");
+    inputFiles = new SourceTreeFixture(42).relativePaths(fileCount, 10).stream()
+      .map(relativePath -> new SonarLintInputFile(new FixtureClientInputFile(baseDir, relativePath), f -> {
+        throw new IllegalStateException("Language detection should not need file metadata");
+      }))
+      .toList();
+  }
+
+  @Benchmark
+  public void detectLanguages(Blackhole blackhole) {
+    for (var inputFile : inputFiles) {
+      blackhole.consume(languageDetection.language(inputFile));
+    }
+  }
+}
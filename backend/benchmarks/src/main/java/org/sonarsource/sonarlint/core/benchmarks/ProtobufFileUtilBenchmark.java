@@ -0,0 +1,94 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sonarsource.sonarlint.core.serverconnection.proto.Sonarlint;
+import org.sonarsource.sonarlint.core.serverconnection.storage.ProtobufFileUtil;
+
+/**
+ * Reads an analyzer configuration as stored for a bound project, with a quality profile per language.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtobufFileUtilBenchmark {
+
+  private static final String[] LANGUAGES = {"java", "js", "ts", "py", "cs", "kotlin", "xml", "php", "cpp", "go"};
+
+  @Param({"100", "800"})
+  int rulesPerLanguage;
+
+  private Path baseDir;
+  private Path file;
+
+  @Setup
+  public void setUp() throws IOException {
+    baseDir = Files.createTempDirectory("sonarlint-benchmark-protobuf");
+    file = baseDir.resolve("analyzer_config.pb");
+    var configuration = Sonarlint.AnalyzerConfiguration.newBuilder()
+      .setSchemaVersion(1)
+      .putSettings("sonar.java.source", "21")
+      .putSettings("sonar.exclusions", "**/generated/**");
+    for (var language : LANGUAGES) {
+      var ruleSet = Sonarlint.RuleSet.newBuilder().setLastModified("2024-01-01T00:00:00+0000");
+      for (var i = 0; i < rulesPerLanguage; i++) {
+        var rule = Sonarlint.RuleSet.ActiveRule.newBuilder()
+          .setRuleKey(language + ":S" + (100 + i))
+          .setSeverity(i % 3 == 0 ? "MAJOR" : "MINOR");
+        if (i % 10 == 0) {
+          rule.putParams("threshold", Integer.toString(i)).putParams("format", "^[a-z][a-zA-Z0-9]*$");
+        }
+        ruleSet.addRule(rule);
+      }
+      configuration.putRuleSetsByLanguageKey(language, ruleSet.build());
+    }
+    ProtobufFileUtil.writeToFile(configuration.build(), file);
+  }
+
+  @TearDown
+  public void tearDown() {
+    FileUtils.deleteQuietly(baseDir.toFile());
+  }
+
+  @Benchmark
+  public Sonarlint.AnalyzerConfiguration readAnalyzerConfiguration() {
+    return ProtobufFileUtil.readFile(file, Sonarlint.AnalyzerConfiguration.parser());
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sonarsource.sonarlint.core.benchmarks.fixtures.IssueFixture;
+import org.sonarsource.sonarlint.core.benchmarks.fixtures.StorageFixture;
+import org.sonarsource.sonarlint.core.serverconnection.issues.ServerIssue;
+import org.sonarsource.sonarlint.core.serverconnection.issues.ServerTaintIssue;
+
+/**
+ * Loads and merges findings in a storage pre-populated with the issues and taint vulnerabilities of a large project. The largest parameters
+ * make a storage of 1M findings (900k issues and 100k taint vulnerabilities), run with {@code -prof gc} to compare the memory allocated per
+ * load, e.g. {@code java -jar benchmarks.jar ServerFindingRepository -p fileCount=10000 -p issuesPerFile=90 -p taintCount=100000 -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ServerFindingRepositoryBenchmark {
+
+  @Param({"2000", "10000"})
+  int fileCount;
+
+  @Param({"5", "90"})
+  int issuesPerFile;
+
+  @Param({"1000", "10000", "100000"})
+  int taintCount;
+
+  private StorageFixture storage;
+  private List<ServerIssue<?>> issuesToMerge;
+  private int nextFile;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    storage = new StorageFixture(42, fileCount, issuesPerFile, taintCount);
+    // same keys as the stored issues of the first files, so that merging updates existing rows
+    issuesToMerge = new IssueFixture(7).serverIssues("ISSUE_", storage.filePaths().subList(0, 100), issuesPerFile);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    storage.close();
+  }
+
+  @Benchmark
+  public List<ServerIssue<?>> loadIssuesOfFile() {
+    nextFile = (nextFile + 1) % fileCount;
+    return storage.repository().load(StorageFixture.BRANCH, storage.filePaths().get(nextFile));
+  }
+
+  @Benchmark
+  public void loadAllIssuesOfBranch(Blackhole blackhole) {
+    for (var filePath : storage.filePaths()) {
+      blackhole.consume(storage.repository().load(StorageFixture.BRANCH, filePath));
+    }
+  }
+
+  @Benchmark
+  public List<ServerTaintIssue> loadAllTaints() {
+    return storage.repository().loadTaint(StorageFixture.BRANCH);
+  }
+
+  @Benchmark
+  public void loadAllTaintsWithFlows(Blackhole blackhole) {
+    for (var taint : storage.repository().loadTaint(StorageFixture.BRANCH)) {
+      blackhole.consume(taint.getFlows());
+    }
+  }
+
+  @Benchmark
+  public List<ServerTaintIssue> loadFirstPageOfTaints() {
+    return storage.repository().loadTaint(StorageFixture.BRANCH, null, 100);
+  }
+
+  @Benchmark
+  public void mergeIssues() {
+    storage.repository().mergeIssues(StorageFixture.BRANCH, issuesToMerge, Set.of(), Instant.now(), Set.of());
+  }
+}
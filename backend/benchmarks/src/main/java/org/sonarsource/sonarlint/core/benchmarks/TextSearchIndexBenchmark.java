@@ -0,0 +1,75 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sonarsource.sonarlint.core.TextSearchIndex;
+
+/**
+ * Searches an index shaped like the one used to look up server projects by key and name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextSearchIndexBenchmark {
+
+  private static final String[] WORDS = {"core", "api", "service", "frontend", "backend", "payment", "gateway", "admin", "mobile", "analytics", "search",
+    "billing", "platform", "legacy", "tools", "commons", "sonar", "plugin", "client", "server"};
+
+  @Param({"1000", "50000"})
+  int projectCount;
+
+  @Param({"pay", "billing serv", "org.example:platform-tools"})
+  String query;
+
+  private TextSearchIndex<String> index;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(42);
+    index = new TextSearchIndex<>();
+    for (var i = 0; i < projectCount; i++) {
+      var name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+      var key = "org.example:" + name.replace(' ', '-') + "-" + i;
+      index.index(key, key + " " + name);
+    }
+  }
+
+  @Benchmark
+  public Map<String, Double> search() {
+    return index.search(query);
+  }
+}
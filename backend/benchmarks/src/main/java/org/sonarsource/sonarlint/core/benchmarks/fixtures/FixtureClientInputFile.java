@@ -0,0 +1,79 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks.fixtures;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
+
+public class FixtureClientInputFile implements ClientInputFile {
+  private final Path baseDir;
+  private final Path relativePath;
+
+  public FixtureClientInputFile(Path baseDir, Path relativePath) {
+    this.baseDir = baseDir;
+    this.relativePath = relativePath;
+  }
+
+  @Override
+  public String getPath() {
+    return baseDir.resolve(relativePath).toString();
+  }
+
+  @Override
+  public boolean isTest() {
+    return relativePath.toString().contains("test");
+  }
+
+  @Override
+  public Charset getCharset() {
+    return StandardCharsets.UTF_8;
+  }
+
+  @Override
+  public <G> G getClientObject() {
+    return null;
+  }
+
+  @Override
+  public InputStream inputStream() throws IOException {
+    return Files.newInputStream(baseDir.resolve(relativePath));
+  }
+
+  @Override
+  public String contents() throws IOException {
+    return Files.readString(baseDir.resolve(relativePath), StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public String relativePath() {
+    return relativePath.toString();
+  }
+
+  @Override
+  public URI uri() {
+    return baseDir.resolve(relativePath).toUri();
+  }
+}
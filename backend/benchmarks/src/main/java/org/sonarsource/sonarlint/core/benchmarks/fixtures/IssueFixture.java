@@ -0,0 +1,161 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks.fixtures;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import org.sonarsource.sonarlint.core.commons.ImpactSeverity;
+import org.sonarsource.sonarlint.core.commons.IssueSeverity;
+import org.sonarsource.sonarlint.core.commons.RuleType;
+import org.sonarsource.sonarlint.core.commons.SoftwareQuality;
+import org.sonarsource.sonarlint.core.commons.api.TextRangeWithHash;
+import org.sonarsource.sonarlint.core.serverconnection.issues.RangeLevelServerIssue;
+import org.sonarsource.sonarlint.core.serverconnection.issues.ServerIssue;
+import org.sonarsource.sonarlint.core.serverconnection.issues.ServerTaintIssue;
+import org.sonarsource.sonarlint.core.tracking.matching.MatchingAttributesMapper;
+
+/**
+ * Generates deterministic sets of issues, either as plain matching attributes or as server findings to store.
+ */
+public final class IssueFixture {
+
+  private static final Instant CREATION_DATE = Instant.parse("2024-01-01T00:00:00Z");
+  private static final int RULE_COUNT = 60;
+
+  private final Random random;
+
+  public IssueFixture(long seed) {
+    this.random = new Random(seed);
+  }
+
+  public record SyntheticIssue(String ruleKey, @Nullable Integer line, @Nullable String textRangeHash, @Nullable String lineHash, String message,
+    @Nullable String serverIssueKey) {
+  }
+
+  public static final MatchingAttributesMapper<SyntheticIssue> MAPPER = new MatchingAttributesMapper<>() {
+    @Override
+    public String getRuleKey(SyntheticIssue issue) {
+      return issue.ruleKey();
+    }
+
+    @Override
+    public Optional<Integer> getLine(SyntheticIssue issue) {
+      return Optional.ofNullable(issue.line());
+    }
+
+    @Override
+    public Optional<String> getTextRangeHash(SyntheticIssue issue) {
+      return Optional.ofNullable(issue.textRangeHash());
+    }
+
+    @Override
+    public Optional<String> getLineHash(SyntheticIssue issue) {
+      return Optional.ofNullable(issue.lineHash());
+    }
+
+    @Override
+    public String getMessage(SyntheticIssue issue) {
+      return issue.message();
+    }
+
+    @Override
+    public Optional<String> getServerIssueKey(SyntheticIssue issue) {
+      return Optional.ofNullable(issue.serverIssueKey());
+    }
+  };
+
+  /**
+   * Issues as known from the server, spread over a file of the given number of lines.
+   */
+  public List<SyntheticIssue> previousIssues(int count, int lineCount) {
+    var issues = new ArrayList<SyntheticIssue>(count);
+    for (var i = 0; i < count; i++) {
+      var line = 1 + random.nextInt(lineCount);
+      var rule = "java:S" + random.nextInt(RULE_COUNT);
+      issues.add(new SyntheticIssue(rule, line, "range-" + i, "line-" + line, "Message of " + rule + " " + i, "AX" + i));
+    }
+    return issues;
+  }
+
+  /**
+   * Issues as raised by a new local analysis of the same file: most issues moved a few lines, some changed their message, some were fixed
+   * and some new ones appeared. None of them know their server key, so that matching has to go through the fallback criteria.
+   */
+  public List<SyntheticIssue> raisedIssues(List<SyntheticIssue> previousIssues, int lineCount) {
+    var issues = new ArrayList<SyntheticIssue>(previousIssues.size());
+    for (var previous : previousIssues) {
+      var dice = random.nextInt(10);
+      if (dice == 0) {
+        // fixed
+        continue;
+      }
+      var line = previous.line() == null ? null : previous.line() + (dice < 6 ? random.nextInt(5) : 0);
+      var message = dice == 9 ? previous.message() + " (updated)" : previous.message();
+      var textRangeHash = dice == 8 ? "changed-" + previous.textRangeHash() : previous.textRangeHash();
+      issues.add(new SyntheticIssue(previous.ruleKey(), line, textRangeHash, previous.lineHash(), message, null));
+    }
+    var newIssues = previousIssues.size() / 10;
+    for (var i = 0; i < newIssues; i++) {
+      var line = 1 + random.nextInt(lineCount);
+      var rule = "java:S" + random.nextInt(RULE_COUNT);
+      issues.add(new SyntheticIssue(rule, line, "new-range-" + i, "new-line-" + line, "New message " + i, null));
+    }
+    return issues;
+  }
+
+  public List<ServerIssue<?>> serverIssues(String keyPrefix, List<Path> filePaths, int issuesPerFile) {
+    var issues = new ArrayList<ServerIssue<?>>(filePaths.size() * issuesPerFile);
+    for (var filePath : filePaths) {
+      for (var i = 0; i < issuesPerFile; i++) {
+        var line = 1 + random.nextInt(500);
+        issues.add(new RangeLevelServerIssue(UUID.randomUUID(), keyPrefix + issues.size(), false, null, "java:S" + random.nextInt(RULE_COUNT),
+          "Issue message " + issues.size(), filePath, CREATION_DATE, null, RuleType.CODE_SMELL, new TextRangeWithHash(line, 2, line, 30, "hash" + line),
+          Map.of(SoftwareQuality.MAINTAINABILITY, ImpactSeverity.MEDIUM)));
+      }
+    }
+    return issues;
+  }
+
+  public List<ServerTaintIssue> taintIssues(String keyPrefix, List<Path> filePaths, int count, int flowLength) {
+    var taints = new ArrayList<ServerTaintIssue>(count);
+    for (var i = 0; i < count; i++) {
+      var filePath = filePaths.get(random.nextInt(filePaths.size()));
+      var line = 1 + random.nextInt(500);
+      var locations = new ArrayList<ServerTaintIssue.ServerIssueLocation>(flowLength);
+      for (var j = 0; j < flowLength; j++) {
+        var locationLine = 1 + random.nextInt(500);
+        locations.add(new ServerTaintIssue.ServerIssueLocation(filePaths.get(random.nextInt(filePaths.size())),
+          new TextRangeWithHash(locationLine, 4, locationLine, 40, "flow-hash" + locationLine), "Tainted value flows here"));
+      }
+      taints.add(new ServerTaintIssue(UUID.randomUUID(), keyPrefix + i, false, null, "javasecurity:S" + (3649 + random.nextInt(20)),
+        "Change this code to not construct the query from user-controlled data.", filePath, CREATION_DATE, IssueSeverity.MAJOR, RuleType.VULNERABILITY,
+        new TextRangeWithHash(line, 8, line, 64, "hash" + line), null, null, Map.of(SoftwareQuality.SECURITY, ImpactSeverity.HIGH),
+        List.of(new ServerTaintIssue.Flow(locations))));
+    }
+    return taints;
+  }
+}
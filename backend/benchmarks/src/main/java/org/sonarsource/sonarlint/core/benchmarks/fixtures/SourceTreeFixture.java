@@ -0,0 +1,117 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks.fixtures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates deterministic source trees, so that benchmark runs on different versions work on the same input.
+ */
+public final class SourceTreeFixture {
+
+  private static final String[] EXTENSIONS = {"java", "java", "java", "js", "ts", "py", "xml", "kt", "cs", "txt"};
+  private static final String[] STATEMENTS = {
+    "    int count = items.size();",
+    "    var result = service.compute(input, options);",
+    "    if (value == null) {",
+    "      throw new IllegalStateException(\"Unexpected value\");",
+    "    }",
+    "    for (var item : items) {",
+    "      total += item.weight() * factor;",
+    "    }",
+    "    LOG.debug(\"Processed {} items in {} ms\", count, elapsed);",
+    "    return builder.append(prefix).append(suffix).toString();",
+    "    // Some explanation of what happens next, long enough to look like a real comment in production code",
+    "",
+  };
+
+  private final Random random;
+
+  public SourceTreeFixture(long seed) {
+    this.random = new Random(seed);
+  }
+
+  /**
+   * @return the content of a source file of the given number of lines, with an issue exclusion block every few hundred lines
+   */
+  public String sourceFile(String className, int lineCount) {
+    var sb = new StringBuilder();
+    sb.append("package org.example.generated;\n\n");
+    sb.append("public class ").append(className).append(" {\n");
+    var line = 3;
+    while (line < lineCount - 1) {
+      if (line % 250 == 0) {
+        sb.append("  // SONAR-OFF\n");
+      } else if (line % 250 == 20) {
+        sb.append("  // SONAR-ON\n");
+      } else if (line % 40 == 0) {
+        sb.append("  void method").append(line).append("() {\n");
+      } else if (line % 40 == 39) {
+        sb.append("  }\n");
+      } else {
+        sb.append(STATEMENTS[random.nextInt(STATEMENTS.length)]).append('\n');
+      }
+      line++;
+    }
+    sb.append("}\n");
+    return sb.toString();
+  }
+
+  /**
+   * @return relative paths looking like the ones of a multi-module project, e.g. module-3/src/main/java/org/example/pkg7/File42.java
+   */
+  public List<Path> relativePaths(int fileCount, int moduleCount) {
+    var paths = new ArrayList<Path>(fileCount);
+    for (var i = 0; i < fileCount; i++) {
+      var module = "module-" + random.nextInt(moduleCount);
+      var sourceSet = random.nextInt(4) == 0 ? "test" : "main";
+      var extension = EXTENSIONS[random.nextInt(EXTENSIONS.length)];
+      var pkg = "pkg" + random.nextInt(50);
+      paths.add(Path.of(module, "src", sourceSet, extension, "org", "example", pkg, "File" + i + "." + extension));
+    }
+    return paths;
+  }
+
+  /**
+   * Writes a source file of the given number of lines for each relative path.
+   */
+  public List<Path> writeTree(Path baseDir, List<Path> relativePaths, int lineCount) {
+    var files = new ArrayList<Path>(relativePaths.size());
+    try {
+      for (var relativePath : relativePaths) {
+        var file = baseDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        var fileName = file.getFileName().toString();
+        Files.writeString(file, sourceFile(fileName.substring(0, fileName.indexOf('.')), lineCount), StandardCharsets.UTF_8);
+        files.add(file);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return files;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * SonarLint Core - Backend Benchmarks
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.benchmarks.fixtures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+import org.sonarsource.sonarlint.core.commons.storage.SonarLintDatabase;
+import org.sonarsource.sonarlint.core.serverconnection.storage.ServerFindingRepository;
+
+/**
+ * A pre-populated H2 storage, as it would look like after synchronizing a large project.
+ */
+public class StorageFixture implements AutoCloseable {
+  public static final String CONNECTION_ID = "connection";
+  public static final String PROJECT_KEY = "project";
+  public static final String BRANCH = "main";
+
+  private final Path storageRoot;
+  private final SonarLintDatabase database;
+  private final ServerFindingRepository repository;
+  private final List<Path> filePaths;
+
+  public StorageFixture(long seed, int fileCount, int issuesPerFile, int taintCount) {
+    try {
+      this.storageRoot = Files.createTempDirectory("sonarlint-benchmark-storage");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.database = new SonarLintDatabase(storageRoot);
+    this.repository = new ServerFindingRepository(database.dsl(), CONNECTION_ID, PROJECT_KEY);
+    this.filePaths = new SourceTreeFixture(seed).relativePaths(fileCount, 10);
+    var issueFixture = new IssueFixture(seed);
+    repository.replaceAllIssuesOfBranch(BRANCH, issueFixture.serverIssues("ISSUE_", filePaths, issuesPerFile), Set.of());
+    repository.replaceAllTaintsOfBranch(BRANCH, issueFixture.taintIssues("TAINT_", filePaths, taintCount, 8), Set.of());
+  }
+
+  public ServerFindingRepository repository() {
+    return repository;
+  }
+
+  public List<Path> filePaths() {
+    return filePaths;
+  }
+
+  @Override
+  public void close() {
+    database.shutdown();
+    FileUtils.deleteQuietly(storageRoot.toFile());
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * SonarLint Core - Backend CLI
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.backend.cli;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
+import org.sonarsource.sonarlint.core.rpc.client.ConfigScopeNotFoundException;
+import org.sonarsource.sonarlint.core.rpc.client.ConnectionNotFoundException;
+import org.sonarsource.sonarlint.core.rpc.client.SonarLintCancelChecker;
+import org.sonarsource.sonarlint.core.rpc.client.SonarLintRpcClientDelegate;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.config.binding.BindingSuggestionDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.tracking.TaintVulnerabilityDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.binding.AssistBindingParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.binding.AssistBindingResponse;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.binding.NoBindingSuggestionFoundParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.connection.AssistCreatingConnectionParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.connection.AssistCreatingConnectionResponse;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.connection.ConnectionSuggestionDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.hotspot.HotspotDetailsDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.hotspot.RaisedHotspotDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.http.GetProxyPasswordAuthenticationResponse;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.http.ProxyDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.http.X509CertificateDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.IssueDetailsDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.RaisedIssueDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.message.MessageType;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.message.ShowSoonUnsupportedMessageParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.progress.ReportProgressParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.progress.StartProgressParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.smartnotification.ShowSmartNotificationParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.telemetry.TelemetryClientLiveAttributesResponse;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.ClientFileDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.Either;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.TokenDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.UsernamePasswordDto;
+
+/**
+ * Minimal client used by the batch analysis: a single standalone configuration scope, no connection, no user interaction.
+ */
+class BatchAnalysisClient implements SonarLintRpcClientDelegate {
+  private final String configScopeId;
+  private final Path baseDir;
+  private final List<ClientFileDto> files;
+  @Nullable
+  private final PrintStream logStream;
+  private final CompletableFuture<Void> readiness = new CompletableFuture<>();
+
+  BatchAnalysisClient(String configScopeId, Path baseDir, List<ClientFileDto> files, @Nullable PrintStream logStream) {
+    this.configScopeId = configScopeId;
+    this.baseDir = baseDir;
+    this.files = files;
+    this.logStream = logStream;
+  }
+
+  CompletableFuture<Void> readiness() {
+    return readiness;
+  }
+
+  @Override
+  public void didChangeAnalysisReadiness(Set<String> configurationScopeIds, boolean areReadyForAnalysis) {
+    if (areReadyForAnalysis && configurationScopeIds.contains(configScopeId)) {
+      readiness.complete(null);
+    }
+  }
+
+  @Override
+  public void raiseIssues(String configurationScopeId, Map<URI, List<RaisedIssueDto>> issuesByFileUri, boolean isIntermediatePublication, @Nullable UUID analysisId) {
+    // issues are counted from the analysis response
+  }
+
+  @Override
+  public void raiseHotspots(String configurationScopeId, Map<URI, List<RaisedHotspotDto>> hotspotsByFileUri, boolean isIntermediatePublication, @Nullable UUID analysisId) {
+    // hotspots are only raised in connected mode
+  }
+
+  @Override
+  public List<ClientFileDto> listFiles(String configScopeId) throws ConfigScopeNotFoundException {
+    if (!this.configScopeId.equals(configScopeId)) {
+      throw new ConfigScopeNotFoundException();
+    }
+    return files;
+  }
+
+  @Override
+  public Path getBaseDir(String configurationScopeId) {
+    return baseDir;
+  }
+
+  @Override
+  public void log(LogParams params) {
+    if (logStream != null) {
+      logStream.println("[" + params.getLevel() + "] " + params.getMessage());
+      if (params.getStackTrace() != null) {
+        logStream.println(params.getStackTrace());
+      }
+    }
+  }
+
+  @Override
+  public void suggestBinding(Map<String, List<BindingSuggestionDto>> suggestionsByConfigScope) {
+    // standalone only
+  }
+
+  @Override
+  public void suggestConnection(Map<String, List<ConnectionSuggestionDto>> suggestionsByConfigScope) {
+    // standalone only
+  }
+
+  @Override
+  public void openUrlInBrowser(URL url) {
+    // no user interaction
+  }
+
+  @Override
+  public void showMessage(MessageType type, String text) {
+    if (logStream != null) {
+      logStream.println("[" + type + "] " + text);
+    }
+  }
+
+  @Override
+  public void showSoonUnsupportedMessage(ShowSoonUnsupportedMessageParams params) {
+    // no user interaction
+  }
+
+  @Override
+  public void showSmartNotification(ShowSmartNotificationParams params) {
+    // no user interaction
+  }
+
+  @Override
+  public String getClientLiveDescription() {
+    return "Batch analysis";
+  }
+
+  @Override
+  public void showHotspot(String configurationScopeId, HotspotDetailsDto hotspotDetails) {
+    // no user interaction
+  }
+
+  @Override
+  public void showIssue(String configurationScopeId, IssueDetailsDto issueDetails) {
+    // no user interaction
+  }
+
+  @Override
+  public AssistCreatingConnectionResponse assistCreatingConnection(AssistCreatingConnectionParams params, SonarLintCancelChecker cancelChecker) {
+    throw new CancellationException("Not supported in batch analysis");
+  }
+
+  @Override
+  public AssistBindingResponse assistBinding(AssistBindingParams params, SonarLintCancelChecker cancelChecker) {
+    throw new CancellationException("Not supported in batch analysis");
+  }
+
+  @Override
+  public void startProgress(StartProgressParams params) {
+    // progress is not reported
+  }
+
+  @Override
+  public void reportProgress(ReportProgressParams params) {
+    // progress is not reported
+  }
+
+  @Override
+  public void didSynchronizeConfigurationScopes(Set<String> configurationScopeIds) {
+    // standalone only
+  }
+
+  @Override
+  public Either<TokenDto, UsernamePasswordDto> getCredentials(String connectionId) throws ConnectionNotFoundException {
+    throw new ConnectionNotFoundException();
+  }
+
+  @Override
+  public List<ProxyDto> selectProxies(URI uri) {
+    return List.of(ProxyDto.NO_PROXY);
+  }
+
+  @Override
+  public GetProxyPasswordAuthenticationResponse getProxyPasswordAuthentication(String host, int port, String protocol, String prompt, String scheme, URL targetHost) {
+    return new GetProxyPasswordAuthenticationResponse(null, null);
+  }
+
+  @Override
+  public boolean checkServerTrusted(List<X509CertificateDto> chain, String authType) {
+    return false;
+  }
+
+  @Override
+  public String matchSonarProjectBranch(String configurationScopeId, String mainBranchName, Set<String> allBranchesNames, SonarLintCancelChecker cancelChecker) {
+    return mainBranchName;
+  }
+
+  @Override
+  public void didChangeMatchedSonarProjectBranch(String configScopeId, String newMatchedBranchName) {
+    // standalone only
+  }
+
+  @Override
+  public TelemetryClientLiveAttributesResponse getTelemetryLiveAttributes() {
+    return new TelemetryClientLiveAttributesResponse(Map.of());
+  }
+
+  @Override
+  public void didChangeTaintVulnerabilities(String configurationScopeId, Set<UUID> closedTaintVulnerabilityIds, List<TaintVulnerabilityDto> addedTaintVulnerabilities,
+    List<TaintVulnerabilityDto> updatedTaintVulnerabilities) {
+    // standalone only
+  }
+
+  @Override
+  public void noBindingSuggestionFound(NoBindingSuggestionFoundParams params) {
+    // standalone only
+  }
+}
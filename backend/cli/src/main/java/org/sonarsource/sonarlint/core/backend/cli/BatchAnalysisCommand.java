@@ -0,0 +1,224 @@
+/*
+ * SonarLint Core - Backend CLI
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.backend.cli;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.apache.commons.io.FileUtils;
+import org.sonarsource.sonarlint.core.rpc.client.ClientJsonRpcLauncher;
+import org.sonarsource.sonarlint.core.rpc.impl.BackendJsonRpcLauncher;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.AnalyzeFilesAndTrackParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.config.scope.ConfigurationScopeDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.config.scope.DidAddConfigurationScopesParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.ClientConstantInfoDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.HttpConfigurationDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.InitializeParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.TelemetryClientConstantAttributesDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.rules.StandaloneRuleConfigDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.analysis.RawIssueDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.ClientFileDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.Language;
+import picocli.CommandLine;
+
+/**
+ * Analyzes a directory with a backend driven through an embedded client over JSON-RPC, as an IDE would, and prints the duration of each phase
+ * and the number of issues as JSON. Only local plugins are used, no connection is ever made.
+ */
+@CommandLine.Command(name = "analyze", mixinStandardHelpOptions = true, description = "Analyze a directory offline and print per-phase timings and issue counts as JSON")
+public class BatchAnalysisCommand implements Callable<Integer> {
+
+  private static final String CONFIG_SCOPE_ID = "batch-analysis";
+
+  @CommandLine.Parameters(index = "0", description = "The directory to analyze")
+  Path projectDir;
+
+  @CommandLine.Option(names = "--plugins", required = true, description = "Directory containing the analyzer plugin jars")
+  Path pluginsDir;
+
+  @CommandLine.Option(names = "--rules", description = "JSON file with rule settings, e.g. {\"java:S100\": {\"isActive\": false}, \"java:S107\": {\"isActive\": true, \"params\": {\"max\": \"5\"}}}")
+  Path rulesFile;
+
+  @CommandLine.Option(names = "--languages", split = ",", description = "Languages to enable, all by default")
+  Set<Language> languages;
+
+  @CommandLine.Option(names = "--user-home", description = "SonarLint user home to use, a temporary one is created and deleted by default")
+  Path userHome;
+
+  @CommandLine.Option(names = "--timeout", defaultValue = "30", description = "Maximum duration of each phase, in minutes")
+  long timeoutMinutes;
+
+  @CommandLine.Option(names = "--verbose", description = "Print the backend logs to stderr")
+  boolean verbose;
+
+  @Override
+  public Integer call() {
+    var stdout = System.out;
+    // The backend and the analyzers might print to stdout, keep it for the report
+    System.setOut(System.err);
+    try {
+      print(analyze(), stdout);
+      return 0;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      e.printStackTrace();
+      return -1;
+    } catch (Exception e) {
+      e.printStackTrace();
+      return -1;
+    } finally {
+      System.setOut(stdout);
+    }
+  }
+
+  Report analyze() throws Exception {
+    var timings = new LinkedHashMap<String, Long>();
+    var totalStart = System.nanoTime();
+    var baseDir = projectDir.toAbsolutePath().normalize();
+    var rules = rulesFile == null ? Map.<String, StandaloneRuleConfigDto>of() : readRules(rulesFile);
+
+    var start = System.nanoTime();
+    var files = listFiles(baseDir);
+    timings.put("listFiles", elapsedMs(start));
+
+    var temporaryUserHome = userHome == null ? Files.createTempDirectory("sonarlint-batch") : null;
+    var effectiveUserHome = userHome == null ? temporaryUserHome : userHome;
+    var client = new BatchAnalysisClient(CONFIG_SCOPE_ID, baseDir, files, verbose ? System.err : null);
+    var clientToServerOutputStream = new PipedOutputStream();
+    var clientToServerInputStream = new PipedInputStream(clientToServerOutputStream);
+    var serverToClientOutputStream = new PipedOutputStream();
+    var serverToClientInputStream = new PipedInputStream(serverToClientOutputStream);
+    var serverLauncher = new BackendJsonRpcLauncher(clientToServerInputStream, serverToClientOutputStream);
+    try (var clientLauncher = new ClientJsonRpcLauncher(serverToClientInputStream, clientToServerOutputStream, client)) {
+      var backend = clientLauncher.getServerProxy();
+
+      start = System.nanoTime();
+      backend.initialize(initializeParams(effectiveUserHome, rules)).get(timeoutMinutes, TimeUnit.MINUTES);
+      timings.put("initialize", elapsedMs(start));
+
+      start = System.nanoTime();
+      backend.getConfigurationService().didAddConfigurationScopes(new DidAddConfigurationScopesParams(
+        List.of(new ConfigurationScopeDto(CONFIG_SCOPE_ID, null, false, baseDir.getFileName().toString(), null))));
+      client.readiness().get(timeoutMinutes, TimeUnit.MINUTES);
+      timings.put("configScopeReady", elapsedMs(start));
+
+      start = System.nanoTime();
+      // the response carries all the issues of the analysis, it also completes when no file could be analyzed, and fails with the analysis
+      var response = backend.getAnalysisService().analyzeFilesAndTrack(new AnalyzeFilesAndTrackParams(CONFIG_SCOPE_ID, UUID.randomUUID(),
+        files.stream().map(ClientFileDto::getUri).toList(), Map.of(), false)).get(timeoutMinutes, TimeUnit.MINUTES);
+      timings.put("analyzeAndTrack", elapsedMs(start));
+
+      start = System.nanoTime();
+      backend.shutdown().get(timeoutMinutes, TimeUnit.MINUTES);
+      timings.put("shutdown", elapsedMs(start));
+      timings.put("total", elapsedMs(totalStart));
+
+      var issues = response.getRawIssues();
+      var issuesByRule = issues.stream()
+        .collect(Collectors.groupingBy(RawIssueDto::getRuleKey, TreeMap::new, Collectors.counting()));
+      var filesWithIssues = (int) issues.stream().map(RawIssueDto::getFileUri).filter(Objects::nonNull).distinct().count();
+      return new Report(baseDir.toString(), files.size(), response.getFailedAnalysisFiles().size(), issues.size(), filesWithIssues, issuesByRule, timings);
+    } finally {
+      serverLauncher.close();
+      if (temporaryUserHome != null) {
+        FileUtils.deleteQuietly(temporaryUserHome.toFile());
+      }
+    }
+  }
+
+  private InitializeParams initializeParams(Path sonarlintUserHome, Map<String, StandaloneRuleConfigDto> rules) throws IOException {
+    Set<Path> pluginPaths;
+    try (var pluginFiles = Files.list(pluginsDir)) {
+      pluginPaths = pluginFiles.filter(path -> path.getFileName().toString().endsWith(".jar")).collect(Collectors.toSet());
+    }
+    var enabledLanguages = languages == null || languages.isEmpty() ? EnumSet.allOf(Language.class) : EnumSet.copyOf(languages);
+    return new InitializeParams(
+      new ClientConstantInfoDto("SonarLint Batch Analysis", "SonarLint Batch Analysis"),
+      new TelemetryClientConstantAttributesDto("batch", "SonarLint Batch Analysis", "1.0", "1.0", Map.of()),
+      HttpConfigurationDto.defaultConfig(), null, Set.of(), sonarlintUserHome.resolve("storage"), sonarlintUserHome.resolve("work"),
+      pluginPaths, Map.of(), enabledLanguages, Set.of(), Set.of(), List.of(), List.of(), sonarlintUserHome.toString(), rules,
+      false, null, false, null);
+  }
+
+  static List<ClientFileDto> listFiles(Path baseDir) throws IOException {
+    var files = new ArrayList<ClientFileDto>();
+    Files.walkFileTree(baseDir, new SimpleFileVisitor<>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+        return !dir.equals(baseDir) && dir.getFileName().toString().startsWith(".") ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        if (attrs.isRegularFile() && !file.getFileName().toString().startsWith(".")) {
+          files.add(new ClientFileDto(file.toUri(), baseDir.relativize(file), CONFIG_SCOPE_ID, null, StandardCharsets.UTF_8.name(), file, null, null, true));
+        }
+        return FileVisitResult.CONTINUE;
+      }
+    });
+    return files;
+  }
+
+  static Map<String, StandaloneRuleConfigDto> readRules(Path rulesFile) throws IOException {
+    Map<String, RuleSettings> settingsByRuleKey = new GsonBuilder().create().fromJson(Files.readString(rulesFile), new TypeToken<Map<String, RuleSettings>>() {
+    }.getType());
+    var rules = new HashMap<String, StandaloneRuleConfigDto>();
+    settingsByRuleKey.forEach((ruleKey, settings) -> rules.put(ruleKey,
+      new StandaloneRuleConfigDto(settings.isActive == null || settings.isActive, settings.params == null ? Map.of() : settings.params)));
+    return rules;
+  }
+
+  private static long elapsedMs(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  private record RuleSettings(@Nullable Boolean isActive, @Nullable Map<String, String> params) {
+  }
+
+  record Report(String projectDir, int files, int failedFiles, long issues, int filesWithIssues, Map<String, Long> issuesByRule, Map<String, Long> timingsMs) {
+  }
+
+  static void print(Report report, PrintStream out) {
+    out.println(new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(report));
+  }
+}
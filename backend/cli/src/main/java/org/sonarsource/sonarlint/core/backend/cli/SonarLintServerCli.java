@@ -27,7 +27,7 @@ import java.util.concurrent.CancellationException;
 import org.sonarsource.sonarlint.core.rpc.impl.BackendJsonRpcLauncher;
 import picocli.CommandLine;
 
-@CommandLine.Command(name = "slcore", mixinStandardHelpOptions = true, description = "The SonarLint Core backend")
+@CommandLine.Command(name = "slcore", mixinStandardHelpOptions = true, description = "The SonarLint Core backend", subcommands = BatchAnalysisCommand.class)
 public class SonarLintServerCli implements Callable<Integer> {
 
   @Override
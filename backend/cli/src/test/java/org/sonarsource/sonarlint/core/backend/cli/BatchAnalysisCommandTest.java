@@ -0,0 +1,107 @@
+/*
+ * SonarLint Core - Backend CLI
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.backend.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.ClientFileDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchAnalysisCommandTest {
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void it_should_list_files_and_skip_hidden_ones() throws IOException {
+    Files.createDirectories(tempDir.resolve("src/main"));
+    Files.createDirectories(tempDir.resolve(".git"));
+    Files.writeString(tempDir.resolve("src/main/Foo.java"), "class Foo {}");
+    Files.writeString(tempDir.resolve(".git/config"), "");
+    Files.writeString(tempDir.resolve(".hidden"), "");
+
+    var files = BatchAnalysisCommand.listFiles(tempDir);
+
+    assertThat(files).extracting(ClientFileDto::getIdeRelativePath).containsExactly(Path.of("src/main/Foo.java"));
+  }
+
+  @Test
+  void it_should_read_rule_settings() throws IOException {
+    var rulesFile = tempDir.resolve("rules.json");
+    Files.writeString(rulesFile, "{\"java:S100\": {\"isActive\": false}, \"java:S107\": {\"params\": {\"max\": \"5\"}}}");
+
+    var rules = BatchAnalysisCommand.readRules(rulesFile);
+
+    assertThat(rules).containsOnlyKeys("java:S100", "java:S107");
+    assertThat(rules.get("java:S100").isActive()).isFalse();
+    assertThat(rules.get("java:S100").getParamValueByKey()).isEmpty();
+    assertThat(rules.get("java:S107").isActive()).isTrue();
+    assertThat(rules.get("java:S107").getParamValueByKey()).containsEntry("max", "5");
+  }
+
+  @Test
+  void it_should_analyze_a_directory_without_analyzable_file() throws Exception {
+    var projectDir = Files.createDirectories(tempDir.resolve("project"));
+    Files.writeString(projectDir.resolve("README.txt"), "Nothing to analyze");
+    var underTest = newCommand(projectDir);
+
+    var report = underTest.analyze();
+
+    assertThat(report.files()).isEqualTo(1);
+    assertThat(report.failedFiles()).isZero();
+    assertThat(report.issues()).isZero();
+    assertThat(report.timingsMs()).containsKeys("initialize", "configScopeReady", "analyzeAndTrack", "shutdown", "total");
+  }
+
+  @Test
+  void it_should_analyze_an_empty_directory() throws Exception {
+    var projectDir = Files.createDirectories(tempDir.resolve("empty"));
+    var underTest = newCommand(projectDir);
+
+    var report = underTest.analyze();
+
+    assertThat(report.files()).isZero();
+    assertThat(report.issues()).isZero();
+  }
+
+  @Test
+  void it_should_print_report_as_json() {
+    var out = new ByteArrayOutputStream();
+
+    BatchAnalysisCommand.print(new BatchAnalysisCommand.Report("/project", 3, 0, 2, 1, Map.of("java:S100", 2L), Map.of("total", 42L)), new PrintStream(out));
+
+    assertThat(out.toString()).contains("\"issues\": 2", "\"java:S100\": 2", "\"total\": 42");
+  }
+
+  private BatchAnalysisCommand newCommand(Path projectDir) throws IOException {
+    var command = new BatchAnalysisCommand();
+    command.projectDir = projectDir;
+    command.pluginsDir = Files.createDirectories(tempDir.resolve("plugins"));
+    command.userHome = Files.createDirectories(tempDir.resolve("home"));
+    command.timeoutMinutes = 1;
+    return command;
+  }
+}
@@ -31,7 +31,7 @@ import org.sonarsource.sonarlint.core.commons.log.LogOutput.Level;
  */
 public class SonarLintLogger {
   private static final SonarLintLogger logger = new SonarLintLogger();
-  private Level currentLevel = Level.OFF;
+  private volatile Level currentLevel = Level.OFF;
 
   public static SonarLintLogger get() {
     return logger;
@@ -144,13 +144,21 @@ public class SonarLintLogger {
     log(msg, Level.ERROR, thrown);
   }
 
+  public boolean isEnabled(Level level) {
+    return currentLevel.isMoreVerboseOrEqual(level);
+  }
+
   private void doLogExtractingThrowable(Level level, String msg, Object[] argArray) {
+    // check the level first so that suppressed logs don't pay for formatting their arguments
+    if (!isEnabled(level)) {
+      return;
+    }
     var tuple = MessageFormatter.arrayFormat(msg, argArray);
     log(tuple.getMessage(), level, tuple.getThrowable());
   }
 
   private void log(@Nullable String formattedMessage, Level level, @Nullable Throwable t) {
-    if (currentLevel.isMoreVerboseOrEqual(level) && (formattedMessage != null || t != null)) {
+    if (isEnabled(level) && (formattedMessage != null || t != null)) {
       var stacktrace = t == null ? null : LogOutput.stackTraceToString(t);
       log(formattedMessage, level, stacktrace);
     }
@@ -164,7 +172,9 @@ public class SonarLintLogger {
     });
     if (output != null) {
       output.log(formattedMessage, level, stackTrace);
-      Sentry.logger().log(getSentryLogLevel(level), formattedMessage);
+      if (Sentry.isEnabled()) {
+        Sentry.logger().log(getSentryLogLevel(level), formattedMessage);
+      }
     }
   }
 
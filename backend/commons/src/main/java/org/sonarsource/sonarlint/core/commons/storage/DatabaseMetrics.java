@@ -0,0 +1,79 @@
+/*
+ * SonarLint Core - Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.commons.storage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative timings of the database accesses since the backend started: time spent waiting for a connection from the pool, and
+ * time spent executing queries (rendering, execution and fetching).
+ */
+public class DatabaseMetrics {
+
+  private final LongAdder connectionAcquisitions = new LongAdder();
+  private final LongAdder poolWaitNanos = new LongAdder();
+  private final AtomicLong maxPoolWaitNanos = new AtomicLong();
+  private final LongAdder queries = new LongAdder();
+  private final LongAdder queryNanos = new LongAdder();
+  private final AtomicLong maxQueryNanos = new AtomicLong();
+
+  void connectionAcquired(long waitNanos) {
+    connectionAcquisitions.increment();
+    poolWaitNanos.add(waitNanos);
+    maxPoolWaitNanos.accumulateAndGet(waitNanos, Math::max);
+  }
+
+  void queryExecuted(long durationNanos) {
+    queries.increment();
+    queryNanos.add(durationNanos);
+    maxQueryNanos.accumulateAndGet(durationNanos, Math::max);
+  }
+
+  public Snapshot snapshot() {
+    return new Snapshot(connectionAcquisitions.sum(), toMillis(poolWaitNanos.sum()), toMillis(maxPoolWaitNanos.get()), queries.sum(), toMillis(queryNanos.sum()),
+      toMillis(maxQueryNanos.get()));
+  }
+
+  /**
+   * Same as {@link #snapshot()}, but the maximum durations start over, so that the next snapshot only reflects the accesses made after this one.
+   */
+  public Snapshot snapshotAndResetMaximums() {
+    var snapshot = snapshot();
+    maxPoolWaitNanos.set(0);
+    maxQueryNanos.set(0);
+    return snapshot;
+  }
+
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  public record Snapshot(long connectionAcquisitions, long poolWaitMs, long maxPoolWaitMs, long queries, long queryTimeMs, long maxQueryTimeMs) {
+    /**
+     * @return the accesses made between the given snapshot and this one, maximum durations are not relevant and set to 0
+     */
+    public Snapshot since(Snapshot previous) {
+      return new Snapshot(connectionAcquisitions - previous.connectionAcquisitions, poolWaitMs - previous.poolWaitMs, 0, queries - previous.queries,
+        queryTimeMs - previous.queryTimeMs, 0);
+    }
+  }
+}
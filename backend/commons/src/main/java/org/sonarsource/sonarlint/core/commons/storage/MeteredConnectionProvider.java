@@ -0,0 +1,61 @@
+/*
+ * SonarLint Core - Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.commons.storage;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.jooq.ConnectionProvider;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * Provides connections from the pool to jOOQ, and measures how long each caller waited for one.
+ */
+class MeteredConnectionProvider implements ConnectionProvider {
+
+  private final DataSource dataSource;
+  private final DatabaseMetrics metrics;
+
+  MeteredConnectionProvider(DataSource dataSource, DatabaseMetrics metrics) {
+    this.dataSource = dataSource;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Connection acquire() {
+    var start = System.nanoTime();
+    try {
+      var connection = dataSource.getConnection();
+      metrics.connectionAcquired(System.nanoTime() - start);
+      return connection;
+    } catch (SQLException e) {
+      throw new DataAccessException("Error getting connection from data source " + dataSource, e);
+    }
+  }
+
+  @Override
+  public void release(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      throw new DataAccessException("Error closing connection " + connection, e);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * SonarLint Core - Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.commons.storage;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+
+/**
+ * A jOOQ ExecuteListener measuring the duration of each query, from the rendering of the SQL to the end of the fetching.
+ */
+class QueryMetricsListener implements ExecuteListener {
+
+  private static final String START_NANOS_KEY = QueryMetricsListener.class.getName() + ".start";
+
+  private final DatabaseMetrics metrics;
+
+  QueryMetricsListener(DatabaseMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void start(ExecuteContext ctx) {
+    ctx.data(START_NANOS_KEY, System.nanoTime());
+  }
+
+  @Override
+  public void end(ExecuteContext ctx) {
+    if (ctx.data(START_NANOS_KEY) instanceof Long startNanos) {
+      metrics.queryExecuted(System.nanoTime() - startNanos);
+    }
+  }
+}
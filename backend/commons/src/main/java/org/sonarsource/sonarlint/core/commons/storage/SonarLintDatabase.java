@@ -37,9 +37,15 @@ public final class SonarLintDatabase {
   private static final SonarLintLogger LOG = SonarLintLogger.get();
 
   public static final String SQ_IDE_DB_FILENAME = "sq-ide";
+  public static final String POOL_MAX_CONNECTIONS_PROPERTY = "sonarlint.db.pool.maxConnections";
+  public static final String POOL_TIMEOUT_SECONDS_PROPERTY = "sonarlint.db.pool.timeoutSeconds";
+  public static final String QUERY_CACHE_SIZE_PROPERTY = "sonarlint.db.queryCacheSize";
+  private static final int DEFAULT_POOL_TIMEOUT_SECONDS = 30;
+  private static final int DEFAULT_QUERY_CACHE_SIZE = 64;
 
   private final JdbcConnectionPool dataSource;
   private final DSLContext dsl;
+  private final DatabaseMetrics metrics = new DatabaseMetrics();
 
   public SonarLintDatabase(Path storageRoot) {
     JdbcConnectionPool ds;
@@ -48,7 +54,8 @@ public final class SonarLintDatabase {
       deleteLegacyDatabase(baseDir);
       Files.createDirectories(baseDir);
       var dbBasePath = baseDir.toRealPath().resolve(SQ_IDE_DB_FILENAME).toAbsolutePath();
-      var url = "jdbc:h2:" + dbBasePath + ";AUTO_SERVER=TRUE";
+      // H2 caches the parsed statements of each connection by SQL text, so that preparing a statement again is cheap
+      var url = "jdbc:h2:" + dbBasePath + ";AUTO_SERVER=TRUE;QUERY_CACHE_SIZE=" + Integer.getInteger(QUERY_CACHE_SIZE_PROPERTY, DEFAULT_QUERY_CACHE_SIZE);
       // Ensure H2 AUTO_SERVER binds and advertises loopback to allow local cross-process connections reliably
       var bindAddressProperty = "h2.bindAddress";
       if (StringUtils.isEmpty(System.getProperty(bindAddressProperty))) {
@@ -56,6 +63,9 @@ public final class SonarLintDatabase {
       }
       LOG.debug("Initializing H2Database with URL {}", url);
       ds = JdbcConnectionPool.create(url, "sa", "");
+      // analysis, synchronization and RPC requests read the storage concurrently, they should not queue for a connection
+      ds.setMaxConnections(Integer.getInteger(POOL_MAX_CONNECTIONS_PROPERTY, defaultMaxConnections()));
+      ds.setLoginTimeout(Integer.getInteger(POOL_TIMEOUT_SECONDS_PROPERTY, DEFAULT_POOL_TIMEOUT_SECONDS));
     } catch (Exception e) {
       DatabaseExceptionReporter.capture(e, "startup", "h2.pool.create");
       throw new IllegalStateException("Failed to initialize H2Database", e);
@@ -83,13 +93,20 @@ public final class SonarLintDatabase {
     System.setProperty("org.jooq.no-logo", "true");
 
     var jooqConfig = new DefaultConfiguration()
-      .set(this.dataSource)
+      .set(new MeteredConnectionProvider(this.dataSource, metrics))
       .set(SQLDialect.H2)
-      .set(new Settings().withExecuteLogging(false))
-      .set(new DefaultExecuteListenerProvider(new JooqDatabaseExceptionListener()));
+      .set(new Settings()
+        .withExecuteLogging(false)
+        // render the same SQL for IN lists of similar sizes, so that the statements cached by H2 are reused
+        .withInListPadding(true))
+      .set(new DefaultExecuteListenerProvider(new JooqDatabaseExceptionListener()), new DefaultExecuteListenerProvider(new QueryMetricsListener(metrics)));
     this.dsl = DSL.using(jooqConfig);
   }
 
+  private static int defaultMaxConnections() {
+    return Math.max(10, 2 * Runtime.getRuntime().availableProcessors());
+  }
+
   private static void deleteLegacyDatabase(Path baseDir) {
     // see SLCORE-1847
     var legacyDb = baseDir.resolve("sonarlint");
@@ -102,6 +119,10 @@ public final class SonarLintDatabase {
     return dsl;
   }
 
+  public DatabaseMetrics metrics() {
+    return metrics;
+  }
+
   public void shutdown() {
     try {
       dataSource.dispose();
@@ -107,12 +107,17 @@ public class FileStorageManager<T extends LocalStorage> {
     }
   }
 
-  public void tryUpdateAtomically(Consumer<T> updater) {
+  /**
+   * @return false if the file could not be updated, the error is logged
+   */
+  public boolean tryUpdateAtomically(Consumer<T> updater) {
     try {
       updateAtomically(updater);
+      return true;
     } catch (Exception e) {
       invalidateCache();
       LOG.warn("Error updating data in the file", e);
+      return false;
     }
   }
 
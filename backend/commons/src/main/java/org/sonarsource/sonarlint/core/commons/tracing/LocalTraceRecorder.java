@@ -0,0 +1,162 @@
+/*
+ * SonarLint Core - Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.commons.tracing;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the most recent finished traces in memory, whether or not they are sent to Sentry, so that they can be inspected locally.
+ * The number of kept traces can be changed with the {@value #CAPACITY_PROPERTY} system property, 0 disables the recording.
+ */
+public class LocalTraceRecorder {
+  public static final String CAPACITY_PROPERTY = "sonarlint.tracing.local.capacity";
+  private static final int DEFAULT_CAPACITY = 100;
+  private static final LocalTraceRecorder recorder = new LocalTraceRecorder(capacityFromSystemProperty());
+
+  private final int capacity;
+  private final Deque<RecordedTrace> traces;
+
+  public static LocalTraceRecorder get() {
+    return recorder;
+  }
+
+  LocalTraceRecorder(int capacity) {
+    this.capacity = Math.max(0, capacity);
+    this.traces = new ArrayDeque<>(this.capacity);
+  }
+
+  private static int capacityFromSystemProperty() {
+    var property = System.getProperty(CAPACITY_PROPERTY);
+    if (property == null) {
+      return DEFAULT_CAPACITY;
+    }
+    try {
+      return Integer.parseInt(property);
+    } catch (NumberFormatException e) {
+      return DEFAULT_CAPACITY;
+    }
+  }
+
+  public boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  void record(RecordedTrace trace) {
+    if (!isEnabled()) {
+      return;
+    }
+    synchronized (traces) {
+      if (traces.size() == capacity) {
+        traces.removeFirst();
+      }
+      traces.addLast(trace);
+    }
+  }
+
+  /**
+   * @param maxCount maximum number of traces to return, or null to return all the kept ones
+   * @return the most recent traces, oldest first
+   */
+  public List<RecordedTrace> getRecentTraces(@Nullable Integer maxCount) {
+    synchronized (traces) {
+      var all = List.copyOf(traces);
+      if (maxCount == null || maxCount >= all.size()) {
+        return all;
+      }
+      return all.subList(all.size() - Math.max(0, maxCount), all.size());
+    }
+  }
+
+  public void clear() {
+    synchronized (traces) {
+      traces.clear();
+    }
+  }
+
+  /**
+   * Write traces in the Chrome trace event format, that can be opened with chrome://tracing or https://ui.perfetto.dev
+   */
+  public static void writeChromeTrace(Collection<RecordedTrace> traces, Path file) throws IOException {
+    Files.writeString(file, toChromeTrace(traces), StandardCharsets.UTF_8);
+  }
+
+  static String toChromeTrace(Collection<RecordedTrace> traces) {
+    var events = new JsonArray();
+    var threadNames = new HashMap<Long, String>();
+    for (var trace : traces) {
+      threadNames.put(trace.threadId(), trace.threadName());
+      var args = new JsonObject();
+      trace.data().forEach(args::addProperty);
+      events.add(completeEvent(trace.name(), trace.operation(), trace.startEpochMicros(), trace.durationMicros(), trace.threadId(), trace.failed(), args));
+      for (var span : trace.spans()) {
+        threadNames.put(span.threadId(), span.threadName());
+        var spanArgs = new JsonObject();
+        if (span.description() != null) {
+          spanArgs.addProperty("description", span.description());
+        }
+        events.add(completeEvent(span.task(), trace.name(), span.startEpochMicros(), span.durationMicros(), span.threadId(), span.failed(), spanArgs));
+      }
+    }
+    threadNames.forEach((threadId, threadName) -> events.add(threadNameEvent(threadId, threadName)));
+    var root = new JsonObject();
+    root.add("traceEvents", events);
+    root.addProperty("displayTimeUnit", "ms");
+    return root.toString();
+  }
+
+  private static JsonObject completeEvent(String name, String category, long startMicros, long durationMicros, long threadId, boolean failed, JsonObject args) {
+    var event = new JsonObject();
+    event.addProperty("name", name);
+    event.addProperty("cat", category);
+    event.addProperty("ph", "X");
+    event.addProperty("ts", startMicros);
+    event.addProperty("dur", durationMicros);
+    event.addProperty("pid", ProcessHandle.current().pid());
+    event.addProperty("tid", threadId);
+    if (failed) {
+      args.addProperty("status", "error");
+    }
+    event.add("args", args);
+    return event;
+  }
+
+  private static JsonObject threadNameEvent(long threadId, String threadName) {
+    var args = new JsonObject();
+    args.addProperty("name", threadName);
+    var event = new JsonObject();
+    event.addProperty("name", "thread_name");
+    event.addProperty("ph", "M");
+    event.addProperty("pid", ProcessHandle.current().pid());
+    event.addProperty("tid", threadId);
+    event.add("args", args);
+    return event;
+  }
+}
@@ -21,21 +21,40 @@ package org.sonarsource.sonarlint.core.commons.tracing;
 
 import io.sentry.ISpan;
 import io.sentry.SpanStatus;
+import javax.annotation.Nullable;
 
 public class Span {
 
   private final ISpan sentrySpan;
+  private final Trace trace;
+  private final String task;
+  @Nullable
+  private final String description;
+  private final long startNanos;
+  private final Thread thread;
 
-  Span(ISpan sentrySpan) {
-    this.sentrySpan = sentrySpan;
+  Span(Trace trace, String task, @Nullable String description) {
+    this.sentrySpan = trace.startSentryChild(task, description);
+    this.trace = trace;
+    this.task = task;
+    this.description = description;
+    this.startNanos = System.nanoTime();
+    this.thread = Thread.currentThread();
   }
 
   public void finishExceptionally(Throwable throwable) {
     this.sentrySpan.setThrowable(throwable);
     this.sentrySpan.finish(SpanStatus.INTERNAL_ERROR);
+    record(true);
   }
 
   public void finishSuccessfully() {
     this.sentrySpan.finish(SpanStatus.OK);
+    record(false);
+  }
+
+  private void record(boolean failed) {
+    trace.addSpan(new RecordedSpan(task, description, trace.toEpochMicros(startNanos), (System.nanoTime() - startNanos) / 1000, thread.threadId(), thread.getName(),
+      failed));
   }
 }
@@ -19,7 +19,6 @@
  */
 package org.sonarsource.sonarlint.core.commons.tracing;
 
-import io.sentry.ITransaction;
 import javax.annotation.Nullable;
 
 public class Step {
@@ -36,8 +35,8 @@ public class Step {
     operation.run();
   }
 
-  public void executeTransaction(ITransaction transaction, @Nullable String description) {
-    var span = new Span(transaction.startChild(task, description));
+  public void executeTransaction(Trace trace, @Nullable String description) {
+    var span = new Span(trace, task, description);
     try {
       operation.run();
       span.finishSuccessfully();
@@ -19,9 +19,15 @@
  */
 package org.sonarsource.sonarlint.core.commons.tracing;
 
+import io.sentry.ISpan;
 import io.sentry.ITransaction;
 import io.sentry.Sentry;
 import io.sentry.SpanStatus;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -29,20 +35,38 @@ import javax.annotation.Nullable;
 public class Trace {
 
   private final ITransaction transaction;
+  private final LocalTraceRecorder recorder;
+  private final String name;
+  private final String operation;
+  private final long startEpochMicros;
+  private final long startNanos;
+  private final Thread thread;
+  private final Map<String, String> data = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<RecordedSpan> spans = new ConcurrentLinkedQueue<>();
+  private final ConcurrentLinkedQueue<Consumer<Trace>> finishListeners = new ConcurrentLinkedQueue<>();
 
-  private Trace(ITransaction transaction) {
+  Trace(ITransaction transaction, LocalTraceRecorder recorder, String name, String operation) {
     this.transaction = transaction;
+    this.recorder = recorder;
+    this.name = name;
+    this.operation = operation;
+    this.startEpochMicros = System.currentTimeMillis() * 1000;
+    this.startNanos = System.nanoTime();
+    this.thread = Thread.currentThread();
   }
 
+  /**
+   * The trace is sent to Sentry if monitoring is enabled and the trace sampled, and it is always recorded by the {@link LocalTraceRecorder}.
+   */
   public static Trace begin(String name, String operation) {
-    return new Trace(Sentry.startTransaction(name, operation));
+    return new Trace(Sentry.startTransaction(name, operation), LocalTraceRecorder.get(), name, operation);
   }
 
   public static <T> T startChild(@Nullable Trace trace, String task, @Nullable String description, Supplier<T> operation) {
     if (trace == null) {
       return operation.get();
     }
-    var span = new Span(trace.transaction.startChild(task, description));
+    var span = new Span(trace, task, description);
     try {
       var result = operation.get();
       span.finishSuccessfully();
@@ -58,7 +82,7 @@ public class Trace {
       operation.run();
       return;
     }
-    var span = new Span(trace.transaction.startChild(task, description));
+    var span = new Span(trace, task, description);
     try {
       operation.run();
       span.finishSuccessfully();
@@ -73,11 +97,19 @@ public class Trace {
       Stream.of(steps).forEach(Step::execute);
       return;
     }
-    Stream.of(steps).forEach(step -> step.executeTransaction(trace.transaction,  description));
+    Stream.of(steps).forEach(step -> step.executeTransaction(trace, description));
   }
 
   public void setData(String key, Object value) {
     this.transaction.setData(key, value);
+    this.data.put(key, String.valueOf(value));
+  }
+
+  /**
+   * The listener is called before the trace is finished, so it can still set data that only is known at the end.
+   */
+  public void onFinish(Consumer<Trace> listener) {
+    finishListeners.add(listener);
   }
 
   public void setThrowable(Throwable throwable) {
@@ -85,13 +117,45 @@ public class Trace {
   }
 
   public void finishExceptionally(Throwable throwable) {
+    notifyFinishListeners();
     this.transaction.setThrowable(throwable);
     this.transaction.setStatus(SpanStatus.INTERNAL_ERROR);
     this.transaction.finish();
+    record(true);
   }
 
   public void finishSuccessfully() {
+    notifyFinishListeners();
     this.transaction.setStatus(SpanStatus.OK);
     this.transaction.finish();
+    record(false);
+  }
+
+  ISpan startSentryChild(String task, @Nullable String description) {
+    return transaction.startChild(task, description);
+  }
+
+  void addSpan(RecordedSpan span) {
+    if (recorder.isEnabled()) {
+      spans.add(span);
+    }
+  }
+
+  long toEpochMicros(long nanos) {
+    return startEpochMicros + (nanos - startNanos) / 1000;
+  }
+
+  private void notifyFinishListeners() {
+    Consumer<Trace> listener;
+    while ((listener = finishListeners.poll()) != null) {
+      listener.accept(this);
+    }
+  }
+
+  private void record(boolean failed) {
+    if (recorder.isEnabled()) {
+      recorder.record(new RecordedTrace(name, operation, startEpochMicros, (System.nanoTime() - startNanos) / 1000, thread.threadId(), thread.getName(), failed,
+        Map.copyOf(data), List.copyOf(spans)));
+    }
   }
 }
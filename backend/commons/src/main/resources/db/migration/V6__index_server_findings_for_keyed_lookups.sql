@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_server_findings_id
+    ON SERVER_FINDINGS(id);
+
+CREATE INDEX IF NOT EXISTS idx_server_findings_branch_type_key
+    ON SERVER_FINDINGS(connection_id, sonar_project_key, branch_name, finding_type, server_key);
@@ -19,11 +19,13 @@
  */
 package org.sonarsource.sonarlint.core.commons.log;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.sonarsource.sonarlint.core.commons.log.LogOutput.Level;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -162,4 +164,23 @@ class SonarLintLoggerTests {
     inOrder.verify(output).log(eq("msg a"), eq(Level.ERROR), argThat(arg -> arg.contains("thrown")));
     inOrder.verify(output).log(eq("msg a a"), eq(Level.ERROR), argThat(arg -> arg.contains("thrown")));
   }
+
+  @Test
+  void should_not_format_arguments_of_suppressed_logs() {
+    logger.setLevel(Level.INFO);
+    var formatted = new AtomicBoolean();
+    var argument = new Object() {
+      @Override
+      public String toString() {
+        formatted.set(true);
+        return "arg";
+      }
+    };
+
+    logger.debug("msg {}", argument);
+    logger.trace("msg {} {}", argument, argument);
+
+    Mockito.verifyNoInteractions(output);
+    assertThat(formatted).isFalse();
+  }
 }
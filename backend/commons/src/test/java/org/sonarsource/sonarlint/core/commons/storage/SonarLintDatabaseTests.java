@@ -0,0 +1,73 @@
+/*
+ * SonarLint Core - Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.commons.storage;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SonarLintDatabaseTests {
+
+  @RegisterExtension
+  private static final SonarLintLogTester logTester = new SonarLintLogTester();
+
+  @TempDir
+  private Path storageRoot;
+  private SonarLintDatabase database;
+
+  @BeforeEach
+  void setUp() {
+    database = new SonarLintDatabase(storageRoot);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  @Test
+  void should_measure_queries_and_connection_acquisitions() {
+    var before = database.metrics().snapshot();
+
+    database.dsl().selectOne().fetch();
+    database.dsl().selectOne().fetch();
+
+    var delta = database.metrics().snapshot().since(before);
+    assertThat(delta.queries()).isEqualTo(2);
+    assertThat(delta.connectionAcquisitions()).isGreaterThanOrEqualTo(2);
+    assertThat(delta.queryTimeMs()).isNotNegative();
+    assertThat(delta.poolWaitMs()).isNotNegative();
+  }
+
+  @Test
+  void should_reset_maximums_only_when_requested() {
+    database.metrics().queryExecuted(5_000_000);
+
+    assertThat(database.metrics().snapshot().maxQueryTimeMs()).isEqualTo(5);
+    assertThat(database.metrics().snapshotAndResetMaximums().maxQueryTimeMs()).isEqualTo(5);
+    assertThat(database.metrics().snapshot().maxQueryTimeMs()).isZero();
+  }
+}
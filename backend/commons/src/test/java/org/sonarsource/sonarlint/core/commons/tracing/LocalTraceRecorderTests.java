@@ -0,0 +1,119 @@
+/*
+ * SonarLint Core - Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.commons.tracing;
+
+import com.google.gson.JsonParser;
+import io.sentry.Sentry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LocalTraceRecorderTests {
+
+  @Test
+  void should_record_finished_traces_with_their_spans() {
+    var recorder = new LocalTraceRecorder(10);
+    var trace = new Trace(Sentry.startTransaction("AnalysisService", "analyze"), recorder, "AnalysisService", "analyze");
+    trace.setData("activeRulesCount", 42);
+
+    Trace.startChild(trace, "newAnalysisContainer", "description", () -> {
+    });
+    assertThatThrownBy(() -> Trace.startChild(trace, "sensor", null, () -> {
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class);
+    trace.finishSuccessfully();
+
+    var traces = recorder.getRecentTraces(null);
+    assertThat(traces).hasSize(1);
+    var recorded = traces.get(0);
+    assertThat(recorded.name()).isEqualTo("AnalysisService");
+    assertThat(recorded.failed()).isFalse();
+    assertThat(recorded.data()).containsEntry("activeRulesCount", "42");
+    assertThat(recorded.spans()).extracting(RecordedSpan::task, RecordedSpan::description, RecordedSpan::failed)
+      .containsExactly(
+        tuple("newAnalysisContainer", "description", false),
+        tuple("sensor", null, true));
+    assertThat(recorded.spans().get(0).startEpochMicros()).isGreaterThanOrEqualTo(recorded.startEpochMicros());
+  }
+
+  @Test
+  void should_record_data_set_by_finish_listeners() {
+    var recorder = new LocalTraceRecorder(10);
+    var trace = new Trace(Sentry.startTransaction("AnalysisService", "analyze"), recorder, "AnalysisService", "analyze");
+    trace.onFinish(t -> t.setData("dbQueries", 3));
+
+    trace.finishExceptionally(new IllegalStateException("boom"));
+
+    var recorded = recorder.getRecentTraces(null).get(0);
+    assertThat(recorded.failed()).isTrue();
+    assertThat(recorded.data()).containsEntry("dbQueries", "3");
+  }
+
+  @Test
+  void should_keep_only_the_most_recent_traces() {
+    var recorder = new LocalTraceRecorder(2);
+    for (var i = 0; i < 3; i++) {
+      recorder.record(trace("trace" + i));
+    }
+
+    assertThat(recorder.getRecentTraces(null)).extracting(RecordedTrace::name).containsExactly("trace1", "trace2");
+    assertThat(recorder.getRecentTraces(1)).extracting(RecordedTrace::name).containsExactly("trace2");
+  }
+
+  @Test
+  void should_not_record_when_disabled() {
+    var recorder = new LocalTraceRecorder(0);
+
+    recorder.record(trace("trace"));
+
+    assertThat(recorder.isEnabled()).isFalse();
+    assertThat(recorder.getRecentTraces(null)).isEmpty();
+  }
+
+  @Test
+  void should_export_to_chrome_trace_event_format() {
+    var span = new RecordedSpan("sensor", "JavaSensor", 1_100, 50, 2, "worker", false);
+    var trace = new RecordedTrace("AnalysisService", "analyze", 1_000, 200, 1, "main", true, Map.of("trigger", "AUTO"), List.of(span));
+
+    var json = JsonParser.parseString(LocalTraceRecorder.toChromeTrace(List.of(trace))).getAsJsonObject();
+
+    var events = json.getAsJsonArray("traceEvents");
+    assertThat(events).hasSize(4);
+    var traceEvent = events.get(0).getAsJsonObject();
+    assertThat(traceEvent.get("name").getAsString()).isEqualTo("AnalysisService");
+    assertThat(traceEvent.get("ph").getAsString()).isEqualTo("X");
+    assertThat(traceEvent.get("ts").getAsLong()).isEqualTo(1_000);
+    assertThat(traceEvent.get("dur").getAsLong()).isEqualTo(200);
+    assertThat(traceEvent.getAsJsonObject("args").get("trigger").getAsString()).isEqualTo("AUTO");
+    assertThat(traceEvent.getAsJsonObject("args").get("status").getAsString()).isEqualTo("error");
+    var spanEvent = events.get(1).getAsJsonObject();
+    assertThat(spanEvent.get("name").getAsString()).isEqualTo("sensor");
+    assertThat(spanEvent.get("tid").getAsLong()).isEqualTo(2);
+    assertThat(spanEvent.getAsJsonObject("args").get("description").getAsString()).isEqualTo("JavaSensor");
+  }
+
+  private static RecordedTrace trace(String name) {
+    return new RecordedTrace(name, "operation", 0, 0, 1, "main", false, Map.of(), List.of());
+  }
+}
@@ -111,7 +111,7 @@ public class BindingClueProvider {
       }
     }
 
-    var bindingCluesFiles = clientFs.findFilesByNamesInScope(checkedConfigScopeId, List.copyOf(ALL_BINDING_CLUE_FILENAMES));
+    var bindingCluesFiles = clientFs.findFilesByNamesInScope(checkedConfigScopeId, ALL_BINDING_CLUE_FILENAMES);
     if (!bindingCluesFiles.isEmpty()) {
       var collectedClues = collectFromFiles(bindingCluesFiles, cancelMonitor);
       if (!collectedClues.isEmpty()) {
@@ -61,6 +61,7 @@ import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 import org.sonarsource.sonarlint.core.commons.progress.SonarLintCancelMonitor;
 import org.sonarsource.sonarlint.core.commons.progress.TaskManager;
+import org.sonarsource.sonarlint.core.commons.storage.SonarLintDatabase;
 import org.sonarsource.sonarlint.core.commons.tracing.Trace;
 import org.sonarsource.sonarlint.core.event.BindingConfigChangedEvent;
 import org.sonarsource.sonarlint.core.event.ConfigurationScopeRemovedEvent;
@@ -127,13 +128,14 @@ public class AnalysisService {
   private final OpenFilesRepository openFilesRepository;
   private final ClientFileSystemService clientFileSystemService;
   private final Path esLintBridgeServerPath;
+  private final SonarLintDatabase database;
   private boolean automaticAnalysisEnabled;
 
   public AnalysisService(SonarLintRpcClient client, ConfigurationRepository configurationRepository, LanguageSupportRepository languageSupportRepository,
     StorageService storageService, PluginsService pluginsService, ActiveRulesService activeRulesService, ClientFileSystemService fileSystemService,
     FileExclusionService fileExclusionService, MonitoringService monitoringService, TaskManager taskManager, InitializeParams initializeParams, NodeJsService nodeJsService,
     AnalysisSchedulerCache schedulerCache, ApplicationEventPublisher eventPublisher, UserAnalysisPropertiesRepository clientAnalysisPropertiesRepository,
-    OpenFilesRepository openFilesRepository, ClientFileSystemService clientFileSystemService) {
+    OpenFilesRepository openFilesRepository, ClientFileSystemService clientFileSystemService, SonarLintDatabase database) {
     this.client = client;
     this.configurationRepository = configurationRepository;
     this.languageSupportRepository = languageSupportRepository;
@@ -151,6 +153,7 @@ public class AnalysisService {
     this.openFilesRepository = openFilesRepository;
     this.automaticAnalysisEnabled = initializeParams.isAutomaticAnalysisEnabled();
     this.clientFileSystemService = clientFileSystemService;
+    this.database = database;
     this.esLintBridgeServerPath = initializeParams.getLanguageSpecificRequirements() != null && initializeParams.getLanguageSpecificRequirements().getJsTsRequirements() != null
       ? initializeParams.getLanguageSpecificRequirements().getJsTsRequirements().getBundlePath()
       : null;
@@ -552,6 +555,15 @@ public class AnalysisService {
     newTrace.setData("availableProcessors", currentRuntime.availableProcessors());
     newTrace.setData("totalMemory", currentRuntime.totalMemory());
     newTrace.setData("maxMemory", currentRuntime.maxMemory());
+    // the database is shared, so concurrent work is included in the figures
+    var databaseMetricsAtStart = database.metrics().snapshot();
+    newTrace.onFinish(finishedTrace -> {
+      var databaseMetrics = database.metrics().snapshot().since(databaseMetricsAtStart);
+      finishedTrace.setData("dbQueries", databaseMetrics.queries());
+      finishedTrace.setData("dbQueryTimeMs", databaseMetrics.queryTimeMs());
+      finishedTrace.setData("dbConnectionAcquisitions", databaseMetrics.connectionAcquisitions());
+      finishedTrace.setData("dbPoolWaitMs", databaseMetrics.poolWaitMs());
+    });
     return newTrace;
   }
 
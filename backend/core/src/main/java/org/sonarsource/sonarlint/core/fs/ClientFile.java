@@ -26,6 +26,8 @@ import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
 import javax.annotation.Nullable;
 import org.apache.commons.compress.utils.FileNameUtils;
 import org.apache.commons.io.ByteOrderMark;
@@ -81,6 +83,18 @@ public class ClientFile {
   @Nullable
   private String clientProvidedContent;
 
+  /**
+   * When the client sends incremental changes, they are applied in place to this buffer instead of replacing the whole content
+   */
+  @Nullable
+  private StringBuilder editableContent;
+
+  /**
+   * Version of the content, as known by the client sending incremental changes. null until the first changes are received.
+   */
+  @Nullable
+  private Integer contentVersion;
+
   private final boolean isUserDefined;
 
   public ClientFile(URI uri, String configScopeId, Path relativePath, @Nullable Boolean isTest, @Nullable Charset charset, @Nullable Path fsPath,
@@ -107,13 +121,13 @@ public class ClientFile {
     return uri;
   }
 
-  public boolean isDirty() {
+  public synchronized boolean isDirty() {
     return isDirty;
   }
 
-  public String getContent() {
+  public synchronized String getContent() {
     if (isDirty) {
-      return clientProvidedContent;
+      return getClientProvidedContent();
     }
     var charsetToUse = getCharset();
     try (var inputStream = inputStream()) {
@@ -123,9 +137,18 @@ public class ClientFile {
     }
   }
 
-  public InputStream inputStream() throws IOException {
-    if (isDirty && clientProvidedContent != null) {
-      return new ByteArrayInputStream(clientProvidedContent.getBytes(getCharset()));
+  @Nullable
+  private String getClientProvidedContent() {
+    if (clientProvidedContent == null && editableContent != null) {
+      clientProvidedContent = editableContent.toString();
+    }
+    return clientProvidedContent;
+  }
+
+  public synchronized InputStream inputStream() throws IOException {
+    var content = isDirty ? getClientProvidedContent() : null;
+    if (content != null) {
+      return new ByteArrayInputStream(content.getBytes(getCharset()));
     }
     if (fsPath == null) {
       throw new IllegalStateException("File " + uri + " is not dirty or does not have content but has no OS Path defined");
@@ -143,19 +166,94 @@ public class ClientFile {
     return configScopeId;
   }
 
-  public void setDirty(String content) {
+  public synchronized void setDirty(String content) {
     this.isDirty = true;
     this.clientProvidedContent = content;
+    this.editableContent = null;
+    this.contentVersion = null;
   }
 
-  public void setClean() {
+  public synchronized void setClean() {
     this.isDirty = false;
     this.clientProvidedContent = null;
+    this.editableContent = null;
+    this.contentVersion = null;
+  }
+
+  /**
+   * Applies incremental changes to the content of the file, which becomes dirty.
+   *
+   * @return false if the version does not follow the one of the previous changes, or if an edit is out of the bounds of the content.
+   * In this case the content is out of sync with the client and should be fetched again, and none of the edits is applied.
+   */
+  public synchronized boolean applyEdits(int version, List<TextEdit> edits) {
+    if (contentVersion != null && version != contentVersion + 1) {
+      return false;
+    }
+    var buffer = editableContent != null ? editableContent : new StringBuilder(getContent());
+    // edits are applied in place, only the replaced text is kept to restore the content if one of them is invalid
+    var appliedEdits = new ArrayDeque<AppliedEdit>();
+    for (var edit : edits) {
+      var range = edit.range();
+      var start = offsetOf(buffer, range.getStartLine(), range.getStartLineOffset());
+      var end = offsetOf(buffer, range.getEndLine(), range.getEndLineOffset());
+      if (start < 0 || end < start) {
+        appliedEdits.forEach(applied -> buffer.replace(applied.start(), applied.end(), applied.replacedText()));
+        return false;
+      }
+      appliedEdits.push(new AppliedEdit(start, start + edit.text().length(), buffer.substring(start, end)));
+      buffer.replace(start, end, edit.text());
+    }
+    this.editableContent = buffer;
+    this.clientProvidedContent = null;
+    this.isDirty = true;
+    this.contentVersion = version;
+    return true;
+  }
+
+  /**
+   * Marks the content as the one of the given client version, for example after fetching it again from the client, so that only the changes
+   * following this version are accepted
+   */
+  public synchronized void setContentVersion(int version) {
+    this.contentVersion = version;
+  }
+
+  private record AppliedEdit(int start, int end, String replacedText) {
+  }
+
+  /**
+   * @return the offset in the content of the given position, or -1 if it is out of bounds, including past the end of its line
+   */
+  private static int offsetOf(CharSequence content, int line, int lineOffset) {
+    if (line < 1 || lineOffset < 0) {
+      return -1;
+    }
+    var lineStart = 0;
+    var currentLine = 1;
+    var length = content.length();
+    while (currentLine < line) {
+      if (lineStart >= length) {
+        return -1;
+      }
+      var c = content.charAt(lineStart);
+      lineStart++;
+      if (c == '\n' || (c == '\r' && (lineStart >= length || content.charAt(lineStart) != '\n'))) {
+        currentLine++;
+      }
+    }
+    var lineEnd = lineStart;
+    while (lineEnd < length && content.charAt(lineEnd) != '\n' && content.charAt(lineEnd) != '\r') {
+      lineEnd++;
+    }
+    var offset = lineStart + lineOffset;
+    return offset <= lineEnd ? offset : -1;
   }
 
-  public boolean isLargerThan(long size) throws IOException {
-    if (isDirty && clientProvidedContent != null) {
-      return clientProvidedContent.getBytes(getCharset()).length > size;
+  public synchronized boolean isLargerThan(long size) throws IOException {
+    var content = isDirty ? getClientProvidedContent() : null;
+    if (content != null) {
+      return content.getBytes(getCharset()).length > size;
     } else {
       var localPath = FileUtils.getFilePathFromUri(uri);
       if (Files.exists(localPath)) {
@@ -23,6 +23,7 @@ import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -33,12 +34,15 @@ import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import javax.annotation.PreDestroy;
 import org.sonarsource.sonarlint.core.commons.SmartCancelableLoadingCache;
+import org.sonarsource.sonarlint.core.commons.api.TextRange;
 import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 import org.sonarsource.sonarlint.core.commons.progress.SonarLintCancelMonitor;
 import org.sonarsource.sonarlint.core.event.ConfigurationScopeRemovedEvent;
 import org.sonarsource.sonarlint.core.rpc.protocol.SonarLintRpcClient;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.file.DidUpdateFileSystemParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.file.FileContentChangesDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.InitializeParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.fs.GetBaseDirParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.fs.ListFilesParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.common.ClientFileDto;
@@ -46,6 +50,8 @@ import org.sonarsource.sonarlint.core.telemetry.TelemetryService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 
+import static org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.BackendCapability.INCREMENTAL_FILE_CONTENT_CHANGES;
+
 public class ClientFileSystemService {
 
   private static final SonarLintLogger LOG = SonarLintLogger.get();
@@ -56,19 +62,29 @@ public class ClientFileSystemService {
   private final Map<String, Path> baseDirPerConfigScopeId = new ConcurrentHashMap<>();
   private final OpenFilesRepository openFilesRepository;
   private final TelemetryService telemetryService;
-  private final SmartCancelableLoadingCache<String, Map<URI, ClientFile>> filesByConfigScopeIdCache =
+  private final boolean acceptIncrementalContentChanges;
+  /**
+   * Latest client version of the files whose content is being fetched again after a desync. Changes received in the meantime are already part
+   * of the content sent by the client, which answers after having sent them.
+   */
+  private final Map<URI, PendingResync> pendingResyncByUri = new ConcurrentHashMap<>();
+  private final SmartCancelableLoadingCache<String, ConfigScopeFiles> filesByConfigScopeIdCache =
     new SmartCancelableLoadingCache<>("sonarlint-filesystem", this::initializeFileSystem);
 
   public ClientFileSystemService(SonarLintRpcClient rpcClient, ApplicationEventPublisher eventPublisher, OpenFilesRepository openFilesRepository,
-    TelemetryService telemetryService) {
+    TelemetryService telemetryService, InitializeParams initializeParams) {
     this.rpcClient = rpcClient;
     this.eventPublisher = eventPublisher;
     this.openFilesRepository = openFilesRepository;
     this.telemetryService = telemetryService;
+    this.acceptIncrementalContentChanges = initializeParams.getBackendCapabilities().contains(INCREMENTAL_FILE_CONTENT_CHANGES);
   }
 
-  public List<ClientFile> getFiles(String configScopeId) {
-    return List.copyOf(filesByConfigScopeIdCache.get(configScopeId).values());
+  /**
+   * @return a read-only view of the files of the configuration scope, not a copy
+   */
+  public Collection<ClientFile> getFiles(String configScopeId) {
+    return filesByConfigScopeIdCache.get(configScopeId).files();
   }
 
   private static ClientFile fromDto(ClientFileDto clientFileDto) {
@@ -100,26 +116,35 @@ public class ClientFileSystemService {
     }
   }
 
-  public List<ClientFile> findFilesByNamesInScope(String configScopeId, List<String> filenames) {
-    return getFiles(configScopeId).stream()
-      .filter(f -> filenames.contains(f.getClientRelativePath().getFileName().toString()))
-      .toList();
+  public List<ClientFile> findFilesByNamesInScope(String configScopeId, Collection<String> filenames) {
+    return filesByConfigScopeIdCache.get(configScopeId).findByNames(filenames);
+  }
+
+  /**
+   * @param extensions file extensions without the leading dot, e.g. "xml"
+   */
+  public List<ClientFile> findFilesByExtensionsInScope(String configScopeId, Collection<String> extensions) {
+    return filesByConfigScopeIdCache.get(configScopeId).findByExtensions(extensions);
   }
 
   public List<ClientFile> findSonarlintConfigurationFilesByScope(String configScopeId) {
-    return getFiles(configScopeId).stream()
-      .filter(ClientFile::isSonarlintConfigurationFile)
-      .toList();
+    return filesByConfigScopeIdCache.get(configScopeId).findSonarlintConfigurationFiles();
   }
 
-  public Map<URI, ClientFile> initializeFileSystem(String configScopeId, SonarLintCancelMonitor cancelMonitor) {
-    var result = new ConcurrentHashMap<URI, ClientFile>();
+  private ConfigScopeFiles initializeFileSystem(String configScopeId, SonarLintCancelMonitor cancelMonitor) {
+    var result = new ConfigScopeFiles();
     var files = getClientFileDtos(configScopeId, cancelMonitor);
     files.forEach(clientFileDto -> {
       var clientFile = fromDto(clientFileDto);
+      var pendingResync = pendingResyncByUri.remove(clientFileDto.getUri());
+      if (pendingResync != null) {
+        clientFile.setContentVersion(pendingResync.version());
+      }
       filesByUri.put(clientFileDto.getUri(), clientFile);
-      result.put(clientFileDto.getUri(), clientFile);
+      result.put(clientFile);
     });
+    // files that are not listed anymore will not be resynced
+    forgetPendingResyncs(configScopeId);
     return result;
   }
 
@@ -151,8 +176,7 @@ public class ClientFileSystemService {
       if (previousFile == null) {
         added.add(clientFile);
       }
-      var byScope = filesByConfigScopeIdCache.get(clientFileDto.getConfigScopeId());
-      byScope.put(clientFileDto.getUri(), clientFile);
+      filesByConfigScopeIdCache.get(clientFileDto.getConfigScopeId()).put(clientFile);
     });
 
     var updated = new ArrayList<ClientFile>();
@@ -165,19 +189,75 @@ public class ClientFileSystemService {
       } else {
         added.add(clientFile);
       }
-      var byScope = filesByConfigScopeIdCache.get(clientFileDto.getConfigScopeId());
-      byScope.put(clientFileDto.getUri(), clientFile);
+      filesByConfigScopeIdCache.get(clientFileDto.getConfigScopeId()).put(clientFile);
+    });
+
+    params.getChangedFileContents().forEach(contentChanges -> {
+      var clientFile = applyContentChanges(contentChanges);
+      if (clientFile != null && !updated.contains(clientFile)) {
+        updated.add(clientFile);
+      }
     });
 
     eventPublisher.publishEvent(new FileSystemUpdatedEvent(removed, added, updated));
   }
 
+  @CheckForNull
+  private ClientFile applyContentChanges(FileContentChangesDto contentChanges) {
+    var configScopeId = contentChanges.getConfigScopeId();
+    if (!acceptIncrementalContentChanges) {
+      LOG.warn("Received incremental content changes for '{}' but the capability was not declared, reloading the file system", contentChanges.getUri());
+      filesByConfigScopeIdCache.refreshAsync(configScopeId);
+      return null;
+    }
+    var uri = contentChanges.getUri();
+    var version = contentChanges.getVersion();
+    if (pendingResyncByUri.computeIfPresent(uri, (k, pending) -> pending.withVersion(version)) != null) {
+      LOG.debug("Content of '{}' is being reloaded, ignoring changes of version {}", uri, version);
+      return null;
+    }
+    var clientFile = filesByUri.get(uri);
+    var edits = contentChanges.getEdits().stream()
+      .map(edit -> {
+        var range = edit.getRange();
+        return new TextEdit(new TextRange(range.getStartLine(), range.getStartLineOffset(), range.getEndLine(), range.getEndLineOffset()), edit.getText());
+      })
+      .toList();
+    if (clientFile == null || !tryApplyEdits(clientFile, version, edits)) {
+      LOG.debug("Content of '{}' is out of sync with the client, reloading the file system", uri);
+      pendingResyncByUri.merge(uri, new PendingResync(configScopeId, version), (previous, pending) -> previous.withVersion(version));
+      filesByConfigScopeIdCache.refreshAsync(configScopeId);
+      return null;
+    }
+    return clientFile;
+  }
+
+  private void forgetPendingResyncs(String configScopeId) {
+    pendingResyncByUri.values().removeIf(pending -> pending.configScopeId().equals(configScopeId));
+  }
+
+  private record PendingResync(String configScopeId, int version) {
+    private PendingResync withVersion(int newVersion) {
+      return new PendingResync(configScopeId, Math.max(version, newVersion));
+    }
+  }
+
+  private static boolean tryApplyEdits(ClientFile clientFile, int version, List<TextEdit> edits) {
+    try {
+      return clientFile.applyEdits(version, edits);
+    } catch (IllegalStateException e) {
+      // the base content could not be read from disk
+      return false;
+    }
+  }
+
   @EventListener
   public void onConfigurationScopeRemoved(ConfigurationScopeRemovedEvent event) {
-    var removedFilesByURI = filesByConfigScopeIdCache.get(event.getRemovedConfigurationScopeId());
+    var removedFiles = filesByConfigScopeIdCache.get(event.getRemovedConfigurationScopeId());
     filesByConfigScopeIdCache.clear(event.getRemovedConfigurationScopeId());
-    if (removedFilesByURI != null) {
-      removedFilesByURI.keySet().forEach(filesByUri::remove);
+    forgetPendingResyncs(event.getRemovedConfigurationScopeId());
+    if (removedFiles != null) {
+      removedFiles.uris().forEach(filesByUri::remove);
     }
   }
 
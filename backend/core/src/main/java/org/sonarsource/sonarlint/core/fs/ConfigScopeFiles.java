@@ -0,0 +1,128 @@
+/*
+ * SonarLint Core - Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.fs;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.CheckForNull;
+import org.apache.commons.compress.utils.FileNameUtils;
+
+/**
+ * Files of a configuration scope, with secondary indexes by file name, by extension and for SonarLint configuration files.
+ * Indexes are maintained on each update so that lookups never have to scan the whole file system of the scope.
+ */
+class ConfigScopeFiles {
+  private final Map<URI, ClientFile> filesByUri = new ConcurrentHashMap<>();
+  private final Map<String, Map<URI, ClientFile>> filesByName = new ConcurrentHashMap<>();
+  private final Map<String, Map<URI, ClientFile>> filesByExtension = new ConcurrentHashMap<>();
+  private final Map<URI, ClientFile> sonarlintConfigurationFiles = new ConcurrentHashMap<>();
+
+  /**
+   * @return the file previously known with the same URI, if any
+   */
+  @CheckForNull
+  synchronized ClientFile put(ClientFile file) {
+    var previousFile = filesByUri.put(file.getUri(), file);
+    if (previousFile != null) {
+      unindex(previousFile);
+    }
+    var uri = file.getUri();
+    filesByName.computeIfAbsent(fileName(file), k -> new ConcurrentHashMap<>()).put(uri, file);
+    filesByExtension.computeIfAbsent(extension(file), k -> new ConcurrentHashMap<>()).put(uri, file);
+    if (file.isSonarlintConfigurationFile()) {
+      sonarlintConfigurationFiles.put(uri, file);
+    }
+    return previousFile;
+  }
+
+  @CheckForNull
+  synchronized ClientFile remove(URI uri) {
+    var removedFile = filesByUri.remove(uri);
+    if (removedFile != null) {
+      unindex(removedFile);
+    }
+    return removedFile;
+  }
+
+  private void unindex(ClientFile file) {
+    var uri = file.getUri();
+    removeFromBucket(filesByName, fileName(file), uri);
+    removeFromBucket(filesByExtension, extension(file), uri);
+    sonarlintConfigurationFiles.remove(uri);
+  }
+
+  private static void removeFromBucket(Map<String, Map<URI, ClientFile>> index, String key, URI uri) {
+    index.computeIfPresent(key, (k, bucket) -> {
+      bucket.remove(uri);
+      return bucket.isEmpty() ? null : bucket;
+    });
+  }
+
+  @CheckForNull
+  ClientFile get(URI uri) {
+    return filesByUri.get(uri);
+  }
+
+  Collection<URI> uris() {
+    return Collections.unmodifiableCollection(filesByUri.keySet());
+  }
+
+  /**
+   * @return a read-only live view of the files, not a copy
+   */
+  Collection<ClientFile> files() {
+    return Collections.unmodifiableCollection(filesByUri.values());
+  }
+
+  List<ClientFile> findByNames(Collection<String> fileNames) {
+    return lookup(filesByName, fileNames);
+  }
+
+  List<ClientFile> findByExtensions(Collection<String> extensions) {
+    return lookup(filesByExtension, extensions);
+  }
+
+  List<ClientFile> findSonarlintConfigurationFiles() {
+    return List.copyOf(sonarlintConfigurationFiles.values());
+  }
+
+  private static List<ClientFile> lookup(Map<String, Map<URI, ClientFile>> index, Collection<String> keys) {
+    return keys.stream()
+      .distinct()
+      .map(index::get)
+      .filter(Objects::nonNull)
+      .flatMap(bucket -> bucket.values().stream())
+      .toList();
+  }
+
+  private static String fileName(ClientFile file) {
+    var fileName = file.getClientRelativePath().getFileName();
+    return fileName == null ? "" : fileName.toString();
+  }
+
+  private static String extension(ClientFile file) {
+    return FileNameUtils.getExtension(fileName(file));
+  }
+}
@@ -22,6 +22,10 @@ package org.sonarsource.sonarlint.core.fs;
 import java.util.List;
 import java.util.stream.Stream;
 
+/**
+ * Published synchronously when the client reports file system changes. Updates touching a single configuration scope are processed in
+ * the RPC lane of that scope, so listeners can be called concurrently for different configuration scopes and must be thread-safe.
+ */
 public class FileSystemUpdatedEvent {
 
   private final List<ClientFile> removed;
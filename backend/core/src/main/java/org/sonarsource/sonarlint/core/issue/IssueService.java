@@ -20,16 +20,16 @@
 package org.sonarsource.sonarlint.core.issue;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
@@ -37,7 +37,6 @@ import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
 import org.sonarsource.sonarlint.core.SonarQubeClientManager;
 import org.sonarsource.sonarlint.core.active.rules.ActiveRulesService;
 import org.sonarsource.sonarlint.core.commons.Binding;
-import org.sonarsource.sonarlint.core.commons.ImpactSeverity;
 import org.sonarsource.sonarlint.core.commons.LocalOnlyIssue;
 import org.sonarsource.sonarlint.core.commons.NewCodeDefinition;
 import org.sonarsource.sonarlint.core.commons.Transition;
@@ -58,13 +57,8 @@ import org.sonarsource.sonarlint.core.rpc.protocol.backend.issue.CheckStatusChan
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.issue.EffectiveIssueDetailsDto;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.issue.ReopenAllIssuesForFileParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.issue.ResolutionStatus;
-import org.sonarsource.sonarlint.core.rpc.protocol.backend.rules.ImpactDto;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.tracking.TaintVulnerabilityDto;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.RaisedFindingDto;
-import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.RaisedIssueDto;
-import org.sonarsource.sonarlint.core.rpc.protocol.common.IssueSeverity;
-import org.sonarsource.sonarlint.core.rpc.protocol.common.RuleType;
-import org.sonarsource.sonarlint.core.rpc.protocol.common.SoftwareQuality;
 import org.sonarsource.sonarlint.core.rules.RuleDetails;
 import org.sonarsource.sonarlint.core.rules.RuleDetailsAdapter;
 import org.sonarsource.sonarlint.core.rules.RuleNotFoundException;
@@ -78,6 +72,7 @@ import org.sonarsource.sonarlint.core.serverconnection.storage.ProjectServerIssu
 import org.sonarsource.sonarlint.core.storage.StorageService;
 import org.sonarsource.sonarlint.core.tracking.LocalOnlyIssueRepository;
 import org.sonarsource.sonarlint.core.tracking.TaintVulnerabilityTrackingService;
+import org.sonarsource.sonarlint.core.tracking.streaming.Alarm;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 
@@ -87,6 +82,10 @@ public class IssueService {
   private static final String STATUS_CHANGE_PERMISSION_MISSING_REASON = "Marking an issue as resolved requires the 'Administer Issues' permission";
   private static final String UNSUPPORTED_SQ_VERSION_REASON = "Marking a local-only issue as resolved requires SonarQube Server 10.2+";
   private static final Version SQ_ANTICIPATED_TRANSITIONS_MIN_VERSION = Version.create("10.2");
+  /**
+   * Bulk changes on the server produce bursts of events, they are applied together after this delay
+   */
+  private static final Duration ISSUE_CHANGED_EVENTS_COALESCING_DELAY = Duration.ofMillis(200);
 
   /**
    * With SQ 10.4 the transitions changed from "Won't fix" to "Accept"
@@ -112,6 +111,8 @@ public class IssueService {
   private final TaintVulnerabilityTrackingService taintVulnerabilityTrackingService;
   private final AiCodeFixService aiCodeFixService;
   private final LocalOnlyIssuesRepository localOnlyIssuesRepository;
+  private final Map<Binding, List<IssueChangedEvent>> pendingIssueChangedEvents = new LinkedHashMap<>();
+  private final Alarm issueChangedEventsAlarm = new Alarm("sonarlint-issue-changed-events", ISSUE_CHANGED_EVENTS_COALESCING_DELAY, this::applyPendingIssueChangedEvents);
 
   public IssueService(ConfigurationRepository configurationRepository, SonarQubeClientManager sonarQubeClientManager, StorageService storageService,
     XodusLocalOnlyIssueStorageService localOnlyIssueStorageService, LocalOnlyIssueRepository localOnlyIssueRepository, ApplicationEventPublisher eventPublisher,
@@ -424,121 +425,45 @@ public class IssueService {
     var connectionId = eventReceived.getConnectionId();
     var serverEvent = eventReceived.getEvent();
     if (serverEvent instanceof IssueChangedEvent issueChangedEvent) {
-      handleEvent(connectionId, issueChangedEvent);
-    }
-  }
-
-  private void handleEvent(String connectionId, IssueChangedEvent event) {
-    updateProjectIssueStorage(connectionId, event);
-    republishPreviouslyRaisedIssues(connectionId, event);
-  }
-
-  private void republishPreviouslyRaisedIssues(String connectionId, IssueChangedEvent event) {
-    var isMQRMode = severityModeService.isMQRModeForConnection(connectionId);
-    var boundScopes = configurationRepository.getBoundScopesToConnectionAndSonarProject(connectionId, event.getProjectKey());
-    boundScopes.forEach(scope -> {
-      var scopeId = scope.getConfigScopeId();
-      findingReportingService.updateAndReportIssues(scopeId, previouslyRaisedIssue -> raisedIssueUpdater(previouslyRaisedIssue, isMQRMode, event));
-    });
-  }
-
-  public static RaisedIssueDto raisedIssueUpdater(RaisedIssueDto previouslyRaisedIssue, boolean isMQRMode, IssueChangedEvent event) {
-    var updatedIssue = previouslyRaisedIssue;
-    var resolved = event.getResolved();
-    var userSeverity = event.getUserSeverity();
-    var userType = event.getUserType();
-    var impactedIssueKeys = event.getImpactedIssues().stream().map(IssueChangedEvent.Issue::getIssueKey).collect(Collectors.toSet());
-    if (resolved != null) {
-      UnaryOperator<RaisedIssueDto> issueUpdater = it -> it.builder().withResolution(resolved).buildIssue();
-      updatedIssue = updateIssue(updatedIssue, impactedIssueKeys, issueUpdater);
-    }
-    if (updatedIssue.getSeverityMode().isLeft()) {
-      // if the event does not match the local severity mode, we skip updating as we would only have partial information
-      // the data will be updated at the next sync
-      var standardModeDetails = updatedIssue.getSeverityMode().getLeft();
-      if (userSeverity != null) {
-        UnaryOperator<RaisedIssueDto> issueUpdater = it -> it.builder().withStandardModeDetails(IssueSeverity.valueOf(userSeverity.name()), standardModeDetails.getType())
-          .buildIssue();
-        updatedIssue = updateIssue(updatedIssue, impactedIssueKeys, issueUpdater);
-      }
-      if (userType != null) {
-        UnaryOperator<RaisedIssueDto> issueUpdater = it -> it.builder().withStandardModeDetails(standardModeDetails.getSeverity(), RuleType.valueOf(userType.name()))
-          .buildIssue();
-        updatedIssue = updateIssue(updatedIssue, impactedIssueKeys, issueUpdater);
-      }
-    }
-    for (var issue : event.getImpactedIssues()) {
-      if (!issue.getImpacts().isEmpty() && isMQRMode && updatedIssue.getSeverityMode().isRight()) {
-        var mqrModeDetails = updatedIssue.getSeverityMode().getRight();
-        var impacts = issue.getImpacts().entrySet().stream()
-          .map(impact -> new ImpactDto(
-            SoftwareQuality.valueOf(impact.getKey().name()),
-            org.sonarsource.sonarlint.core.rpc.protocol.common.ImpactSeverity.valueOf(impact.getValue().name())))
-          .toList();
-        UnaryOperator<RaisedIssueDto> issueUpdater = it -> it.builder()
-          .withMQRModeDetails(mqrModeDetails.getCleanCodeAttribute(), mergeImpacts(it.getSeverityMode().getRight().getImpacts(), impacts)).buildIssue();
-        updatedIssue = updateIssue(updatedIssue, impactedIssueKeys, issueUpdater);
+      synchronized (pendingIssueChangedEvents) {
+        pendingIssueChangedEvents.computeIfAbsent(new Binding(connectionId, issueChangedEvent.getProjectKey()), k -> new ArrayList<>()).add(issueChangedEvent);
+        issueChangedEventsAlarm.schedule();
       }
-
     }
-    return updatedIssue;
   }
 
-  private static List<ImpactDto> mergeImpacts(List<ImpactDto> currentImpacts, List<ImpactDto> overriddenImpacts) {
-    var mergedImpacts = new ArrayList<>(currentImpacts);
-    for (var impact : overriddenImpacts) {
-      mergedImpacts.removeIf(i -> i.getSoftwareQuality().equals(impact.getSoftwareQuality()));
-      mergedImpacts.add(new ImpactDto(impact.getSoftwareQuality(), impact.getImpactSeverity()));
+  private void applyPendingIssueChangedEvents() {
+    Map<Binding, List<IssueChangedEvent>> eventsToApply;
+    synchronized (pendingIssueChangedEvents) {
+      eventsToApply = new LinkedHashMap<>(pendingIssueChangedEvents);
+      pendingIssueChangedEvents.clear();
     }
-
-    return mergedImpacts;
+    eventsToApply.forEach((binding, events) -> {
+      try {
+        var changesByIssueKey = ServerIssueChange.coalesce(events);
+        updateProjectIssueStorage(binding, changesByIssueKey);
+        republishPreviouslyRaisedIssues(binding, changesByIssueKey);
+      } catch (Exception e) {
+        LOG.error("Error while applying issue changes received from the server", e);
+      }
+    });
   }
 
-  private static RaisedIssueDto updateIssue(RaisedIssueDto issue, Set<String> impactedIssueKeys, UnaryOperator<RaisedIssueDto> issueUpdater) {
-    var serverKey = issue.getServerKey();
-    if (serverKey != null && impactedIssueKeys.contains(serverKey)) {
-      return issueUpdater.apply(issue);
-    }
-    return issue;
+  private void updateProjectIssueStorage(Binding binding, Map<String, ServerIssueChange> changesByIssueKey) {
+    var findingsStorage = storageService.binding(binding).findings();
+    findingsStorage.updateIssues(changesByIssueKey.keySet(), storedIssue -> changesByIssueKey.get(storedIssue.getKey()).applyTo(storedIssue));
   }
 
-  private void updateProjectIssueStorage(String connectionId, IssueChangedEvent event) {
-    var findingsStorage = storageService.connection(connectionId).project(event.getProjectKey()).findings();
-    event.getImpactedIssues().forEach(issue -> findingsStorage.updateIssue(issue.getIssueKey(), storedIssue -> {
-      var userSeverity = event.getUserSeverity();
-      if (userSeverity != null) {
-        storedIssue.setUserSeverity(userSeverity);
-      }
-      var userType = event.getUserType();
-      if (userType != null) {
-        storedIssue.setType(userType);
-      }
-      var resolved = event.getResolved();
-      if (resolved != null) {
-        storedIssue.setResolved(resolved);
-      }
-      var impacts = issue.getImpacts();
-      if (!impacts.isEmpty()) {
-        storedIssue.setImpacts(mergeImpacts(storedIssue.getImpacts(), impacts));
-      }
-    }));
+  private void republishPreviouslyRaisedIssues(Binding binding, Map<String, ServerIssueChange> changesByIssueKey) {
+    var isMQRMode = severityModeService.isMQRModeForConnection(binding.connectionId());
+    var boundScopes = configurationRepository.getBoundScopesToConnectionAndSonarProject(binding.connectionId(), binding.sonarProjectKey());
+    boundScopes.forEach(scope -> findingReportingService.updateAndReportIssuesWithServerKeys(scope.getConfigScopeId(), changesByIssueKey.keySet(),
+      previouslyRaisedIssue -> changesByIssueKey.get(previouslyRaisedIssue.getServerKey()).applyTo(previouslyRaisedIssue, isMQRMode)));
   }
 
-  private static Map<org.sonarsource.sonarlint.core.commons.SoftwareQuality, ImpactSeverity> mergeImpacts(
-    Map<org.sonarsource.sonarlint.core.commons.SoftwareQuality, ImpactSeverity> defaultImpacts,
-    Map<org.sonarsource.sonarlint.core.commons.SoftwareQuality, ImpactSeverity> overriddenImpacts) {
-    var mergedImpacts = new EnumMap<org.sonarsource.sonarlint.core.commons.SoftwareQuality, ImpactSeverity>(org.sonarsource.sonarlint.core.commons.SoftwareQuality.class);
-    if (!defaultImpacts.isEmpty()) {
-      mergedImpacts = new EnumMap<>(defaultImpacts);
-    }
-
-    for (var entry : overriddenImpacts.entrySet()) {
-      var quality = org.sonarsource.sonarlint.core.commons.SoftwareQuality.valueOf(entry.getKey().name());
-      var severity = ImpactSeverity.mapSeverity(entry.getValue().name());
-      mergedImpacts.put(quality, severity);
-    }
-
-    return Collections.unmodifiableMap(mergedImpacts);
+  @PreDestroy
+  public void shutdown() {
+    issueChangedEventsAlarm.shutdownNow();
   }
 
   private static Optional<UUID> asUUID(String key) {
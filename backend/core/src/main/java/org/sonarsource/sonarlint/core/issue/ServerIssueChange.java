@@ -0,0 +1,122 @@
+/*
+ * SonarLint Core - Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.issue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.sonarsource.sonarlint.core.commons.ImpactSeverity;
+import org.sonarsource.sonarlint.core.commons.IssueSeverity;
+import org.sonarsource.sonarlint.core.commons.RuleType;
+import org.sonarsource.sonarlint.core.commons.SoftwareQuality;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.rules.ImpactDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.RaisedIssueDto;
+import org.sonarsource.sonarlint.core.serverapi.push.IssueChangedEvent;
+import org.sonarsource.sonarlint.core.serverconnection.issues.ServerIssue;
+
+/**
+ * The net effect of one or several {@link IssueChangedEvent} on a single server issue.
+ * Later events override the values of earlier ones, impacts are merged per software quality.
+ */
+class ServerIssueChange {
+  private IssueSeverity userSeverity;
+  private RuleType userType;
+  private Boolean resolved;
+  private final Map<SoftwareQuality, ImpactSeverity> impacts = new EnumMap<>(SoftwareQuality.class);
+
+  /**
+   * @return the changes to apply, by server issue key, in the order the issues were first seen
+   */
+  static Map<String, ServerIssueChange> coalesce(List<IssueChangedEvent> events) {
+    var changesByIssueKey = new LinkedHashMap<String, ServerIssueChange>();
+    for (var event : events) {
+      for (var impactedIssue : event.getImpactedIssues()) {
+        changesByIssueKey.computeIfAbsent(impactedIssue.getIssueKey(), k -> new ServerIssueChange())
+          .merge(event.getUserSeverity(), event.getUserType(), event.getResolved(), impactedIssue.getImpacts());
+      }
+    }
+    return changesByIssueKey;
+  }
+
+  private void merge(@Nullable IssueSeverity newUserSeverity, @Nullable RuleType newUserType, @Nullable Boolean newResolved, Map<SoftwareQuality, ImpactSeverity> newImpacts) {
+    if (newUserSeverity != null) {
+      this.userSeverity = newUserSeverity;
+    }
+    if (newUserType != null) {
+      this.userType = newUserType;
+    }
+    if (newResolved != null) {
+      this.resolved = newResolved;
+    }
+    this.impacts.putAll(newImpacts);
+  }
+
+  void applyTo(ServerIssue<?> storedIssue) {
+    if (userSeverity != null) {
+      storedIssue.setUserSeverity(userSeverity);
+    }
+    if (userType != null) {
+      storedIssue.setType(userType);
+    }
+    if (resolved != null) {
+      storedIssue.setResolved(resolved);
+    }
+    if (!impacts.isEmpty()) {
+      var mergedImpacts = new EnumMap<SoftwareQuality, ImpactSeverity>(SoftwareQuality.class);
+      mergedImpacts.putAll(storedIssue.getImpacts());
+      mergedImpacts.putAll(impacts);
+      storedIssue.setImpacts(Collections.unmodifiableMap(mergedImpacts));
+    }
+  }
+
+  RaisedIssueDto applyTo(RaisedIssueDto raisedIssue, boolean isMQRMode) {
+    var updatedIssue = raisedIssue;
+    if (resolved != null) {
+      updatedIssue = updatedIssue.builder().withResolution(resolved).buildIssue();
+    }
+    // if the event does not match the local severity mode, we skip updating as we would only have partial information
+    // the data will be updated at the next sync
+    if (updatedIssue.getSeverityMode().isLeft() && (userSeverity != null || userType != null)) {
+      var standardModeDetails = updatedIssue.getSeverityMode().getLeft();
+      var severity = userSeverity != null ? org.sonarsource.sonarlint.core.rpc.protocol.common.IssueSeverity.valueOf(userSeverity.name()) : standardModeDetails.getSeverity();
+      var type = userType != null ? org.sonarsource.sonarlint.core.rpc.protocol.common.RuleType.valueOf(userType.name()) : standardModeDetails.getType();
+      updatedIssue = updatedIssue.builder().withStandardModeDetails(severity, type).buildIssue();
+    }
+    if (!impacts.isEmpty() && isMQRMode && updatedIssue.getSeverityMode().isRight()) {
+      var mqrModeDetails = updatedIssue.getSeverityMode().getRight();
+      updatedIssue = updatedIssue.builder().withMQRModeDetails(mqrModeDetails.getCleanCodeAttribute(), mergeImpacts(mqrModeDetails.getImpacts())).buildIssue();
+    }
+    return updatedIssue;
+  }
+
+  private List<ImpactDto> mergeImpacts(List<ImpactDto> currentImpacts) {
+    var mergedImpacts = new ArrayList<>(currentImpacts);
+    impacts.forEach((quality, severity) -> {
+      var softwareQuality = org.sonarsource.sonarlint.core.rpc.protocol.common.SoftwareQuality.valueOf(quality.name());
+      mergedImpacts.removeIf(i -> i.getSoftwareQuality().equals(softwareQuality));
+      mergedImpacts.add(new ImpactDto(softwareQuality, org.sonarsource.sonarlint.core.rpc.protocol.common.ImpactSeverity.valueOf(severity.name())));
+    });
+    return mergedImpacts;
+  }
+}
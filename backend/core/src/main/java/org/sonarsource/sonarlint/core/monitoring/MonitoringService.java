@@ -25,12 +25,24 @@ import io.sentry.SentryBaseEvent;
 import io.sentry.SentryOptions;
 import io.sentry.protocol.User;
 import jakarta.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.SystemUtils;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 import org.sonarsource.sonarlint.core.commons.SonarLintCoreVersion;
 import org.sonarsource.sonarlint.core.commons.dogfood.DogfoodEnvironmentDetectionService;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+import org.sonarsource.sonarlint.core.commons.tracing.LocalTraceRecorder;
+import org.sonarsource.sonarlint.core.commons.tracing.RecordedSpan;
+import org.sonarsource.sonarlint.core.commons.tracing.RecordedTrace;
 import org.sonarsource.sonarlint.core.commons.tracing.Trace;
 import org.sonarsource.sonarlint.core.event.TelemetryUpdatedEvent;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.TraceDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.TraceSpanDto;
 import org.springframework.context.event.EventListener;
 
 public class MonitoringService {
@@ -156,6 +168,28 @@ public class MonitoringService {
     return Trace.begin(name, operation);
   }
 
+  public List<TraceDto> getRecentTraces(@Nullable Integer maxCount, @Nullable Path chromeTraceFile) {
+    var traces = LocalTraceRecorder.get().getRecentTraces(maxCount);
+    if (chromeTraceFile != null) {
+      try {
+        LocalTraceRecorder.writeChromeTrace(traces, chromeTraceFile);
+        LOG.debug("Wrote {} traces to {}", traces.size(), chromeTraceFile);
+      } catch (IOException e) {
+        throw new ResponseErrorException(new ResponseError(ResponseErrorCode.InternalError, "Unable to write traces to " + chromeTraceFile, e.getMessage()));
+      }
+    }
+    return traces.stream().map(MonitoringService::toDto).toList();
+  }
+
+  private static TraceDto toDto(RecordedTrace trace) {
+    return new TraceDto(trace.name(), trace.operation(), trace.startEpochMicros(), trace.durationMicros(), trace.threadName(), trace.failed(), trace.data(),
+      trace.spans().stream().map(MonitoringService::toDto).toList());
+  }
+
+  private static TraceSpanDto toDto(RecordedSpan span) {
+    return new TraceSpanDto(span.task(), span.description(), span.startEpochMicros(), span.durationMicros(), span.threadName(), span.failed());
+  }
+
   @EventListener
   public void onTelemetryUpdated(TelemetryUpdatedEvent event) {
     if (!event.isTelemetryEnabled()) {
@@ -54,6 +54,7 @@ public class PluginLifecycleService {
 
     pluginsService.unloadPlugins(connectionId);
     rulesRepository.evictFor(connectionId);
+    rulesRepository.evictPersistedFor(connectionId);
     activeRulesService.evictFor(connectionId);
   }
 
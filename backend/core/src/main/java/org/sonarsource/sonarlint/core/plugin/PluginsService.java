@@ -23,6 +23,7 @@ import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +32,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import org.sonarsource.sonarlint.core.UserPaths;
 import org.sonarsource.sonarlint.core.analysis.NodeJsService;
 import org.sonarsource.sonarlint.core.commons.ConnectionKind;
 import org.sonarsource.sonarlint.core.commons.Version;
@@ -38,7 +40,9 @@ import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 import org.sonarsource.sonarlint.core.commons.plugins.SonarPlugin;
 import org.sonarsource.sonarlint.core.plugin.commons.PluginsLoader;
+import org.sonarsource.sonarlint.core.plugin.commons.loading.PluginJarCache;
 import org.sonarsource.sonarlint.core.plugin.commons.loading.PluginRequirementsCheckResult;
+import org.sonarsource.sonarlint.core.plugin.commons.loading.SharedPluginInstances;
 import org.sonarsource.sonarlint.core.plugin.loading.strategy.ArtifactsLoadingResult;
 import org.sonarsource.sonarlint.core.plugin.loading.strategy.ArtifactsLoadingStrategy;
 import org.sonarsource.sonarlint.core.plugin.loading.strategy.ConnectedArtifactsLoadingStrategyFactory;
@@ -60,6 +64,7 @@ public class PluginsService {
   private static final Version REPACKAGED_DOTNET_ANALYZER_MIN_SQ_VERSION = Version.create("10.8");
   public static final String CSHARP_ENTERPRISE_PLUGIN_ID = "csharpenterprise";
   public static final String VBNET_ENTERPRISE_PLUGIN_ID = "vbnetenterprise";
+  private static final String PLUGIN_CACHE_SUBDIR = "plugin-cache";
 
   private final SonarLintLogger logger = SonarLintLogger.get();
   private final PluginsRepository pluginsRepository;
@@ -73,13 +78,18 @@ public class PluginsService {
   private final StandaloneArtifactsLoadingStrategy standaloneArtifactsLoadingStrategy;
   private final ConnectedArtifactsLoadingStrategyFactory connectedArtifactsLoadingStrategyFactory;
   private final BinariesArtifactSource binariesArtifactSource;
+  private final PluginsLoader pluginsLoader;
+  /**
+   * Artifacts resolved ahead of plugins loading, keyed by connection ID (null for embedded plugins), consumed by the next load
+   */
+  private final Map<String, ArtifactsLoadingResult> pendingArtifactsResultByConnectionId = Collections.synchronizedMap(new HashMap<>());
 
   public PluginsService(PluginsRepository pluginsRepository, SkippedPluginsRepository skippedPluginsRepository,
     StorageService storageService, InitializeParams params, ConnectionConfigurationRepository connectionConfigurationRepository,
     NodeJsService nodeJsService, ApplicationEventPublisher eventPublisher,
     StandaloneArtifactsLoadingStrategy standaloneArtifactsLoadingStrategy,
     ConnectedArtifactsLoadingStrategyFactory connectedArtifactsLoadingStrategyFactory,
-    BinariesArtifactSource binariesArtifactSource) {
+    BinariesArtifactSource binariesArtifactSource, UserPaths userPaths) {
     this.pluginsRepository = pluginsRepository;
     this.skippedPluginsRepository = skippedPluginsRepository;
     this.storageService = storageService;
@@ -91,6 +101,8 @@ public class PluginsService {
     this.standaloneArtifactsLoadingStrategy = standaloneArtifactsLoadingStrategy;
     this.connectedArtifactsLoadingStrategyFactory = connectedArtifactsLoadingStrategyFactory;
     this.binariesArtifactSource = binariesArtifactSource;
+    var pluginJarCache = new PluginJarCache(userPaths.getStorageRoot().resolve(PLUGIN_CACHE_SUBDIR));
+    this.pluginsLoader = new PluginsLoader(new SharedPluginInstances(pluginJarCache), pluginJarCache);
   }
 
   public List<PluginStatus> getPluginStatuses(@Nullable String connectionId) {
@@ -151,14 +163,31 @@ public class PluginsService {
     return cached;
   }
 
-  private PluginsConfiguration loadPlugins(@Nullable String connectionId) {
-    var strategy = getPluginLoadingStrategy(connectionId);
-    var artifactsResult = strategy.resolveArtifacts();
+  /**
+   * Resolves the artifacts of the embedded plugins (when connectionId is null) or of the connection plugins, without instantiating the
+   * plugins. The resolution is reused when the plugins are loaded later.
+   */
+  public ArtifactsLoadingResult resolveArtifacts(@Nullable String connectionId) {
+    var loaded = connectionId == null ? pluginsRepository.getEmbeddedPlugins() : pluginsRepository.getPlugins(connectionId);
+    if (loaded != null) {
+      return loaded.artifactsResult();
+    }
+    return pendingArtifactsResultByConnectionId.computeIfAbsent(connectionId, this::doResolveArtifacts);
+  }
+
+  private ArtifactsLoadingResult doResolveArtifacts(@Nullable String connectionId) {
+    var artifactsResult = getPluginLoadingStrategy(connectionId).resolveArtifacts();
     artifactsResult.whenAllArtifactsDownloaded(() -> eventPublisher.publishEvent(new PluginsSynchronizedEvent(connectionId)));
+    return artifactsResult;
+  }
+
+  private PluginsConfiguration loadPlugins(@Nullable String connectionId) {
+    var pendingArtifactsResult = pendingArtifactsResultByConnectionId.remove(connectionId);
+    var artifactsResult = pendingArtifactsResult != null ? pendingArtifactsResult : doResolveArtifacts(connectionId);
 
     var config = new PluginsLoader.Configuration(new HashSet<>(artifactsResult.getPluginPaths()), artifactsResult.enabledLanguages(),
       enableDataflowBugDetection, nodeJsService.getActiveNodeJsVersion());
-    var pluginsLoadResult = new PluginsLoader().load(config, initializeParams.getDisabledPluginKeysForAnalysis());
+    var pluginsLoadResult = pluginsLoader.load(config, initializeParams.getDisabledPluginKeysForAnalysis());
 
     var skippedPlugins = pluginsLoadResult.getPluginCheckResultByKeys().values().stream()
       .filter(PluginRequirementsCheckResult::isSkipped)
@@ -192,6 +221,7 @@ public class PluginsService {
   public void unloadPlugins(String connectionId) {
     logger.debug("Evict loaded plugins for connection '{}'", connectionId);
     pluginsRepository.unload(connectionId);
+    pendingArtifactsResultByConnectionId.remove(connectionId);
     connectedArtifactsLoadingStrategyFactory.evict(connectionId);
   }
 
@@ -259,6 +289,7 @@ public class PluginsService {
   public void unloadEmbeddedPlugins() {
     logger.debug("Evict loaded embedded plugins");
     pluginsRepository.unloadEmbedded();
+    pendingArtifactsResultByConnectionId.remove(null);
   }
 
   @PreDestroy
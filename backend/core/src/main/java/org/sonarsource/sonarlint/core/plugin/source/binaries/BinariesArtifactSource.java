@@ -145,7 +145,8 @@ public class BinariesArtifactSource implements ArtifactSource {
    * Returns {@code true} when the cached artifact at {@code pluginPath} is considered valid and
    * does not need to be re-downloaded.
    *
-   * <p>For <b>JAR artifacts</b> the PGP signature is re-verified against the file on disk.
+   * <p>For <b>JAR artifacts</b> the PGP signature is re-verified against the file on disk, unless the
+   * {@link BinariesLocalCacheManager} recorded that this exact file was already verified.
    *
    * <p>For <b>archive artifacts</b> (OmniSharp tar.gz distributions), {@code pluginPath} is the
    * extracted directory. The PGP signature was already verified against the original archive at
@@ -161,7 +162,14 @@ public class BinariesArtifactSource implements ArtifactSource {
         return false;
       }
     }
-    return signatureVerifier.verify(pluginPath, artifact);
+    if (cacheManager.isVerificationStillValid(pluginPath, artifact.signatureResourcePath())) {
+      return true;
+    }
+    var isValid = signatureVerifier.verify(pluginPath, artifact);
+    if (isValid) {
+      cacheManager.recordVerification(pluginPath, artifact.signatureResourcePath());
+    }
+    return isValid;
   }
 
   private static ResolvedArtifact toActiveArtifact(BinariesArtifact artifact, Path artifactPath) {
@@ -252,6 +260,7 @@ public class BinariesArtifactSource implements ArtifactSource {
         }
       } else {
         moveAtomically(tempFile, targetPath);
+        cacheManager.recordVerification(targetPath, artifact.signatureResourcePath());
       }
       LOG.info("Successfully downloaded {} plugin version {}", artifact.artifactKey(), artifact.version());
     } finally {
@@ -20,21 +20,30 @@
 package org.sonarsource.sonarlint.core.plugin.source.binaries;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Properties;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.FileUtils;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 
 /**
  * Manages cleanup of old plugin versions from the cache.
  * Deletes version directories not modified within the last 60 days, skipping the current version.
+ * Also remembers which cached artifacts already passed the signature verification, so that it is not repeated at each startup.
  */
 public class BinariesLocalCacheManager {
 
   private static final SonarLintLogger LOG = SonarLintLogger.get();
   private static final long RETENTION_DAYS = 60;
+  private static final String VERIFICATION_FILE_SUFFIX = ".verified";
+  private static final String SIGNATURE_PROPERTY = "signature";
+  private static final String SIZE_PROPERTY = "size";
+  private static final String LAST_MODIFIED_PROPERTY = "lastModified";
+  private static final String SHA256_PROPERTY = "sha256";
 
   /**
    * Cleans up old plugin versions from the cache directory.
@@ -59,6 +68,72 @@ public class BinariesLocalCacheManager {
     }
   }
 
+  /**
+   * Record that the artifact file passed the verification against the given signature.
+   */
+  void recordVerification(Path artifactFile, String signatureResourcePath) {
+    try {
+      writeVerification(artifactFile, signatureResourcePath, sha256(artifactFile));
+    } catch (IOException e) {
+      LOG.debug("Failed to record the signature verification of {}", artifactFile, e);
+    }
+  }
+
+  /**
+   * Returns {@code true} when the artifact file is the one that was recorded as verified against the given signature.
+   * Size and last modification time are compared first. When only the modification time changed, the content hash is compared, so that
+   * a full signature verification is only needed when the content actually changed.
+   */
+  boolean isVerificationStillValid(Path artifactFile, String signatureResourcePath) {
+    var verificationFile = verificationFileOf(artifactFile);
+    if (!Files.isRegularFile(verificationFile)) {
+      return false;
+    }
+    try {
+      var recorded = new Properties();
+      try (var reader = Files.newBufferedReader(verificationFile, StandardCharsets.UTF_8)) {
+        recorded.load(reader);
+      }
+      var size = String.valueOf(Files.size(artifactFile));
+      if (!signatureResourcePath.equals(recorded.getProperty(SIGNATURE_PROPERTY)) || !size.equals(recorded.getProperty(SIZE_PROPERTY))) {
+        return false;
+      }
+      var lastModified = String.valueOf(Files.getLastModifiedTime(artifactFile).toMillis());
+      if (lastModified.equals(recorded.getProperty(LAST_MODIFIED_PROPERTY))) {
+        return true;
+      }
+      var hash = sha256(artifactFile);
+      if (hash.equals(recorded.getProperty(SHA256_PROPERTY))) {
+        writeVerification(artifactFile, signatureResourcePath, hash);
+        return true;
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      LOG.debug("Failed to read the signature verification of {}", artifactFile, e);
+    }
+    return false;
+  }
+
+  private static void writeVerification(Path artifactFile, String signatureResourcePath, String hash) throws IOException {
+    var properties = new Properties();
+    properties.setProperty(SIGNATURE_PROPERTY, signatureResourcePath);
+    properties.setProperty(SIZE_PROPERTY, String.valueOf(Files.size(artifactFile)));
+    properties.setProperty(LAST_MODIFIED_PROPERTY, String.valueOf(Files.getLastModifiedTime(artifactFile).toMillis()));
+    properties.setProperty(SHA256_PROPERTY, hash);
+    try (var writer = Files.newBufferedWriter(verificationFileOf(artifactFile), StandardCharsets.UTF_8)) {
+      properties.store(writer, null);
+    }
+  }
+
+  private static String sha256(Path file) throws IOException {
+    try (var inputStream = Files.newInputStream(file)) {
+      return DigestUtils.sha256Hex(inputStream);
+    }
+  }
+
+  private static Path verificationFileOf(Path artifactFile) {
+    return artifactFile.resolveSibling(artifactFile.getFileName() + VERIFICATION_FILE_SUFFIX);
+  }
+
   private static boolean isOlderThan(Path directory, Instant cutoffTime) {
     try {
       var lastModified = Files.getLastModifiedTime(directory).toInstant();
@@ -122,6 +122,10 @@ public class ServerPluginDownloader {
 
   void downloadPluginSyncOrThrow(String connectionId, ServerPlugin serverPlugin) {
     var pluginKey = serverPlugin.getKey();
+    if (storageService.connection(connectionId).plugins().storeIfAlreadyDownloaded(serverPlugin)) {
+      LOG.info("[SYNC] Plugin '{}' was already downloaded for another connection, skip downloading it", serverPlugin.getFilename());
+      return;
+    }
     LOG.info("[SYNC] Downloading plugin '{}'", serverPlugin.getFilename());
     var cancelMonitor = new SonarLintCancelMonitor();
     sonarQubeClientManager.withActiveClient(connectionId, api -> {
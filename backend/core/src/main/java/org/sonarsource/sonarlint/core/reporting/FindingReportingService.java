@@ -269,6 +269,27 @@ public class FindingReportingService {
     updateAndReportFindings(configurationScopeId, UnaryOperator.identity(), issueUpdater);
   }
 
+  /**
+   * Only the files in which the given server issues were previously raised are visited, and only these issues are passed to the updater.
+   */
+  public void updateAndReportIssuesWithServerKeys(String configurationScopeId, Set<String> issueServerKeys, UnaryOperator<RaisedIssueDto> issueUpdater) {
+    var filesToUpdate = previouslyRaisedFindingsRepository.getFilesWithRaisedIssues(configurationScopeId, issueServerKeys);
+    if (filesToUpdate.isEmpty()) {
+      return;
+    }
+    var previouslyRaisedIssues = previouslyRaisedFindingsRepository.getRaisedIssuesForScope(configurationScopeId);
+    Map<URI, List<RaisedIssueDto>> updatedIssues = new HashMap<>();
+    filesToUpdate.forEach(fileUri -> {
+      var issuesForFile = previouslyRaisedIssues.get(fileUri);
+      if (issuesForFile != null) {
+        updatedIssues.put(fileUri, issuesForFile.stream()
+          .map(issue -> issue.getServerKey() != null && issueServerKeys.contains(issue.getServerKey()) ? issueUpdater.apply(issue) : issue)
+          .toList());
+      }
+    });
+    updateRaisedFindingsCacheAndNotifyClient(configurationScopeId, null, updatedIssues, Map.of(), false);
+  }
+
   public void updateAndReportHotspots(String configurationScopeId, UnaryOperator<RaisedHotspotDto> hotspotUpdater) {
     updateAndReportFindings(configurationScopeId, hotspotUpdater, UnaryOperator.identity());
   }
@@ -23,6 +23,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -36,11 +37,39 @@ import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.RaisedIssueDto;
 public class PreviouslyRaisedFindingsRepository {
   private final Map<String, Map<URI, List<RaisedIssueDto>>> previouslyRaisedIssuesByScopeId = new ConcurrentHashMap<>();
   private final Map<String, Map<URI, List<RaisedHotspotDto>>> previouslyRaisedHotspotsByScopeId = new ConcurrentHashMap<>();
+  /**
+   * Reverse index of the raised issues that are matched with a server issue. It is only a hint: entries can be stale, so lookups always
+   * double-check the issues actually raised in the file.
+   */
+  private final Map<String, Map<String, URI>> fileUriByIssueServerKeyByScopeId = new ConcurrentHashMap<>();
 
   public Map<URI, List<RaisedIssueDto>> replaceIssuesForFiles(String scopeId, Map<URI, List<RaisedIssueDto>> raisedIssues) {
+    var fileUriByServerKey = fileUriByIssueServerKeyByScopeId.computeIfAbsent(scopeId, k -> new ConcurrentHashMap<>());
+    var previouslyRaisedIssues = getRaisedIssuesForScope(scopeId);
+    raisedIssues.forEach((fileUri, issues) -> {
+      previouslyRaisedIssues.getOrDefault(fileUri, List.of()).stream()
+        .map(RaisedIssueDto::getServerKey)
+        .filter(Objects::nonNull)
+        .forEach(serverKey -> fileUriByServerKey.remove(serverKey, fileUri));
+      issues.stream()
+        .map(RaisedIssueDto::getServerKey)
+        .filter(Objects::nonNull)
+        .forEach(serverKey -> fileUriByServerKey.put(serverKey, fileUri));
+    });
     return addOrReplaceFindings(scopeId, raisedIssues, previouslyRaisedIssuesByScopeId);
   }
 
+  /**
+   * @return the files of the scope in which at least one of the given server issues was previously raised
+   */
+  public Set<URI> getFilesWithRaisedIssues(String scopeId, Set<String> issueServerKeys) {
+    var fileUriByServerKey = fileUriByIssueServerKeyByScopeId.getOrDefault(scopeId, Map.of());
+    return issueServerKeys.stream()
+      .map(fileUriByServerKey::get)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+  }
+
   public Map<URI, List<RaisedHotspotDto>> replaceHotspotsForFiles(String scopeId, Map<URI, List<RaisedHotspotDto>> raisedHotpots) {
     return addOrReplaceFindings(scopeId, raisedHotpots, previouslyRaisedHotspotsByScopeId);
   }
@@ -63,6 +92,7 @@ public class PreviouslyRaisedFindingsRepository {
   public void resetFindingsCache(String scopeId, Set<URI> files) {
     resetCacheForFindings(scopeId, files, previouslyRaisedIssuesByScopeId);
     resetCacheForFindings(scopeId, files, previouslyRaisedHotspotsByScopeId);
+    fileUriByIssueServerKeyByScopeId.remove(scopeId);
   }
 
   private static <F extends RaisedFindingDto> void resetCacheForFindings(String scopeId, Set<URI> files, Map<String, Map<URI, List<F>>> cache) {
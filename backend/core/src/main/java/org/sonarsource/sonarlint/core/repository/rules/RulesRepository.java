@@ -96,6 +96,13 @@ public class RulesRepository {
     ruleKeyReplacementsByConnectionId.remove(connectionId);
   }
 
+  /**
+   * Also delete the rule definitions persisted for the connection, for when it is removed or its plugins change.
+   */
+  public synchronized void evictPersistedFor(String connectionId) {
+    extractionHelper.evictPersistedRules(connectionId);
+  }
+
   public synchronized void evictEmbedded() {
     logger.debug("Evict cached embedded rules definitions");
     embeddedRulesByKey = null;
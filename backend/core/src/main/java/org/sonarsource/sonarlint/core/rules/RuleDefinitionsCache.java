@@ -0,0 +1,187 @@
+/*
+ * SonarLint Core - Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rules;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
+import org.sonarsource.sonarlint.core.commons.CleanCodeAttribute;
+import org.sonarsource.sonarlint.core.commons.ImpactSeverity;
+import org.sonarsource.sonarlint.core.commons.IssueSeverity;
+import org.sonarsource.sonarlint.core.commons.RuleType;
+import org.sonarsource.sonarlint.core.commons.SoftwareQuality;
+import org.sonarsource.sonarlint.core.commons.VulnerabilityProbability;
+import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+import org.sonarsource.sonarlint.core.plugin.commons.loading.JarFingerprints;
+import org.sonarsource.sonarlint.core.rule.extractor.SonarLintRuleDefinition;
+import org.sonarsource.sonarlint.core.rule.extractor.SonarLintRuleDescriptionSection;
+import org.sonarsource.sonarlint.core.rule.extractor.SonarLintRuleParamDefinition;
+import org.sonarsource.sonarlint.core.rule.extractor.SonarLintRuleParamType;
+
+/**
+ * Persists the extracted rule definitions, so that they can be served on the next start without instantiating the plugins.
+ * Each slot (embedded rules, or rules of a connection) keeps a single entry, identified by a key computed from the content of the plugin
+ * jars and from all the other inputs of the extraction.
+ */
+public class RuleDefinitionsCache {
+
+  private static final SonarLintLogger LOG = SonarLintLogger.get();
+  private static final int FORMAT_VERSION = 1;
+
+  private final Path cacheDirectory;
+  private final JarFingerprints jarFingerprints;
+  private final Gson gson = new Gson();
+
+  public RuleDefinitionsCache(Path cacheDirectory) {
+    this.cacheDirectory = cacheDirectory;
+    this.jarFingerprints = new JarFingerprints(cacheDirectory);
+  }
+
+  public synchronized String computeKey(Collection<Path> pluginJars, Set<SonarLanguage> enabledLanguages, Map<String, String> extractionParameters) {
+    var keyParts = new TreeMap<String, String>(extractionParameters);
+    keyParts.put("formatVersion", String.valueOf(FORMAT_VERSION));
+    keyParts.put("languages", String.join(",", new TreeSet<>(enabledLanguages.stream().map(SonarLanguage::getSonarLanguageKey).toList())));
+    var jarHashes = new TreeSet<String>();
+    for (var pluginJar : pluginJars) {
+      jarHashes.add(jarHash(pluginJar));
+    }
+    jarFingerprints.forgetRemovedJars(Set.of());
+    keyParts.put("jars", String.join(",", jarHashes));
+    return JarFingerprints.sha256(keyParts.toString());
+  }
+
+  public synchronized Optional<List<SonarLintRuleDefinition>> get(String slot, String key) {
+    var cacheFile = cacheFile(slot);
+    if (!Files.exists(cacheFile)) {
+      return Optional.empty();
+    }
+    try (var reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(cacheFile)), StandardCharsets.UTF_8)) {
+      var content = gson.fromJson(reader, CacheContent.class);
+      if (content == null || !key.equals(content.key())) {
+        return Optional.empty();
+      }
+      LOG.debug("Loaded {} rule definitions from the cache", content.rules().size());
+      return Optional.of(content.rules().stream().map(RuleDefinitionsCache::fromDto).toList());
+    } catch (Exception e) {
+      LOG.debug("Unable to read the rule definitions cache {}", cacheFile, e);
+      return Optional.empty();
+    }
+  }
+
+  public synchronized void put(String slot, String key, List<SonarLintRuleDefinition> rules) {
+    var cacheFile = cacheFile(slot);
+    try {
+      Files.createDirectories(cacheDirectory);
+      var tempFile = Files.createTempFile(cacheDirectory, slot, ".tmp");
+      try (var writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8)) {
+        gson.toJson(new CacheContent(key, rules.stream().map(RuleDefinitionsCache::toDto).toList()), writer);
+      }
+      Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.debug("Unable to write the rule definitions cache {}", cacheFile, e);
+    }
+  }
+
+  public synchronized void evict(String slot) {
+    try {
+      Files.deleteIfExists(cacheFile(slot));
+    } catch (IOException e) {
+      LOG.debug("Unable to delete the rule definitions cache for {}", slot, e);
+    }
+  }
+
+  private Path cacheFile(String slot) {
+    return cacheDirectory.resolve(slot + ".json.gz");
+  }
+
+  private String jarHash(Path jar) {
+    try {
+      return jarFingerprints.hash(jar);
+    } catch (IOException | IllegalStateException e) {
+      LOG.debug("Unable to hash plugin jar {}", jar, e);
+      // unique value, so that the cache is never hit
+      return jar + "|" + System.nanoTime();
+    }
+  }
+
+  private static RuleDto toDto(SonarLintRuleDefinition rule) {
+    var sections = rule.getDescriptionSections().stream()
+      .map(section -> new SectionDto(section.getKey(), section.getHtmlContent(), section.getContext().map(SonarLintRuleDescriptionSection.Context::getKey).orElse(null),
+        section.getContext().map(SonarLintRuleDescriptionSection.Context::getDisplayName).orElse(null)))
+      .toList();
+    var params = rule.getParams().values().stream()
+      .map(param -> new ParamDto(param.key(), param.name(), param.description(), param.defaultValue(), param.type(), param.multiple(), param.possibleValues()))
+      .toList();
+    return new RuleDto(rule.getKey(), rule.getName(), rule.getDefaultSeverity(), rule.getType(), rule.getCleanCodeAttribute().orElse(null), rule.getDefaultImpacts(),
+      rule.getHtmlDescription(), sections, params, rule.isActiveByDefault(), rule.getLanguage(), List.of(rule.getTags()), rule.getDeprecatedKeys(),
+      rule.getEducationPrincipleKeys(), rule.getInternalKey().orElse(null), rule.getVulnerabilityProbability().orElse(null));
+  }
+
+  private static SonarLintRuleDefinition fromDto(RuleDto dto) {
+    var sections = new ArrayList<SonarLintRuleDescriptionSection>();
+    for (var section : dto.descriptionSections()) {
+      var context = section.contextKey() == null ? Optional.<SonarLintRuleDescriptionSection.Context>empty()
+        : Optional.of(new SonarLintRuleDescriptionSection.Context(section.contextKey(), section.contextDisplayName()));
+      sections.add(new SonarLintRuleDescriptionSection(section.key(), section.htmlContent(), context));
+    }
+    var params = new HashMap<String, SonarLintRuleParamDefinition>();
+    for (var param : dto.params()) {
+      params.put(param.key(), new SonarLintRuleParamDefinition(param.key(), param.name(), param.description(), param.defaultValue(), param.type(), param.multiple(),
+        param.possibleValues()));
+    }
+    return new SonarLintRuleDefinition(dto.key(), dto.name(), dto.defaultSeverity(), dto.type(), dto.cleanCodeAttribute(), new HashMap<>(dto.defaultImpacts()),
+      dto.description(), List.copyOf(sections), params, dto.activeByDefault(), dto.language(), dto.tags().toArray(new String[0]), Set.copyOf(dto.deprecatedKeys()),
+      Set.copyOf(dto.educationPrincipleKeys()), Optional.ofNullable(dto.internalKey()), Optional.ofNullable(dto.vulnerabilityProbability()));
+  }
+
+  private record CacheContent(String key, List<RuleDto> rules) {
+  }
+
+  private record RuleDto(String key, String name, IssueSeverity defaultSeverity, RuleType type, @Nullable CleanCodeAttribute cleanCodeAttribute,
+    Map<SoftwareQuality, ImpactSeverity> defaultImpacts, @Nullable String description, List<SectionDto> descriptionSections, List<ParamDto> params,
+    boolean activeByDefault, SonarLanguage language, List<String> tags, Set<String> deprecatedKeys, Set<String> educationPrincipleKeys, @Nullable String internalKey,
+    @Nullable VulnerabilityProbability vulnerabilityProbability) {
+  }
+
+  private record SectionDto(String key, String htmlContent, @Nullable String contextKey, @Nullable String contextDisplayName) {
+  }
+
+  private record ParamDto(String key, String name, @Nullable String description, @Nullable String defaultValue, SonarLintRuleParamType type, boolean multiple,
+    List<String> possibleValues) {
+  }
+}
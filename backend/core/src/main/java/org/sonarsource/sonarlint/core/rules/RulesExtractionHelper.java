@@ -19,44 +19,97 @@
  */
 package org.sonarsource.sonarlint.core.rules;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.sonarsource.sonarlint.core.UserPaths;
+import org.sonarsource.sonarlint.core.analysis.NodeJsService;
+import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 import org.sonarsource.sonarlint.core.languages.LanguageSupportRepository;
 import org.sonarsource.sonarlint.core.plugin.PluginsService;
+import org.sonarsource.sonarlint.core.plugin.commons.loading.JarFingerprints;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.InitializeParams;
 import org.sonarsource.sonarlint.core.rule.extractor.RuleSettings;
 import org.sonarsource.sonarlint.core.rule.extractor.RulesDefinitionExtractor;
 import org.sonarsource.sonarlint.core.rule.extractor.SonarLintRuleDefinition;
 
+import static org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.BackendCapability.DATAFLOW_BUG_DETECTION;
 import static org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.BackendCapability.SECURITY_HOTSPOTS;
 
 public class RulesExtractionHelper {
 
+  private static final String EMBEDDED_CACHE_SLOT = "embedded";
+
   private final SonarLintLogger logger = SonarLintLogger.get();
 
   private final PluginsService pluginsService;
   private final LanguageSupportRepository languageSupportRepository;
+  private final NodeJsService nodeJsService;
   private final RulesDefinitionExtractor ruleExtractor = new RulesDefinitionExtractor();
+  private final RuleDefinitionsCache ruleDefinitionsCache;
   private final boolean enableSecurityHotspots;
+  private final boolean enableDataflowBugDetection;
 
-  public RulesExtractionHelper(PluginsService pluginsService, LanguageSupportRepository languageSupportRepository, InitializeParams params) {
+  public RulesExtractionHelper(PluginsService pluginsService, LanguageSupportRepository languageSupportRepository, NodeJsService nodeJsService,
+    UserPaths userPaths, InitializeParams params) {
     this.pluginsService = pluginsService;
     this.languageSupportRepository = languageSupportRepository;
+    this.nodeJsService = nodeJsService;
+    this.ruleDefinitionsCache = new RuleDefinitionsCache(userPaths.getStorageRoot().resolve("rules"));
     this.enableSecurityHotspots = params.getBackendCapabilities().contains(SECURITY_HOTSPOTS);
+    this.enableDataflowBugDetection = params.getBackendCapabilities().contains(DATAFLOW_BUG_DETECTION);
   }
 
   public List<SonarLintRuleDefinition> extractEmbeddedRules() {
-    logger.debug("Extracting standalone rules metadata");
-    return ruleExtractor.extractRules(pluginsService.getEmbeddedPlugins().plugins().getAllPluginInstancesByKeys(),
-      languageSupportRepository.getEnabledLanguagesInStandaloneMode(), false, false, new RuleSettings(Map.of()));
+    var enabledLanguages = languageSupportRepository.getEnabledLanguagesInStandaloneMode();
+    return extractOrGetFromCache(EMBEDDED_CACHE_SLOT, null, enabledLanguages, false, Map.of(), () -> {
+      logger.debug("Extracting standalone rules metadata");
+      return ruleExtractor.extractRules(pluginsService.getEmbeddedPlugins().plugins().getAllPluginInstancesByKeys(),
+        enabledLanguages, false, false, new RuleSettings(Map.of()));
+    });
   }
 
   public List<SonarLintRuleDefinition> extractRulesForConnection(String connectionId, Map<String, String> globalSettings) {
-    logger.debug("Extracting rules metadata for connection '{}'", connectionId);
-    var settings = new RuleSettings(globalSettings);
-    return ruleExtractor.extractRules(pluginsService.getPlugins(connectionId).plugins().getAllPluginInstancesByKeys(),
-      languageSupportRepository.getEnabledLanguagesInConnectedMode(), true, enableSecurityHotspots, settings);
+    var enabledLanguages = languageSupportRepository.getEnabledLanguagesInConnectedMode();
+    return extractOrGetFromCache(connectionCacheSlot(connectionId), connectionId, enabledLanguages, enableSecurityHotspots, globalSettings, () -> {
+      logger.debug("Extracting rules metadata for connection '{}'", connectionId);
+      var settings = new RuleSettings(globalSettings);
+      return ruleExtractor.extractRules(pluginsService.getPlugins(connectionId).plugins().getAllPluginInstancesByKeys(),
+        enabledLanguages, true, enableSecurityHotspots, settings);
+    });
+  }
+
+  private List<SonarLintRuleDefinition> extractOrGetFromCache(String cacheSlot, @Nullable String connectionId, Set<SonarLanguage> enabledLanguages,
+    boolean includeSecurityHotspots, Map<String, String> globalSettings, Supplier<List<SonarLintRuleDefinition>> extractor) {
+    var extractionParameters = new HashMap<String, String>();
+    globalSettings.forEach((key, value) -> extractionParameters.put("setting." + key, value));
+    extractionParameters.put("connected", String.valueOf(connectionId != null));
+    extractionParameters.put("securityHotspots", String.valueOf(includeSecurityHotspots));
+    extractionParameters.put("dataflowBugDetection", String.valueOf(enableDataflowBugDetection));
+    extractionParameters.put("javaVersion", Objects.toString(System.getProperty("java.specification.version")));
+    extractionParameters.put("nodeJsVersion", nodeJsService.getActiveNodeJsVersion().map(Object::toString).orElse(""));
+    var pluginPaths = pluginsService.resolveArtifacts(connectionId).getPluginPaths();
+    var cacheKey = ruleDefinitionsCache.computeKey(pluginPaths, enabledLanguages, extractionParameters);
+    var cachedRules = ruleDefinitionsCache.get(cacheSlot, cacheKey);
+    if (cachedRules.isPresent()) {
+      return cachedRules.get();
+    }
+    var rules = extractor.get();
+    ruleDefinitionsCache.put(cacheSlot, cacheKey, rules);
+    return rules;
+  }
+
+  public void evictPersistedRules(String connectionId) {
+    ruleDefinitionsCache.evict(connectionCacheSlot(connectionId));
+  }
+
+  private static String connectionCacheSlot(String connectionId) {
+    return "connection-" + JarFingerprints.sha256(connectionId);
   }
 
 }
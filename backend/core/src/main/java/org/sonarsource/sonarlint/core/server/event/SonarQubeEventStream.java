@@ -19,80 +19,232 @@
  */
 package org.sonarsource.sonarlint.core.server.event;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.sonarsource.sonarlint.core.SonarQubeClientManager;
 import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+import org.sonarsource.sonarlint.core.commons.util.FailSafeExecutors;
 import org.sonarsource.sonarlint.core.serverapi.push.SonarServerEvent;
 import org.sonarsource.sonarlint.core.serverapi.stream.EventStream;
 
+/**
+ * Keeps one server event stream per connection, subscribed to the projects bound to this connection.
+ * Subscription changes are debounced, so that a burst of changes (e.g. many scopes added when opening a workspace) results in a single
+ * reconnection. The previous stream is only closed once the new one is connected, so that no event is lost during the switch, or after a
+ * timeout if the new one does not manage to connect.
+ */
 public class SonarQubeEventStream {
   private static final SonarLintLogger LOG = SonarLintLogger.get();
+  private static final long DEFAULT_DEBOUNCE_DELAY_MS = 500;
+  private static final long DEFAULT_HANDOVER_TIMEOUT_MS = 30_000;
 
-  private EventStream eventStream;
   private final Set<String> subscribedProjectKeys = new LinkedHashSet<>();
   private final Set<SonarLanguage> enabledLanguages;
   private final String connectionId;
   private final SonarQubeClientManager sonarQubeClientManager;
   private final Consumer<SonarServerEvent> eventConsumer;
+  private final ScheduledExecutorService executor;
+  private final long debounceDelayMs;
+  private final long handoverTimeoutMs;
+  /**
+   * Guards the open streams and the active generation, so that the events of a stream are either all forwarded or all dropped around the
+   * switch. Never held while closing or subscribing a stream, nor while forwarding an event.
+   */
+  private final Object streamsLock = new Object();
+  /**
+   * Streams that are open, by generation. Only the most recent one is kept once it is connected.
+   */
+  private final TreeMap<Long, EventStream> openStreamsByGeneration = new TreeMap<>();
+  /**
+   * Generation of the stream whose events are forwarded, and of the streams created after it
+   */
+  private long activeGeneration;
+  /**
+   * Generation of the stream being subscribed, it can connect and deliver events before being registered in the open streams
+   */
+  private long subscribingGeneration;
+  private Set<String> streamProjectKeys = Set.of();
+  private long lastGeneration;
+  private boolean reconnectRequested;
+  @Nullable
+  private ScheduledFuture<?> pendingSubscriptionUpdate;
 
   public SonarQubeEventStream(Set<SonarLanguage> enabledLanguages, String connectionId, SonarQubeClientManager sonarQubeClientManager, Consumer<SonarServerEvent> eventConsumer) {
+    this(enabledLanguages, connectionId, sonarQubeClientManager, eventConsumer, FailSafeExecutors.newSingleThreadScheduledExecutor("sonarlint-event-stream-subscriber"),
+      DEFAULT_DEBOUNCE_DELAY_MS, DEFAULT_HANDOVER_TIMEOUT_MS);
+  }
+
+  SonarQubeEventStream(Set<SonarLanguage> enabledLanguages, String connectionId, SonarQubeClientManager sonarQubeClientManager, Consumer<SonarServerEvent> eventConsumer,
+    ScheduledExecutorService executor, long debounceDelayMs, long handoverTimeoutMs) {
     this.enabledLanguages = enabledLanguages;
     this.connectionId = connectionId;
     this.sonarQubeClientManager = sonarQubeClientManager;
     this.eventConsumer = eventConsumer;
+    this.executor = executor;
+    this.debounceDelayMs = debounceDelayMs;
+    this.handoverTimeoutMs = handoverTimeoutMs;
   }
 
   public synchronized void subscribeNew(Set<String> possiblyNewProjectKeys) {
     if (!possiblyNewProjectKeys.isEmpty() && !subscribedProjectKeys.containsAll(possiblyNewProjectKeys)) {
-      cancelSubscription();
       subscribedProjectKeys.addAll(possiblyNewProjectKeys);
-      attemptSubscription(subscribedProjectKeys);
+      scheduleSubscriptionUpdate();
     }
   }
 
   public synchronized void resubscribe() {
-    cancelSubscription();
-    if (!subscribedProjectKeys.isEmpty()) {
-      attemptSubscription(subscribedProjectKeys);
-    }
+    reconnectRequested = true;
+    scheduleSubscriptionUpdate();
   }
 
   public synchronized void unsubscribe(String projectKey) {
-    cancelSubscription();
-    subscribedProjectKeys.remove(projectKey);
-    if (!subscribedProjectKeys.isEmpty()) {
-      attemptSubscription(subscribedProjectKeys);
+    if (subscribedProjectKeys.remove(projectKey)) {
+      scheduleSubscriptionUpdate();
     }
   }
 
+  private void scheduleSubscriptionUpdate() {
+    // the pending update, if any, will apply the latest subscriptions
+    if (pendingSubscriptionUpdate == null && !executor.isShutdown()) {
+      pendingSubscriptionUpdate = executor.schedule(this::applySubscriptionUpdate, debounceDelayMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private synchronized void applySubscriptionUpdate() {
+    pendingSubscriptionUpdate = null;
+    var projectKeys = Collections.unmodifiableSet(new LinkedHashSet<>(subscribedProjectKeys));
+    if (projectKeys.isEmpty() || enabledLanguages.isEmpty()) {
+      closeStreamsOlderThan(Long.MAX_VALUE);
+      streamProjectKeys = Set.of();
+      return;
+    }
+    if (!reconnectRequested && projectKeys.equals(streamProjectKeys)) {
+      return;
+    }
+    reconnectRequested = false;
+    streamProjectKeys = projectKeys;
+    attemptSubscription(projectKeys);
+  }
+
   private void attemptSubscription(Set<String> projectKeys) {
-    if (!enabledLanguages.isEmpty()) {
-      try {
-        sonarQubeClientManager.withActiveClient(connectionId,
-          serverApi -> eventStream = serverApi.push().subscribe(projectKeys, enabledLanguages, e -> notifyHandlers(e, eventConsumer)));
-      } catch (Exception e) {
-        LOG.debug("Error while subscribing to event-stream", e);
+    // a stream that did not connect yet would be replaced anyway
+    closePendingStreams();
+    var generation = ++lastGeneration;
+    synchronized (streamsLock) {
+      subscribingGeneration = generation;
+    }
+    try {
+      sonarQubeClientManager.withActiveClient(connectionId, serverApi -> {
+        var stream = serverApi.push().subscribe(projectKeys, enabledLanguages, e -> notifyHandlers(generation, e), () -> onConnected(generation));
+        synchronized (streamsLock) {
+          openStreamsByGeneration.put(generation, stream);
+        }
+      });
+      executor.schedule(() -> onHandoverTimeout(generation), handoverTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // stopped in the meantime
+    } catch (Exception e) {
+      LOG.debug("Error while subscribing to event-stream", e);
+    } finally {
+      synchronized (streamsLock) {
+        subscribingGeneration = 0;
       }
     }
   }
 
-  private static void notifyHandlers(SonarServerEvent sonarServerEvent, Consumer<SonarServerEvent> clientEventConsumer) {
-    clientEventConsumer.accept(sonarServerEvent);
+  private void runOnSubscriberThread(Runnable task) {
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      // stopped in the meantime
+    }
   }
 
-  private void cancelSubscription() {
-    if (eventStream != null) {
-      eventStream.close();
-      eventStream = null;
+  private void notifyHandlers(long generation, SonarServerEvent sonarServerEvent) {
+    // events are received by both streams while switching, only keep the ones of the most recent stream once it is connected
+    boolean forward;
+    synchronized (streamsLock) {
+      forward = generation >= activeGeneration && isOpen(generation);
     }
+    if (forward) {
+      eventConsumer.accept(sonarServerEvent);
+    }
+  }
+
+  private boolean isOpen(long generation) {
+    return generation == subscribingGeneration || openStreamsByGeneration.containsKey(generation);
+  }
+
+  /**
+   * Called by the stream itself, before it delivers its first event, so that the previous stream stops forwarding events at once. The
+   * previous stream is closed from the subscriber thread, as closing it can block.
+   */
+  private void onConnected(long generation) {
+    if (activate(generation)) {
+      runOnSubscriberThread(() -> closeStreamsOlderThan(generation));
+    }
+  }
+
+  private synchronized void onHandoverTimeout(long generation) {
+    if (activate(generation)) {
+      LOG.debug("Server event-stream not connected after {}ms, closing the previous one anyway", handoverTimeoutMs);
+      closeStreamsOlderThan(generation);
+    }
+  }
+
+  /**
+   * @return false if the stream is already active, or was replaced or closed in the meantime
+   */
+  private boolean activate(long generation) {
+    synchronized (streamsLock) {
+      if (generation <= activeGeneration || !isOpen(generation)) {
+        return false;
+      }
+      activeGeneration = generation;
+      return true;
+    }
+  }
+
+  private void closePendingStreams() {
+    List<EventStream> streamsToClose;
+    synchronized (streamsLock) {
+      var pendingStreams = openStreamsByGeneration.tailMap(activeGeneration, false);
+      streamsToClose = new ArrayList<>(pendingStreams.values());
+      pendingStreams.clear();
+    }
+    streamsToClose.forEach(EventStream::close);
+  }
+
+  private synchronized void closeStreamsOlderThan(long generation) {
+    List<EventStream> streamsToClose;
+    synchronized (streamsLock) {
+      var olderStreams = openStreamsByGeneration.headMap(generation);
+      streamsToClose = new ArrayList<>(olderStreams.values());
+      olderStreams.clear();
+    }
+    streamsToClose.forEach(EventStream::close);
   }
 
   public synchronized void stop() {
     subscribedProjectKeys.clear();
-    cancelSubscription();
+    if (pendingSubscriptionUpdate != null) {
+      pendingSubscriptionUpdate.cancel(false);
+      pendingSubscriptionUpdate = null;
+    }
+    closeStreamsOlderThan(Long.MAX_VALUE);
+    streamProjectKeys = Set.of();
+    executor.shutdownNow();
   }
 
 }
@@ -27,20 +27,23 @@ import org.sonarsource.sonarlint.core.commons.Binding;
 import org.sonarsource.sonarlint.core.event.ConnectionConfigurationRemovedEvent;
 import org.sonarsource.sonarlint.core.serverconnection.ConnectionStorage;
 import org.sonarsource.sonarlint.core.serverconnection.SonarProjectStorage;
+import org.sonarsource.sonarlint.core.serverconnection.storage.PluginBlobStore;
 import org.springframework.context.event.EventListener;
 
 public class StorageService {
   private final Path globalStorageRoot;
   private final Map<String, ConnectionStorage> connectionStorageById = new ConcurrentHashMap<>();
   private final SonarLintDatabaseService databaseService;
+  private final PluginBlobStore pluginBlobStore;
 
   public StorageService(UserPaths userPaths, SonarLintDatabaseService databaseService) {
     this.globalStorageRoot = userPaths.getStorageRoot();
     this.databaseService = databaseService;
+    this.pluginBlobStore = new PluginBlobStore(globalStorageRoot.resolve(PluginBlobStore.FOLDER_NAME));
   }
 
   public ConnectionStorage connection(String connectionId) {
-    return connectionStorageById.computeIfAbsent(connectionId, k -> new ConnectionStorage(globalStorageRoot, connectionId, databaseService.getDatabase()));
+    return connectionStorageById.computeIfAbsent(connectionId, k -> new ConnectionStorage(globalStorageRoot, connectionId, databaseService.getDatabase(), pluginBlobStore));
   }
 
   public SonarProjectStorage binding(Binding binding) {
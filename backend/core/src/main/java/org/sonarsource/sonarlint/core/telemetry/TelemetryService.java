@@ -34,6 +34,7 @@ import org.sonarsource.sonarlint.core.analysis.AutomaticAnalysisSettingChangedEv
 import org.sonarsource.sonarlint.core.analysis.IssuesRaisedEvent;
 import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+import org.sonarsource.sonarlint.core.commons.storage.SonarLintDatabase;
 import org.sonarsource.sonarlint.core.commons.util.FailSafeExecutors;
 import org.sonarsource.sonarlint.core.event.FixSuggestionReceivedEvent;
 import org.sonarsource.sonarlint.core.event.LocalOnlyIssueStatusChangedEvent;
@@ -60,6 +61,7 @@ import org.springframework.context.event.EventListener;
 
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.BackendCapability.TELEMETRY;
 
 public class TelemetryService {
@@ -73,14 +75,17 @@ public class TelemetryService {
   private final SonarLintRpcClient client;
   private final boolean isTelemetryFeatureEnabled;
   private final ApplicationEventPublisher applicationEventPublisher;
+  private final SonarLintDatabase database;
 
   public TelemetryService(InitializeParams initializeParams, SonarLintRpcClient sonarlintClient,
-    TelemetryServerAttributesProvider telemetryServerAttributesProvider, TelemetryManager telemetryManager, ApplicationEventPublisher applicationEventPublisher) {
+    TelemetryServerAttributesProvider telemetryServerAttributesProvider, TelemetryManager telemetryManager, ApplicationEventPublisher applicationEventPublisher,
+    SonarLintDatabase database) {
     this.isTelemetryFeatureEnabled = initializeParams.getBackendCapabilities().contains(TELEMETRY);
     this.client = sonarlintClient;
     this.telemetryServerAttributesProvider = telemetryServerAttributesProvider;
     this.telemetryManager = telemetryManager;
     this.applicationEventPublisher = applicationEventPublisher;
+    this.database = database;
     this.scheduledExecutor = FailSafeExecutors.newSingleThreadScheduledExecutor("SonarLint Telemetry");
 
     initTelemetryAndScheduleUpload(initializeParams);
@@ -97,9 +102,15 @@ public class TelemetryService {
     });
     var initialDelay = Integer.parseInt(System.getProperty("sonarlint.internal.telemetry.initialDelay", "1"));
     scheduledExecutor.scheduleWithFixedDelay(this::upload, initialDelay, TELEMETRY_UPLOAD_DELAY, MINUTES);
+    var flushPeriod = Integer.getInteger(TelemetryLocalStorageManager.PROPERTY_FLUSH_PERIOD, TelemetryLocalStorageManager.DEFAULT_FLUSH_PERIOD);
+    if (flushPeriod > 0) {
+      scheduledExecutor.scheduleWithFixedDelay(telemetryManager::flush, flushPeriod, flushPeriod, SECONDS);
+    }
   }
 
   private void upload() {
+    var databaseMetrics = database.metrics().snapshotAndResetMaximums();
+    updateTelemetry(localStorage -> localStorage.updateDatabasePerformance(databaseMetrics.maxPoolWaitMs(), databaseMetrics.maxQueryTimeMs()));
     var telemetryLiveAttributes = getTelemetryLiveAttributes();
     if (Objects.nonNull(telemetryLiveAttributes)) {
       telemetryManager.uploadAndClearTelemetry(telemetryLiveAttributes);
@@ -409,6 +420,7 @@ public class TelemetryService {
 
   @PreDestroy
   public void close() {
+    telemetryManager.flush();
     if ((!MoreExecutors.shutdownAndAwaitTermination(scheduledExecutor, 1, TimeUnit.SECONDS)) && (InternalDebug.isEnabled())) {
       LOG.error("Failed to stop telemetry executor");
     }
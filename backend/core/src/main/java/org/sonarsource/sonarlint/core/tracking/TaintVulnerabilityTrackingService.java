@@ -45,6 +45,7 @@ import org.sonarsource.sonarlint.core.remediation.aicodefix.AiCodeFixService;
 import org.sonarsource.sonarlint.core.repository.config.ConfigurationRepository;
 import org.sonarsource.sonarlint.core.rpc.protocol.SonarLintRpcClient;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.rules.ImpactDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.tracking.ListAllResponse;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.tracking.TaintVulnerabilityDto;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.taint.vulnerability.DidChangeTaintVulnerabilitiesParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.common.CleanCodeAttribute;
@@ -57,6 +58,7 @@ import org.sonarsource.sonarlint.core.rpc.protocol.common.StandardModeDetails;
 import org.sonarsource.sonarlint.core.serverapi.push.IssueChangedEvent;
 import org.sonarsource.sonarlint.core.serverapi.push.TaintVulnerabilityClosedEvent;
 import org.sonarsource.sonarlint.core.serverapi.push.TaintVulnerabilityRaisedEvent;
+import org.sonarsource.sonarlint.core.serverconnection.SonarProjectStorage;
 import org.sonarsource.sonarlint.core.serverconnection.aicodefix.AiCodeFixRepository;
 import org.sonarsource.sonarlint.core.serverconnection.issues.ServerTaintIssue;
 import org.sonarsource.sonarlint.core.storage.StorageService;
@@ -256,34 +258,69 @@ public class TaintVulnerabilityTrackingService {
   }
 
   private List<TaintVulnerabilityDto> loadTaintVulnerabilities(String configurationScopeId, Binding binding, boolean shouldRefresh, SonarLintCancelMonitor cancelMonitor) {
+    return prepareConversion(configurationScopeId, binding, shouldRefresh, cancelMonitor)
+      .map(conversion -> conversion.projectStorage.findings().loadTaint(conversion.branchName)
+        .stream()
+        .map(conversion::toDto)
+        .toList())
+      .orElseGet(Collections::emptyList);
+  }
+
+  /**
+   * Same as {@link #listAll(String, boolean, SonarLintCancelMonitor)}, but only loads and converts the taint vulnerabilities following the given cursor.
+   * The refresh is only done for the first page, so that the following pages are read from the same synchronized data.
+   */
+  public ListAllResponse listPage(String configurationScopeId, boolean shouldRefresh, @Nullable String pageCursor, int pageSize, SonarLintCancelMonitor cancelMonitor) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be strictly positive");
+    }
+    return configurationRepository.getEffectiveBinding(configurationScopeId)
+      .flatMap(binding -> prepareConversion(configurationScopeId, binding, shouldRefresh && pageCursor == null, cancelMonitor))
+      .map(conversion -> {
+        var taints = conversion.projectStorage.findings().loadTaint(conversion.branchName, pageCursor, pageSize);
+        var nextPageCursor = taints.size() == pageSize ? taints.get(taints.size() - 1).getSonarServerKey() : null;
+        return new ListAllResponse(taints.stream().map(conversion::toDto).toList(), nextPageCursor);
+      })
+      .orElseGet(() -> new ListAllResponse(emptyList(), null));
+  }
+
+  public Optional<TaintVulnerabilityDto> getTaintVulnerability(String configurationScopeId, UUID issueId, SonarLintCancelMonitor cancelMonitor) {
+    return configurationRepository.getEffectiveBinding(configurationScopeId)
+      .flatMap(binding -> prepareConversion(configurationScopeId, binding, false, cancelMonitor))
+      .flatMap(conversion -> conversion.projectStorage.findings().loadTaint(conversion.branchName, issueId)
+        .map(conversion::toDto));
+  }
+
+  private Optional<TaintConversion> prepareConversion(String configurationScopeId, Binding binding, boolean shouldRefresh, SonarLintCancelMonitor cancelMonitor) {
     var matchedBranchOpt = branchTrackingService.awaitEffectiveSonarProjectBranch(configurationScopeId);
     var pathTranslationOpt = pathTranslationService.getOrComputePathTranslation(configurationScopeId);
-    if (matchedBranchOpt.isPresent() && pathTranslationOpt.isPresent()) {
-      if (shouldRefresh) {
-        taintSynchronizationService.synchronizeTaintVulnerabilities(binding.connectionId(), binding.sonarProjectKey(), cancelMonitor);
-      }
-      var projectStorage = storageService.binding(binding);
-      var newCodeDefinition = projectStorage.newCodeDefinition().read().<Predicate<Instant>>map(definition -> definition::isOnNewCode).orElse(date -> true);
-      var isMQRMode = severityModeService.isMQRModeForConnection(binding.connectionId());
-      var translation = pathTranslationOpt.get();
-      String matchedBranch = matchedBranchOpt.get();
-      return projectStorage.findings().loadTaint(matchedBranch)
-        .stream().map(serverTaintIssue -> {
-          var isAiCodeFixable = isAiCodeFixable(serverTaintIssue, binding);
-          return toDto(serverTaintIssue, newCodeDefinition, translation, isMQRMode, isAiCodeFixable);
-        })
-        .toList();
-    } else {
-      return Collections.emptyList();
+    if (matchedBranchOpt.isEmpty() || pathTranslationOpt.isEmpty()) {
+      return Optional.empty();
     }
+    if (shouldRefresh) {
+      taintSynchronizationService.synchronizeTaintVulnerabilities(binding.connectionId(), binding.sonarProjectKey(), cancelMonitor);
+    }
+    var projectStorage = storageService.binding(binding);
+    var newCodeDefinition = projectStorage.newCodeDefinition().read().<Predicate<Instant>>map(definition -> definition::isOnNewCode).orElse(date -> true);
+    var isMQRMode = severityModeService.isMQRModeForConnection(binding.connectionId());
+    var aiCodeFixFeature = aiCodeFixRepository.get(binding.connectionId())
+      .map(AiCodeFixService::aiCodeFixMapping)
+      .filter(feature -> feature.isFeatureEnabled(binding.sonarProjectKey()))
+      .map(AiCodeFixFeature::new)
+      .orElse(null);
+    return Optional.of(new TaintConversion(projectStorage, matchedBranchOpt.get(), newCodeDefinition, pathTranslationOpt.get(), isMQRMode, aiCodeFixFeature));
   }
 
-  public Optional<TaintVulnerabilityDto> getTaintVulnerability(String configurationScopeId, UUID issueId, SonarLintCancelMonitor cancelMonitor) {
-    var maybeBinding = configurationRepository.getEffectiveBinding(configurationScopeId);
-    return maybeBinding.flatMap(binding -> loadTaintVulnerabilities(configurationScopeId, binding, false, cancelMonitor)
-      .stream()
-      .filter(taintVulnerabilityDto -> taintVulnerabilityDto.getId().equals(issueId))
-      .findFirst());
+  /**
+   * Everything needed to convert the stored taint vulnerabilities of a branch, computed once per request rather than once per issue.
+   */
+  private record TaintConversion(SonarProjectStorage projectStorage, String branchName, Predicate<Instant> isOnNewCode, FilePathTranslation translation, boolean isMQRMode,
+    @Nullable AiCodeFixFeature aiCodeFixFeature) {
+
+    TaintVulnerabilityDto toDto(ServerTaintIssue serverTaintIssue) {
+      var isAiCodeFixable = aiCodeFixFeature != null && aiCodeFixFeature.isFixable(serverTaintIssue);
+      return TaintVulnerabilityTrackingService.toDto(serverTaintIssue, isOnNewCode, translation, isMQRMode, isAiCodeFixable);
+    }
   }
 
   private static TaintVulnerabilityDto toDto(ServerTaintIssue serverTaintIssue, Predicate<Instant> isOnNewCode, FilePathTranslation translation, boolean isMQRMode,
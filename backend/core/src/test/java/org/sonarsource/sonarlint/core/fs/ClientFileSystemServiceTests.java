@@ -0,0 +1,128 @@
+/*
+ * SonarLint Core - Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.fs;
+
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sonarsource.sonarlint.core.rpc.protocol.SonarLintRpcClient;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.file.DidUpdateFileSystemParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.file.FileContentChangesDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.file.TextEditDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.InitializeParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.fs.ListFilesResponse;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.ClientFileDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.TextRangeDto;
+import org.sonarsource.sonarlint.core.telemetry.TelemetryService;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.BackendCapability.INCREMENTAL_FILE_CONTENT_CHANGES;
+
+class ClientFileSystemServiceTests {
+
+  private static final URI FILE_URI = URI.create("file:///project/file.js");
+  private static final String CONFIG_SCOPE_ID = "scope";
+
+  private final SonarLintRpcClient rpcClient = mock(SonarLintRpcClient.class);
+  private ClientFileSystemService underTest;
+
+  @BeforeEach
+  void prepare() {
+    var initializeParams = mock(InitializeParams.class);
+    when(initializeParams.getBackendCapabilities()).thenReturn(Set.of(INCREMENTAL_FILE_CONTENT_CHANGES));
+    underTest = new ClientFileSystemService(rpcClient, mock(ApplicationEventPublisher.class), mock(OpenFilesRepository.class), mock(TelemetryService.class),
+      initializeParams);
+  }
+
+  @AfterEach
+  void shutdown() {
+    underTest.shutdown();
+  }
+
+  @Test
+  void should_ignore_changes_received_while_the_content_is_reloaded() {
+    var reloadedFiles = new CompletableFuture<ListFilesResponse>();
+    when(rpcClient.listFiles(any()))
+      .thenReturn(CompletableFuture.completedFuture(listedFile("initial")))
+      .thenReturn(reloadedFiles);
+    assertThat(underTest.getFiles(CONFIG_SCOPE_ID)).hasSize(1);
+    underTest.didUpdateFileSystem(contentChanges(1, "a"));
+
+    // version 2 is missing, the content has to be fetched again
+    underTest.didUpdateFileSystem(contentChanges(3, "c"));
+    underTest.didUpdateFileSystem(contentChanges(4, "d"));
+    assertThat(underTest.getClientFile(FILE_URI).getContent()).isEqualTo("ainitial");
+
+    reloadedFiles.complete(listedFile("dcbainitial"));
+    assertThat(underTest.getFiles(CONFIG_SCOPE_ID)).hasSize(1);
+    underTest.didUpdateFileSystem(contentChanges(5, "e"));
+
+    assertThat(underTest.getClientFile(FILE_URI).getContent()).isEqualTo("edcbainitial");
+  }
+
+  @Test
+  void should_only_accept_the_version_following_the_one_known_when_reloading() {
+    var reloadedFiles = new CompletableFuture<ListFilesResponse>();
+    when(rpcClient.listFiles(any()))
+      .thenReturn(CompletableFuture.completedFuture(listedFile("initial")))
+      .thenReturn(reloadedFiles)
+      .thenReturn(new CompletableFuture<>());
+    underTest.getFiles(CONFIG_SCOPE_ID);
+    underTest.didUpdateFileSystem(contentChanges(1, "a"));
+    underTest.didUpdateFileSystem(contentChanges(3, "c"));
+    reloadedFiles.complete(listedFile("cbainitial"));
+    underTest.getFiles(CONFIG_SCOPE_ID);
+
+    underTest.didUpdateFileSystem(contentChanges(7, "g"));
+
+    assertThat(underTest.getClientFile(FILE_URI).getContent()).isEqualTo("cbainitial");
+  }
+
+  @Test
+  void should_find_files_by_extension() {
+    var pomUri = URI.create("file:///project/pom.xml");
+    when(rpcClient.listFiles(any())).thenReturn(CompletableFuture.completedFuture(new ListFilesResponse(List.of(
+      new ClientFileDto(FILE_URI, Paths.get("file.js"), CONFIG_SCOPE_ID, false, null, null, "content", null, true),
+      new ClientFileDto(pomUri, Paths.get("pom.xml"), CONFIG_SCOPE_ID, false, null, null, "<project/>", null, true)))));
+
+    assertThat(underTest.findFilesByExtensionsInScope(CONFIG_SCOPE_ID, List.of("xml", "ts")))
+      .extracting(ClientFile::getUri)
+      .containsExactly(pomUri);
+  }
+
+  private static ListFilesResponse listedFile(String content) {
+    return new ListFilesResponse(List.of(new ClientFileDto(FILE_URI, Paths.get("file.js"), CONFIG_SCOPE_ID, false, null, null, content, null, true)));
+  }
+
+  private static DidUpdateFileSystemParams contentChanges(int version, String insertedText) {
+    var edit = new TextEditDto(new TextRangeDto(1, 0, 1, 0), insertedText);
+    return new DidUpdateFileSystemParams(List.of(), List.of(), List.of(), List.of(new FileContentChangesDto(FILE_URI, CONFIG_SCOPE_ID, version, List.of(edit))));
+  }
+
+}
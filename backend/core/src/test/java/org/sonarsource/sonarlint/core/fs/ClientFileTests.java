@@ -23,7 +23,9 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.sonarsource.sonarlint.core.commons.api.TextRange;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -58,6 +60,108 @@ class ClientFileTests {
     assertThat(nonLocalClientFile.isLargerThan(1)).isFalse();
   }
 
-}
+  @Test
+  void should_apply_incremental_edits_to_dirty_content() throws Exception {
+    var clientFile = new ClientFile(URI.create("file:///dirty.js"), "scope", Paths.get("dirty.js"), null, StandardCharsets.UTF_8, null, null, true);
+    clientFile.setDirty("first line\r\nsecond line\nthird line");
+
+    var applied = clientFile.applyEdits(1, List.of(
+      new TextEdit(new TextRange(2, 0, 2, 6), "2nd"),
+      new TextEdit(new TextRange(1, 0, 1, 5), "1st")));
+
+    assertThat(applied).isTrue();
+    assertThat(clientFile.getContent()).isEqualTo("1st line\r\n2nd line\nthird line");
+    assertThat(new String(clientFile.inputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("1st line\r\n2nd line\nthird line");
+
+    assertThat(clientFile.applyEdits(2, List.of(new TextEdit(new TextRange(3, 10, 3, 10), "!")))).isTrue();
+    assertThat(clientFile.getContent()).isEqualTo("1st line\r\n2nd line\nthird line!");
+  }
+
+  @Test
+  void should_apply_incremental_edits_to_clean_file_content() throws Exception {
+    var tempFile = Files.createTempFile("sl-clientfile-edits", ".txt");
+    Files.writeString(tempFile, "on disk");
+    var clientFile = new ClientFile(tempFile.toUri(), "scope", Paths.get("local.txt"), null, StandardCharsets.UTF_8, tempFile, null, true);
+
+    assertThat(clientFile.applyEdits(7, List.of(new TextEdit(new TextRange(1, 0, 1, 2), "not")))).isTrue();
+
+    assertThat(clientFile.isDirty()).isTrue();
+    assertThat(clientFile.getContent()).isEqualTo("not disk");
+  }
+
+  @Test
+  void should_reject_edits_with_unexpected_version_or_out_of_bounds() {
+    var clientFile = new ClientFile(URI.create("file:///dirty.js"), "scope", Paths.get("dirty.js"), null, StandardCharsets.UTF_8, null, null, true);
+    clientFile.setDirty("content");
+    assertThat(clientFile.applyEdits(3, List.of(new TextEdit(new TextRange(1, 0, 1, 0), "new ")))).isTrue();
+
+    assertThat(clientFile.applyEdits(5, List.of(new TextEdit(new TextRange(1, 0, 1, 0), "x")))).isFalse();
+    assertThat(clientFile.applyEdits(4, List.of(new TextEdit(new TextRange(2, 0, 2, 0), "x")))).isFalse();
+    assertThat(clientFile.applyEdits(4, List.of(new TextEdit(new TextRange(1, 5, 1, 2), "x")))).isFalse();
+    assertThat(clientFile.getContent()).isEqualTo("new content");
+  }
 
+  @Test
+  void should_leave_content_untouched_when_an_edit_of_the_batch_is_invalid() {
+    var clientFile = new ClientFile(URI.create("file:///dirty.js"), "scope", Paths.get("dirty.js"), null, StandardCharsets.UTF_8, null, null, true);
+    clientFile.setDirty("first\nsecond");
+    assertThat(clientFile.applyEdits(1, List.of(new TextEdit(new TextRange(1, 0, 1, 0), ">")))).isTrue();
+
+    assertThat(clientFile.applyEdits(2, List.of(
+      new TextEdit(new TextRange(1, 0, 1, 1), ""),
+      new TextEdit(new TextRange(5, 0, 5, 0), "x")))).isFalse();
 
+    assertThat(clientFile.getContent()).isEqualTo(">first\nsecond");
+  }
+
+  @Test
+  void should_restore_every_edit_applied_before_an_invalid_one() {
+    var clientFile = new ClientFile(URI.create("file:///dirty.js"), "scope", Paths.get("dirty.js"), null, StandardCharsets.UTF_8, null, null, true);
+    clientFile.setDirty("first\nsecond");
+    assertThat(clientFile.applyEdits(1, List.of(new TextEdit(new TextRange(1, 0, 1, 0), ">")))).isTrue();
+
+    assertThat(clientFile.applyEdits(2, List.of(
+      new TextEdit(new TextRange(1, 1, 2, 0), "irst line\n"),
+      new TextEdit(new TextRange(2, 0, 2, 6), "2nd"),
+      new TextEdit(new TextRange(2, 4, 2, 4), "x")))).isFalse();
+    assertThat(clientFile.getContent()).isEqualTo(">first\nsecond");
+
+    assertThat(clientFile.applyEdits(2, List.of(new TextEdit(new TextRange(2, 0, 2, 6), "2nd")))).isTrue();
+    assertThat(clientFile.getContent()).isEqualTo(">first\n2nd");
+  }
+
+  @Test
+  void should_only_accept_the_version_following_the_one_set() {
+    var clientFile = new ClientFile(URI.create("file:///dirty.js"), "scope", Paths.get("dirty.js"), null, StandardCharsets.UTF_8, null, null, true);
+    clientFile.setDirty("content");
+
+    clientFile.setContentVersion(5);
+
+    assertThat(clientFile.applyEdits(7, List.of(new TextEdit(new TextRange(1, 0, 1, 0), "x")))).isFalse();
+    assertThat(clientFile.applyEdits(6, List.of(new TextEdit(new TextRange(1, 0, 1, 0), "y")))).isTrue();
+    assertThat(clientFile.getContent()).isEqualTo("ycontent");
+  }
+
+  @Test
+  void should_reject_line_offset_past_the_end_of_its_line() {
+    var clientFile = new ClientFile(URI.create("file:///dirty.js"), "scope", Paths.get("dirty.js"), null, StandardCharsets.UTF_8, null, null, true);
+    clientFile.setDirty("ab\r\ncd");
+
+    assertThat(clientFile.applyEdits(1, List.of(new TextEdit(new TextRange(1, 3, 1, 3), "x")))).isFalse();
+    assertThat(clientFile.applyEdits(1, List.of(new TextEdit(new TextRange(1, 2, 1, 2), "x")))).isTrue();
+    assertThat(clientFile.getContent()).isEqualTo("abx\r\ncd");
+  }
+
+  @Test
+  void should_reset_version_when_full_content_is_received() {
+    var clientFile = new ClientFile(URI.create("file:///dirty.js"), "scope", Paths.get("dirty.js"), null, StandardCharsets.UTF_8, null, null, true);
+    clientFile.setDirty("content");
+    clientFile.applyEdits(3, List.of());
+
+    clientFile.setDirty("other");
+
+    assertThat(clientFile.applyEdits(10, List.of(new TextEdit(new TextRange(1, 5, 1, 5), "!")))).isTrue();
+    assertThat(clientFile.getContent()).isEqualTo("other!");
+  }
+
+}
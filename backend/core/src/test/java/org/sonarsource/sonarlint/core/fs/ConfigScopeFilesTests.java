@@ -0,0 +1,94 @@
+/*
+ * SonarLint Core - Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.fs;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConfigScopeFilesTests {
+
+  private final ConfigScopeFiles files = new ConfigScopeFiles();
+
+  @Test
+  void should_find_files_by_name_and_extension() {
+    var pom = file("module/pom.xml");
+    var properties = file("sonar-project.properties");
+    var java = file("src/Foo.java");
+    files.put(pom);
+    files.put(properties);
+    files.put(java);
+
+    assertThat(files.findByNames(List.of("sonar-project.properties", "pom.xml", "unknown"))).containsExactlyInAnyOrder(pom, properties);
+    assertThat(files.findByExtensions(Set.of("xml", "java"))).containsExactlyInAnyOrder(pom, java);
+    assertThat(files.files()).containsExactlyInAnyOrder(pom, properties, java);
+  }
+
+  @Test
+  void should_return_a_read_only_view_of_files() {
+    var pom = file("pom.xml");
+    files.put(pom);
+
+    var view = files.files();
+    var java = file("src/Foo.java");
+    files.put(java);
+    files.remove(pom.getUri());
+
+    assertThat(view).containsExactly(java);
+    assertThatThrownBy(() -> view.add(pom)).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_index_sonarlint_configuration_files() {
+    var connectedMode = file(".sonarlint/connectedMode.json");
+    files.put(connectedMode);
+    files.put(file("config/connectedMode.json"));
+
+    assertThat(files.findSonarlintConfigurationFiles()).containsExactly(connectedMode);
+  }
+
+  @Test
+  void should_update_indexes_when_a_file_is_replaced_or_removed() {
+    var uri = URI.create("file:///project/build.gradle");
+    var before = new ClientFile(uri, "scope", Paths.get("build.gradle"), null, StandardCharsets.UTF_8, null, null, true);
+    var after = new ClientFile(uri, "scope", Paths.get("build.gradle.kts"), null, StandardCharsets.UTF_8, null, null, true);
+
+    files.put(before);
+    assertThat(files.put(after)).isSameAs(before);
+
+    assertThat(files.findByNames(List.of("build.gradle"))).isEmpty();
+    assertThat(files.findByExtensions(List.of("kts"))).containsExactly(after);
+
+    assertThat(files.remove(uri)).isSameAs(after);
+    assertThat(files.findByExtensions(List.of("kts"))).isEmpty();
+    assertThat(files.files()).isEmpty();
+    assertThat(files.remove(uri)).isNull();
+  }
+
+  private static ClientFile file(String relativePath) {
+    return new ClientFile(URI.create("file:///project/" + relativePath), "scope", Paths.get(relativePath), null, StandardCharsets.UTF_8, null, null, true);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * SonarLint Core - Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.issue;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.sonarsource.sonarlint.core.commons.ImpactSeverity;
+import org.sonarsource.sonarlint.core.commons.IssueSeverity;
+import org.sonarsource.sonarlint.core.commons.RuleType;
+import org.sonarsource.sonarlint.core.commons.SoftwareQuality;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.rules.ImpactDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.RaisedIssueDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.CleanCodeAttribute;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.Either;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.MQRModeDetails;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.StandardModeDetails;
+import org.sonarsource.sonarlint.core.serverapi.push.IssueChangedEvent;
+import org.sonarsource.sonarlint.core.serverconnection.issues.FileLevelServerIssue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ServerIssueChangeTests {
+
+  @Test
+  void should_keep_the_latest_value_of_each_field() {
+    var changes = ServerIssueChange.coalesce(List.of(
+      event("ISSUE_1", IssueSeverity.MINOR, null, true, Map.of()),
+      event("ISSUE_1", null, RuleType.BUG, null, Map.of()),
+      event("ISSUE_1", IssueSeverity.BLOCKER, null, false, Map.of())));
+
+    var issue = storedIssue(Map.of());
+    changes.get("ISSUE_1").applyTo(issue);
+
+    assertThat(issue.getUserSeverity()).isEqualTo(IssueSeverity.BLOCKER);
+    assertThat(issue.getType()).isEqualTo(RuleType.BUG);
+    assertThat(issue.isResolved()).isFalse();
+  }
+
+  @Test
+  void should_merge_impacts_per_software_quality() {
+    var changes = ServerIssueChange.coalesce(List.of(
+      event("ISSUE_1", null, null, null, Map.of(SoftwareQuality.SECURITY, ImpactSeverity.LOW)),
+      event("ISSUE_1", null, null, null, Map.of(SoftwareQuality.SECURITY, ImpactSeverity.HIGH, SoftwareQuality.RELIABILITY, ImpactSeverity.MEDIUM))));
+
+    var issue = storedIssue(Map.of(SoftwareQuality.MAINTAINABILITY, ImpactSeverity.LOW, SoftwareQuality.SECURITY, ImpactSeverity.MEDIUM));
+    changes.get("ISSUE_1").applyTo(issue);
+
+    assertThat(issue.getImpacts()).containsOnly(
+      entry(SoftwareQuality.MAINTAINABILITY, ImpactSeverity.LOW),
+      entry(SoftwareQuality.SECURITY, ImpactSeverity.HIGH),
+      entry(SoftwareQuality.RELIABILITY, ImpactSeverity.MEDIUM));
+  }
+
+  @Test
+  void should_group_changes_by_issue_in_order_of_appearance() {
+    var changes = ServerIssueChange.coalesce(List.of(
+      new IssueChangedEvent("projectKey", List.of(impactedIssue("ISSUE_2", Map.of()), impactedIssue("ISSUE_1", Map.of())), null, null, true),
+      event("ISSUE_3", null, null, false, Map.of()),
+      event("ISSUE_2", null, null, false, Map.of())));
+
+    assertThat(changes.keySet()).containsExactly("ISSUE_2", "ISSUE_1", "ISSUE_3");
+
+    var issue1 = storedIssue(Map.of());
+    changes.get("ISSUE_1").applyTo(issue1);
+    var issue2 = storedIssue(Map.of());
+    changes.get("ISSUE_2").applyTo(issue2);
+    assertThat(issue1.isResolved()).isTrue();
+    assertThat(issue2.isResolved()).isFalse();
+  }
+
+  @Test
+  void should_not_touch_fields_that_did_not_change() {
+    var changes = ServerIssueChange.coalesce(List.of(event("ISSUE_1", null, null, true, Map.of())));
+
+    var issue = storedIssue(Map.of(SoftwareQuality.SECURITY, ImpactSeverity.LOW));
+    changes.get("ISSUE_1").applyTo(issue);
+
+    assertThat(issue.isResolved()).isTrue();
+    assertThat(issue.getUserSeverity()).isEqualTo(IssueSeverity.MAJOR);
+    assertThat(issue.getType()).isEqualTo(RuleType.CODE_SMELL);
+    assertThat(issue.getImpacts()).containsOnly(entry(SoftwareQuality.SECURITY, ImpactSeverity.LOW));
+  }
+
+  @Test
+  void should_apply_severity_and_type_to_raised_issue_in_standard_mode() {
+    var changes = ServerIssueChange.coalesce(List.of(
+      event("ISSUE_1", IssueSeverity.CRITICAL, null, true, Map.of(SoftwareQuality.SECURITY, ImpactSeverity.HIGH))));
+    var raisedIssue = raisedIssue(Either.forLeft(new StandardModeDetails(org.sonarsource.sonarlint.core.rpc.protocol.common.IssueSeverity.MINOR,
+      org.sonarsource.sonarlint.core.rpc.protocol.common.RuleType.BUG)));
+
+    var updated = changes.get("ISSUE_1").applyTo(raisedIssue, false);
+
+    assertThat(updated.isResolved()).isTrue();
+    assertThat(updated.getSeverityMode().getLeft().getSeverity()).isEqualTo(org.sonarsource.sonarlint.core.rpc.protocol.common.IssueSeverity.CRITICAL);
+    assertThat(updated.getSeverityMode().getLeft().getType()).isEqualTo(org.sonarsource.sonarlint.core.rpc.protocol.common.RuleType.BUG);
+  }
+
+  @Test
+  void should_merge_impacts_of_raised_issue_in_mqr_mode() {
+    var changes = ServerIssueChange.coalesce(List.of(
+      event("ISSUE_1", IssueSeverity.CRITICAL, null, null, Map.of(SoftwareQuality.SECURITY, ImpactSeverity.HIGH))));
+    var raisedIssue = raisedIssue(Either.forRight(new MQRModeDetails(CleanCodeAttribute.CONVENTIONAL, List.of(
+      new ImpactDto(org.sonarsource.sonarlint.core.rpc.protocol.common.SoftwareQuality.SECURITY, org.sonarsource.sonarlint.core.rpc.protocol.common.ImpactSeverity.LOW),
+      new ImpactDto(org.sonarsource.sonarlint.core.rpc.protocol.common.SoftwareQuality.RELIABILITY, org.sonarsource.sonarlint.core.rpc.protocol.common.ImpactSeverity.MEDIUM)))));
+
+    var updated = changes.get("ISSUE_1").applyTo(raisedIssue, true);
+
+    assertThat(updated.isResolved()).isFalse();
+    assertThat(updated.getSeverityMode().getRight().getImpacts())
+      .extracting(ImpactDto::getSoftwareQuality, ImpactDto::getImpactSeverity)
+      .containsExactlyInAnyOrder(
+        tuple(org.sonarsource.sonarlint.core.rpc.protocol.common.SoftwareQuality.SECURITY,
+          org.sonarsource.sonarlint.core.rpc.protocol.common.ImpactSeverity.HIGH),
+        tuple(org.sonarsource.sonarlint.core.rpc.protocol.common.SoftwareQuality.RELIABILITY,
+          org.sonarsource.sonarlint.core.rpc.protocol.common.ImpactSeverity.MEDIUM));
+  }
+
+  private static IssueChangedEvent event(String issueKey, IssueSeverity userSeverity, RuleType userType, Boolean resolved, Map<SoftwareQuality, ImpactSeverity> impacts) {
+    return new IssueChangedEvent("projectKey", List.of(impactedIssue(issueKey, impacts)), userSeverity, userType, resolved);
+  }
+
+  private static IssueChangedEvent.Issue impactedIssue(String issueKey, Map<SoftwareQuality, ImpactSeverity> impacts) {
+    return new IssueChangedEvent.Issue(issueKey, "main", impacts);
+  }
+
+  private static FileLevelServerIssue storedIssue(Map<SoftwareQuality, ImpactSeverity> impacts) {
+    return new FileLevelServerIssue("ISSUE_1", false, null, "java:S123", "message", Path.of("src/Foo.java"), Instant.now(), IssueSeverity.MAJOR,
+      RuleType.CODE_SMELL, impacts);
+  }
+
+  private static RaisedIssueDto raisedIssue(Either<StandardModeDetails, MQRModeDetails> severityMode) {
+    return new RaisedIssueDto(UUID.randomUUID(), "ISSUE_1", "java:S123", "message", severityMode, Instant.now(), true, false, null, List.of(), List.of(), null, false,
+      null);
+  }
+}
@@ -59,6 +59,7 @@ class PluginLifecycleServiceTest {
 
     verify(pluginsService).unloadPlugins(connectionId);
     verify(rulesRepository).evictFor(connectionId);
+    verify(rulesRepository).evictPersistedFor(connectionId);
     verify(activeRulesService).evictFor(connectionId);
   }
 
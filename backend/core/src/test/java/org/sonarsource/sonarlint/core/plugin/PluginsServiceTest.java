@@ -29,8 +29,10 @@ import javax.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.sonarsource.sonarlint.core.UserPaths;
 import org.sonarsource.sonarlint.core.analysis.NodeJsService;
 import org.sonarsource.sonarlint.core.commons.ConnectionKind;
 import org.sonarsource.sonarlint.core.commons.Version;
@@ -71,6 +73,8 @@ class PluginsServiceTest {
 
   private static final Path ossPath = Paths.get("folder", "oss");
   private static final Path enterprisePath = Paths.get("folder", "enterprise");
+  @TempDir
+  private Path storageRoot;
   private PluginsService underTest;
   private PluginsRepository pluginsRepository;
   private ConnectionConfigurationRepository connectionConfigurationStorage;
@@ -107,10 +111,12 @@ class PluginsServiceTest {
 
     var binariesArtifactSource = mock(BinariesArtifactSource.class);
     when(binariesArtifactSource.getOmnisharpExtraProperties()).thenReturn(Map.of());
+    var userPaths = mock(UserPaths.class);
+    when(userPaths.getStorageRoot()).thenReturn(storageRoot);
 
     underTest = new PluginsService(pluginsRepository, mock(SkippedPluginsRepository.class), storageService,
       initializeParams, connectionConfigurationStorage, mock(NodeJsService.class), eventPublisher,
-      standaloneArtifactsLoadingStrategy, connectedArtifactsLoadingStrategyFactory, binariesArtifactSource);
+      standaloneArtifactsLoadingStrategy, connectedArtifactsLoadingStrategyFactory, binariesArtifactSource, userPaths);
   }
 
   @Test
@@ -116,6 +116,51 @@ class BinariesLocalCacheManagerTest {
     assertThat(cacheDir).exists();
   }
 
+  @Test
+  void should_not_consider_artifact_verified_when_nothing_was_recorded() throws IOException {
+    var artifact = Files.writeString(tempDir.resolve("plugin.jar"), "content");
+
+    assertThat(underTest.isVerificationStillValid(artifact, "signature.asc")).isFalse();
+  }
+
+  @Test
+  void should_consider_recorded_artifact_verified() throws IOException {
+    var artifact = Files.writeString(tempDir.resolve("plugin.jar"), "content");
+
+    underTest.recordVerification(artifact, "signature.asc");
+
+    assertThat(underTest.isVerificationStillValid(artifact, "signature.asc")).isTrue();
+  }
+
+  @Test
+  void should_consider_touched_artifact_with_same_content_verified() throws IOException {
+    var artifact = Files.writeString(tempDir.resolve("plugin.jar"), "content");
+    underTest.recordVerification(artifact, "signature.asc");
+
+    setOldModificationTime(artifact);
+
+    assertThat(underTest.isVerificationStillValid(artifact, "signature.asc")).isTrue();
+  }
+
+  @Test
+  void should_not_consider_modified_artifact_verified() throws IOException {
+    var artifact = Files.writeString(tempDir.resolve("plugin.jar"), "content");
+    underTest.recordVerification(artifact, "signature.asc");
+
+    Files.writeString(artifact, "tampered");
+    setOldModificationTime(artifact);
+
+    assertThat(underTest.isVerificationStillValid(artifact, "signature.asc")).isFalse();
+  }
+
+  @Test
+  void should_not_consider_artifact_verified_against_another_signature() throws IOException {
+    var artifact = Files.writeString(tempDir.resolve("plugin.jar"), "content");
+    underTest.recordVerification(artifact, "signature.asc");
+
+    assertThat(underTest.isVerificationStillValid(artifact, "other-signature.asc")).isFalse();
+  }
+
   private static void setOldModificationTime(Path path) throws IOException {
     var oldTime = Instant.now().minus(61, ChronoUnit.DAYS);
     Files.setLastModifiedTime(path, FileTime.from(oldTime));
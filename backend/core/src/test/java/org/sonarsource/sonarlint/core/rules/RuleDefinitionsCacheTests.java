@@ -0,0 +1,128 @@
+/*
+ * SonarLint Core - Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rules;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.commons.CleanCodeAttribute;
+import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RuleDefinitionsCacheTests {
+  @RegisterExtension
+  private static final SonarLintLogTester logTester = new SonarLintLogTester();
+
+  @TempDir
+  private Path cacheDir;
+
+  @Test
+  void should_restore_stored_rules() throws IOException {
+    var cache = new RuleDefinitionsCache(cacheDir);
+    var key = cache.computeKey(List.of(aJar("plugin.jar", "content")), Set.of(SonarLanguage.JAVA), Map.of());
+
+    cache.put("embedded", key, List.of(RulesFixtures.aRule()));
+    var restored = new RuleDefinitionsCache(cacheDir).get("embedded", key);
+
+    assertThat(restored).hasValueSatisfying(rules -> assertThat(rules).singleElement().satisfies(rule -> {
+      assertThat(rule.getKey()).isEqualTo("repo:ruleKey");
+      assertThat(rule.getName()).isEqualTo("ruleName");
+      assertThat(rule.getHtmlDescription()).isEqualTo("Hello, world!");
+      assertThat(rule.getLanguage()).isEqualTo(SonarLanguage.JAVA);
+      assertThat(rule.getCleanCodeAttribute()).contains(CleanCodeAttribute.TRUSTWORTHY);
+      assertThat(rule.getParams()).containsOnlyKeys("paramKey");
+      assertThat(rule.getParams().get("paramKey").description()).isEqualTo("paramDesc");
+      assertThat(rule.getDefaultParams()).containsExactlyEntriesOf(Map.of("paramKey", "defaultValue"));
+    }));
+  }
+
+  @Test
+  void should_miss_when_key_differs() throws IOException {
+    var cache = new RuleDefinitionsCache(cacheDir);
+    var key = cache.computeKey(List.of(aJar("plugin.jar", "content")), Set.of(SonarLanguage.JAVA), Map.of());
+    cache.put("embedded", key, List.of(RulesFixtures.aRule()));
+
+    assertThat(cache.get("embedded", "otherKey")).isEmpty();
+    assertThat(cache.get("otherSlot", key)).isEmpty();
+  }
+
+  @Test
+  void should_delete_evicted_slot_only() throws IOException {
+    var cache = new RuleDefinitionsCache(cacheDir);
+    var key = cache.computeKey(List.of(aJar("plugin.jar", "content")), Set.of(SonarLanguage.JAVA), Map.of());
+    cache.put("connection-1", key, List.of(RulesFixtures.aRule()));
+    cache.put("connection-2", key, List.of(RulesFixtures.aRule()));
+
+    cache.evict("connection-1");
+
+    assertThat(cacheDir.resolve("connection-1.json.gz")).doesNotExist();
+    assertThat(cache.get("connection-1", key)).isEmpty();
+    assertThat(cache.get("connection-2", key)).isPresent();
+  }
+
+  @Test
+  void key_should_depend_on_jar_content_and_extraction_parameters() throws IOException {
+    var cache = new RuleDefinitionsCache(cacheDir);
+    var jar = aJar("plugin.jar", "content");
+    var key = cache.computeKey(List.of(jar), Set.of(SonarLanguage.JAVA), Map.of("connected", "false"));
+
+    assertThat(cache.computeKey(List.of(aJar("copy/plugin.jar", "content")), Set.of(SonarLanguage.JAVA), Map.of("connected", "false"))).isEqualTo(key);
+    assertThat(cache.computeKey(List.of(jar), Set.of(SonarLanguage.JAVA, SonarLanguage.JS), Map.of("connected", "false"))).isNotEqualTo(key);
+    assertThat(cache.computeKey(List.of(jar), Set.of(SonarLanguage.JAVA), Map.of("connected", "true"))).isNotEqualTo(key);
+
+    Files.writeString(jar, "new content");
+    assertThat(cache.computeKey(List.of(jar), Set.of(SonarLanguage.JAVA), Map.of("connected", "false"))).isNotEqualTo(key);
+  }
+
+  @Test
+  void should_forget_hashes_of_removed_jars() throws IOException {
+    var cache = new RuleDefinitionsCache(cacheDir);
+    var removedJar = aJar("removed.jar", "removed");
+    cache.computeKey(List.of(removedJar), Set.of(SonarLanguage.JAVA), Map.of());
+    assertThat(Files.readString(cacheDir.resolve("jar-hashes.properties"))).contains("removed.jar");
+
+    Files.delete(removedJar);
+    cache.computeKey(List.of(aJar("plugin.jar", "content")), Set.of(SonarLanguage.JAVA), Map.of());
+
+    assertThat(Files.readString(cacheDir.resolve("jar-hashes.properties"))).doesNotContain("removed.jar").contains("plugin.jar");
+  }
+
+  @Test
+  void should_ignore_corrupted_cache() throws IOException {
+    var cache = new RuleDefinitionsCache(cacheDir);
+    Files.writeString(cacheDir.resolve("embedded.json.gz"), "not gzip");
+
+    assertThat(cache.get("embedded", "key")).isEmpty();
+  }
+
+  private Path aJar(String relativePath, String content) throws IOException {
+    var jar = cacheDir.resolve("jars").resolve(relativePath);
+    Files.createDirectories(jar.getParent());
+    return Files.writeString(jar, content);
+  }
+}
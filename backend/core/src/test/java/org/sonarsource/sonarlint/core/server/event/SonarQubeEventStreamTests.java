@@ -0,0 +1,278 @@
+/*
+ * SonarLint Core - Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.server.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.sonarsource.sonarlint.core.SonarQubeClientManager;
+import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+import org.sonarsource.sonarlint.core.serverapi.ServerApi;
+import org.sonarsource.sonarlint.core.serverapi.push.PushApi;
+import org.sonarsource.sonarlint.core.serverapi.push.SonarServerEvent;
+import org.sonarsource.sonarlint.core.serverapi.stream.EventStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SonarQubeEventStreamTests {
+  @RegisterExtension
+  private static final SonarLintLogTester logTester = new SonarLintLogTester();
+
+  private static final String CONNECTION_ID = "connectionId";
+
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+  private final List<SonarServerEvent> receivedEvents = new CopyOnWriteArrayList<>();
+  private Consumer<Subscription> onSubscribe = subscription -> {
+  };
+  private SonarQubeClientManager sonarQubeClientManager;
+  private SonarQubeEventStream underTest;
+
+  @BeforeEach
+  void prepare() {
+    var pushApi = mock(PushApi.class);
+    when(pushApi.subscribe(anySet(), anySet(), any(), any())).thenAnswer(invocation -> {
+      var subscription = new Subscription(new ArrayList<>(invocation.<Set<String>>getArgument(0)), invocation.getArgument(2), invocation.getArgument(3),
+        mock(EventStream.class));
+      subscriptions.add(subscription);
+      onSubscribe.accept(subscription);
+      return subscription.stream();
+    });
+    var serverApi = mock(ServerApi.class);
+    when(serverApi.push()).thenReturn(pushApi);
+    sonarQubeClientManager = mock(SonarQubeClientManager.class);
+    doAnswer(invocation -> {
+      invocation.<Consumer<ServerApi>>getArgument(1).accept(serverApi);
+      return null;
+    }).when(sonarQubeClientManager).withActiveClient(eq(CONNECTION_ID), any());
+    underTest = newEventStream(10_000);
+  }
+
+  private SonarQubeEventStream newEventStream(long handoverTimeoutMs) {
+    return newEventStream(handoverTimeoutMs, receivedEvents::add);
+  }
+
+  private SonarQubeEventStream newEventStream(long handoverTimeoutMs, Consumer<SonarServerEvent> eventConsumer) {
+    return new SonarQubeEventStream(Set.of(SonarLanguage.JAVA), CONNECTION_ID, sonarQubeClientManager, eventConsumer,
+      Executors.newSingleThreadScheduledExecutor(), 50, handoverTimeoutMs);
+  }
+
+  @AfterEach
+  void stop() {
+    underTest.stop();
+  }
+
+  @Test
+  void should_coalesce_subscription_changes_into_a_single_connection() {
+    underTest.subscribeNew(Set.of("project1"));
+    underTest.subscribeNew(Set.of("project2"));
+    underTest.subscribeNew(Set.of("project3"));
+    underTest.unsubscribe("project2");
+
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(1));
+    assertThat(subscriptions.get(0).projectKeys()).containsExactly("project1", "project3");
+  }
+
+  @Test
+  void should_not_reconnect_when_subscriptions_end_up_unchanged() {
+    underTest.subscribeNew(Set.of("project1"));
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(1));
+
+    underTest.subscribeNew(Set.of("project2"));
+    underTest.unsubscribe("project2");
+
+    await().during(Duration.ofMillis(200)).until(() -> subscriptions.size() == 1);
+  }
+
+  @Test
+  void should_close_previous_stream_only_once_new_one_is_connected() {
+    underTest.subscribeNew(Set.of("project1"));
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(1));
+    var first = subscriptions.get(0);
+    first.onConnected().run();
+
+    underTest.subscribeNew(Set.of("project2"));
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(2));
+    var second = subscriptions.get(1);
+    var eventDuringSwitch = mock(SonarServerEvent.class);
+    first.eventConsumer().accept(eventDuringSwitch);
+
+    verify(first.stream(), never()).close();
+    assertThat(receivedEvents).containsExactly(eventDuringSwitch);
+
+    second.onConnected().run();
+
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(first.stream()).close());
+    var lateEventOnPreviousStream = mock(SonarServerEvent.class);
+    var eventOnNewStream = mock(SonarServerEvent.class);
+    first.eventConsumer().accept(lateEventOnPreviousStream);
+    second.eventConsumer().accept(eventOnNewStream);
+    assertThat(receivedEvents).containsExactly(eventDuringSwitch, eventOnNewStream);
+  }
+
+  @Test
+  void should_stop_forwarding_events_of_previous_stream_as_soon_as_new_one_is_connected() {
+    var first = connectedSubscription(Set.of("project1"));
+    underTest.subscribeNew(Set.of("project2"));
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(2));
+    var second = subscriptions.get(1);
+
+    second.onConnected().run();
+    var sameEventOnBothStreams = mock(SonarServerEvent.class);
+    second.eventConsumer().accept(sameEventOnBothStreams);
+    first.eventConsumer().accept(sameEventOnBothStreams);
+
+    assertThat(receivedEvents).containsExactly(sameEventOnBothStreams);
+  }
+
+  @Test
+  void should_close_pending_stream_when_a_newer_one_is_started() {
+    var first = connectedSubscription(Set.of("project1"));
+    underTest.subscribeNew(Set.of("project2"));
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(2));
+    var second = subscriptions.get(1);
+
+    underTest.subscribeNew(Set.of("project3"));
+
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(3));
+    verify(second.stream()).close();
+    verify(first.stream(), never()).close();
+    second.onConnected().run();
+    second.eventConsumer().accept(mock(SonarServerEvent.class));
+    assertThat(receivedEvents).isEmpty();
+  }
+
+  @Test
+  void should_close_previous_stream_after_timeout_when_new_one_does_not_connect() {
+    underTest.stop();
+    underTest = newEventStream(200);
+    var first = connectedSubscription(Set.of("project1"));
+
+    underTest.subscribeNew(Set.of("project2"));
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(2));
+    var second = subscriptions.get(1);
+
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(first.stream()).close());
+    verify(second.stream(), never()).close();
+    assertThat(logTester.logs()).contains("Server event-stream not connected after 200ms, closing the previous one anyway");
+    var eventOnPreviousStream = mock(SonarServerEvent.class);
+    var eventOnNewStream = mock(SonarServerEvent.class);
+    first.eventConsumer().accept(eventOnPreviousStream);
+    second.onConnected().run();
+    second.eventConsumer().accept(eventOnNewStream);
+    assertThat(receivedEvents).containsExactly(eventOnNewStream);
+  }
+
+  @Test
+  void should_forward_events_of_stream_connected_before_subscription_returns() {
+    var eventWhileSubscribing = mock(SonarServerEvent.class);
+    onSubscribe = subscription -> {
+      subscription.onConnected().run();
+      subscription.eventConsumer().accept(eventWhileSubscribing);
+    };
+
+    underTest.subscribeNew(Set.of("project1"));
+
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(receivedEvents).containsExactly(eventWhileSubscribing));
+    var eventAfterSubscription = mock(SonarServerEvent.class);
+    subscriptions.get(0).eventConsumer().accept(eventAfterSubscription);
+    assertThat(receivedEvents).containsExactly(eventWhileSubscribing, eventAfterSubscription);
+  }
+
+  @Test
+  void should_switch_streams_while_an_event_is_being_handled() throws InterruptedException {
+    var handling = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    underTest.stop();
+    underTest = newEventStream(10_000, event -> {
+      handling.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    var first = connectedSubscription(Set.of("project1"));
+    var slowHandler = new Thread(() -> first.eventConsumer().accept(mock(SonarServerEvent.class)));
+    slowHandler.start();
+    handling.await();
+
+    try {
+      var second = connectedSubscription(Set.of("project2"));
+
+      await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(first.stream()).close());
+      verify(second.stream(), never()).close();
+    } finally {
+      release.countDown();
+      slowHandler.join();
+    }
+  }
+
+  @Test
+  void should_reconnect_with_same_projects_when_resubscribing() {
+    underTest.subscribeNew(Set.of("project1"));
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(1));
+
+    underTest.resubscribe();
+
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(2));
+    assertThat(subscriptions.get(1).projectKeys()).containsExactly("project1");
+  }
+
+  @Test
+  void should_close_stream_when_last_project_is_unsubscribed() {
+    underTest.subscribeNew(Set.of("project1"));
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(1));
+
+    underTest.unsubscribe("project1");
+
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> verify(subscriptions.get(0).stream()).close());
+  }
+
+  private Subscription connectedSubscription(Set<String> projectKeys) {
+    var subscriptionCount = subscriptions.size();
+    underTest.subscribeNew(projectKeys);
+    await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(subscriptions).hasSize(subscriptionCount + 1));
+    var subscription = subscriptions.get(subscriptionCount);
+    subscription.onConnected().run();
+    return subscription;
+  }
+
+  private record Subscription(List<String> projectKeys, Consumer<SonarServerEvent> eventConsumer, Runnable onConnected, EventStream stream) {
+  }
+}
@@ -19,20 +19,20 @@
  */
 package org.sonarsource.sonarlint.core.plugin.commons;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.sonar.api.Plugin;
-import org.sonarsource.sonarlint.core.plugin.commons.loading.PluginInstancesLoader;
 
 public class LoadedPlugins {
   private final Map<String, Plugin> pluginInstancesByKeys;
-  private final PluginInstancesLoader pluginInstancesLoader;
+  private final Closeable pluginInstancesLoader;
   private final Set<String> additionalAllowedPlugins;
   private final Set<String> disabledPluginKeys;
 
-  public LoadedPlugins(Map<String, Plugin> pluginInstancesByKeys, PluginInstancesLoader pluginInstancesLoader,
+  public LoadedPlugins(Map<String, Plugin> pluginInstancesByKeys, Closeable pluginInstancesLoader,
     Set<String> additionalAllowedPlugins, Set<String> disabledPluginKeys) {
     this.pluginInstancesByKeys = pluginInstancesByKeys;
     this.pluginInstancesLoader = pluginInstancesLoader;
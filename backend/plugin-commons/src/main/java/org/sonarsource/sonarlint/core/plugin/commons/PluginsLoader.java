@@ -19,6 +19,7 @@
  */
 package org.sonarsource.sonarlint.core.plugin.commons;
 
+import java.io.Closeable;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,13 +28,17 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import javax.annotation.Nullable;
+import org.sonar.api.Plugin;
 import org.sonar.api.utils.System2;
 import org.sonarsource.sonarlint.core.commons.Version;
 import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 import org.sonarsource.sonarlint.core.plugin.commons.loading.PluginInfo;
 import org.sonarsource.sonarlint.core.plugin.commons.loading.PluginInstancesLoader;
+import org.sonarsource.sonarlint.core.plugin.commons.loading.PluginJarCache;
 import org.sonarsource.sonarlint.core.plugin.commons.loading.PluginRequirementsCheckResult;
+import org.sonarsource.sonarlint.core.plugin.commons.loading.SharedPluginInstances;
 import org.sonarsource.sonarlint.core.plugin.commons.loading.SonarPluginRequirementsChecker;
 
 import static java.util.function.Predicate.not;
@@ -43,7 +48,31 @@ import static java.util.function.Predicate.not;
  */
 public class PluginsLoader {
   private static final SonarLintLogger LOG = SonarLintLogger.get();
-  private final SonarPluginRequirementsChecker requirementsChecker = new SonarPluginRequirementsChecker();
+  private final SonarPluginRequirementsChecker requirementsChecker;
+  @Nullable
+  private final SharedPluginInstances sharedPluginInstances;
+  @Nullable
+  private final PluginJarCache pluginJarCache;
+
+  public PluginsLoader() {
+    this(null);
+  }
+
+  /**
+   * @param sharedPluginInstances when not null, plugin classloaders are shared with the other loads made of the same plugin jars
+   */
+  public PluginsLoader(@Nullable SharedPluginInstances sharedPluginInstances) {
+    this(sharedPluginInstances, null);
+  }
+
+  /**
+   * @param pluginJarCache when not null, plugin manifests and embedded dependencies are read from this persistent cache
+   */
+  public PluginsLoader(@Nullable SharedPluginInstances sharedPluginInstances, @Nullable PluginJarCache pluginJarCache) {
+    this.sharedPluginInstances = sharedPluginInstances;
+    this.pluginJarCache = pluginJarCache;
+    this.requirementsChecker = new SonarPluginRequirementsChecker(pluginJarCache);
+  }
 
   public static class Configuration {
     private final Set<Path> pluginJarLocations;
@@ -67,8 +96,17 @@ public class PluginsLoader {
     var nonSkippedPlugins = getNonSkippedPlugins(pluginCheckResultByKeys);
     logPlugins(nonSkippedPlugins);
 
-    var instancesLoader = new PluginInstancesLoader();
-    var pluginInstancesByKeys = instancesLoader.instantiatePluginClasses(nonSkippedPlugins);
+    Map<String, Plugin> pluginInstancesByKeys;
+    Closeable instancesLoader;
+    if (sharedPluginInstances != null) {
+      var lease = sharedPluginInstances.acquire(nonSkippedPlugins);
+      pluginInstancesByKeys = lease.getPluginInstancesByKeys();
+      instancesLoader = lease;
+    } else {
+      var pluginInstancesLoader = new PluginInstancesLoader(pluginJarCache);
+      pluginInstancesByKeys = pluginInstancesLoader.instantiatePluginClasses(nonSkippedPlugins);
+      instancesLoader = pluginInstancesLoader;
+    }
 
     return new PluginsLoadResult(new LoadedPlugins(pluginInstancesByKeys, instancesLoader, additionalAllowedPlugins(configuration), disabledPluginsForAnalysis),
       pluginCheckResultByKeys);
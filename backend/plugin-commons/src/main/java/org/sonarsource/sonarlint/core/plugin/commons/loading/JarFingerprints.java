@@ -0,0 +1,161 @@
+/*
+ * SonarLint Core - Plugin Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.plugin.commons.loading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+
+/**
+ * Content hashes of jars, remembered by jar path, size and modification date, so that jars are only read when they change. When a
+ * directory is given, the hashes are persisted in it and reused across restarts.
+ */
+public class JarFingerprints {
+
+  private static final SonarLintLogger LOG = SonarLintLogger.get();
+  public static final String FILE_NAME = "jar-hashes.properties";
+
+  @Nullable
+  private final Path directory;
+  /**
+   * Hashes that were used by a jar that was removed or changed since, candidates for {@link #forgetRemovedJars(Set)}
+   */
+  private final Set<String> droppedHashes = new HashSet<>();
+  @CheckForNull
+  private Properties fingerprintsByPath;
+
+  public JarFingerprints() {
+    this(null);
+  }
+
+  public JarFingerprints(@Nullable Path directory) {
+    this.directory = directory;
+  }
+
+  public synchronized String hash(Path jar) throws IOException {
+    var fingerprints = getFingerprints();
+    var pathKey = jar.toAbsolutePath().toString();
+    var jarState = Files.size(jar) + "|" + Files.getLastModifiedTime(jar).toMillis() + "|";
+    var known = fingerprints.getProperty(pathKey);
+    if (known != null && known.startsWith(jarState)) {
+      return known.substring(jarState.length());
+    }
+    var hash = sha256(jar);
+    if (known != null && !hashOf(known).equals(hash)) {
+      droppedHashes.add(hashOf(known));
+    }
+    fingerprints.setProperty(pathKey, jarState + hash);
+    write(fingerprints);
+    return hash;
+  }
+
+  /**
+   * Forgets the jars that are not on disk anymore.
+   * @param hashesStillInUse hashes that must not be reported, for example because the jars are still loaded from a previous location
+   * @return the hashes that were used by removed or changed jars and that are not used by any known jar anymore
+   */
+  public synchronized Set<String> forgetRemovedJars(Set<String> hashesStillInUse) {
+    var fingerprints = getFingerprints();
+    var removedPaths = fingerprints.stringPropertyNames().stream().filter(path -> !Files.exists(Path.of(path))).toList();
+    if (!removedPaths.isEmpty()) {
+      removedPaths.forEach(path -> droppedHashes.add(hashOf(fingerprints.getProperty(path))));
+      removedPaths.forEach(fingerprints::remove);
+      write(fingerprints);
+    }
+    var hashesOfKnownJars = fingerprints.stringPropertyNames().stream().map(path -> hashOf(fingerprints.getProperty(path))).collect(Collectors.toSet());
+    droppedHashes.removeAll(hashesOfKnownJars);
+    var unusedHashes = droppedHashes.stream().filter(hash -> !hashesStillInUse.contains(hash)).collect(Collectors.toSet());
+    droppedHashes.removeAll(unusedHashes);
+    return unusedHashes;
+  }
+
+  private Properties getFingerprints() {
+    if (fingerprintsByPath == null) {
+      fingerprintsByPath = new Properties();
+      if (directory != null && Files.exists(directory.resolve(FILE_NAME))) {
+        try (var inputStream = Files.newInputStream(directory.resolve(FILE_NAME))) {
+          fingerprintsByPath.load(inputStream);
+        } catch (IOException e) {
+          LOG.debug("Unable to read the jar hashes", e);
+        }
+      }
+    }
+    return fingerprintsByPath;
+  }
+
+  private void write(Properties fingerprints) {
+    if (directory == null) {
+      return;
+    }
+    try {
+      Files.createDirectories(directory);
+      var tempFile = Files.createTempFile(directory, FILE_NAME, ".tmp");
+      try (var outputStream = Files.newOutputStream(tempFile)) {
+        fingerprints.store(outputStream, null);
+      }
+      Files.move(tempFile, directory.resolve(FILE_NAME), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.debug("Unable to write the jar hashes", e);
+    }
+  }
+
+  private static String hashOf(String fingerprint) {
+    return fingerprint.substring(fingerprint.lastIndexOf('|') + 1);
+  }
+
+  public static String sha256(Path file) {
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      var digest = messageDigest();
+      var buffer = new byte[8192];
+      int bytesRead;
+      while ((bytesRead = inputStream.read(buffer)) != -1) {
+        digest.update(buffer, 0, bytesRead);
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to hash " + file, e);
+    }
+  }
+
+  public static String sha256(String value) {
+    return HexFormat.of().formatHex(messageDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static MessageDigest messageDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -40,6 +40,7 @@ import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.zip.ZipException;
 import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.SystemUtils;
 import org.sonar.api.Plugin;
@@ -72,14 +73,28 @@ public class PluginInstancesLoader implements Closeable {
   private final Collection<ClassLoader> classloadersToClose = new ArrayList<>();
   private final List<JarFile> jarFilesToClose = new ArrayList<>();
   private final List<Path> filesToDelete = new ArrayList<>();
+  @Nullable
+  private final PluginJarCache pluginJarCache;
 
   public PluginInstancesLoader() {
-    this(new PluginClassloaderFactory());
+    this((PluginJarCache) null);
+  }
+
+  /**
+   * @param pluginJarCache when not null, embedded dependencies are extracted in this cache and kept after closing, instead of temporary folders
+   */
+  public PluginInstancesLoader(@Nullable PluginJarCache pluginJarCache) {
+    this(new PluginClassloaderFactory(), pluginJarCache);
   }
 
   PluginInstancesLoader(PluginClassloaderFactory classloaderFactory) {
+    this(classloaderFactory, null);
+  }
+
+  PluginInstancesLoader(PluginClassloaderFactory classloaderFactory, @Nullable PluginJarCache pluginJarCache) {
     this.classloaderFactory = classloaderFactory;
     this.baseClassLoader = getClass().getClassLoader();
+    this.pluginJarCache = pluginJarCache;
   }
 
   public Map<String, Plugin> instantiatePluginClasses(Collection<PluginInfo> plugins) {
@@ -106,12 +121,9 @@ public class PluginInstancesLoader implements Closeable {
       getJarFile(info.getJarFile().toPath()).ifPresent(jarFilesToClose::add);
       if (!info.getDependencies().isEmpty()) {
         LOG.warn("Plugin '{}' embeds dependencies. This will be deprecated soon. Plugin should be updated.", info.getKey());
-        var tmpFolderForDeps = createTmpFolderForPluginDeps(info);
-        for (var dependency : info.getDependencies()) {
-          var tmpDepFile = extractDependencyInTempFolder(info, dependency, tmpFolderForDeps);
-          def.addFiles(List.of(tmpDepFile.toFile()));
-          filesToDelete.add(tmpDepFile);
-          getJarFile(tmpDepFile).ifPresent(jarFilesToClose::add);
+        for (var depFile : extractDependencies(info)) {
+          def.addFiles(List.of(depFile.toFile()));
+          getJarFile(depFile).ifPresent(jarFilesToClose::add);
         }
       }
       def.addMainClass(info.getKey(), info.getMainClass());
@@ -123,6 +135,20 @@ public class PluginInstancesLoader implements Closeable {
     return classloadersByBasePlugin.values();
   }
 
+  private List<Path> extractDependencies(PluginInfo info) {
+    if (pluginJarCache != null) {
+      return info.getDependencies().stream().map(dependency -> pluginJarCache.getDependency(info, dependency)).toList();
+    }
+    var tmpFolderForDeps = createTmpFolderForPluginDeps(info);
+    var depFiles = new ArrayList<Path>();
+    for (var dependency : info.getDependencies()) {
+      var tmpDepFile = extractDependencyInTempFolder(info, dependency, tmpFolderForDeps);
+      depFiles.add(tmpDepFile);
+      filesToDelete.add(tmpDepFile);
+    }
+    return depFiles;
+  }
+
   /**
    * SLCORE-557 Because of bug <a href="https://bugs.java.com/bugdatabase/view_bug?bug_id=JDK-8315993">JDK-8315993</a> we have to somehow get access
    * to the underlying cached JarFile that will be also opened by the URLClassloader, and close it ourselves.
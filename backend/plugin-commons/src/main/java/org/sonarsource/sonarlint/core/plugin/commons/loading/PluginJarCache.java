@@ -0,0 +1,156 @@
+/*
+ * SonarLint Core - Plugin Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.plugin.commons.loading;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Manifest;
+import org.apache.commons.io.FileUtils;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+
+/**
+ * Persistent cache of the data derived from plugin jars, keyed by the content hash of the jars, so that it can be reused across restarts
+ * and between connections using the same jars:
+ * <ul>
+ *   <li>the plugin manifest, so that jars don't have to be opened to read their metadata</li>
+ *   <li>the embedded dependencies, extracted only once instead of each time the plugin is loaded</li>
+ * </ul>
+ * Content hashes are computed by {@link JarFingerprints}, so that jars are only read when they change.
+ */
+public class PluginJarCache {
+
+  private static final SonarLintLogger LOG = SonarLintLogger.get();
+  private static final String FORMAT_VERSION = "v1";
+  private static final String MANIFEST_FILE_NAME = "MANIFEST.MF";
+  private static final String DEPENDENCIES_FOLDER_NAME = "deps";
+
+  private final Path cacheDirectory;
+  private final Map<String, SonarPluginManifest> manifestsByHash = new ConcurrentHashMap<>();
+  private final JarFingerprints jarFingerprints;
+  private boolean removedJarsForgotten;
+
+  public PluginJarCache(Path cacheDirectory) {
+    this.cacheDirectory = cacheDirectory.resolve(FORMAT_VERSION);
+    this.jarFingerprints = new JarFingerprints(this.cacheDirectory);
+  }
+
+  public PluginInfo getPluginInfo(Path jarPath) {
+    return PluginInfo.create(jarPath, getManifest(jarPath));
+  }
+
+  SonarPluginManifest getManifest(Path jarPath) {
+    var hash = contentHash(jarPath);
+    return manifestsByHash.computeIfAbsent(hash, k -> loadManifest(jarPath, k));
+  }
+
+  private SonarPluginManifest loadManifest(Path jarPath, String hash) {
+    var manifestFile = entryDirectory(hash).resolve(MANIFEST_FILE_NAME);
+    if (Files.exists(manifestFile)) {
+      try (var inputStream = Files.newInputStream(manifestFile)) {
+        return new SonarPluginManifest(new Manifest(inputStream));
+      } catch (Exception e) {
+        LOG.debug("Unable to read the cached manifest of {}, reading it from the jar", jarPath, e);
+      }
+    }
+    var manifest = SonarPluginManifest.readManifest(jarPath);
+    var pluginManifest = new SonarPluginManifest(manifest);
+    try {
+      Files.createDirectories(manifestFile.getParent());
+      var tempFile = Files.createTempFile(manifestFile.getParent(), MANIFEST_FILE_NAME, ".tmp");
+      try (var outputStream = Files.newOutputStream(tempFile)) {
+        manifest.write(outputStream);
+      }
+      Files.move(tempFile, manifestFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.debug("Unable to cache the manifest of {}", jarPath, e);
+    }
+    return pluginManifest;
+  }
+
+  /**
+   * @return the location of the dependency extracted from the plugin jar, extracting it if it is not already in the cache
+   */
+  synchronized Path getDependency(PluginInfo plugin, String dependency) {
+    var jarPath = plugin.getJarFile().toPath();
+    var dependenciesFolder = entryDirectory(contentHash(jarPath)).resolve(DEPENDENCIES_FOLDER_NAME);
+    var dependencyFile = dependenciesFolder.resolve(dependency).normalize();
+    try {
+      if (!dependencyFile.startsWith(dependenciesFolder + File.separator)) {
+        throw new IOException("Entry is outside of the target dir: " + dependency);
+      }
+      if (Files.isRegularFile(dependencyFile)) {
+        return dependencyFile;
+      }
+      Files.createDirectories(dependencyFile.getParent());
+      var tempFile = Files.createTempFile(dependencyFile.getParent(), dependencyFile.getFileName().toString(), ".tmp");
+      try (var fileSystem = FileSystems.newFileSystem(jarPath, (ClassLoader) null)) {
+        Files.copy(fileSystem.getPath(dependency), tempFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+      try {
+        Files.move(tempFile, dependencyFile, StandardCopyOption.ATOMIC_MOVE);
+      } catch (FileAlreadyExistsException e) {
+        // extracted concurrently by another process
+        Files.deleteIfExists(tempFile);
+      }
+      return dependencyFile;
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to extract plugin dependency: " + dependency, e);
+    }
+  }
+
+  synchronized String contentHash(Path jarPath) {
+    if (!removedJarsForgotten) {
+      removedJarsForgotten = true;
+      pruneUnusedEntries(Set.of());
+    }
+    try {
+      return jarFingerprints.hash(jarPath);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to hash plugin jar " + jarPath, e);
+    }
+  }
+
+  /**
+   * Removes the cache entries of the jars that were removed or changed, and that are not used by any other jar
+   * @param hashesStillInUse hashes of the jars that are still loaded, whose entries must be kept even if the jars changed on disk
+   */
+  public synchronized void pruneUnusedEntries(Set<String> hashesStillInUse) {
+    jarFingerprints.forgetRemovedJars(hashesStillInUse).forEach(hash -> {
+      manifestsByHash.remove(hash);
+      try {
+        FileUtils.deleteDirectory(entryDirectory(hash).toFile());
+      } catch (IOException e) {
+        LOG.debug("Unable to delete the unused plugin cache entry {}", hash, e);
+      }
+    });
+  }
+
+  private Path entryDirectory(String hash) {
+    return cacheDirectory.resolve(hash);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * SonarLint Core - Plugin Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.plugin.commons.loading;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.sonar.api.Plugin;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+
+/**
+ * Shares the plugin classloaders and instances between the sets of plugins made of the exact same jars, for example several connections
+ * to the same server version, or a connection and the standalone mode. Jars are identified by their content hash, so that identical copies
+ * stored in different places are shared as well. Shared instances are reference-counted, classloaders are closed when the last user
+ * releases them.
+ */
+public class SharedPluginInstances {
+
+  private static final SonarLintLogger LOG = SonarLintLogger.get();
+
+  private final Map<Set<String>, SharedEntry> entriesByFingerprint = new HashMap<>();
+  @Nullable
+  private final PluginJarCache pluginJarCache;
+  private final JarFingerprints jarFingerprints;
+
+  public SharedPluginInstances() {
+    this(null);
+  }
+
+  /**
+   * @param pluginJarCache when not null, used to remember the hashes of the jars and to extract their dependencies
+   */
+  public SharedPluginInstances(@Nullable PluginJarCache pluginJarCache) {
+    this.pluginJarCache = pluginJarCache;
+    this.jarFingerprints = new JarFingerprints();
+  }
+
+  public synchronized Lease acquire(Collection<PluginInfo> plugins) {
+    var fingerprint = fingerprint(plugins);
+    var entry = entriesByFingerprint.get(fingerprint);
+    if (entry == null) {
+      var instancesLoader = new PluginInstancesLoader(pluginJarCache);
+      entry = new SharedEntry(instancesLoader, instancesLoader.instantiatePluginClasses(plugins));
+      entriesByFingerprint.put(fingerprint, entry);
+      pruneUnusedCacheEntries();
+    } else {
+      LOG.debug("Reusing {} plugin instances already loaded from identical jars", entry.pluginInstancesByKeys.size());
+    }
+    entry.referenceCount++;
+    return new Lease(fingerprint, entry);
+  }
+
+  synchronized int size() {
+    return entriesByFingerprint.size();
+  }
+
+  private synchronized void release(Set<String> fingerprint, SharedEntry entry) throws IOException {
+    entry.referenceCount--;
+    if (entry.referenceCount == 0 && entriesByFingerprint.remove(fingerprint, entry)) {
+      entry.instancesLoader.close();
+      pruneUnusedCacheEntries();
+    }
+  }
+
+  /**
+   * Only the jars of the instances still loaded are protected, the extracted dependencies of the other removed or changed jars are deleted
+   */
+  private void pruneUnusedCacheEntries() {
+    if (pluginJarCache != null) {
+      var hashesStillInUse = entriesByFingerprint.keySet().stream()
+        .flatMap(Set::stream)
+        .map(pluginFingerprint -> pluginFingerprint.substring(pluginFingerprint.indexOf('@') + 1))
+        .collect(Collectors.toSet());
+      pluginJarCache.pruneUnusedEntries(hashesStillInUse);
+    }
+  }
+
+  private Set<String> fingerprint(Collection<PluginInfo> plugins) {
+    return plugins.stream()
+      .map(plugin -> plugin.getKey() + "@" + contentHash(plugin.getJarFile().toPath()))
+      .collect(Collectors.toSet());
+  }
+
+  private String contentHash(Path jarPath) {
+    try {
+      if (pluginJarCache != null) {
+        return pluginJarCache.contentHash(jarPath);
+      }
+      return jarFingerprints.hash(jarPath);
+    } catch (IOException | IllegalStateException e) {
+      LOG.debug("Unable to compute the hash of plugin jar {}, it will not be shared", jarPath, e);
+      return jarPath.toAbsolutePath().toString();
+    }
+  }
+
+  private static class SharedEntry {
+    private final PluginInstancesLoader instancesLoader;
+    private final Map<String, Plugin> pluginInstancesByKeys;
+    private int referenceCount;
+
+    private SharedEntry(PluginInstancesLoader instancesLoader, Map<String, Plugin> pluginInstancesByKeys) {
+      this.instancesLoader = instancesLoader;
+      this.pluginInstancesByKeys = pluginInstancesByKeys;
+    }
+  }
+
+  /**
+   * A reference to shared plugin instances, to be closed when they are not used anymore.
+   */
+  public class Lease implements Closeable {
+    private final Set<String> fingerprint;
+    private final SharedEntry entry;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Lease(Set<String> fingerprint, SharedEntry entry) {
+      this.fingerprint = fingerprint;
+      this.entry = entry;
+    }
+
+    /**
+     * @return a copy of the map, that the caller is free to modify
+     */
+    public Map<String, Plugin> getPluginInstancesByKeys() {
+      return new HashMap<>(entry.pluginInstancesByKeys);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (released.compareAndSet(false, true)) {
+        release(fingerprint, entry);
+      }
+    }
+  }
+}
@@ -93,10 +93,19 @@ public class SonarPluginManifest {
    * Load the manifest from a JAR file.
    */
   public static SonarPluginManifest fromJar(Path jarPath) {
+    var manifest = readManifest(jarPath);
+    try {
+      return new SonarPluginManifest(manifest);
+    } catch (Exception e) {
+      throw new IllegalStateException("Error while reading plugin manifest from jar: " + jarPath.toAbsolutePath(), e);
+    }
+  }
+
+  static Manifest readManifest(Path jarPath) {
     try (var jar = new JarFile(jarPath.toFile())) {
       var manifest = jar.getManifest();
       if (manifest != null) {
-        return new SonarPluginManifest(manifest);
+        return manifest;
       } else {
         throw new IllegalStateException("No manifest in jar: " + jarPath.toAbsolutePath());
       }
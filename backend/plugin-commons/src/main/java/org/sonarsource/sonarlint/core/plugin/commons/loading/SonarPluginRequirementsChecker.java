@@ -41,13 +41,27 @@ public class SonarPluginRequirementsChecker {
   private static final SonarLintLogger LOG = SonarLintLogger.get();
 
   private final Version implementedPluginApiVersion;
+  @Nullable
+  private final PluginJarCache pluginJarCache;
 
   public SonarPluginRequirementsChecker() {
-    this(ApiVersions.loadSonarPluginApiVersion());
+    this(ApiVersions.loadSonarPluginApiVersion(), null);
+  }
+
+  /**
+   * @param pluginJarCache when not null, plugin manifests are read from this cache
+   */
+  public SonarPluginRequirementsChecker(@Nullable PluginJarCache pluginJarCache) {
+    this(ApiVersions.loadSonarPluginApiVersion(), pluginJarCache);
   }
 
   SonarPluginRequirementsChecker(org.sonar.api.utils.Version pluginApiVersion) {
+    this(pluginApiVersion, null);
+  }
+
+  SonarPluginRequirementsChecker(org.sonar.api.utils.Version pluginApiVersion, @Nullable PluginJarCache pluginJarCache) {
     this.implementedPluginApiVersion = Version.create(pluginApiVersion.toString());
+    this.pluginJarCache = pluginJarCache;
   }
 
   /**
@@ -61,7 +75,7 @@ public class SonarPluginRequirementsChecker {
       PluginInfo plugin;
 
       try {
-        plugin = PluginInfo.create(jarLocation);
+        plugin = pluginJarCache != null ? pluginJarCache.getPluginInfo(jarLocation) : PluginInfo.create(jarLocation);
       } catch (Exception e) {
         LOG.error("Unable to load plugin " + jarLocation, e);
         continue;
@@ -0,0 +1,81 @@
+/*
+ * SonarLint Core - Plugin Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.plugin.commons.loading;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JarFingerprintsTests {
+  @RegisterExtension
+  private static final SonarLintLogTester logTester = new SonarLintLogTester();
+
+  @TempDir
+  private Path tmp;
+
+  @Test
+  void remember_hashes_across_instances() throws IOException {
+    var jar = Files.writeString(tmp.resolve("plugin.jar"), "content");
+
+    var hash = new JarFingerprints(tmp).hash(jar);
+
+    assertThat(hash).isEqualTo(JarFingerprints.sha256("content"));
+    assertThat(Files.readString(tmp.resolve(JarFingerprints.FILE_NAME))).contains(hash);
+    assertThat(new JarFingerprints(tmp).hash(jar)).isEqualTo(hash);
+  }
+
+  @Test
+  void report_hash_of_changed_jar_as_unused() throws IOException {
+    var jar = Files.writeString(tmp.resolve("plugin.jar"), "content");
+    var fingerprints = new JarFingerprints();
+    var oldHash = fingerprints.hash(jar);
+
+    Files.writeString(jar, "new content");
+    var newHash = fingerprints.hash(jar);
+
+    assertThat(newHash).isNotEqualTo(oldHash);
+    assertThat(fingerprints.forgetRemovedJars(Set.of())).containsExactly(oldHash);
+    assertThat(fingerprints.forgetRemovedJars(Set.of())).isEmpty();
+  }
+
+  @Test
+  void report_hash_of_removed_jar_as_unused_unless_used_by_another_jar_or_still_in_use() throws IOException {
+    var jar = Files.writeString(tmp.resolve("plugin.jar"), "content");
+    var copy = Files.writeString(tmp.resolve("copy.jar"), "content");
+    var fingerprints = new JarFingerprints(tmp);
+    var hash = fingerprints.hash(jar);
+    fingerprints.hash(copy);
+
+    Files.delete(jar);
+    assertThat(fingerprints.forgetRemovedJars(Set.of())).isEmpty();
+
+    Files.delete(copy);
+    assertThat(fingerprints.forgetRemovedJars(Set.of(hash))).isEmpty();
+    assertThat(fingerprints.forgetRemovedJars(Set.of())).containsExactly(hash);
+    assertThat(Files.readString(tmp.resolve(JarFingerprints.FILE_NAME))).doesNotContain(hash);
+  }
+}
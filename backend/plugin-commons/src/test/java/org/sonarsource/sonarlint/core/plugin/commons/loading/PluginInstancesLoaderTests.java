@@ -120,6 +120,23 @@ class PluginInstancesLoaderTests {
       tuple("antlr-2.7.6.jar", "d784fa8b6d98d27699781bd9a7cf19f0"));
   }
 
+  @Test
+  void extract_dependencies_in_cache_and_keep_them_after_close(@TempDir Path tmp) throws IOException {
+    var jarFile = getFile("sonar-checkstyle-plugin-2.8.jar");
+    var info = new PluginInfo("checkstyle")
+      .setJarFile(jarFile)
+      .setMainClass("org.foo.FooPlugin")
+      .setDependencies(List.of("META-INF/lib/commons-cli-1.0.jar"));
+    var cachingLoader = new PluginInstancesLoader(new PluginClassloaderFactory(), new PluginJarCache(tmp));
+
+    var defs = cachingLoader.defineClassloaders(Map.of("checkstyle", info));
+    cachingLoader.close();
+
+    var dependency = defs.iterator().next().getFiles().stream().filter(f -> f.getName().equals("commons-cli-1.0.jar")).findFirst().orElseThrow();
+    assertThat(dependency.toPath()).startsWith(tmp);
+    assertThat(dependency).isFile();
+  }
+
   /**
    * A plugin (the "base" plugin) can be extended by other plugins. In this case they share the same classloader.
    */
@@ -0,0 +1,154 @@
+/*
+ * SonarLint Core - Plugin Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.plugin.commons.loading;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PluginJarCacheTests {
+  @RegisterExtension
+  private static final SonarLintLogTester logTester = new SonarLintLogTester();
+
+  private static final String DEPENDENCY = "META-INF/lib/commons-cli-1.0.jar";
+
+  @TempDir
+  private Path tmp;
+  private Path cacheDirectory;
+  private Path pluginJar;
+
+  @BeforeEach
+  void prepare() throws IOException, URISyntaxException {
+    cacheDirectory = tmp.resolve("cache");
+    pluginJar = tmp.resolve("sonar-checkstyle-plugin-2.8.jar");
+    Files.copy(Paths.get(getClass().getResource("/sonar-checkstyle-plugin-2.8.jar").toURI()), pluginJar);
+  }
+
+  @Test
+  void read_plugin_info_from_jar_then_from_cache() {
+    var info = new PluginJarCache(cacheDirectory).getPluginInfo(pluginJar);
+
+    assertThat(info.getKey()).isEqualTo("checkstyle");
+    assertThat(info.getMainClass()).isEqualTo("org.sonar.plugins.checkstyle.CheckstylePlugin");
+    var hash = JarFingerprints.sha256(pluginJar);
+    assertThat(cacheDirectory.resolve("v1").resolve(hash).resolve("MANIFEST.MF")).isRegularFile();
+
+    var infoFromCache = new PluginJarCache(cacheDirectory).getPluginInfo(pluginJar);
+
+    assertThat(infoFromCache.getKey()).isEqualTo("checkstyle");
+    assertThat(infoFromCache.getJarFile()).isEqualTo(pluginJar.toFile());
+    assertThat(infoFromCache.getDependencies()).isEqualTo(info.getDependencies());
+  }
+
+  @Test
+  void remember_jar_hashes_across_instances() throws IOException {
+    var hash = new PluginJarCache(cacheDirectory).contentHash(pluginJar);
+
+    var properties = Files.readString(cacheDirectory.resolve("v1").resolve("jar-hashes.properties"));
+    assertThat(properties).contains(hash);
+    assertThat(new PluginJarCache(cacheDirectory).contentHash(pluginJar)).isEqualTo(hash);
+  }
+
+  @Test
+  void extract_dependency_only_once() throws IOException {
+    var info = new PluginJarCache(cacheDirectory).getPluginInfo(pluginJar);
+
+    var dependency = new PluginJarCache(cacheDirectory).getDependency(info, DEPENDENCY);
+
+    assertThat(dependency).startsWith(cacheDirectory).hasFileName("commons-cli-1.0.jar");
+    assertThat(DigestUtils.md5Hex(Files.readAllBytes(dependency))).isEqualTo("d784fa8b6d98d27699781bd9a7cf19f0");
+    var lastModified = Files.getLastModifiedTime(dependency);
+
+    assertThat(new PluginJarCache(cacheDirectory).getDependency(info, DEPENDENCY)).isEqualTo(dependency);
+    assertThat(Files.getLastModifiedTime(dependency)).isEqualTo(lastModified);
+  }
+
+  @Test
+  void reject_dependency_outside_of_cache_entry() {
+    var cache = new PluginJarCache(cacheDirectory);
+    var info = cache.getPluginInfo(pluginJar);
+
+    assertThatThrownBy(() -> cache.getDependency(info, "../../evil.jar"))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Unable to extract plugin dependency: ../../evil.jar");
+  }
+
+  @Test
+  void remove_entries_of_jars_not_on_disk_anymore() throws IOException {
+    var cache = new PluginJarCache(cacheDirectory);
+    var info = cache.getPluginInfo(pluginJar);
+    cache.getDependency(info, DEPENDENCY);
+    var entryDirectory = cacheDirectory.resolve("v1").resolve(cache.contentHash(pluginJar));
+    assertThat(entryDirectory).isDirectory();
+
+    Files.delete(pluginJar);
+    new PluginJarCache(cacheDirectory).contentHash(copyOfOtherJar());
+
+    assertThat(entryDirectory).doesNotExist();
+  }
+
+  @Test
+  void remove_entry_of_changed_jar_during_the_session() throws IOException {
+    var cache = new PluginJarCache(cacheDirectory);
+    cache.getDependency(cache.getPluginInfo(pluginJar), DEPENDENCY);
+    var entryDirectory = cacheDirectory.resolve("v1").resolve(cache.contentHash(pluginJar));
+
+    Files.writeString(pluginJar, "new version");
+    cache.contentHash(pluginJar);
+    cache.pruneUnusedEntries(Set.of());
+
+    assertThat(entryDirectory).doesNotExist();
+  }
+
+  @Test
+  void keep_entry_of_changed_jar_while_still_in_use() throws IOException {
+    var cache = new PluginJarCache(cacheDirectory);
+    var oldHash = cache.contentHash(pluginJar);
+    cache.getPluginInfo(pluginJar);
+
+    Files.writeString(pluginJar, "new version");
+    cache.contentHash(pluginJar);
+    cache.pruneUnusedEntries(Set.of(oldHash));
+
+    assertThat(cacheDirectory.resolve("v1").resolve(oldHash)).isDirectory();
+
+    cache.pruneUnusedEntries(Set.of());
+
+    assertThat(cacheDirectory.resolve("v1").resolve(oldHash)).doesNotExist();
+  }
+
+  private Path copyOfOtherJar() throws IOException {
+    var otherJar = tmp.resolve("other.jar");
+    Files.writeString(otherJar, "other");
+    return otherJar;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * SonarLint Core - Plugin Commons
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.plugin.commons.loading;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedPluginInstancesTests {
+  @RegisterExtension
+  private static final SonarLintLogTester logTester = new SonarLintLogTester();
+
+  private final SharedPluginInstances sharedPluginInstances = new SharedPluginInstances();
+
+  @Test
+  void share_instances_between_identical_jars_in_different_locations(@TempDir Path tmp) throws IOException {
+    var first = leakPlugin(tmp.resolve("first"));
+    var second = leakPlugin(tmp.resolve("second"));
+
+    try (var firstLease = sharedPluginInstances.acquire(List.of(first));
+      var secondLease = sharedPluginInstances.acquire(List.of(second))) {
+      assertThat(sharedPluginInstances.size()).isEqualTo(1);
+      assertThat(secondLease.getPluginInstancesByKeys().get("leak")).isSameAs(firstLease.getPluginInstancesByKeys().get("leak"));
+    }
+
+    assertThat(sharedPluginInstances.size()).isZero();
+  }
+
+  @Test
+  void keep_instances_until_last_lease_is_released(@TempDir Path tmp) throws IOException {
+    var plugin = leakPlugin(tmp);
+
+    var firstLease = sharedPluginInstances.acquire(List.of(plugin));
+    var secondLease = sharedPluginInstances.acquire(List.of(plugin));
+    firstLease.close();
+    firstLease.close();
+
+    assertThat(sharedPluginInstances.size()).isEqualTo(1);
+
+    secondLease.close();
+
+    assertThat(sharedPluginInstances.size()).isZero();
+  }
+
+  @Test
+  void do_not_share_different_plugin_sets(@TempDir Path tmp) throws IOException {
+    var plugin = leakPlugin(tmp);
+
+    try (var withPlugin = sharedPluginInstances.acquire(List.of(plugin));
+      var withoutPlugin = sharedPluginInstances.acquire(List.of())) {
+      assertThat(sharedPluginInstances.size()).isEqualTo(2);
+      assertThat(withPlugin.getPluginInstancesByKeys()).containsOnlyKeys("leak");
+      assertThat(withoutPlugin.getPluginInstancesByKeys()).isEmpty();
+    }
+  }
+
+  @Test
+  void return_a_modifiable_copy_of_the_instances(@TempDir Path tmp) throws IOException {
+    var plugin = leakPlugin(tmp);
+
+    try (var firstLease = sharedPluginInstances.acquire(List.of(plugin));
+      var secondLease = sharedPluginInstances.acquire(List.of(plugin))) {
+      firstLease.getPluginInstancesByKeys().clear();
+
+      assertThat(secondLease.getPluginInstancesByKeys()).containsOnlyKeys("leak");
+    }
+  }
+
+  @Test
+  void prune_cache_entries_of_removed_jars_once_their_instances_are_released(@TempDir Path tmp) throws IOException {
+    var pluginJarCache = new PluginJarCache(tmp.resolve("cache"));
+    var instances = new SharedPluginInstances(pluginJarCache);
+    var plugin = leakPlugin(tmp.resolve("plugins"));
+    var jarPath = plugin.getJarFile().toPath();
+    var entryDirectory = tmp.resolve("cache").resolve("v1").resolve(pluginJarCache.contentHash(jarPath));
+    pluginJarCache.getPluginInfo(jarPath);
+
+    var lease = instances.acquire(List.of(plugin));
+    Files.delete(jarPath);
+    instances.acquire(List.of()).close();
+
+    assertThat(entryDirectory).isDirectory();
+
+    lease.close();
+
+    assertThat(entryDirectory).doesNotExist();
+  }
+
+  private static PluginInfo leakPlugin(Path dir) throws IOException {
+    var jarFile = PluginClassloaderFactoryTests.testPluginJar("classloader-leak-plugin/target/classloader-leak-plugin-0.1-SNAPSHOT.jar");
+    Files.createDirectories(dir);
+    var copy = Files.copy(jarFile.toPath(), dir.resolve("leak-plugin.jar"));
+    return new PluginInfo("leak")
+      .setJarFile(copy.toFile())
+      .setMainClass("org.sonar.plugins.leak.LeakPlugin");
+  }
+}
@@ -21,7 +21,6 @@ package org.sonarsource.sonarlint.core.rpc.impl;
 
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -37,13 +36,13 @@ abstract class AbstractRpcServiceDelegate {
 
   private final Supplier<BeanFactory> beanFactorySupplier;
   private final ExecutorServiceShutdownWatchable<?> requestsExecutor;
-  private final Executor requestAndNotificationsSequentialExecutor;
+  private final RpcExecutionLanes requestAndNotificationsLanes;
   private final Supplier<RpcClientLogOutput> logOutputSupplier;
 
   protected AbstractRpcServiceDelegate(SonarLintRpcServerImpl server) {
     this.beanFactorySupplier = server::getInitializedApplicationContext;
     this.requestsExecutor = server.getRequestsExecutor();
-    this.requestAndNotificationsSequentialExecutor = server.getRequestAndNotificationsSequentialExecutor();
+    this.requestAndNotificationsLanes = server.getRequestAndNotificationsLanes();
     this.logOutputSupplier = server::getLogOutput;
   }
 
@@ -58,9 +57,9 @@ abstract class AbstractRpcServiceDelegate {
   protected <R> CompletableFuture<R> requestAsync(Function<SonarLintCancelMonitor, R> code, @Nullable String configScopeId) {
     var cancelMonitor = new SonarLintCancelMonitor();
     cancelMonitor.watchForShutdown(requestsExecutor);
-    // First we schedule the processing of the request on the sequential executor, to maintain ordering of notifications, requests, responses, and cancellations
+    // First we schedule the processing of the request on the lane of its configuration scope, to maintain ordering of notifications, requests, responses, and cancellations
     // We can maybe cancel early
-    var sequentialFuture = CompletableFuture.runAsync(cancelMonitor::checkCanceled, requestAndNotificationsSequentialExecutor);
+    var sequentialFuture = CompletableFuture.runAsync(cancelMonitor::checkCanceled, requestAndNotificationsLanes.forConfigScope(configScopeId));
     // Then requests are processed asynchronously to not block the processing of notifications, responses and cancellations
     var requestFuture = sequentialFuture.thenApplyAsync(unused -> computeWithLogger(() -> {
       cancelMonitor.checkCanceled();
@@ -77,9 +76,9 @@ abstract class AbstractRpcServiceDelegate {
   protected <R> CompletableFuture<R> requestFutureAsync(Function<SonarLintCancelMonitor, CompletableFuture<R>> code, @Nullable String configScopeId) {
     var cancelMonitor = new SonarLintCancelMonitor();
     cancelMonitor.watchForShutdown(requestsExecutor);
-    // First we schedule the processing of the request on the sequential executor, to maintain ordering of notifications, requests, responses, and cancellations
+    // First we schedule the processing of the request on the lane of its configuration scope, to maintain ordering of notifications, requests, responses, and cancellations
     // We can maybe cancel early
-    var sequentialFuture = CompletableFuture.runAsync(cancelMonitor::checkCanceled, requestAndNotificationsSequentialExecutor);
+    var sequentialFuture = CompletableFuture.runAsync(cancelMonitor::checkCanceled, requestAndNotificationsLanes.forConfigScope(configScopeId));
     // Then requests are processed asynchronously to not block the processing of notifications, responses and cancellations
     var requestFuture = sequentialFuture.thenComposeAsync(unused -> computeWithLogger(() -> {
       cancelMonitor.checkCanceled();
@@ -96,9 +95,9 @@ abstract class AbstractRpcServiceDelegate {
   protected CompletableFuture<Void> runAsync(Consumer<SonarLintCancelMonitor> code, @Nullable String configScopeId) {
     var cancelMonitor = new SonarLintCancelMonitor();
     cancelMonitor.watchForShutdown(requestsExecutor);
-    // First we schedule the processing of the request on the sequential executor, to maintain ordering of notifications, requests, responses, and cancellations
+    // First we schedule the processing of the request on the lane of its configuration scope, to maintain ordering of notifications, requests, responses, and cancellations
     // We can maybe cancel early
-    var sequentialFuture = CompletableFuture.runAsync(cancelMonitor::checkCanceled, requestAndNotificationsSequentialExecutor);
+    var sequentialFuture = CompletableFuture.runAsync(cancelMonitor::checkCanceled, requestAndNotificationsLanes.forConfigScope(configScopeId));
     // Then requests are processed asynchronously to not block the processing of notifications, responses and cancellations
     var requestFuture = sequentialFuture.<Void>thenApplyAsync(unused -> {
       doWithLogger(() -> {
@@ -118,13 +117,14 @@ abstract class AbstractRpcServiceDelegate {
   /**
    * We don't want to risk a long notification to block the message processor thread and to prevent cancellation of requests,
    * so we are also moving notifications to a separate thread pool. Still we want to preserve ordering of requests and notifications.
+   * Notifications without configuration scope are ordered with all the other messages, see {@link RpcExecutionLanes}.
    */
   protected void notify(Runnable code) {
     notify(code, null);
   }
 
   protected void notify(Runnable code, @Nullable String configScopeId) {
-    requestAndNotificationsSequentialExecutor.execute(() -> doWithLogger(() -> {
+    requestAndNotificationsLanes.submit(configScopeId, () -> doWithLogger(() -> {
       try {
         code.run();
       } catch (Throwable throwable) {
@@ -133,6 +133,19 @@ abstract class AbstractRpcServiceDelegate {
     }, configScopeId));
   }
 
+  /**
+   * Forget the execution lane of a removed configuration scope once its queued messages are processed
+   */
+  protected void notifyConfigScopeRemoved(Runnable code, String configScopeId) {
+    notify(() -> {
+      try {
+        code.run();
+      } finally {
+        requestAndNotificationsLanes.removeLane(configScopeId);
+      }
+    });
+  }
+
   private void doWithLogger(Runnable code, @Nullable String configScopeId) {
     SonarLintLogger.get().setTarget(logOutputSupplier.get());
     SonarLintMDC.putConfigScopeId(configScopeId);
@@ -28,6 +28,7 @@ import org.sonarsource.sonarlint.core.analysis.NodeJsService;
 import org.sonarsource.sonarlint.core.analysis.RawIssue;
 import org.sonarsource.sonarlint.core.analysis.api.TriggerType;
 import org.sonarsource.sonarlint.core.commons.api.TextRange;
+import org.sonarsource.sonarlint.core.monitoring.MonitoringService;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.AnalysisRpcService;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.AnalyzeFileListParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.AnalyzeFilesAndTrackParams;
@@ -42,6 +43,8 @@ import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.DidChangePat
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.ForceAnalyzeResponse;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.GetAutoDetectedNodeJsResponse;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.GetForcedNodeJsResponse;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.GetRecentTracesParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.GetRecentTracesResponse;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.GetSupportedFilePatternsParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.GetSupportedFilePatternsResponse;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.NodeJsDetailsDto;
@@ -149,6 +152,12 @@ class AnalysisRpcServiceDelegate extends AbstractRpcServiceDelegate implements A
         .shouldUseEnterpriseCSharpAnalyzer(params.getConfigurationScopeId())));
   }
 
+  @Override
+  public CompletableFuture<GetRecentTracesResponse> getRecentTraces(GetRecentTracesParams params) {
+    return requestAsync(
+      cancelChecker -> new GetRecentTracesResponse(getBean(MonitoringService.class).getRecentTraces(params.getMaxCount(), params.getChromeTraceFile())));
+  }
+
   private static AnalyzeFilesResponse generateAnalyzeFilesResponse(AnalysisResult analysisResults) {
     return new AnalyzeFilesResponse(analysisResults.failedAnalysisFiles(), analysisResults.rawIssues().stream().map(AnalysisRpcServiceDelegate::toDto).toList());
   }
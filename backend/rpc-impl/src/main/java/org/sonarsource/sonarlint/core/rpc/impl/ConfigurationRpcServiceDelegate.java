@@ -38,7 +38,7 @@ class ConfigurationRpcServiceDelegate extends AbstractRpcServiceDelegate impleme
 
   @Override
   public void didRemoveConfigurationScope(DidRemoveConfigurationScopeParams params) {
-    notify(() -> getBean(ConfigurationService.class).didRemoveConfigurationScope(params.getRemovedId()));
+    notifyConfigScopeRemoved(() -> getBean(ConfigurationService.class).didRemoveConfigurationScope(params.getRemovedId()), params.getRemovedId());
   }
 
   @Override
@@ -19,7 +19,9 @@
  */
 package org.sonarsource.sonarlint.core.rpc.impl;
 
+import java.util.HashSet;
 import java.util.concurrent.CompletableFuture;
+import javax.annotation.CheckForNull;
 import org.sonarsource.sonarlint.core.fs.ClientFileSystemService;
 import org.sonarsource.sonarlint.core.fs.FileExclusionService;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.file.DidCloseFileParams;
@@ -45,16 +47,32 @@ public class FileRpcServiceDelegate extends AbstractRpcServiceDelegate implement
 
   @Override
   public void didUpdateFileSystem(DidUpdateFileSystemParams params) {
-    notify(() -> getBean(ClientFileSystemService.class).didUpdateFileSystem(params));
+    notify(() -> getBean(ClientFileSystemService.class).didUpdateFileSystem(params), singleConfigScopeId(params));
+  }
+
+  /**
+   * Updates only touching files of a single configuration scope don't need to be ordered with the messages of other scopes
+   */
+  @CheckForNull
+  private static String singleConfigScopeId(DidUpdateFileSystemParams params) {
+    var configScopeIds = new HashSet<String>();
+    params.getAddedFiles().forEach(file -> configScopeIds.add(file.getConfigScopeId()));
+    params.getChangedFiles().forEach(file -> configScopeIds.add(file.getConfigScopeId()));
+    params.getChangedFileContents().forEach(changes -> configScopeIds.add(changes.getConfigScopeId()));
+    // removed files are only known by URI
+    if (!params.getRemovedFiles().isEmpty() || configScopeIds.size() != 1) {
+      return null;
+    }
+    return configScopeIds.iterator().next();
   }
 
   @Override
   public void didOpenFile(DidOpenFileParams params) {
-    notify(() -> getBean(ClientFileSystemService.class).didOpenFile(params.getConfigurationScopeId(), params.getFileUri()));
+    notify(() -> getBean(ClientFileSystemService.class).didOpenFile(params.getConfigurationScopeId(), params.getFileUri()), params.getConfigurationScopeId());
   }
 
   @Override
   public void didCloseFile(DidCloseFileParams params) {
-    notify(() -> getBean(ClientFileSystemService.class).didCloseFile(params.getConfigurationScopeId(), params.getFileUri()));
+    notify(() -> getBean(ClientFileSystemService.class).didCloseFile(params.getConfigurationScopeId(), params.getFileUri()), params.getConfigurationScopeId());
   }
 }
@@ -20,28 +20,128 @@
 package org.sonarsource.sonarlint.core.rpc.impl;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nullable;
 import org.sonarsource.sonarlint.core.commons.log.LogOutput;
 import org.sonarsource.sonarlint.core.rpc.protocol.SonarLintRpcClient;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogBatchParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogLevel;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogParams;
 
+/**
+ * Logs are buffered and forwarded to the client by a dedicated thread, so that logging threads never wait for the client.
+ * When the buffer is full, new logs are dropped and the client is told how many were lost.
+ */
 class RpcClientLogOutput implements LogOutput {
 
+  static final int DEFAULT_BUFFER_CAPACITY = 10_000;
+  private static final int MAX_BATCH_SIZE = 500;
+
   private final SonarLintRpcClient client;
 
   private final InheritableThreadLocal<String> configScopeId = new InheritableThreadLocal<>();
+  private final BlockingQueue<LogParams> buffer;
+  private final AtomicLong pendingDropCount = new AtomicLong();
+  private final AtomicLong totalDropCount = new AtomicLong();
+  private final ExecutorService forwarder;
+  private volatile boolean batchesSupported;
+  private volatile boolean stopped;
 
   RpcClientLogOutput(SonarLintRpcClient client) {
+    this(client, DEFAULT_BUFFER_CAPACITY);
+  }
+
+  RpcClientLogOutput(SonarLintRpcClient client, int bufferCapacity) {
     this.client = client;
+    this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+    this.forwarder = Executors.newSingleThreadExecutor(r -> {
+      var thread = new Thread(r, "SonarLint Server log forwarder");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.forwarder.execute(this::forwardUntilInterrupted);
   }
 
   @Override
   public void log(@Nullable String msg, Level level, @Nullable String stacktrace) {
-    client.log(new LogParams(LogLevel.valueOf(level.name()), msg, configScopeId.get(), stacktrace, Instant.now()));
+    var params = new LogParams(LogLevel.valueOf(level.name()), msg, configScopeId.get(), stacktrace, Instant.now());
+    if (stopped) {
+      client.log(params);
+    } else if (!buffer.offer(params)) {
+      pendingDropCount.incrementAndGet();
+      totalDropCount.incrementAndGet();
+    }
   }
 
   public void setConfigScopeId(@Nullable String configScopeId) {
     this.configScopeId.set(configScopeId);
   }
+
+  public void setBatchesSupported(boolean batchesSupported) {
+    this.batchesSupported = batchesSupported;
+  }
+
+  long getDropCount() {
+    return totalDropCount.get();
+  }
+
+  private void forwardUntilInterrupted() {
+    var batch = new ArrayList<LogParams>(MAX_BATCH_SIZE);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(buffer.take());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      forwardBatch(batch);
+    }
+  }
+
+  /**
+   * Completes the batch with the buffered logs and forwards it. The warning about dropped logs counts in the batch size.
+   */
+  private void forwardBatch(List<LogParams> batch) {
+    var droppedCount = pendingDropCount.getAndSet(0);
+    var capacity = droppedCount > 0 ? MAX_BATCH_SIZE - 1 : MAX_BATCH_SIZE;
+    buffer.drainTo(batch, capacity - batch.size());
+    if (droppedCount > 0) {
+      batch.add(new LogParams(LogLevel.WARN, droppedCount + " log messages were dropped because the client could not keep up", null, null, Instant.now()));
+    }
+    try {
+      if (batchesSupported) {
+        client.logBatch(new LogBatchParams(List.copyOf(batch)));
+      } else {
+        batch.forEach(client::log);
+      }
+    } catch (Exception e) {
+      // the client is not reachable anymore, nothing else to do
+    } finally {
+      batch.clear();
+    }
+  }
+
+  /**
+   * Stop the forwarding thread and send the logs that are still buffered.
+   */
+  void flushAndStop() {
+    stopped = true;
+    forwarder.shutdownNow();
+    try {
+      forwarder.awaitTermination(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    var batch = new ArrayList<LogParams>(MAX_BATCH_SIZE);
+    while (!buffer.isEmpty() || pendingDropCount.get() > 0) {
+      forwardBatch(batch);
+    }
+  }
 }
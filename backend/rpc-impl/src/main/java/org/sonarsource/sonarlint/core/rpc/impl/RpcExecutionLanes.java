@@ -0,0 +1,139 @@
+/*
+ * SonarLint Core - RPC Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+
+/**
+ * Executes requests and notifications in order of reception per configuration scope, while the ones of different configuration scopes
+ * run in parallel. Messages without configuration scope keep a global ordering: they wait for all the lanes to be idle, and all the
+ * messages received after them wait for them to complete.
+ * <p>
+ * Messages are submitted by the single thread reading them from the client, so submission does not need to be exclusive: each
+ * lane is updated atomically in its own map entry, and only the global lane touches all of them.
+ */
+class RpcExecutionLanes {
+
+  private static final SonarLintLogger LOG = SonarLintLogger.get();
+  static final String GLOBAL_LANE = "<global>";
+  private static final long SLOW_WAIT_THRESHOLD_MS = 1000;
+
+  private final ExecutorService executorService;
+  private final Map<String, CompletableFuture<Void>> tailByConfigScopeId = new ConcurrentHashMap<>();
+  private volatile CompletableFuture<Void> globalTail = CompletableFuture.completedFuture(null);
+  private final Map<String, LaneMetrics> metricsByLane = new ConcurrentHashMap<>();
+
+  RpcExecutionLanes(ExecutorService executorService) {
+    this.executorService = executorService;
+  }
+
+  Executor forConfigScope(@Nullable String configScopeId) {
+    return task -> submit(configScopeId, task);
+  }
+
+  CompletableFuture<Void> submit(@Nullable String configScopeId, Runnable task) {
+    if (configScopeId == null) {
+      var tails = new HashMap<>(tailByConfigScopeId);
+      var predecessors = new ArrayList<>(tails.values());
+      predecessors.add(globalTail);
+      var result = enqueue(GLOBAL_LANE, CompletableFuture.allOf(predecessors.toArray(new CompletableFuture[0])), task);
+      globalTail = result;
+      // later messages of these scopes now wait for the global message, unless their lane moved on in the meantime
+      tails.forEach(tailByConfigScopeId::remove);
+      return result;
+    }
+    var result = tailByConfigScopeId.compute(configScopeId, (id, tail) -> enqueue(id, tail == null ? globalTail : tail, task));
+    result.whenComplete((unused, error) -> tailByConfigScopeId.remove(configScopeId, result));
+    return result;
+  }
+
+  private CompletableFuture<Void> enqueue(String laneName, CompletableFuture<Void> predecessor, Runnable task) {
+    var metrics = metricsByLane.computeIfAbsent(laneName, k -> new LaneMetrics());
+    metrics.queueDepth.incrementAndGet();
+    var submittedAt = System.nanoTime();
+    // errors of previous tasks must not prevent the next ones from running
+    return predecessor.handleAsync((unused, error) -> {
+      metrics.started(laneName, System.nanoTime() - submittedAt);
+      try {
+        task.run();
+      } finally {
+        metrics.queueDepth.decrementAndGet();
+      }
+      return null;
+    }, executorService);
+  }
+
+  /**
+   * Forget the metrics of the lane of a removed configuration scope, unless messages are still queued in it
+   */
+  void removeLane(String configScopeId) {
+    metricsByLane.computeIfPresent(configScopeId, (id, metrics) -> {
+      if (metrics.queueDepth.get() > 0) {
+        return metrics;
+      }
+      LOG.debug("Closing RPC lane '{}': {}", id, metrics.toStatistics());
+      return null;
+    });
+  }
+
+  void logStatistics() {
+    getStatistics().forEach((laneName, statistics) -> LOG.debug("RPC lane '{}': {}", laneName, statistics));
+  }
+
+  Map<String, RpcLaneStatistics> getStatistics() {
+    var statistics = new HashMap<String, RpcLaneStatistics>();
+    metricsByLane.forEach((laneName, metrics) -> statistics.put(laneName, metrics.toStatistics()));
+    return statistics;
+  }
+
+  private static class LaneMetrics {
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private void started(String laneName, long waitNanos) {
+      executedCount.incrementAndGet();
+      totalWaitNanos.addAndGet(waitNanos);
+      maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+      var waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+      if (waitMillis > SLOW_WAIT_THRESHOLD_MS) {
+        LOG.debug("RPC message waited {} ms in lane '{}', {} message(s) still queued", waitMillis, laneName, queueDepth.get() - 1);
+      }
+    }
+
+    private RpcLaneStatistics toStatistics() {
+      var count = executedCount.get();
+      var averageWaitNanos = count == 0 ? 0 : (totalWaitNanos.get() / count);
+      return new RpcLaneStatistics(queueDepth.get(), count, TimeUnit.NANOSECONDS.toMillis(averageWaitNanos), TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+  }
+}
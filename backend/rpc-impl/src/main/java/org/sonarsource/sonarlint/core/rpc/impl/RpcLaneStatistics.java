@@ -0,0 +1,31 @@
+/*
+ * SonarLint Core - RPC Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.impl;
+
+/**
+ * Metrics of an RPC execution lane
+ *
+ * @param queueDepth number of messages waiting or being processed in the lane
+ * @param executedCount number of messages whose processing started since the backend started
+ * @param averageWaitMillis average time spent by messages between their reception and the start of their processing
+ * @param maxWaitMillis longest time spent by a message between its reception and the start of its processing
+ */
+public record RpcLaneStatistics(int queueDepth, long executedCount, long averageWaitMillis, long maxWaitMillis) {
+}
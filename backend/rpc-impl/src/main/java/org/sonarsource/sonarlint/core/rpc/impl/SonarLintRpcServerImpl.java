@@ -25,8 +25,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
@@ -63,6 +65,7 @@ import org.sonarsource.sonarlint.core.rpc.protocol.backend.connection.Connection
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.dogfooding.DogfoodingRpcService;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.file.FileRpcService;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.hotspot.HotspotRpcService;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.BackendCapability;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.InitializeParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.issue.IssueRpcService;
 import org.sonarsource.sonarlint.core.rpc.protocol.backend.labs.IdeLabsRpcService;
@@ -84,12 +87,14 @@ import org.springframework.context.ConfigurableApplicationContext;
 public class SonarLintRpcServerImpl implements SonarLintRpcServer {
 
   private static final Logger LOG = LoggerFactory.getLogger(SonarLintRpcServerImpl.class);
+  private static final String SHARED_ARCHIVE_FILE_OPTION = "-XX:SharedArchiveFile=";
   private final SonarLintRpcClient client;
   private final AtomicBoolean initializeCalled = new AtomicBoolean(false);
   private final AtomicBoolean initialized = new AtomicBoolean(false);
   private final Future<Void> clientListener;
   private final ExecutorServiceShutdownWatchable<ExecutorService> requestsExecutor;
-  private final ExecutorService requestAndNotificationsSequentialExecutor;
+  private final ExecutorService requestAndNotificationsLanesExecutor;
+  private final RpcExecutionLanes requestAndNotificationsLanes;
   private final RpcClientLogOutput logOutput;
   private final ExecutorService messageReaderExecutor;
   private final ExecutorService messageWriterExecutor;
@@ -106,7 +111,8 @@ public class SonarLintRpcServerImpl implements SonarLintRpcServer {
       t.setName("Server message writer");
       return t;
     });
-    this.requestAndNotificationsSequentialExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "SonarLint Server RPC sequential executor"));
+    this.requestAndNotificationsLanesExecutor = Executors.newCachedThreadPool(r -> new Thread(r, "SonarLint Server RPC lane executor"));
+    this.requestAndNotificationsLanes = new RpcExecutionLanes(requestAndNotificationsLanesExecutor);
     this.requestsExecutor = new ExecutorServiceShutdownWatchable<>(Executors.newCachedThreadPool(r -> new Thread(r, "SonarLint Server RPC request executor")));
     var launcher = new SonarLintLauncherBuilder<SonarLintRpcClient>()
       .setLocalService(this)
@@ -173,14 +179,17 @@ public class SonarLintRpcServerImpl implements SonarLintRpcServer {
 
   @Override
   public CompletableFuture<Void> initialize(InitializeParams params) {
-    return CompletableFutures.computeAsync(requestAndNotificationsSequentialExecutor, cancelChecker -> {
+    return CompletableFutures.computeAsync(requestAndNotificationsLanes.forConfigScope(null), cancelChecker -> {
       SonarLintLogger.get().setLevel(LogService.convert(params.getLogLevel()));
       SonarLintLogger.get().setTarget(logOutput);
+      logOutput.setBatchesSupported(params.getBackendCapabilities().contains(BackendCapability.LOG_BATCHES));
       // for flyway logging level
       setLogbackRootLogger(params);
       if (initializeCalled.compareAndSet(false, true) && !initialized.get()) {
+        var initializationStart = System.nanoTime();
         springApplicationContextInitializer = new SpringApplicationContextInitializer(client, params);
         initialized.set(true);
+        logStartupReport(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initializationStart));
       } else {
         var error = new ResponseError(SonarLintRpcErrorCode.BACKEND_ALREADY_INITIALIZED, "Backend already initialized", null);
         throw new ResponseErrorException(error);
@@ -189,6 +198,18 @@ public class SonarLintRpcServerImpl implements SonarLintRpcServer {
     });
   }
 
+  private static void logStartupReport(long initializationDurationMs) {
+    var runtime = ManagementFactory.getRuntimeMXBean();
+    var sharedArchive = runtime.getInputArguments().stream()
+      .filter(argument -> argument.startsWith(SHARED_ARCHIVE_FILE_OPTION))
+      .map(argument -> argument.substring(SHARED_ARCHIVE_FILE_OPTION.length()))
+      .findFirst()
+      .orElse("default");
+    var classDataSharing = System.getProperty("java.vm.info", "").contains("sharing") ? "on" : "off";
+    SonarLintLogger.get().info("Backend started in {} ms (initialization: {} ms, loaded classes: {}, class data sharing: {}, archive: {})", runtime.getUptime(),
+      initializationDurationMs, ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(), classDataSharing, sharedArchive);
+  }
+
   private static void setLogbackRootLogger(InitializeParams params) {
     var root = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
     var logLevel = switch (params.getLogLevel()) {
@@ -316,7 +337,8 @@ public class SonarLintRpcServerImpl implements SonarLintRpcServer {
       SonarLintLogger.get().setTarget(logOutput);
       var wasInitialized = initialized.getAndSet(false);
       MoreExecutors.shutdownAndAwaitTermination(requestsExecutor, 1, TimeUnit.SECONDS);
-      MoreExecutors.shutdownAndAwaitTermination(requestAndNotificationsSequentialExecutor, 1, TimeUnit.SECONDS);
+      MoreExecutors.shutdownAndAwaitTermination(requestAndNotificationsLanesExecutor, 1, TimeUnit.SECONDS);
+      requestAndNotificationsLanes.logStatistics();
       if (wasInitialized) {
         try {
           springApplicationContextInitializer.close();
@@ -325,6 +347,7 @@ public class SonarLintRpcServerImpl implements SonarLintRpcServer {
         }
       }
       ThreadJobProcessorPool.getProcessors().forEach(JobProcessor::finish);
+      logOutput.flushAndStop();
       shutdownReaderAndWriter();
       return null;
     });
@@ -375,8 +398,16 @@ public class SonarLintRpcServerImpl implements SonarLintRpcServer {
     return requestsExecutor;
   }
 
-  ExecutorService getRequestAndNotificationsSequentialExecutor() {
-    return requestAndNotificationsSequentialExecutor;
+  RpcExecutionLanes getRequestAndNotificationsLanes() {
+    return requestAndNotificationsLanes;
+  }
+
+  /**
+   * @return the metrics of the lanes processing requests and notifications, by configuration scope ID
+   * ({@value RpcExecutionLanes#GLOBAL_LANE} for messages not related to a configuration scope)
+   */
+  public Map<String, RpcLaneStatistics> getRpcLaneStatistics() {
+    return requestAndNotificationsLanes.getStatistics();
   }
 
   RpcClientLogOutput getLogOutput() {
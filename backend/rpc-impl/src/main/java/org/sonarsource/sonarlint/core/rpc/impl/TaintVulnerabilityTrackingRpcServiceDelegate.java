@@ -32,6 +32,11 @@ public class TaintVulnerabilityTrackingRpcServiceDelegate extends AbstractRpcSer
 
   @Override
   public CompletableFuture<ListAllResponse> listAll(ListAllParams params) {
+    var pageSize = params.getPageSize();
+    if (pageSize != null) {
+      return requestAsync(cancelMonitor -> getBean(TaintVulnerabilityTrackingService.class)
+        .listPage(params.getConfigurationScopeId(), params.shouldRefresh(), params.getPageCursor(), pageSize, cancelMonitor));
+    }
     return requestAsync(cancelMonitor -> new ListAllResponse(getBean(TaintVulnerabilityTrackingService.class)
       .listAll(params.getConfigurationScopeId(), params.shouldRefresh(), cancelMonitor)));
   }
@@ -0,0 +1,108 @@
+/*
+ * SonarLint Core - RPC Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.impl;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sonarsource.sonarlint.core.commons.progress.ExecutorServiceShutdownWatchable;
+import org.sonarsource.sonarlint.core.fs.ClientFileSystemService;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.file.DidUpdateFileSystemParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.ClientFileDto;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileRpcServiceDelegateTests {
+
+  private final ExecutorService lanesExecutor = Executors.newCachedThreadPool();
+  private final ClientFileSystemService clientFileSystemService = mock(ClientFileSystemService.class);
+  private FileRpcServiceDelegate underTest;
+
+  @BeforeEach
+  void prepare() {
+    var applicationContext = mock(ConfigurableApplicationContext.class);
+    when(applicationContext.getBean(ClientFileSystemService.class)).thenReturn(clientFileSystemService);
+    var server = mock(SonarLintRpcServerImpl.class);
+    when(server.getInitializedApplicationContext()).thenReturn(applicationContext);
+    when(server.getRequestsExecutor()).thenReturn(new ExecutorServiceShutdownWatchable<>(Executors.newCachedThreadPool()));
+    when(server.getRequestAndNotificationsLanes()).thenReturn(new RpcExecutionLanes(lanesExecutor));
+    when(server.getLogOutput()).thenReturn(mock(RpcClientLogOutput.class));
+    underTest = new FileRpcServiceDelegate(server);
+  }
+
+  @AfterEach
+  void shutdown() {
+    lanesExecutor.shutdownNow();
+  }
+
+  @Test
+  void should_process_file_system_updates_of_different_configuration_scopes_concurrently() {
+    var blocker = new CountDownLatch(1);
+    var slowScopeParams = updateOf("slowScope");
+    var otherScopeParams = updateOf("otherScope");
+    doAnswer(invocation -> blocker.await(5, TimeUnit.SECONDS)).when(clientFileSystemService).didUpdateFileSystem(slowScopeParams);
+
+    underTest.didUpdateFileSystem(slowScopeParams);
+    underTest.didUpdateFileSystem(otherScopeParams);
+
+    verify(clientFileSystemService, timeout(5000)).didUpdateFileSystem(otherScopeParams);
+    assertThat(blocker.getCount()).isEqualTo(1);
+    blocker.countDown();
+  }
+
+  @Test
+  void should_order_file_system_updates_touching_several_configuration_scopes_with_all_others() {
+    var blocker = new CountDownLatch(1);
+    var slowScopeParams = updateOf("slowScope");
+    var sharedParams = new DidUpdateFileSystemParams(List.of(fileOf("scope1"), fileOf("scope2")), List.of(), List.of());
+    doAnswer(invocation -> blocker.await(5, TimeUnit.SECONDS)).when(clientFileSystemService).didUpdateFileSystem(slowScopeParams);
+
+    underTest.didUpdateFileSystem(slowScopeParams);
+    underTest.didUpdateFileSystem(sharedParams);
+
+    verify(clientFileSystemService, timeout(5000)).didUpdateFileSystem(slowScopeParams);
+    verify(clientFileSystemService, never()).didUpdateFileSystem(sharedParams);
+    blocker.countDown();
+    verify(clientFileSystemService, timeout(5000)).didUpdateFileSystem(sharedParams);
+  }
+
+  private static DidUpdateFileSystemParams updateOf(String configScopeId) {
+    return new DidUpdateFileSystemParams(List.of(fileOf(configScopeId)), List.of(), List.of());
+  }
+
+  private static ClientFileDto fileOf(String configScopeId) {
+    var uri = URI.create("file:///" + configScopeId + "/Foo.java");
+    return new ClientFileDto(uri, Path.of("Foo.java"), configScopeId, false, null, null, null, null, true);
+  }
+}
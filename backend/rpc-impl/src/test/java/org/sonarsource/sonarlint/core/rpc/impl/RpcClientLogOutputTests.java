@@ -0,0 +1,146 @@
+/*
+ * SonarLint Core - RPC Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.impl;
+
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.sonarsource.sonarlint.core.commons.log.LogOutput.Level;
+import org.sonarsource.sonarlint.core.rpc.protocol.SonarLintRpcClient;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogBatchParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogLevel;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogParams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class RpcClientLogOutputTests {
+
+  private final SonarLintRpcClient client = mock(SonarLintRpcClient.class);
+  private RpcClientLogOutput logOutput;
+
+  @AfterEach
+  void tearDown() {
+    logOutput.flushAndStop();
+  }
+
+  @Test
+  void should_forward_logs_one_by_one_when_batches_are_not_supported() {
+    logOutput = new RpcClientLogOutput(client);
+    logOutput.setConfigScopeId("configScope");
+
+    logOutput.log("message", Level.INFO, null);
+
+    var captor = ArgumentCaptor.forClass(LogParams.class);
+    verify(client, timeout(1000)).log(captor.capture());
+    assertThat(captor.getValue().getMessage()).isEqualTo("message");
+    assertThat(captor.getValue().getConfigScopeId()).isEqualTo("configScope");
+    verify(client, never()).logBatch(any());
+  }
+
+  @Test
+  void should_forward_logs_in_batches_when_supported() {
+    logOutput = new RpcClientLogOutput(client);
+    logOutput.setBatchesSupported(true);
+
+    logOutput.log("message1", Level.INFO, null);
+    logOutput.log("message2", Level.DEBUG, null);
+
+    var captor = ArgumentCaptor.forClass(LogBatchParams.class);
+    verify(client, timeout(1000).atLeastOnce()).logBatch(captor.capture());
+    assertThat(captor.getAllValues().stream().flatMap(batch -> batch.getLogs().stream()))
+      .extracting(LogParams::getMessage)
+      .containsExactly("message1", "message2");
+    verify(client, never()).log(any());
+  }
+
+  @Test
+  void should_drop_logs_when_the_buffer_is_full_and_report_it() throws InterruptedException {
+    var forwarding = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      forwarding.countDown();
+      release.await();
+      return null;
+    }).when(client).logBatch(any());
+    logOutput = new RpcClientLogOutput(client, 2);
+    logOutput.setBatchesSupported(true);
+
+    logOutput.log("blocked", Level.INFO, null);
+    forwarding.await();
+    logOutput.log("buffered1", Level.INFO, null);
+    logOutput.log("buffered2", Level.INFO, null);
+    logOutput.log("dropped", Level.INFO, null);
+    release.countDown();
+
+    assertThat(logOutput.getDropCount()).isEqualTo(1);
+    var captor = ArgumentCaptor.forClass(LogBatchParams.class);
+    verify(client, timeout(1000).times(2)).logBatch(captor.capture());
+    var secondBatch = captor.getAllValues().get(1).getLogs();
+    assertThat(secondBatch).extracting(LogParams::getMessage)
+      .containsExactly("buffered1", "buffered2", "1 log messages were dropped because the client could not keep up");
+    assertThat(secondBatch.get(2).getLevel()).isEqualTo(LogLevel.WARN);
+  }
+
+  @Test
+  void should_count_the_dropped_logs_warning_in_the_batch_size() throws InterruptedException {
+    var forwarding = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      forwarding.countDown();
+      release.await();
+      return null;
+    }).when(client).logBatch(any());
+    logOutput = new RpcClientLogOutput(client, 600);
+    logOutput.setBatchesSupported(true);
+
+    logOutput.log("blocked", Level.INFO, null);
+    forwarding.await();
+    for (var i = 0; i < 601; i++) {
+      logOutput.log("buffered" + i, Level.INFO, null);
+    }
+    release.countDown();
+
+    var captor = ArgumentCaptor.forClass(LogBatchParams.class);
+    verify(client, timeout(1000).times(3)).logBatch(captor.capture());
+    var batches = captor.getAllValues();
+    assertThat(batches.get(1).getLogs()).hasSize(500);
+    assertThat(batches.get(1).getLogs().get(499).getMessage()).isEqualTo("1 log messages were dropped because the client could not keep up");
+    assertThat(batches.get(2).getLogs()).hasSize(101);
+  }
+
+  @Test
+  void should_send_logs_directly_once_stopped() {
+    logOutput = new RpcClientLogOutput(client);
+
+    logOutput.flushAndStop();
+    logOutput.log("after stop", Level.INFO, null);
+
+    var captor = ArgumentCaptor.forClass(LogParams.class);
+    verify(client).log(captor.capture());
+    assertThat(captor.getValue().getMessage()).isEqualTo("after stop");
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * SonarLint Core - RPC Implementation
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RpcExecutionLanesTests {
+
+  private final ExecutorService executorService = Executors.newCachedThreadPool();
+  private final RpcExecutionLanes lanes = new RpcExecutionLanes(executorService);
+
+  @AfterEach
+  void shutdown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void should_keep_ordering_within_a_configuration_scope() {
+    var executed = new CopyOnWriteArrayList<Integer>();
+    var blocker = new CountDownLatch(1);
+    lanes.submit("scope", () -> await(blocker));
+    for (var i = 0; i < 10; i++) {
+      var index = i;
+      lanes.submit("scope", () -> executed.add(index));
+    }
+    blocker.countDown();
+
+    assertThat(lanes.submit("scope", () -> {
+    })).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(executed).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+
+  @Test
+  void should_not_block_other_configuration_scopes() {
+    var blocker = new CountDownLatch(1);
+    var blockedTask = lanes.submit("slowScope", () -> await(blocker));
+
+    assertThat(lanes.submit("otherScope", () -> {
+    })).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(blockedTask).isNotDone();
+
+    blocker.countDown();
+    assertThat(blockedTask).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void should_order_messages_without_configuration_scope_with_all_others() {
+    var executed = new CopyOnWriteArrayList<String>();
+    var blocker = new CountDownLatch(1);
+    lanes.submit("scope1", () -> {
+      await(blocker);
+      executed.add("scope1-before");
+    });
+    lanes.submit(null, () -> executed.add("global"));
+    var last = lanes.submit("scope2", () -> executed.add("scope2-after"));
+
+    blocker.countDown();
+
+    assertThat(last).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(executed).containsExactly("scope1-before", "global", "scope2-after");
+  }
+
+  @Test
+  void should_continue_after_a_failure() {
+    lanes.submit("scope", () -> {
+      throw new IllegalStateException("boom");
+    });
+
+    assertThat(lanes.submit("scope", () -> {
+    })).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void should_expose_statistics_per_lane() {
+    var blocker = new CountDownLatch(1);
+    lanes.submit("scope", () -> await(blocker));
+    lanes.submit("scope", () -> {
+    });
+
+    assertThat(lanes.getStatistics().get("scope").queueDepth()).isEqualTo(2);
+
+    blocker.countDown();
+    assertThat(lanes.submit(null, () -> {
+    })).succeedsWithin(Duration.ofSeconds(5));
+
+    var statistics = lanes.getStatistics();
+    assertThat(statistics.get("scope").queueDepth()).isZero();
+    assertThat(statistics.get("scope").executedCount()).isEqualTo(2);
+    assertThat(statistics.get(RpcExecutionLanes.GLOBAL_LANE).executedCount()).isEqualTo(1);
+    assertThat(statistics.keySet()).containsExactlyInAnyOrderElementsOf(List.of("scope", RpcExecutionLanes.GLOBAL_LANE));
+  }
+
+  @Test
+  void should_forget_lane_of_removed_configuration_scope_once_idle() {
+    var blocker = new CountDownLatch(1);
+    lanes.submit("scope", () -> await(blocker));
+
+    lanes.removeLane("scope");
+    assertThat(lanes.getStatistics()).containsKey("scope");
+
+    blocker.countDown();
+    assertThat(lanes.submit(null, () -> {
+    })).succeedsWithin(Duration.ofSeconds(5));
+    lanes.removeLane("scope");
+    assertThat(lanes.getStatistics()).containsOnlyKeys(RpcExecutionLanes.GLOBAL_LANE);
+  }
+
+  @Test
+  void should_let_later_messages_of_a_scope_wait_for_a_global_message() {
+    var executed = new CopyOnWriteArrayList<String>();
+    var blocker = new CountDownLatch(1);
+    lanes.submit("scope", () -> executed.add("scope-before"));
+    lanes.submit(null, () -> {
+      await(blocker);
+      executed.add("global");
+    });
+    var last = lanes.submit("scope", () -> executed.add("scope-after"));
+
+    blocker.countDown();
+
+    assertThat(last).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(executed).containsExactly("scope-before", "global", "scope-after");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.api.server.rule.RulesDefinition;
 import org.sonar.api.server.rule.RulesDefinition.Param;
@@ -104,6 +105,37 @@ public class SonarLintRuleDefinition {
     this.internalKey = Optional.ofNullable(rule.internalKey());
   }
 
+  /**
+   * Restores a rule definition previously extracted from a plugin, e.g. from a cache
+   */
+  public SonarLintRuleDefinition(String key, String name, IssueSeverity defaultSeverity, RuleType type, CleanCodeAttribute cleanCodeAttribute,
+    Map<SoftwareQuality, ImpactSeverity> defaultImpacts, @Nullable String description, List<SonarLintRuleDescriptionSection> descriptionSections,
+    Map<String, SonarLintRuleParamDefinition> params, boolean isActiveByDefault, SonarLanguage language, String[] tags, Set<String> deprecatedKeys,
+    Set<String> educationPrincipleKeys, Optional<String> internalKey, Optional<VulnerabilityProbability> vulnerabilityProbability) {
+    this.key = key;
+    this.name = name;
+    this.defaultSeverity = defaultSeverity;
+    this.type = type;
+    this.cleanCodeAttribute = cleanCodeAttribute;
+    this.defaultImpacts = defaultImpacts;
+    this.description = description;
+    this.descriptionSections = descriptionSections;
+    this.params = Collections.unmodifiableMap(params);
+    params.forEach((paramKey, param) -> {
+      var defaultValue = param.defaultValue();
+      if (defaultValue != null) {
+        defaultParams.put(paramKey, defaultValue);
+      }
+    });
+    this.isActiveByDefault = isActiveByDefault;
+    this.language = language;
+    this.tags = tags;
+    this.deprecatedKeys = deprecatedKeys;
+    this.educationPrincipleKeys = educationPrincipleKeys;
+    this.internalKey = internalKey;
+    this.vulnerabilityProbability = vulnerabilityProbability;
+  }
+
   public String getKey() {
     return key;
   }
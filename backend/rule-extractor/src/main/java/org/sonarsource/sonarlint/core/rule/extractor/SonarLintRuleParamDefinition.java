@@ -22,6 +22,7 @@ package org.sonarsource.sonarlint.core.rule.extractor;
 import java.util.Collections;
 import java.util.List;
 import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
 import org.sonar.api.server.rule.RuleParamType;
 import org.sonar.api.server.rule.RulesDefinition.Param;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
@@ -49,6 +50,17 @@ public class SonarLintRuleParamDefinition {
     this.possibleValues = Collections.unmodifiableList(apiType.values());
   }
 
+  public SonarLintRuleParamDefinition(String key, String name, @Nullable String description, @Nullable String defaultValue, SonarLintRuleParamType type,
+    boolean multiple, List<String> possibleValues) {
+    this.key = key;
+    this.name = name;
+    this.description = description;
+    this.defaultValue = defaultValue;
+    this.type = type;
+    this.multiple = multiple;
+    this.possibleValues = Collections.unmodifiableList(possibleValues);
+  }
+
   private static SonarLintRuleParamType from(RuleParamType apiType) {
     try {
       return SonarLintRuleParamType.valueOf(apiType.type());
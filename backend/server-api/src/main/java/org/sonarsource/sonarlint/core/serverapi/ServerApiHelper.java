@@ -34,10 +34,13 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -74,9 +77,14 @@ public class ServerApiHelper {
   public static final int PAGE_SIZE = 500;
   public static final int MAX_PAGES = 20;
   public static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final int DEFAULT_PAGINATION_PREFETCH_WINDOW = 4;
+  private static final int MAX_TOO_MANY_REQUESTS_RETRIES = 3;
+  private static final Duration DEFAULT_TOO_MANY_REQUESTS_BACKOFF = Duration.ofSeconds(1);
 
   private final HttpClient client;
   private final EndpointParams endpointParams;
+  private final int paginationPrefetchWindow;
+  private final Duration tooManyRequestsBackoff;
   // avoid Gson replacing characters like < > or = with Unicode representation
   private static final Gson gson = new GsonBuilder()
     .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeDeserializer())
@@ -84,8 +92,24 @@ public class ServerApiHelper {
     .create();
 
   public ServerApiHelper(EndpointParams endpointParams, HttpClient client) {
+    this(endpointParams, client, Integer.getInteger("sonarlint.http.pagination.prefetch", DEFAULT_PAGINATION_PREFETCH_WINDOW));
+  }
+
+  /**
+   * @param paginationPrefetchWindow maximum number of pages requested concurrently when the paging total is known, 1 to fetch pages one by one
+   */
+  ServerApiHelper(EndpointParams endpointParams, HttpClient client, int paginationPrefetchWindow) {
+    this(endpointParams, client, paginationPrefetchWindow, DEFAULT_TOO_MANY_REQUESTS_BACKOFF);
+  }
+
+  /**
+   * @param tooManyRequestsBackoff delay before retrying a prefetched page rejected with a 429, doubled on each retry of the same page
+   */
+  ServerApiHelper(EndpointParams endpointParams, HttpClient client, int paginationPrefetchWindow, Duration tooManyRequestsBackoff) {
     this.endpointParams = endpointParams;
     this.client = client;
+    this.paginationPrefetchWindow = Math.max(1, paginationPrefetchWindow);
+    this.tooManyRequestsBackoff = tooManyRequestsBackoff;
   }
 
   public boolean isSonarCloud() {
@@ -195,6 +219,10 @@ public class ServerApiHelper {
   private static HttpClient.Response processResponse(String method, SonarLintCancelMonitor cancelMonitor, CompletableFuture<HttpClient.Response> httpFuture,
     Instant startTime, String url) {
     cancelMonitor.onCancel(() -> httpFuture.cancel(true));
+    return awaitResponse(method, httpFuture, startTime, url);
+  }
+
+  private static HttpClient.Response awaitResponse(String method, CompletableFuture<HttpClient.Response> httpFuture, Instant startTime, String url) {
     try {
       var response = httpFuture.join();
       logTime(method, startTime, url, response.code());
@@ -322,17 +350,105 @@ public class ServerApiHelper {
     var loaded = new AtomicInteger(0);
     do {
       page.incrementAndGet();
-      var fullUrl = baseUrl + (baseUrl.contains("?") ? "&" : "?") +
-        pageSizeFieldName + "=" + PAGE_SIZE + "&" + pageFieldName + "=" + page;
-      ServerApiHelper.consumeTimed(
+      var fullUrl = pageUrl(baseUrl, pageFieldName, pageSizeFieldName, page.get());
+      long pagingTotal = ServerApiHelper.processTimed(
         () -> rawGetUrl(fullUrl, cancelChecker),
         response -> processPage(baseUrl, responseParser, getPagingTotal, itemExtractor, itemConsumer, limitToTwentyPages, page, stop, loaded,
           response),
         duration -> LOG.debug("Page downloaded in {}ms", duration));
+      if (page.get() == 1 && pagingTotal > 0 && paginationPrefetchWindow > 1 && !stop.get() && !cancelChecker.isCanceled()) {
+        getRemainingPagesConcurrently(baseUrl, responseParser, getPagingTotal, itemExtractor, itemConsumer, limitToTwentyPages, cancelChecker, pageFieldName,
+          pageSizeFieldName, pagingTotal, page, stop, loaded);
+        return;
+      }
     } while (!stop.get() && !cancelChecker.isCanceled());
   }
 
-  private static <F, G> void processPage(String baseUrl, CheckedFunction<InputStream, G> responseParser, Function<G, Number> getPagingTotal, Function<G, List<F>> itemExtractor,
+  /**
+   * Once the paging total is known, the next pages are requested ahead of time, with at most {@link #paginationPrefetchWindow} requests in
+   * flight. Pages are still processed in order. When the server answers with a 429, the prefetching stops and the rejected page is requested
+   * again after a growing delay, at most {@link #MAX_TOO_MANY_REQUESTS_RETRIES} times.
+   */
+  private <G, F> void getRemainingPagesConcurrently(String baseUrl, CheckedFunction<InputStream, G> responseParser, Function<G, Number> getPagingTotal,
+    Function<G, List<F>> itemExtractor, Consumer<F> itemConsumer, boolean limitToTwentyPages, SonarLintCancelMonitor cancelChecker, String pageFieldName,
+    String pageSizeFieldName, long pagingTotal, AtomicInteger page, AtomicBoolean stop, AtomicInteger loaded) {
+    var lastPage = (pagingTotal + PAGE_SIZE - 1) / PAGE_SIZE;
+    if (limitToTwentyPages) {
+      lastPage = Math.min(lastPage, MAX_PAGES);
+    }
+    var prefetchWindow = paginationPrefetchWindow;
+    var retries = 0;
+    var nextPageToRequest = page.get() + 1;
+    Deque<PendingPage> pendingPages = new ArrayDeque<>();
+    try {
+      do {
+        while (pendingPages.size() < prefetchWindow && nextPageToRequest <= lastPage) {
+          pendingPages.add(requestPage(pageUrl(baseUrl, pageFieldName, pageSizeFieldName, nextPageToRequest), nextPageToRequest, cancelChecker));
+          nextPageToRequest++;
+        }
+        var pendingPage = pendingPages.poll();
+        if (pendingPage == null) {
+          return;
+        }
+        var startTime = Instant.now();
+        var pageResponse = awaitResponse("GET", pendingPage.response(), pendingPage.startTime(), pendingPage.url());
+        if (pageResponse.code() == HTTP_TOO_MANY_REQUESTS && retries < MAX_TOO_MANY_REQUESTS_RETRIES) {
+          pageResponse.close();
+          pendingPages.forEach(PendingPage::discard);
+          pendingPages.clear();
+          prefetchWindow = 1;
+          nextPageToRequest = pendingPage.pageNumber();
+          backOff(tooManyRequestsBackoff.multipliedBy(1L << retries), cancelChecker);
+          retries++;
+          continue;
+        }
+        retries = 0;
+        page.incrementAndGet();
+        try (var response = pageResponse) {
+          processPage(baseUrl, responseParser, getPagingTotal, itemExtractor, itemConsumer, limitToTwentyPages, page, stop, loaded, response);
+        } catch (IOException e) {
+          throw new IllegalStateException("Unable to parse WS response: " + e.getMessage(), e);
+        }
+        LOG.debug("Page downloaded in {}ms", Duration.between(startTime, Instant.now()).toMillis());
+      } while (!stop.get() && !cancelChecker.isCanceled());
+    } finally {
+      pendingPages.forEach(PendingPage::discard);
+    }
+  }
+
+  private static String pageUrl(String baseUrl, String pageFieldName, String pageSizeFieldName, int page) {
+    return baseUrl + (baseUrl.contains("?") ? "&" : "?") +
+      pageSizeFieldName + "=" + PAGE_SIZE + "&" + pageFieldName + "=" + page;
+  }
+
+  /**
+   * The cancel hook is registered as soon as the request is sent, so that canceling aborts all the requests in flight
+   */
+  private PendingPage requestPage(String url, int pageNumber, SonarLintCancelMonitor cancelChecker) {
+    var response = client.getAsync(url);
+    cancelChecker.onCancel(() -> response.cancel(true));
+    return new PendingPage(url, pageNumber, Instant.now(), response);
+  }
+
+  private static void backOff(Duration delay, SonarLintCancelMonitor cancelChecker) {
+    LOG.debug("Too many requests, retrying in {}ms", delay.toMillis());
+    var delayElapsed = new CompletableFuture<Void>();
+    cancelChecker.onCancel(() -> delayElapsed.complete(null));
+    delayElapsed.completeOnTimeout(null, delay.toMillis(), TimeUnit.MILLISECONDS).join();
+  }
+
+  private record PendingPage(String url, int pageNumber, Instant startTime, CompletableFuture<HttpClient.Response> response) {
+    private void discard() {
+      response.cancel(true);
+      // the response might have been received already
+      response.thenAccept(HttpClient.Response::close);
+    }
+  }
+
+  /**
+   * @return the paging total of the page
+   */
+  private static <F, G> long processPage(String baseUrl, CheckedFunction<InputStream, G> responseParser, Function<G, Number> getPagingTotal, Function<G, List<F>> itemExtractor,
     Consumer<F> itemConsumer, boolean limitToTwentyPages, AtomicInteger page, AtomicBoolean stop, AtomicInteger loaded,
     HttpClient.Response response)
     throws IOException {
@@ -357,6 +473,7 @@ public class ServerApiHelper {
       stop.set(true);
       LOG.debug("Limiting number of requested pages from '{}' to {}. Some of the data won't be fetched", baseUrl, MAX_PAGES);
     }
+    return pagingTotal;
   }
 
   public HttpClient.AsyncRequest getEventStream(String path, HttpConnectionListener connectionListener, Consumer<String> messageConsumer) {
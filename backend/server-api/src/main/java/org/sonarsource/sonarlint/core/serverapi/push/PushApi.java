@@ -59,7 +59,16 @@ public class PushApi {
   }
 
   public EventStream subscribe(Set<String> projectKeys, Set<SonarLanguage> enabledLanguages, Consumer<SonarServerEvent> serverEventConsumer) {
+    return subscribe(projectKeys, enabledLanguages, serverEventConsumer, () -> {
+    });
+  }
+
+  /**
+   * @param onConnected called once the stream is connected for the first time, from then on no event is missed
+   */
+  public EventStream subscribe(Set<String> projectKeys, Set<SonarLanguage> enabledLanguages, Consumer<SonarServerEvent> serverEventConsumer, Runnable onConnected) {
     return new EventStream(helper, rawEvent -> handleRawEvent(rawEvent, serverEventConsumer))
+      .onFirstConnection(onConnected)
       .connect(getWsPath(projectKeys, enabledLanguages));
   }
 
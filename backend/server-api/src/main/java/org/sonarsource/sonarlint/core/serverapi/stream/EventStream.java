@@ -47,6 +47,7 @@ public class EventStream {
   private final AtomicReference<HttpClient.AsyncRequest> currentRequest = new AtomicReference<>();
   private final AtomicReference<ScheduledFuture<?>> pendingFuture = new AtomicReference<>();
   private final Consumer<Event> eventConsumer;
+  private final AtomicReference<Runnable> firstConnectionListener = new AtomicReference<>();
 
   public EventStream(ServerApiHelper helper, Consumer<Event> eventConsumer) {
     this(helper, eventConsumer, FailSafeExecutors.newSingleThreadScheduledExecutor("sonarlint-event-stream-consumer"));
@@ -58,6 +59,14 @@ public class EventStream {
     this.executor = executor;
   }
 
+  /**
+   * @param listener called once, when the stream is connected for the first time
+   */
+  public EventStream onFirstConnection(Runnable listener) {
+    firstConnectionListener.set(listener);
+    return this;
+  }
+
   public EventStream connect(String wsPath) {
     return connect(wsPath, new Attempt());
   }
@@ -71,6 +80,10 @@ public class EventStream {
         public void onConnected() {
           LOG.debug("Connected to server event-stream");
           schedule(() -> connect(wsPath), HEART_BEAT_PERIOD * 3);
+          var listener = firstConnectionListener.getAndSet(null);
+          if (listener != null) {
+            listener.run();
+          }
         }
 
         @Override
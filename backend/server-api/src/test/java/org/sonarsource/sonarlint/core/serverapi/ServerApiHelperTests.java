@@ -19,11 +19,23 @@
  */
 package org.sonarsource.sonarlint.core.serverapi;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import mockwebserver3.MockResponse;
+import okhttp3.Headers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+import org.sonarsource.sonarlint.core.commons.progress.SonarLintCancelMonitor;
 import org.sonarsource.sonarlint.core.http.HttpClient;
+import org.sonarsource.sonarlint.core.http.HttpClientProvider;
 import org.sonarsource.sonarlint.core.serverapi.exception.ForbiddenException;
 import org.sonarsource.sonarlint.core.serverapi.exception.NotFoundException;
 import org.sonarsource.sonarlint.core.serverapi.exception.ServerErrorException;
@@ -32,6 +44,7 @@ import org.sonarsource.sonarlint.core.serverapi.exception.UnauthorizedException;
 import org.sonarsource.sonarlint.core.serverapi.exception.UnexpectedServerResponseException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +53,9 @@ class ServerApiHelperTests {
   @RegisterExtension
   private static final SonarLintLogTester logTester = new SonarLintLogTester();
 
+  @RegisterExtension
+  static MockWebServerExtensionWithProtobuf mockServer = new MockWebServerExtensionWithProtobuf();
+
   @Test
   void concat_should_handle_base_url_with_trailing_slash() {
     var result = ServerApiHelper.concat("http://localhost:9000/", "/api/test");
@@ -168,4 +184,99 @@ class ServerApiHelperTests {
       .hasMessageContaining("Error 400 on http://localhost:9000/api/test");
   }
 
-} 
+  @Test
+  void getPaginated_should_prefetch_pages_and_consume_items_in_order() {
+    addPages(5, 2100);
+    var items = new ArrayList<String>();
+
+    serverApiHelper(3).getPaginated("/api/items", ServerApiHelperTests::parsePage, FakePage::total, FakePage::items, items::add, false, new SonarLintCancelMonitor());
+
+    assertThat(items).containsExactly("1a", "1b", "2a", "2b", "3a", "3b", "4a", "4b", "5a", "5b");
+    assertThat(mockServer.getRequestCount()).isEqualTo(5);
+  }
+
+  @Test
+  void getPaginated_should_fetch_pages_one_by_one_when_prefetch_is_disabled() {
+    addPages(3, 1200);
+    var items = new ArrayList<String>();
+
+    serverApiHelper(1).getPaginated("/api/items", ServerApiHelperTests::parsePage, FakePage::total, FakePage::items, items::add, false, new SonarLintCancelMonitor());
+
+    assertThat(items).containsExactly("1a", "1b", "2a", "2b", "3a", "3b");
+    assertThat(mockServer.getRequestCount()).isEqualTo(3);
+  }
+
+  @Test
+  void getPaginated_should_not_prefetch_more_than_twenty_pages_when_limited() {
+    addPages(25, 25 * 500);
+    var items = new ArrayList<String>();
+
+    serverApiHelper(4).getPaginated("/api/items", ServerApiHelperTests::parsePage, FakePage::total, FakePage::items, items::add, true, new SonarLintCancelMonitor());
+
+    assertThat(items).hasSize(40).endsWith("20a", "20b");
+    assertThat(mockServer.getRequestCount()).isEqualTo(20);
+  }
+
+  @Test
+  void getPaginated_should_iterate_until_empty_page_when_paging_total_is_missing() {
+    mockServer.addStringResponse("/api/items?ps=500&p=1", "0|a");
+    mockServer.addStringResponse("/api/items?ps=500&p=2", "0|b");
+    mockServer.addStringResponse("/api/items?ps=500&p=3", "0|");
+    var items = new ArrayList<String>();
+
+    serverApiHelper(4).getPaginated("/api/items", ServerApiHelperTests::parsePage, FakePage::total, FakePage::items, items::add, false, new SonarLintCancelMonitor());
+
+    assertThat(items).containsExactly("a", "b");
+    assertThat(mockServer.getRequestCount()).isEqualTo(3);
+  }
+
+  @Test
+  void getPaginated_should_stop_prefetching_when_canceled() {
+    addPages(10, 5000);
+    var items = new ArrayList<String>();
+    var cancelMonitor = new SonarLintCancelMonitor();
+
+    serverApiHelper(4).getPaginated("/api/items", ServerApiHelperTests::parsePage, FakePage::total, FakePage::items, item -> {
+      items.add(item);
+      if (item.equals("2b")) {
+        cancelMonitor.cancel();
+      }
+    }, false, cancelMonitor);
+
+    assertThat(items).containsExactly("1a", "1b", "2a", "2b");
+    assertThat(mockServer.getRequestCount()).isLessThanOrEqualTo(5);
+  }
+
+  @Test
+  void getPaginated_should_stop_prefetching_and_retry_page_rejected_with_too_many_requests() {
+    addPages(5, 2500);
+    mockServer.addResponse("/api/items?ps=500&p=3", new MockResponse(ServerApiHelper.HTTP_TOO_MANY_REQUESTS, Headers.EMPTY, ""));
+    var items = new ArrayList<String>();
+    var helper = new ServerApiHelper(mockServer.endpointParams(), HttpClientProvider.forTesting().getHttpClientWithoutAuth(), 4, Duration.ofMillis(1));
+    var cancelMonitor = new SonarLintCancelMonitor();
+
+    assertThatThrownBy(() -> helper.getPaginated("/api/items", ServerApiHelperTests::parsePage, FakePage::total, FakePage::items, items::add, false, cancelMonitor))
+      .isInstanceOf(TooManyRequestsException.class);
+
+    assertThat(items).containsExactly("1a", "1b", "2a", "2b");
+    assertThat(logTester.logs()).filteredOn(log -> log.startsWith("GET 429") && log.contains("p=3")).hasSize(4);
+    assertThat(logTester.logs()).contains("Too many requests, retrying in 1ms", "Too many requests, retrying in 2ms", "Too many requests, retrying in 4ms");
+  }
+
+  private static void addPages(int pageCount, int total) {
+    IntStream.rangeClosed(1, pageCount).forEach(page -> mockServer.addStringResponse("/api/items?ps=500&p=" + page, total + "|" + page + "a," + page + "b"));
+  }
+
+  private static ServerApiHelper serverApiHelper(int prefetchWindow) {
+    return new ServerApiHelper(mockServer.endpointParams(), HttpClientProvider.forTesting().getHttpClientWithoutAuth(), prefetchWindow);
+  }
+
+  private static FakePage parsePage(InputStream body) throws IOException {
+    var content = new String(body.readAllBytes(), StandardCharsets.UTF_8).split("\\|", -1);
+    var items = Stream.of(content[1].split(",")).filter(item -> !item.isEmpty()).toList();
+    return new FakePage(Long.parseLong(content[0]), items);
+  }
+
+  private record FakePage(long total, List<String> items) {
+  }
+}
@@ -21,10 +21,10 @@ package org.sonarsource.sonarlint.core.serverconnection;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Map;
+import java.util.HashMap;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.sonarsource.sonarlint.core.commons.IssueSeverity;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 import org.sonarsource.sonarlint.core.serverapi.push.parsing.common.ImpactPayload;
@@ -40,9 +40,19 @@ public class AnalyzerConfigurationStorage {
   private static final SonarLintLogger LOG = SonarLintLogger.get();
   private final RWLock rwLock = new RWLock();
   private final Path storageFilePath;
+  @Nullable
+  private final QualityProfileRuleSetStorage qualityProfileRuleSetStorage;
 
   public AnalyzerConfigurationStorage(Path projectStorageRoot) {
+    this(projectStorageRoot, null);
+  }
+
+  /**
+   * @param qualityProfileRuleSetStorage when not null, the rule sets of quality profiles are stored as references to this storage
+   */
+  public AnalyzerConfigurationStorage(Path projectStorageRoot, @Nullable QualityProfileRuleSetStorage qualityProfileRuleSetStorage) {
     this.storageFilePath = projectStorageRoot.resolve("analyzer_config.pb");
+    this.qualityProfileRuleSetStorage = qualityProfileRuleSetStorage;
   }
 
   public boolean isValid() {
@@ -93,26 +103,35 @@ public class AnalyzerConfigurationStorage {
     return ProtobufFileUtil.readFile(projectFilePath, Sonarlint.AnalyzerConfiguration.parser());
   }
 
-  private static AnalyzerConfiguration adapt(Sonarlint.AnalyzerConfiguration analyzerConfiguration) {
-    return new AnalyzerConfiguration(
-      analyzerConfiguration.getSettingsMap(),
-      analyzerConfiguration.getRuleSetsByLanguageKeyMap().entrySet().stream().collect(Collectors.toMap(
-        Map.Entry::getKey,
-        e -> adapt(e.getValue()))),
-      analyzerConfiguration.getSchemaVersion());
+  private AnalyzerConfiguration adapt(Sonarlint.AnalyzerConfiguration analyzerConfiguration) {
+    var ruleSetByLanguageKey = new HashMap<String, RuleSet>();
+    analyzerConfiguration.getRuleSetsByLanguageKeyMap().forEach((languageKey, ruleSet) -> ruleSetByLanguageKey.put(languageKey, adapt(null, ruleSet)));
+    if (qualityProfileRuleSetStorage != null) {
+      // a missing shared rule set is like a missing language, it will be downloaded again on next synchronization
+      analyzerConfiguration.getProfileKeyByLanguageKeyMap().forEach((languageKey, profileKey) -> qualityProfileRuleSetStorage.read(profileKey)
+        .ifPresent(sharedRuleSet -> ruleSetByLanguageKey.put(languageKey, sharedRuleSet)));
+    }
+    return new AnalyzerConfiguration(analyzerConfiguration.getSettingsMap(), ruleSetByLanguageKey, analyzerConfiguration.getSchemaVersion());
   }
 
-  private static Sonarlint.AnalyzerConfiguration adapt(AnalyzerConfiguration analyzerConfiguration) {
-    return Sonarlint.AnalyzerConfiguration.newBuilder()
+  private Sonarlint.AnalyzerConfiguration adapt(AnalyzerConfiguration analyzerConfiguration) {
+    var builder = Sonarlint.AnalyzerConfiguration.newBuilder()
       .setSchemaVersion(analyzerConfiguration.getSchemaVersion())
-      .putAllSettings(analyzerConfiguration.getSettings())
-      .putAllRuleSetsByLanguageKey(analyzerConfiguration.getRuleSetByLanguageKey().entrySet().stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, e -> adapt(e.getValue()))))
-      .build();
+      .putAllSettings(analyzerConfiguration.getSettings());
+    analyzerConfiguration.getRuleSetByLanguageKey().forEach((languageKey, ruleSet) -> {
+      var profileKey = ruleSet.getProfileKey();
+      if (profileKey != null && qualityProfileRuleSetStorage != null) {
+        builder.putProfileKeyByLanguageKey(languageKey, profileKey);
+      } else {
+        builder.putRuleSetsByLanguageKey(languageKey, adapt(ruleSet));
+      }
+    });
+    return builder.build();
   }
 
-  private static RuleSet adapt(Sonarlint.RuleSet ruleSet) {
+  static RuleSet adapt(@Nullable String profileKey, Sonarlint.RuleSet ruleSet) {
     return new RuleSet(
+      profileKey,
       ruleSet.getRuleList().stream().map(AnalyzerConfigurationStorage::adapt).toList(),
       ruleSet.getLastModified());
   }
@@ -128,7 +147,7 @@ public class AnalyzerConfigurationStorage {
         .toList());
   }
 
-  private static Sonarlint.RuleSet adapt(RuleSet ruleSet) {
+  static Sonarlint.RuleSet adapt(RuleSet ruleSet) {
     return Sonarlint.RuleSet.newBuilder()
       .setLastModified(ruleSet.getLastModified())
       .addAllRule(ruleSet.getRules().stream().map(AnalyzerConfigurationStorage::adapt).toList()).build();
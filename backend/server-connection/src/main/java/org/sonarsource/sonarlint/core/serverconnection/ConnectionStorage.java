@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.sonarsource.sonarlint.core.commons.storage.SonarLintDatabase;
 import org.sonarsource.sonarlint.core.serverconnection.storage.OrganizationStorage;
+import org.sonarsource.sonarlint.core.serverconnection.storage.PluginBlobStore;
 import org.sonarsource.sonarlint.core.serverconnection.storage.PluginsStorage;
 import org.sonarsource.sonarlint.core.serverconnection.storage.ServerInfoStorage;
 import org.sonarsource.sonarlint.core.serverconnection.storage.ServerIssueStoresManager;
@@ -41,16 +42,22 @@ public class ConnectionStorage {
   private final OrganizationStorage organizationStorage;
   private final String connectionId;
   private final UserStorage userStorage;
+  private final QualityProfileRuleSetStorage qualityProfileRuleSetStorage;
 
   public ConnectionStorage(Path globalStorageRoot, String connectionId, SonarLintDatabase database) {
+    this(globalStorageRoot, connectionId, database, new PluginBlobStore(globalStorageRoot.resolve(PluginBlobStore.FOLDER_NAME)));
+  }
+
+  public ConnectionStorage(Path globalStorageRoot, String connectionId, SonarLintDatabase database, PluginBlobStore pluginBlobStore) {
     this.connectionId = connectionId;
     this.connectionStorageRoot = globalStorageRoot.resolve(encodeForFs(connectionId));
     this.projectsStorageRoot = connectionStorageRoot.resolve("projects");
     this.serverIssueStoresManager = new ServerIssueStoresManager(connectionId, database);
     this.serverInfoStorage = new ServerInfoStorage(connectionStorageRoot);
-    this.pluginsStorage = new PluginsStorage(connectionStorageRoot);
+    this.pluginsStorage = new PluginsStorage(connectionStorageRoot, connectionId, pluginBlobStore);
     this.organizationStorage = new OrganizationStorage(connectionStorageRoot);
     this.userStorage = new UserStorage(connectionStorageRoot);
+    this.qualityProfileRuleSetStorage = new QualityProfileRuleSetStorage(connectionStorageRoot);
   }
 
   public ServerInfoStorage serverInfo() {
@@ -59,7 +66,7 @@ public class ConnectionStorage {
 
   public SonarProjectStorage project(String sonarProjectKey) {
     return sonarProjectStorageByKey.computeIfAbsent(sonarProjectKey,
-      k -> new SonarProjectStorage(projectsStorageRoot, serverIssueStoresManager, sonarProjectKey));
+      k -> new SonarProjectStorage(projectsStorageRoot, serverIssueStoresManager, sonarProjectKey, qualityProfileRuleSetStorage));
   }
 
   public PluginsStorage plugins() {
@@ -74,11 +81,16 @@ public class ConnectionStorage {
     return userStorage;
   }
 
+  public QualityProfileRuleSetStorage qualityProfileRuleSets() {
+    return qualityProfileRuleSetStorage;
+  }
+
   public String connectionId() {
     return connectionId;
   }
 
   public void delete() {
+    pluginsStorage.releaseAll();
     FileUtils.deleteRecursively(connectionStorageRoot);
     serverIssueStoresManager.delete();
   }
@@ -103,16 +103,24 @@ public class LocalStorageSynchronizer {
     return new AnalyzerConfiguration(projectSettings, ruleSetsByLanguageKey, AnalyzerConfiguration.CURRENT_SCHEMA_VERSION);
   }
 
-  private static RuleSet toRuleSet(ServerApi serverApi, Map<String, RuleSet> currentRuleSets, QualityProfile profile, boolean forceUpdate,
+  private RuleSet toRuleSet(ServerApi serverApi, Map<String, RuleSet> currentRuleSets, QualityProfile profile, boolean forceUpdate,
     SonarLintCancelMonitor cancelMonitor) {
     var language = profile.getLanguage();
     if (forceUpdate ||
       newlySupportedLanguage(currentRuleSets, language) ||
       profileModifiedSinceLastSync(currentRuleSets, profile, language)) {
       var profileKey = profile.getKey();
+      var sharedRuleSet = storage.qualityProfileRuleSets().read(profileKey)
+        .filter(ruleSet -> ruleSet.getLastModified().equals(profile.getRulesUpdatedAt()));
+      if (sharedRuleSet.isPresent()) {
+        LOG.info("[SYNC] Rule set for language '{}' from profile '{}' already synchronized for this connection", language, profileKey);
+        return sharedRuleSet.get();
+      }
       LOG.info("[SYNC] Fetching rule set for language '{}' from profile '{}'", language, profileKey);
       var profileActiveRules = serverApi.rules().getAllActiveRules(profileKey, cancelMonitor);
-      return new RuleSet(profileActiveRules, profile.getRulesUpdatedAt());
+      var ruleSet = new RuleSet(profileKey, profileActiveRules, profile.getRulesUpdatedAt());
+      storage.qualityProfileRuleSets().store(ruleSet);
+      return ruleSet;
     } else {
       LOG.info("[SYNC] Active rules for '{}' are up-to-date", language);
       return currentRuleSets.get(language);
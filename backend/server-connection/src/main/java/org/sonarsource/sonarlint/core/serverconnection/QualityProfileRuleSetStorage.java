@@ -0,0 +1,78 @@
+/*
+ * SonarLint Core - Server Connection
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.serverconnection;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+import org.sonarsource.sonarlint.core.serverconnection.proto.Sonarlint;
+import org.sonarsource.sonarlint.core.serverconnection.storage.ProtobufFileUtil;
+import org.sonarsource.sonarlint.core.serverconnection.storage.RWLock;
+
+import static org.sonarsource.sonarlint.core.serverconnection.storage.ProjectStoragePaths.encodeForFs;
+import static org.sonarsource.sonarlint.core.serverconnection.storage.ProtobufFileUtil.writeToFile;
+
+/**
+ * Stores the rule sets of the quality profiles once per connection, so that the projects using the same profile can reference them
+ * instead of downloading and storing their own copy.
+ */
+public class QualityProfileRuleSetStorage {
+  private static final SonarLintLogger LOG = SonarLintLogger.get();
+  private final RWLock rwLock = new RWLock();
+  private final Path storageRoot;
+
+  public QualityProfileRuleSetStorage(Path connectionStorageRoot) {
+    this.storageRoot = connectionStorageRoot.resolve("rule_sets");
+  }
+
+  public void store(RuleSet ruleSet) {
+    var profileKey = Objects.requireNonNull(ruleSet.getProfileKey(), "Only the rule sets of quality profiles can be shared");
+    var storageFilePath = storageFilePath(profileKey);
+    FileUtils.mkdirs(storageRoot);
+    var data = Sonarlint.QualityProfileRuleSet.newBuilder()
+      .setSchemaVersion(AnalyzerConfiguration.CURRENT_SCHEMA_VERSION)
+      .setRuleSet(AnalyzerConfigurationStorage.adapt(ruleSet))
+      .build();
+    LOG.debug("Storing rule set of quality profile '{}' in {}", profileKey, storageFilePath);
+    rwLock.write(() -> writeToFile(data, storageFilePath));
+  }
+
+  /**
+   * @return the rule set of the quality profile, or empty if it was never stored or if it was stored with an outdated schema
+   */
+  public Optional<RuleSet> read(String profileKey) {
+    var storageFilePath = storageFilePath(profileKey);
+    try {
+      return rwLock.read(() -> Files.exists(storageFilePath) ? Optional.of(ProtobufFileUtil.readFile(storageFilePath, Sonarlint.QualityProfileRuleSet.parser()))
+        : Optional.<Sonarlint.QualityProfileRuleSet>empty())
+        .filter(stored -> stored.getSchemaVersion() == AnalyzerConfiguration.CURRENT_SCHEMA_VERSION)
+        .map(stored -> AnalyzerConfigurationStorage.adapt(profileKey, stored.getRuleSet()));
+    } catch (Exception e) {
+      LOG.debug("Could not load the rule set of quality profile '{}'", profileKey, e);
+      return Optional.empty();
+    }
+  }
+
+  private Path storageFilePath(String profileKey) {
+    return storageRoot.resolve(encodeForFs(profileKey) + ".pb");
+  }
+}
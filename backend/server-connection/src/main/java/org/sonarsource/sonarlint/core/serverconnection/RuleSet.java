@@ -23,19 +23,36 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
 import org.sonarsource.sonarlint.core.serverapi.rules.ServerActiveRule;
 
 public class RuleSet {
+  @Nullable
+  private final String profileKey;
   private final Collection<ServerActiveRule> rules;
   private final Map<String, ServerActiveRule> rulesByKey;
   private final String lastModified;
 
   public RuleSet(Collection<ServerActiveRule> rules, String lastModified) {
+    this(null, rules, lastModified);
+  }
+
+  /**
+   * @param profileKey when not null, the rule set is the one of this quality profile, stored once for all the projects of the connection
+   */
+  public RuleSet(@Nullable String profileKey, Collection<ServerActiveRule> rules, String lastModified) {
+    this.profileKey = profileKey;
     this.rules = rules;
     this.rulesByKey = rules.stream().collect(Collectors.toMap(ServerActiveRule::getRuleKey, Function.identity()));
     this.lastModified = lastModified;
   }
 
+  @CheckForNull
+  public String getProfileKey() {
+    return profileKey;
+  }
+
   public Collection<ServerActiveRule> getRules() {
     return rules;
   }
@@ -37,11 +37,12 @@ public class SonarProjectStorage {
   private final NewCodeDefinitionStorage newCodeDefinitionStorage;
   private final Path projectStorageRoot;
 
-  public SonarProjectStorage(Path projectsStorageRoot, ServerIssueStoresManager serverIssueStoresManager, String sonarProjectKey) {
+  public SonarProjectStorage(Path projectsStorageRoot, ServerIssueStoresManager serverIssueStoresManager, String sonarProjectKey,
+    QualityProfileRuleSetStorage qualityProfileRuleSetStorage) {
     this.projectStorageRoot = projectsStorageRoot.resolve(encodeForFs(sonarProjectKey));
     this.serverIssueStoresManager = serverIssueStoresManager;
     this.sonarProjectKey = sonarProjectKey;
-    this.analyzerConfigurationStorage = new AnalyzerConfigurationStorage(projectStorageRoot);
+    this.analyzerConfigurationStorage = new AnalyzerConfigurationStorage(projectStorageRoot, qualityProfileRuleSetStorage);
     this.projectBranchesStorage = new ProjectBranchesStorage(projectStorageRoot);
     this.smartNotificationsStorage = new SmartNotificationsStorage(projectStorageRoot);
     this.newCodeDefinitionStorage = new NewCodeDefinitionStorage(projectStorageRoot);
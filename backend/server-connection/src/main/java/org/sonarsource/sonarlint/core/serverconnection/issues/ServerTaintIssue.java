@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import org.sonarsource.sonarlint.core.commons.CleanCodeAttribute;
@@ -47,7 +48,9 @@ public class ServerTaintIssue implements ServerFinding {
   private final Instant creationDate;
   private IssueSeverity severity;
   private RuleType type;
-  private final List<Flow> flows;
+  private List<Flow> flows;
+  @Nullable
+  private Supplier<List<Flow>> flowsLoader;
   private final TextRangeWithHash textRange;
   private Map<SoftwareQuality, ImpactSeverity> impacts;
   @Nullable
@@ -59,6 +62,17 @@ public class ServerTaintIssue implements ServerFinding {
     String message, Path filePath, Instant creationDate, IssueSeverity severity, RuleType type,
     @Nullable TextRangeWithHash textRange, @Nullable String ruleDescriptionContextKey, @Nullable CleanCodeAttribute cleanCodeAttribute,
     Map<SoftwareQuality, ImpactSeverity> impacts, List<Flow> flows) {
+    this(id, key, resolved, resolutionStatus, ruleKey, message, filePath, creationDate, severity, type, textRange, ruleDescriptionContextKey, cleanCodeAttribute, impacts,
+      () -> flows);
+  }
+
+  /**
+   * @param flowsLoader called on the first {@link #getFlows()}, as flows are only needed when a taint vulnerability is displayed
+   */
+  public ServerTaintIssue(UUID id, String key, boolean resolved, @Nullable IssueStatus resolutionStatus, String ruleKey,
+    String message, Path filePath, Instant creationDate, IssueSeverity severity, RuleType type,
+    @Nullable TextRangeWithHash textRange, @Nullable String ruleDescriptionContextKey, @Nullable CleanCodeAttribute cleanCodeAttribute,
+    Map<SoftwareQuality, ImpactSeverity> impacts, Supplier<List<Flow>> flowsLoader) {
     this.id = id;
     this.key = key;
     this.resolved = resolved;
@@ -73,7 +87,7 @@ public class ServerTaintIssue implements ServerFinding {
     this.ruleDescriptionContextKey = ruleDescriptionContextKey;
     this.cleanCodeAttribute = cleanCodeAttribute;
     this.impacts = impacts;
-    this.flows = flows;
+    this.flowsLoader = flowsLoader;
   }
 
   public UUID getId() {
@@ -128,7 +142,11 @@ public class ServerTaintIssue implements ServerFinding {
     return ruleDescriptionContextKey;
   }
 
-  public List<Flow> getFlows() {
+  public synchronized List<Flow> getFlows() {
+    if (flowsLoader != null) {
+      flows = flowsLoader.get();
+      flowsLoader = null;
+    }
     return flows;
   }
 
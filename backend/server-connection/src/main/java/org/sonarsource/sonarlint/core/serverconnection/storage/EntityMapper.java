@@ -21,11 +21,19 @@ package org.sonarsource.sonarlint.core.serverconnection.storage;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -57,6 +65,20 @@ import org.sonarsource.sonarlint.core.serverconnection.issues.ServerTaintIssue;
 public class EntityMapper {
   private static final SonarLintLogger LOG = SonarLintLogger.get();
   private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ObjectReader impactsReader = objectMapper.readerFor(new TypeReference<Map<String, String>>() {
+  });
+  private final ObjectReader taintFlowsReader = objectMapper.readerFor(new TypeReference<List<TaintFlow>>() {
+  });
+  private final ObjectReader transitionsReader = objectMapper.readerFor(new TypeReference<List<String>>() {
+  });
+  // loading all the findings of a branch creates many copies of the same few values, they are shared between the loaded findings instead.
+  // Shared values are weakly referenced, so that they are dropped once no loaded finding uses them anymore
+  private final Interner<String> ruleKeys = Interners.newWeakInterner();
+  private final Interner<String> messages = Interners.newWeakInterner();
+  private final Interner<String> ruleDescriptionContextKeys = Interners.newWeakInterner();
+  private final LoadingCache<String, Path> filePaths = CacheBuilder.newBuilder().weakValues().build(CacheLoader.from(Path::of));
+  private final LoadingCache<String, Map<SoftwareQuality, ImpactSeverity>> impactsByJson = CacheBuilder.newBuilder().weakValues()
+    .build(CacheLoader.from(this::parseImpacts));
 
   public JSON serializeImpacts(Map<SoftwareQuality, ImpactSeverity> impacts) {
     try {
@@ -83,19 +105,21 @@ public class EntityMapper {
     }
   }
 
-  List<ServerTaintIssue.Flow> deserializeTaintFlows(JSON flows) {
+  List<ServerTaintIssue.Flow> deserializeTaintFlows(@Nullable JSON flows) {
+    if (flows == null) {
+      return List.of();
+    }
     try {
-      return objectMapper.readValue(flows.data(), new TypeReference<List<TaintFlow>>() {
-      }).stream()
+      return taintFlowsReader.<List<TaintFlow>>readValue(flows.data()).stream()
         .map(flow -> new ServerTaintIssue.Flow(flow.locations.stream()
           .map(l -> {
             var textRange = l.textRange;
             var filePath = l.filePath;
-            return new ServerTaintIssue.ServerIssueLocation(filePath == null ? null : Path.of(filePath),
+            return new ServerTaintIssue.ServerIssueLocation(filePath == null ? null : filePaths.getUnchecked(filePath),
               textRange == null ? null
                 : new org.sonarsource.sonarlint.core.commons.api.TextRangeWithHash(textRange.startLine, textRange.startLineOffset, textRange.endLine, textRange.endLineOffset,
                   textRange.hash),
-              l.message);
+              intern(messages, l.message));
           }).toList()))
         .toList();
     } catch (Exception e) {
@@ -127,17 +151,27 @@ public class EntityMapper {
     }
   }
 
+  /**
+   * Findings only have a handful of distinct impacts, so the same unmodifiable map is returned for the same JSON.
+   */
   public Map<SoftwareQuality, ImpactSeverity> deserializeImpacts(@Nullable JSON impactsJson) {
     if (impactsJson == null) {
       return Map.of();
     }
+    return impactsByJson.getUnchecked(impactsJson.data());
+  }
+
+  private Map<SoftwareQuality, ImpactSeverity> parseImpacts(String impactsJson) {
     try {
-      var map = objectMapper.readValue(impactsJson.data(), new TypeReference<Map<String, String>>() {
-      });
-      return map.entrySet().stream()
-        .collect(Collectors.toMap(entry -> SoftwareQuality.valueOf(entry.getKey()), entry -> ImpactSeverity.valueOf(entry.getValue())));
+      Map<String, String> map = impactsReader.readValue(impactsJson);
+      if (map.isEmpty()) {
+        return Map.of();
+      }
+      var parsedImpacts = new EnumMap<SoftwareQuality, ImpactSeverity>(SoftwareQuality.class);
+      map.forEach((quality, severity) -> parsedImpacts.put(SoftwareQuality.valueOf(quality), ImpactSeverity.valueOf(severity)));
+      return Collections.unmodifiableMap(parsedImpacts);
     } catch (Exception e) {
-      LOG.error("Failed to deserialize impacts {}", impactsJson.data(), e);
+      LOG.error("Failed to deserialize impacts {}", impactsJson, e);
       return Map.of();
     }
   }
@@ -147,8 +181,7 @@ public class EntityMapper {
       return List.of();
     }
     try {
-      var transitions = objectMapper.readValue(json.data(), new TypeReference<List<String>>() {
-      });
+      List<String> transitions = transitionsReader.readValue(json.data());
       return transitions.stream()
         .map(transition -> {
           try {
@@ -314,16 +347,15 @@ public class EntityMapper {
   public ServerIssue<?> adaptIssue(ServerFindingsRecord rec) {
     var id = rec.getId();
     var serverKey = rec.getServerKey();
-    var ruleKey = rec.getRuleKey();
-    var message = rec.getMessage();
-    var filePath = Path.of((rec.getFilePath()));
+    var ruleKey = ruleKeys.intern(rec.getRuleKey());
+    var message = intern(messages, rec.getMessage());
+    var filePath = filePaths.getUnchecked(rec.getFilePath());
     var creationDate = toInstant(rec.getCreationDate());
     var userSeverity = rec.getUserSeverity() != null ? IssueSeverity.valueOf(rec.getUserSeverity()) : null;
     var type = rec.getRuleType() != null ? RuleType.valueOf(rec.getRuleType()) : RuleType.CODE_SMELL;
     var resolved = Boolean.TRUE.equals(rec.getResolved());
     var resolutionStatus = rec.getIssueResolutionStatus() != null ? IssueStatus.valueOf(rec.getIssueResolutionStatus()) : null;
-    var impactsJson = rec.getImpacts();
-    var impacts = deserializeImpacts(impactsJson);
+    var impacts = deserializeImpacts(rec.getImpacts());
     if (rec.getLine() != null) {
       return new LineLevelServerIssue(id, serverKey, resolved, resolutionStatus, ruleKey, message, rec.getLineHash(), filePath, creationDate, userSeverity, type,
         rec.getLine(), impacts);
@@ -339,9 +371,9 @@ public class EntityMapper {
   public ServerHotspot adaptHotspot(ServerFindingsRecord rec) {
     var id = rec.getId();
     var key = rec.getServerKey();
-    var ruleKey = rec.getRuleKey();
-    var message = rec.getMessage();
-    var filePath = Path.of((rec.getFilePath()));
+    var ruleKey = ruleKeys.intern(rec.getRuleKey());
+    var message = intern(messages, rec.getMessage());
+    var filePath = filePaths.getUnchecked(rec.getFilePath());
     var textRange = new TextRange(rec.getStartLine(), rec.getStartLineOffset(), rec.getEndLine(), rec.getEndLineOffset());
     var creationDate = toInstant(rec.getCreationDate());
     var status = HotspotReviewStatus.valueOf(rec.getHotspotReviewStatus());
@@ -355,9 +387,9 @@ public class EntityMapper {
     var key = rec.getServerKey();
     var resolved = Boolean.TRUE.equals(rec.getResolved());
     var resolutionStatus = rec.getIssueResolutionStatus() != null ? IssueStatus.valueOf(rec.getIssueResolutionStatus()) : null;
-    var ruleKey = rec.getRuleKey();
-    var message = rec.getMessage();
-    var filePath = Path.of(rec.getFilePath());
+    var ruleKey = ruleKeys.intern(rec.getRuleKey());
+    var message = intern(messages, rec.getMessage());
+    var filePath = filePaths.getUnchecked(rec.getFilePath());
     var creationDate = toInstant(rec.getCreationDate());
     var severity = rec.getUserSeverity() != null ? IssueSeverity.valueOf(rec.getUserSeverity()) : IssueSeverity.MAJOR;
     var type = rec.getRuleType() != null ? RuleType.valueOf(rec.getRuleType()) : RuleType.CODE_SMELL;
@@ -366,13 +398,18 @@ public class EntityMapper {
       textRangeWithHash = new org.sonarsource.sonarlint.core.commons.api.TextRangeWithHash(rec.getStartLine(), rec.getStartLineOffset(), rec.getEndLine(), rec.getEndLineOffset(),
         rec.getTextRangeHash());
     }
-    var ruleDescCtx = rec.getRuleDescriptionContextKey();
+    var ruleDescCtx = intern(ruleDescriptionContextKeys, rec.getRuleDescriptionContextKey());
     var cleanCodeAttr = rec.getCleanCodeAttribute() != null ? CleanCodeAttribute.valueOf(rec.getCleanCodeAttribute()) : null;
-    var impactsJson = rec.getImpacts();
-    var impacts = deserializeImpacts(impactsJson);
-    var flows = deserializeTaintFlows(rec.getFlows());
+    var impacts = deserializeImpacts(rec.getImpacts());
+    // most taint vulnerabilities are listed without ever being opened, so their flows are only parsed when needed
+    var flowsJson = rec.getFlows();
     return new ServerTaintIssue(id, key, resolved, resolutionStatus, ruleKey, message, filePath, creationDate,
-      severity, type, textRangeWithHash, ruleDescCtx, cleanCodeAttr, impacts, flows);
+      severity, type, textRangeWithHash, ruleDescCtx, cleanCodeAttr, impacts, () -> deserializeTaintFlows(flowsJson));
+  }
+
+  @Nullable
+  private static String intern(Interner<String> interner, @Nullable String value) {
+    return value == null ? null : interner.intern(value);
   }
 
   private static Instant toInstant(LocalDateTime ldt) {
@@ -0,0 +1,180 @@
+/*
+ * SonarLint Core - Server Connection
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.serverconnection.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.commons.io.FileUtils;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
+
+import static org.sonarsource.sonarlint.core.serverconnection.storage.ProjectStoragePaths.encodeForFs;
+
+/**
+ * Plugin jars shared by all connections, stored once per hash under {@code <root>/<hash>/<filename>}.
+ * Each connection using a jar holds a reference to it, kept as a marker file under {@code <root>/<hash>/refs}.
+ * A jar is deleted when its last reference is released.
+ */
+public class PluginBlobStore {
+  private static final SonarLintLogger LOG = SonarLintLogger.get();
+  public static final String FOLDER_NAME = "plugins";
+  private static final String REFERENCES_FOLDER = "refs";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+  private final Path rootPath;
+
+  public PluginBlobStore(Path rootPath) {
+    this.rootPath = rootPath;
+  }
+
+  /**
+   * The path of the jar, whether it is stored or not
+   */
+  public Path jarPath(String hash, String filename) {
+    return blobPath(hash).resolve(filename);
+  }
+
+  /**
+   * Reference the jar with the given hash for the connection, if it is already stored.
+   * @return the path of the stored jar
+   */
+  public synchronized Optional<Path> acquire(String hash, String connectionId) {
+    var jar = findJar(hash);
+    if (jar.isPresent()) {
+      try {
+        addReference(hash, connectionId);
+      } catch (IOException e) {
+        throw new StorageException("Cannot reference plugin " + jar.get() + " for connection " + connectionId, e);
+      }
+    }
+    return jar;
+  }
+
+  /**
+   * Store the jar if no jar with the same hash is stored yet, and reference it for the connection.
+   * @return the path of the stored jar, that can have a different filename than the given one if the jar was already stored
+   */
+  public synchronized Path store(String hash, String filename, InputStream binary, String connectionId) throws IOException {
+    var existingJar = findJar(hash);
+    if (existingJar.isPresent()) {
+      LOG.debug("Plugin {} is already stored, reusing it", existingJar.get());
+      addReference(hash, connectionId);
+      return existingJar.get();
+    }
+    var blobPath = blobPath(hash);
+    Files.createDirectories(blobPath);
+    var tempFile = Files.createTempFile(blobPath, filename, TEMP_FILE_SUFFIX);
+    try {
+      FileUtils.copyInputStreamToFile(binary, tempFile.toFile());
+      var jarPath = blobPath.resolve(filename);
+      Files.move(tempFile, jarPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      addReference(hash, connectionId);
+      return jarPath;
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  /**
+   * Move a jar stored outside of this store into it, or delete it if a jar with the same hash is already stored, and reference it for the connection.
+   */
+  public synchronized Path adopt(String hash, Path jar, String connectionId) throws IOException {
+    var existingJar = findJar(hash);
+    Path jarPath;
+    if (existingJar.isPresent()) {
+      Files.delete(jar);
+      jarPath = existingJar.get();
+    } else {
+      var blobPath = blobPath(hash);
+      Files.createDirectories(blobPath);
+      jarPath = blobPath.resolve(jar.getFileName());
+      Files.move(jar, jarPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+    addReference(hash, connectionId);
+    return jarPath;
+  }
+
+  /**
+   * Remove the reference of the connection to the jar with the given hash, and delete the jar if it is not referenced anymore.
+   */
+  public synchronized void release(String hash, String connectionId) {
+    var blobPath = blobPath(hash);
+    var referencesPath = blobPath.resolve(REFERENCES_FOLDER);
+    try {
+      Files.deleteIfExists(referencesPath.resolve(encodeForFs(connectionId)));
+      if (Files.isDirectory(blobPath) && countReferences(referencesPath) == 0) {
+        LOG.debug("Plugin with hash {} is not used anymore, deleting {}", hash, blobPath);
+        FileUtils.deleteDirectory(blobPath.toFile());
+      }
+    } catch (IOException e) {
+      LOG.error("Cannot release plugin with hash {} for connection {}", hash, connectionId, e);
+    }
+  }
+
+  public synchronized int referenceCount(String hash) {
+    try {
+      return countReferences(blobPath(hash).resolve(REFERENCES_FOLDER));
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private void addReference(String hash, String connectionId) throws IOException {
+    var referencesPath = blobPath(hash).resolve(REFERENCES_FOLDER);
+    Files.createDirectories(referencesPath);
+    var referencePath = referencesPath.resolve(encodeForFs(connectionId));
+    if (!Files.exists(referencePath)) {
+      Files.createFile(referencePath);
+    }
+  }
+
+  private static int countReferences(Path referencesPath) throws IOException {
+    if (!Files.isDirectory(referencesPath)) {
+      return 0;
+    }
+    try (Stream<Path> references = Files.list(referencesPath)) {
+      return (int) references.count();
+    }
+  }
+
+  private Optional<Path> findJar(String hash) {
+    var blobPath = blobPath(hash);
+    if (!Files.isDirectory(blobPath)) {
+      return Optional.empty();
+    }
+    try (Stream<Path> files = Files.list(blobPath)) {
+      return files
+        .filter(Files::isRegularFile)
+        .filter(file -> !file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX))
+        .findFirst();
+    } catch (IOException e) {
+      LOG.debug("Cannot list files in '{}'", blobPath, e);
+      return Optional.empty();
+    }
+  }
+
+  private Path blobPath(String hash) {
+    return rootPath.resolve(encodeForFs(hash));
+  }
+}
@@ -27,10 +27,13 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import org.apache.commons.io.FileUtils;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogger;
 import org.sonarsource.sonarlint.core.serverapi.plugins.ServerPlugin;
@@ -43,11 +46,18 @@ public class PluginsStorage {
 
   private final Path rootPath;
   private final Path pluginReferencesFilePath;
+  private final String connectionId;
+  private final PluginBlobStore blobStore;
   private final RWLock rwLock = new RWLock();
 
-  public PluginsStorage(Path connectionStorageRoot) {
+  /**
+   * @param blobStore where the jars are stored, shared with the other connections
+   */
+  public PluginsStorage(Path connectionStorageRoot, String connectionId, PluginBlobStore blobStore) {
     this.rootPath = connectionStorageRoot.resolve("plugins");
     this.pluginReferencesFilePath = rootPath.resolve(PLUGIN_REFERENCES_PB);
+    this.connectionId = connectionId;
+    this.blobStore = blobStore;
   }
 
   public boolean isValid() {
@@ -66,20 +76,9 @@ public class PluginsStorage {
   public void store(ServerPlugin plugin, InputStream pluginBinary) {
     rwLock.write(() -> {
       try {
-        var pluginPath = rootPath.resolve(plugin.getFilename());
-        FileUtils.copyInputStreamToFile(pluginBinary, pluginPath.toFile());
+        var pluginPath = blobStore.store(plugin.getHash(), plugin.getFilename(), pluginBinary, connectionId);
         LOG.debug("Storing plugin to {} with file size {} bytes", pluginPath.toAbsolutePath(), Files.size(pluginPath));
-        var pluginFile = pluginPath.toFile();
-        LOG.debug("Plugin file created: {}", pluginFile.exists());
-        LOG.debug("Written plugin file size {} bytes", Files.size(pluginPath));
-        var reference = adapt(plugin);
-        var references = Files.exists(pluginReferencesFilePath)
-          ? ProtobufFileUtil.readFile(pluginReferencesFilePath, Sonarlint.PluginReferences.parser())
-          : Sonarlint.PluginReferences.newBuilder().build();
-        var currentReferences = Sonarlint.PluginReferences.newBuilder(references);
-        currentReferences.putPluginsByKey(plugin.getKey(), reference);
-        ProtobufFileUtil.writeToFile(currentReferences.build(), pluginReferencesFilePath);
-        LOG.debug("Plugin file {} created: {}", pluginReferencesFilePath, pluginReferencesFilePath.toFile().exists());
+        putReference(plugin, pluginPath.getFileName().toString());
       } catch (IOException e) {
         // XXX should we stop the whole sync ? just continue and log ?
         throw new StorageException("Cannot save plugin " + plugin.getFilename() + " in " + rootPath, e);
@@ -87,9 +86,39 @@ public class PluginsStorage {
     });
   }
 
+  /**
+   * Reference the jar of the plugin if it was already stored for another connection, so that it does not need to be downloaded again.
+   * @return true if the jar was already stored
+   */
+  public boolean storeIfAlreadyDownloaded(ServerPlugin plugin) {
+    var stored = new AtomicBoolean();
+    rwLock.write(() -> blobStore.acquire(plugin.getHash(), connectionId).ifPresent(pluginPath -> {
+      LOG.debug("Plugin '{}' was already downloaded to {}, reusing it", plugin.getKey(), pluginPath);
+      putReference(plugin, pluginPath.getFileName().toString());
+      stored.set(true);
+    }));
+    return stored.get();
+  }
+
+  private void putReference(ServerPlugin plugin, String filename) {
+    var references = readReferences();
+    var previousReference = references.getPluginsByKeyMap().get(plugin.getKey());
+    if (previousReference != null && !previousReference.getHash().equals(plugin.getHash())) {
+      blobStore.release(previousReference.getHash(), connectionId);
+    }
+    var currentReferences = Sonarlint.PluginReferences.newBuilder(references);
+    currentReferences.putPluginsByKey(plugin.getKey(), adapt(plugin, filename));
+    createPluginDirectory();
+    ProtobufFileUtil.writeToFile(currentReferences.build(), pluginReferencesFilePath);
+  }
+
+  private Sonarlint.PluginReferences readReferences() {
+    return Files.exists(pluginReferencesFilePath) ? ProtobufFileUtil.readFile(pluginReferencesFilePath, Sonarlint.PluginReferences.parser())
+      : Sonarlint.PluginReferences.newBuilder().build();
+  }
+
   public List<StoredPlugin> getStoredPlugins() {
-    return rwLock.read(() -> Files.exists(pluginReferencesFilePath) ? ProtobufFileUtil.readFile(pluginReferencesFilePath, Sonarlint.PluginReferences.parser())
-      : Sonarlint.PluginReferences.newBuilder().build()).getPluginsByKeyMap().values().stream().map(this::adapt).toList();
+    return rwLock.read(this::readReferences).getPluginsByKeyMap().values().stream().map(this::adapt).toList();
   }
 
   public Map<String, StoredPlugin> getStoredPluginsByKey() {
@@ -104,11 +133,11 @@ public class PluginsStorage {
     return plugins.stream().collect(Collectors.toMap(StoredPlugin::getKey, Function.identity()));
   }
 
-  private static Sonarlint.PluginReferences.PluginReference adapt(ServerPlugin plugin) {
+  private static Sonarlint.PluginReferences.PluginReference adapt(ServerPlugin plugin, String filename) {
     return Sonarlint.PluginReferences.PluginReference.newBuilder()
       .setKey(plugin.getKey())
       .setHash(plugin.getHash())
-      .setFilename(plugin.getFilename())
+      .setFilename(filename)
       .build();
   }
 
@@ -116,22 +145,74 @@ public class PluginsStorage {
     return new StoredPlugin(
       plugin.getKey(),
       plugin.getHash(),
-      rootPath.resolve(plugin.getFilename()));
+      jarPath(plugin.getHash(), plugin.getFilename()));
+  }
+
+  private Path jarPath(String hash, String filename) {
+    var blobPath = blobStore.jarPath(hash, filename);
+    if (Files.exists(blobPath)) {
+      return blobPath;
+    }
+    // jars stored before the shared store was introduced are moved to it on the next clean up
+    var legacyPath = rootPath.resolve(filename);
+    return Files.exists(legacyPath) ? legacyPath : blobPath;
   }
 
   public void cleanUpUnknownPlugins(List<ServerPlugin> serverPluginsExpectedInStorage) {
-    var expectedPluginPaths = serverPluginsExpectedInStorage.stream().map(plugin -> rootPath.resolve(plugin.getFilename())).collect(Collectors.toSet());
-    var pluginsByKey = serverPluginsExpectedInStorage.stream().collect(Collectors.toMap(ServerPlugin::getKey, PluginsStorage::adapt));
-    var currentReferences = Sonarlint.PluginReferences.newBuilder();
-    currentReferences.putAllPluginsByKey(pluginsByKey);
     rwLock.write(() -> {
-      var unknownFiles = getUnknownFiles(expectedPluginPaths);
+      var previousReferences = readReferences().getPluginsByKeyMap();
+      var pluginsByKey = serverPluginsExpectedInStorage.stream()
+        .collect(Collectors.toMap(ServerPlugin::getKey, plugin -> adapt(plugin, storedFilename(plugin, previousReferences.get(plugin.getKey())))));
+      previousReferences.forEach((key, previousReference) -> {
+        var expectedReference = pluginsByKey.get(key);
+        if (expectedReference == null || !expectedReference.getHash().equals(previousReference.getHash())) {
+          blobStore.release(previousReference.getHash(), connectionId);
+        }
+      });
+      var legacyJarsNotMoved = pluginsByKey.values().stream()
+        .map(this::moveLegacyJarToBlobStore)
+        .flatMap(Optional::stream)
+        .collect(Collectors.toSet());
+      var unknownFiles = getUnknownFiles(legacyJarsNotMoved);
       deleteFiles(unknownFiles);
       createPluginDirectory();
+      var currentReferences = Sonarlint.PluginReferences.newBuilder();
+      currentReferences.putAllPluginsByKey(pluginsByKey);
       ProtobufFileUtil.writeToFile(currentReferences.build(), pluginReferencesFilePath);
     });
   }
 
+  /**
+   * The jar may have been stored under another name, e.g. when it was first downloaded for another connection
+   */
+  private static String storedFilename(ServerPlugin plugin, @Nullable Sonarlint.PluginReferences.PluginReference previousReference) {
+    return previousReference != null && previousReference.getHash().equals(plugin.getHash()) ? previousReference.getFilename() : plugin.getFilename();
+  }
+
+  /**
+   * @return the legacy jar if it could not be moved, it is still referenced and must not be deleted
+   */
+  private Optional<Path> moveLegacyJarToBlobStore(Sonarlint.PluginReferences.PluginReference reference) {
+    var legacyPath = rootPath.resolve(reference.getFilename());
+    if (Files.exists(legacyPath)) {
+      try {
+        blobStore.adopt(reference.getHash(), legacyPath, connectionId);
+      } catch (IOException e) {
+        LOG.warn("Cannot move plugin {} to the shared plugin storage, keeping it in place", legacyPath, e);
+        return Optional.of(legacyPath);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Release the jars referenced by this connection, e.g. when the connection is removed.
+   */
+  public void releaseAll() {
+    rwLock.write(() -> readReferences().getPluginsByKeyMap().values()
+      .forEach(reference -> blobStore.release(reference.getHash(), connectionId)));
+  }
+
   private void deleteFiles(List<File> unknownFiles) {
     if (!unknownFiles.isEmpty()) {
       LOG.debug("Cleaning up the plugins storage {}, removing {} unknown files:", rootPath, unknownFiles.size());
@@ -140,17 +221,15 @@ public class PluginsStorage {
     }
   }
 
-  private List<File> getUnknownFiles(Set<Path> knownPluginsPaths) {
+  private List<File> getUnknownFiles(Set<Path> filesToKeep) {
     if (!Files.exists(rootPath)) {
       return Collections.emptyList();
     }
-    LOG.debug("Known plugin paths: {}", knownPluginsPaths);
     try (Stream<Path> pathsInDir = Files.list(rootPath)) {
       var paths = pathsInDir.toList();
       LOG.debug("Paths in dir: {}", paths);
       var unknownFiles = paths.stream()
-        .filter(p -> !p.equals(pluginReferencesFilePath))
-        .filter(p -> !knownPluginsPaths.contains(p))
+        .filter(p -> !p.equals(pluginReferencesFilePath) && !filesToKeep.contains(p))
         .map(Path::toFile)
         .toList();
       LOG.debug("Unknown files: {}", unknownFiles);
@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.sonarsource.sonarlint.core.commons.HotspotReviewStatus;
 import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.serverapi.hotspot.ServerHotspot;
@@ -150,6 +151,22 @@ public interface ProjectServerIssueStore {
    */
   List<ServerTaintIssue> loadTaint(String branchName);
 
+  /**
+   * Load a page of the taint issues stored for a branch, ordered by server key.
+   *
+   * @param afterServerKey the server key of the last issue of the previous page, or null for the first page
+   * @param pageSize maximum number of issues to return
+   * @return issues, possibly empty
+   */
+  List<ServerTaintIssue> loadTaint(String branchName, @Nullable String afterServerKey, int pageSize);
+
+  /**
+   * Load a single taint issue of a branch by its id.
+   *
+   * @return the taint issue if found, else empty
+   */
+  Optional<ServerTaintIssue> loadTaint(String branchName, UUID id);
+
   /**
    * @param issueKey
    * @param issueUpdater
@@ -157,6 +174,14 @@ public interface ProjectServerIssueStore {
    */
   boolean updateIssue(String issueKey, Consumer<ServerIssue<?>> issueUpdater);
 
+  /**
+   * Update several issues at once, reading and writing them in bulk.
+   * @param issueKeys
+   * @param issueUpdater
+   * @return the keys of the issues that exist in the store and have been updated
+   */
+  Set<String> updateIssues(Set<String> issueKeys, Consumer<ServerIssue<?>> issueUpdater);
+
   /**
    * Retrieve an issue from the store
    * @param issueKey
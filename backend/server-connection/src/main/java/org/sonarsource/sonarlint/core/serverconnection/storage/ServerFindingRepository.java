@@ -24,12 +24,14 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
 import org.jooq.Record1;
@@ -350,6 +352,36 @@ public class ServerFindingRepository implements ProjectServerIssueStore {
       .toList();
   }
 
+  @Override
+  public List<ServerTaintIssue> loadTaint(String branchName, @Nullable String afterServerKey, int pageSize) {
+    var condition = SERVER_FINDINGS.BRANCH_NAME.eq(branchName)
+      .and(SERVER_FINDINGS.FINDING_TYPE.eq(ServerFindingType.TAINT.name()))
+      .and(SERVER_FINDINGS.CONNECTION_ID.eq(connectionId))
+      .and(SERVER_FINDINGS.SONAR_PROJECT_KEY.eq(sonarProjectKey));
+    if (afterServerKey != null) {
+      condition = condition.and(SERVER_FINDINGS.SERVER_KEY.gt(afterServerKey));
+    }
+    return database.selectFrom(SERVER_FINDINGS)
+      .where(condition)
+      .orderBy(SERVER_FINDINGS.SERVER_KEY)
+      .limit(pageSize)
+      .fetch().stream()
+      .map(mapper::adaptTaint)
+      .toList();
+  }
+
+  @Override
+  public Optional<ServerTaintIssue> loadTaint(String branchName, UUID id) {
+    return database.selectFrom(SERVER_FINDINGS)
+      .where(SERVER_FINDINGS.ID.eq(id)
+        .and(SERVER_FINDINGS.BRANCH_NAME.eq(branchName))
+        .and(SERVER_FINDINGS.FINDING_TYPE.eq(ServerFindingType.TAINT.name()))
+        .and(SERVER_FINDINGS.CONNECTION_ID.eq(connectionId))
+        .and(SERVER_FINDINGS.SONAR_PROJECT_KEY.eq(sonarProjectKey)))
+      .fetchOptional()
+      .map(mapper::adaptTaint);
+  }
+
   @Override
   public boolean updateIssue(String issueKey, Consumer<ServerIssue<?>> issueUpdater) {
     var rec = database.selectFrom(SERVER_FINDINGS)
@@ -376,6 +408,33 @@ public class ServerFindingRepository implements ProjectServerIssueStore {
     return true;
   }
 
+  @Override
+  public Set<String> updateIssues(Set<String> issueKeys, Consumer<ServerIssue<?>> issueUpdater) {
+    if (issueKeys.isEmpty()) {
+      return Set.of();
+    }
+    var updatedIssueKeys = new HashSet<String>();
+    database.transaction(trx -> {
+      var records = trx.dsl().selectFrom(SERVER_FINDINGS)
+        .where(SERVER_FINDINGS.SERVER_KEY.in(issueKeys)
+          .and(SERVER_FINDINGS.FINDING_TYPE.eq(ServerFindingType.ISSUE.name()))
+          .and(SERVER_FINDINGS.CONNECTION_ID.eq(connectionId))
+          .and(SERVER_FINDINGS.SONAR_PROJECT_KEY.eq(sonarProjectKey)))
+        .fetch();
+      for (var rec : records) {
+        var current = mapper.adaptIssue(rec);
+        issueUpdater.accept(current);
+        rec.set(SERVER_FINDINGS.RESOLVED, current.isResolved());
+        rec.set(SERVER_FINDINGS.USER_SEVERITY, current.getUserSeverity() != null ? current.getUserSeverity().name() : null);
+        rec.set(SERVER_FINDINGS.RULE_TYPE, current.getType() != null ? current.getType().name() : null);
+        rec.set(SERVER_FINDINGS.IMPACTS, mapper.serializeImpacts(current.getImpacts()));
+        updatedIssueKeys.add(current.getKey());
+      }
+      trx.dsl().batchUpdate(records).execute();
+    });
+    return updatedIssueKeys;
+  }
+
   @Override
   public ServerIssue<?> getIssue(String issueKey) {
     var rec = database.selectFrom(SERVER_FINDINGS)
@@ -0,0 +1,126 @@
+/*
+ * SonarLint Core - Server Connection
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.serverconnection;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.commons.IssueSeverity;
+import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+import org.sonarsource.sonarlint.core.serverapi.rules.ServerActiveRule;
+import org.sonarsource.sonarlint.core.serverconnection.proto.Sonarlint;
+import org.sonarsource.sonarlint.core.serverconnection.storage.ProtobufFileUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class QualityProfileRuleSetStorageTests {
+  @RegisterExtension
+  private static final SonarLintLogTester logTester = new SonarLintLogTester();
+
+  @TempDir
+  private Path connectionStorageRoot;
+
+  @Test
+  void should_store_and_read_rule_set_of_profile() {
+    var storage = new QualityProfileRuleSetStorage(connectionStorageRoot);
+
+    storage.store(new RuleSet("sonar-way-java", List.of(activeRule("java:S1")), "2024-01-01"));
+
+    var ruleSet = storage.read("sonar-way-java");
+    assertThat(ruleSet).isPresent();
+    assertThat(ruleSet.get().getProfileKey()).isEqualTo("sonar-way-java");
+    assertThat(ruleSet.get().getLastModified()).isEqualTo("2024-01-01");
+    assertThat(ruleSet.get().getRulesByKey()).containsOnlyKeys("java:S1");
+  }
+
+  @Test
+  void should_return_empty_when_profile_was_never_stored() {
+    var storage = new QualityProfileRuleSetStorage(connectionStorageRoot);
+
+    assertThat(storage.read("unknown")).isEmpty();
+  }
+
+  @Test
+  void should_ignore_rule_set_stored_with_outdated_schema() throws Exception {
+    var storage = new QualityProfileRuleSetStorage(connectionStorageRoot);
+    storage.store(new RuleSet("sonar-way-java", List.of(activeRule("java:S1")), "2024-01-01"));
+    Path storedFile;
+    try (var files = Files.list(connectionStorageRoot.resolve("rule_sets"))) {
+      storedFile = files.findFirst().orElseThrow();
+    }
+    var stored = ProtobufFileUtil.readFile(storedFile, Sonarlint.QualityProfileRuleSet.parser());
+    ProtobufFileUtil.writeToFile(stored.toBuilder().setSchemaVersion(AnalyzerConfiguration.CURRENT_SCHEMA_VERSION - 1).build(), storedFile);
+
+    assertThat(storage.read("sonar-way-java")).isEmpty();
+  }
+
+  @Test
+  void should_let_projects_reference_the_rule_set_of_profile(@TempDir Path projectStorageRoot) {
+    var ruleSetStorage = new QualityProfileRuleSetStorage(connectionStorageRoot);
+    var sharedRuleSet = new RuleSet("sonar-way-java", List.of(activeRule("java:S1"), activeRule("java:S2")), "2024-01-01");
+    ruleSetStorage.store(sharedRuleSet);
+    var analyzerConfigurationStorage = new AnalyzerConfigurationStorage(projectStorageRoot, ruleSetStorage);
+
+    analyzerConfigurationStorage.store(new AnalyzerConfiguration(Map.of(), Map.of("java", sharedRuleSet, "py", new RuleSet(List.of(activeRule("python:S1")), "2024-02-02")),
+      AnalyzerConfiguration.CURRENT_SCHEMA_VERSION));
+
+    var storedConfiguration = ProtobufFileUtil.readFile(projectStorageRoot.resolve("analyzer_config.pb"), Sonarlint.AnalyzerConfiguration.parser());
+    assertThat(storedConfiguration.getProfileKeyByLanguageKeyMap()).containsOnly(entry("java", "sonar-way-java"));
+    assertThat(storedConfiguration.getRuleSetsByLanguageKeyMap()).containsOnlyKeys("py");
+    var ruleSets = analyzerConfigurationStorage.read().getRuleSetByLanguageKey();
+    assertThat(ruleSets.get("java").getRulesByKey()).containsOnlyKeys("java:S1", "java:S2");
+    assertThat(ruleSets.get("py").getRulesByKey()).containsOnlyKeys("python:S1");
+  }
+
+  @Test
+  void should_let_readers_unaware_of_shared_rule_sets_consider_referenced_languages_missing(@TempDir Path projectStorageRoot) {
+    var ruleSetStorage = new QualityProfileRuleSetStorage(connectionStorageRoot);
+    var sharedRuleSet = new RuleSet("sonar-way-java", List.of(activeRule("java:S1")), "2024-01-01");
+    ruleSetStorage.store(sharedRuleSet);
+    new AnalyzerConfigurationStorage(projectStorageRoot, ruleSetStorage)
+      .store(new AnalyzerConfiguration(Map.of(), Map.of("java", sharedRuleSet, "py", new RuleSet(List.of(activeRule("python:S1")), "2024-02-02")),
+        AnalyzerConfiguration.CURRENT_SCHEMA_VERSION));
+
+    var ruleSets = new AnalyzerConfigurationStorage(projectStorageRoot).read().getRuleSetByLanguageKey();
+
+    assertThat(ruleSets).containsOnlyKeys("py");
+    assertThat(ruleSets.get("py").getRulesByKey()).containsOnlyKeys("python:S1");
+  }
+
+  @Test
+  void should_consider_language_missing_when_referenced_rule_set_is_missing(@TempDir Path projectStorageRoot) {
+    var ruleSetStorage = new QualityProfileRuleSetStorage(connectionStorageRoot);
+    var analyzerConfigurationStorage = new AnalyzerConfigurationStorage(projectStorageRoot, ruleSetStorage);
+
+    analyzerConfigurationStorage.store(new AnalyzerConfiguration(Map.of(), Map.of("java", new RuleSet("sonar-way-java", List.of(), "2024-01-01")),
+      AnalyzerConfiguration.CURRENT_SCHEMA_VERSION));
+
+    assertThat(analyzerConfigurationStorage.read().getRuleSetByLanguageKey()).isEmpty();
+  }
+
+  private static ServerActiveRule activeRule(String ruleKey) {
+    return new ServerActiveRule(ruleKey, IssueSeverity.MAJOR, Map.of(), "", List.of());
+  }
+}
@@ -20,9 +20,11 @@
 package org.sonarsource.sonarlint.core.serverconnection.storage;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.UUID;
 import org.jooq.JSON;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -31,9 +33,11 @@ import org.sonarsource.sonarlint.core.commons.SoftwareQuality;
 import org.sonarsource.sonarlint.core.commons.api.SonarLanguage;
 import org.sonarsource.sonarlint.core.commons.api.TextRangeWithHash;
 import org.sonarsource.sonarlint.core.commons.log.SonarLintLogTester;
+import org.sonarsource.sonarlint.core.commons.storage.model.tables.records.ServerFindingsRecord;
 import org.sonarsource.sonarlint.core.serverconnection.issues.ServerTaintIssue;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class EntityMapperTests {
 
@@ -111,4 +115,52 @@ class EntityMapperTests {
           new TextRangeWithHash(1, 2, 3, 4, "hash1"), "Message 1")))));
   }
 
+  @Test
+  void should_share_repeated_values_between_loaded_issues() {
+    var first = underTest.adaptIssue(issueRecord("ISSUE_1"));
+    var second = underTest.adaptIssue(issueRecord("ISSUE_2"));
+
+    assertThat(second.getRuleKey()).isSameAs(first.getRuleKey());
+    assertThat(second.getMessage()).isSameAs(first.getMessage());
+    assertThat(second.getFilePath()).isSameAs(first.getFilePath());
+    assertThat(second.getImpacts()).isSameAs(first.getImpacts()).containsEntry(SoftwareQuality.SECURITY, ImpactSeverity.HIGH);
+    assertThatThrownBy(() -> first.getImpacts().clear()).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_share_rule_description_context_keys_between_loaded_taints() {
+    var firstRecord = issueRecord("TAINT_1");
+    firstRecord.setRuleDescriptionContextKey(new String("spring"));
+    var secondRecord = issueRecord("TAINT_2");
+    secondRecord.setRuleDescriptionContextKey(new String("spring"));
+
+    var first = underTest.adaptTaint(firstRecord);
+    var second = underTest.adaptTaint(secondRecord);
+
+    assertThat(second.getRuleDescriptionContextKey()).isSameAs(first.getRuleDescriptionContextKey()).isEqualTo("spring");
+  }
+
+  @Test
+  void should_parse_taint_flows_of_the_loaded_record_lazily() {
+    var rec = issueRecord("TAINT_1");
+    rec.setFlows(JSON.valueOf("[{\"locations\":[{\"filePath\":\"file/path\",\"message\":\"Message 1\"}]}]"));
+
+    var taint = underTest.adaptTaint(rec);
+    rec.setFlows(JSON.valueOf("[]"));
+
+    assertThat(taint.getFlows()).containsExactly(
+      new ServerTaintIssue.Flow(List.of(new ServerTaintIssue.ServerIssueLocation(Path.of("file/path"), null, "Message 1"))));
+  }
+
+  private static ServerFindingsRecord issueRecord(String serverKey) {
+    var rec = new ServerFindingsRecord();
+    rec.setId(UUID.randomUUID());
+    rec.setServerKey(serverKey);
+    rec.setRuleKey(new String("java:S123"));
+    rec.setMessage(new String("Message"));
+    rec.setFilePath(new String("src/Foo.java"));
+    rec.setCreationDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+    rec.setImpacts(JSON.valueOf(new String("{\"SECURITY\":\"HIGH\"}")));
+    return rec;
+  }
 }
@@ -19,22 +19,33 @@
  */
 package org.sonarsource.sonarlint.core.serverconnection.storage;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.serverapi.plugins.ServerPlugin;
+import org.sonarsource.sonarlint.core.serverconnection.StoredPlugin;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class PluginsStorageTests {
 
+  private static final ServerPlugin JAVA_PLUGIN = new ServerPlugin("java", "hash1", "sonar-java-plugin.jar", true);
+
   @TempDir
   Path storageRoot;
+  PluginBlobStore blobStore;
   PluginsStorage underTest;
 
   @BeforeEach
   void setUp() {
-    underTest = new PluginsStorage(storageRoot);
+    blobStore = new PluginBlobStore(storageRoot.resolve(PluginBlobStore.FOLDER_NAME));
+    underTest = new PluginsStorage(storageRoot.resolve("connection1"), "connection1", blobStore);
   }
 
   @Test
@@ -42,4 +53,85 @@ class PluginsStorageTests {
     assertFalse(underTest.isValid());
   }
 
+  @Test
+  void should_share_jars_with_the_same_hash_between_connections() {
+    var otherStorage = new PluginsStorage(storageRoot.resolve("connection2"), "connection2", blobStore);
+    underTest.store(JAVA_PLUGIN, new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+
+    var reused = otherStorage.storeIfAlreadyDownloaded(new ServerPlugin("java", "hash1", "other-name.jar", true));
+
+    assertThat(reused).isTrue();
+    assertThat(otherStorage.getStoredPlugins()).extracting(StoredPlugin::getJarPath)
+      .containsExactlyElementsOf(underTest.getStoredPlugins().stream().map(StoredPlugin::getJarPath).toList());
+    assertThat(underTest.getStoredPluginPathsByKey().get("java")).hasContent("content").hasFileName("sonar-java-plugin.jar");
+    assertThat(blobStore.referenceCount("hash1")).isEqualTo(2);
+  }
+
+  @Test
+  void should_not_reuse_jars_that_were_never_downloaded() {
+    assertThat(underTest.storeIfAlreadyDownloaded(JAVA_PLUGIN)).isFalse();
+    assertThat(underTest.getStoredPlugins()).isEmpty();
+  }
+
+  @Test
+  void should_delete_jars_when_no_connection_references_them_anymore() {
+    var otherStorage = new PluginsStorage(storageRoot.resolve("connection2"), "connection2", blobStore);
+    underTest.store(JAVA_PLUGIN, new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+    otherStorage.storeIfAlreadyDownloaded(JAVA_PLUGIN);
+    var jarPath = underTest.getStoredPluginPathsByKey().get("java");
+
+    underTest.cleanUpUnknownPlugins(List.of());
+    assertThat(jarPath).exists();
+    assertThat(blobStore.referenceCount("hash1")).isEqualTo(1);
+
+    otherStorage.releaseAll();
+    assertThat(jarPath).doesNotExist();
+  }
+
+  @Test
+  void should_release_the_previous_jar_when_a_plugin_is_updated() {
+    underTest.store(JAVA_PLUGIN, new ByteArrayInputStream("v1".getBytes(StandardCharsets.UTF_8)));
+    var previousJarPath = underTest.getStoredPluginPathsByKey().get("java");
+
+    underTest.store(new ServerPlugin("java", "hash2", "sonar-java-plugin-2.jar", true), new ByteArrayInputStream("v2".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(previousJarPath).doesNotExist();
+    assertThat(underTest.getStoredPluginPathsByKey().get("java")).hasContent("v2");
+  }
+
+  @Test
+  void should_move_jars_stored_per_connection_to_the_shared_store() throws Exception {
+    var legacyJar = storageRoot.resolve("connection1").resolve("plugins").resolve("sonar-java-plugin.jar");
+    Files.createDirectories(legacyJar.getParent());
+    Files.writeString(legacyJar, "content");
+
+    underTest.cleanUpUnknownPlugins(List.of(JAVA_PLUGIN));
+
+    assertThat(legacyJar).doesNotExist();
+    assertThat(underTest.getStoredPluginPathsByKey().get("java")).hasContent("content").startsWith(storageRoot.resolve(PluginBlobStore.FOLDER_NAME));
+    assertThat(blobStore.referenceCount("hash1")).isEqualTo(1);
+  }
+
+  @Test
+  void should_keep_jars_stored_per_connection_if_they_cannot_be_moved() throws Exception {
+    var legacyJar = storageRoot.resolve("connection1").resolve("plugins").resolve("sonar-java-plugin.jar");
+    Files.createDirectories(legacyJar.getParent());
+    Files.writeString(legacyJar, "content");
+    // the shared store cannot be created
+    Files.writeString(storageRoot.resolve(PluginBlobStore.FOLDER_NAME), "not a directory");
+
+    underTest.cleanUpUnknownPlugins(List.of(JAVA_PLUGIN));
+
+    assertThat(legacyJar).hasContent("content");
+    assertThat(underTest.getStoredPluginPathsByKey()).containsEntry("java", legacyJar);
+  }
+
+  @Test
+  void should_prefer_the_jar_of_the_shared_store() throws Exception {
+    underTest.store(JAVA_PLUGIN, new ByteArrayInputStream("shared".getBytes(StandardCharsets.UTF_8)));
+    var leftoverJar = storageRoot.resolve("connection1").resolve("plugins").resolve("sonar-java-plugin.jar");
+    Files.writeString(leftoverJar, "leftover");
+
+    assertThat(underTest.getStoredPluginPathsByKey().get("java")).hasContent("shared").startsWith(storageRoot.resolve(PluginBlobStore.FOLDER_NAME));
+  }
 }
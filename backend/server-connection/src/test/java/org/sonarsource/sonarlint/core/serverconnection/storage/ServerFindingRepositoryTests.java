@@ -169,6 +169,22 @@ class ServerFindingRepositoryTests {
     assertThat(loadedIssue.getUserSeverity()).isEqualTo(IssueSeverity.MAJOR);
   }
 
+  @Test
+  void issues_bulk_update() {
+    var file = Path.of("/file/path");
+    var issue1 = rangeIssue("ISSUE_KEY_1", file, new TextRangeWithHash(1, 10, 1, 20, "hash"));
+    var issue2 = lineIssue("ISSUE_KEY_2", file, 2);
+    var issue3 = lineIssue("ISSUE_KEY_3", file, 3);
+    repo.replaceAllIssuesOfFile(branch, file, List.of(issue1, issue2, issue3));
+
+    var updatedKeys = repo.updateIssues(Set.of("ISSUE_KEY_1", "ISSUE_KEY_2", "UNKNOWN_KEY"), issueToUpdate -> issueToUpdate.setResolved(true));
+
+    assertThat(updatedKeys).containsExactlyInAnyOrder("ISSUE_KEY_1", "ISSUE_KEY_2");
+    assertThat(repo.getIssue("ISSUE_KEY_1").isResolved()).isTrue();
+    assertThat(repo.getIssue("ISSUE_KEY_2").isResolved()).isTrue();
+    assertThat(repo.getIssue("ISSUE_KEY_3").isResolved()).isFalse();
+  }
+
   @Test
   void replace_all_issues_of_branch() {
     var issueKey = "ISSUE_KEY";
@@ -274,6 +290,35 @@ class ServerFindingRepositoryTests {
     assertTaintEquals(t1, afterUpdate);
   }
 
+  @Test
+  void taints_load_by_id() {
+    var t1 = taint("TAINT_KEY_1", filePath);
+    var t2 = taint("TAINT_KEY_2", filePath);
+    repo.replaceAllTaintsOfBranch(branch, List.of(t1, t2), Set.of());
+
+    var loaded = repo.loadTaint(branch, t2.getId());
+
+    assertThat(loaded).isPresent();
+    assertTaintEquals(t2, loaded.get());
+    assertThat(repo.loadTaint("other", t2.getId())).isEmpty();
+    assertThat(repo.loadTaint(branch, UUID.randomUUID())).isEmpty();
+  }
+
+  @Test
+  void taints_load_by_page() {
+    var t1 = taint("TAINT_KEY_1", filePath);
+    var t2 = taint("TAINT_KEY_2", filePath);
+    var t3 = taint("TAINT_KEY_3", filePath);
+    repo.replaceAllTaintsOfBranch(branch, List.of(t3, t1, t2), Set.of());
+
+    var firstPage = repo.loadTaint(branch, null, 2);
+    var secondPage = repo.loadTaint(branch, firstPage.get(1).getSonarServerKey(), 2);
+
+    assertThat(firstPage).extracting(ServerTaintIssue::getSonarServerKey).containsExactly("TAINT_KEY_1", "TAINT_KEY_2");
+    assertThat(secondPage).extracting(ServerTaintIssue::getSonarServerKey).containsExactly("TAINT_KEY_3");
+    assertThat(repo.loadTaint(branch, "TAINT_KEY_3", 2)).isEmpty();
+  }
+
   @Test
   void merge_issues_removes_closed_and_upserts() {
     var newIssue = lineIssue("ISSUE_KEY_4", filePath, 2);
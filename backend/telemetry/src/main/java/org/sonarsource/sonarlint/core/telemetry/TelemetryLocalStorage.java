@@ -92,6 +92,8 @@ public class TelemetryLocalStorage implements LocalStorage {
   private long listingTimeForBiggestNumberConfigScopeFiles;
   private long longestListingTimeForConfigScopeFiles;
   private int numberOfFilesForLongestFilesListingTimeConfigScope;
+  private long maxDatabasePoolWaitMs;
+  private long maxDatabaseQueryTimeMs;
   private int taintInvestigatedLocallyCount;
   private int taintInvestigatedRemotelyCount;
   private int hotspotInvestigatedLocallyCount;
@@ -289,6 +291,8 @@ public class TelemetryLocalStorage implements LocalStorage {
     newIssuesFoundCount = 0;
     issuesFixedCount = 0;
     biggestNumberOfFilesInConfigScope = 0;
+    maxDatabasePoolWaitMs = 0;
+    maxDatabaseQueryTimeMs = 0;
     calledToolsByName.clear();
     dependencyRiskInvestigatedLocallyCount = 0;
     dependencyRiskInvestigatedRemotelyCount = 0;
@@ -664,6 +668,19 @@ public class TelemetryLocalStorage implements LocalStorage {
     return longestListingTimeForConfigScopeFiles;
   }
 
+  public void updateDatabasePerformance(long poolWaitMs, long queryTimeMs) {
+    maxDatabasePoolWaitMs = Math.max(maxDatabasePoolWaitMs, poolWaitMs);
+    maxDatabaseQueryTimeMs = Math.max(maxDatabaseQueryTimeMs, queryTimeMs);
+  }
+
+  public long getMaxDatabasePoolWaitMs() {
+    return maxDatabasePoolWaitMs;
+  }
+
+  public long getMaxDatabaseQueryTimeMs() {
+    return maxDatabaseQueryTimeMs;
+  }
+
   public void incrementHotspotInvestigatedLocallyCount() {
     markSonarLintAsUsedToday();
     hotspotInvestigatedLocallyCount++;
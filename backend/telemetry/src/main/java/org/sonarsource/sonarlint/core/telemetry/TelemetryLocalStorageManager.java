@@ -25,6 +25,8 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import javax.annotation.CheckForNull;
@@ -39,7 +41,19 @@ import org.springframework.beans.factory.annotation.Qualifier;
  */
 public class TelemetryLocalStorageManager {
 
+  /**
+   * Above this number of pending updates, they are written to the file right away instead of waiting for the next flush
+   */
+  static final int MAX_PENDING_UPDATES = 1000;
+  /**
+   * Period in seconds between two writes of the pending updates, 0 writes each update right away
+   */
+  public static final String PROPERTY_FLUSH_PERIOD = "sonarlint.internal.telemetry.flushPeriod";
+  public static final int DEFAULT_FLUSH_PERIOD = 30;
+
   private final FileStorageManager<TelemetryLocalStorage> fileStorageManager;
+  private final List<Consumer<TelemetryLocalStorage>> pendingUpdates = new ArrayList<>();
+  private final boolean buffered = Integer.getInteger(PROPERTY_FLUSH_PERIOD, DEFAULT_FLUSH_PERIOD) > 0;
   @Nullable
   private final TelemetryMigrationDto telemetryMigration;
 
@@ -75,8 +89,61 @@ public class TelemetryLocalStorageManager {
     return duration.getSeconds() < 10 && inMemoryStorage.numUseDays() == 0;
   }
 
+  /**
+   * Apply the pending updates, then the given one, to the latest content of the file.
+   */
   public void tryUpdateAtomically(Consumer<TelemetryLocalStorage> updater) {
-    fileStorageManager.tryUpdateAtomically(updater);
+    var updates = drainPendingUpdates();
+    var written = fileStorageManager.tryUpdateAtomically(storage -> {
+      updates.forEach(update -> update.accept(storage));
+      updater.accept(storage);
+    });
+    if (!written) {
+      requeue(updates);
+    }
+  }
+
+  /**
+   * Keep the update in memory until the next flush. Updates are functions of the stored data, so applying them later on the file content,
+   * under the file lock, keeps the result correct when several processes share the same telemetry file.
+   */
+  public void bufferUpdate(Consumer<TelemetryLocalStorage> updater) {
+    if (!buffered) {
+      tryUpdateAtomically(updater);
+      return;
+    }
+    boolean shouldFlush;
+    synchronized (pendingUpdates) {
+      pendingUpdates.add(updater);
+      shouldFlush = pendingUpdates.size() >= MAX_PENDING_UPDATES;
+    }
+    if (shouldFlush) {
+      flushPendingUpdates();
+    }
+  }
+
+  public void flushPendingUpdates() {
+    var updates = drainPendingUpdates();
+    if (!updates.isEmpty() && !fileStorageManager.tryUpdateAtomically(storage -> updates.forEach(update -> update.accept(storage)))) {
+      requeue(updates);
+    }
+  }
+
+  /**
+   * The file content is read again on each write, so updates that failed to be written can safely be applied at the next flush.
+   */
+  private void requeue(List<Consumer<TelemetryLocalStorage>> updates) {
+    synchronized (pendingUpdates) {
+      pendingUpdates.addAll(0, updates);
+    }
+  }
+
+  private List<Consumer<TelemetryLocalStorage>> drainPendingUpdates() {
+    synchronized (pendingUpdates) {
+      var updates = List.copyOf(pendingUpdates);
+      pendingUpdates.clear();
+      return updates;
+    }
   }
 
   public LocalDateTime lastUploadTime() {
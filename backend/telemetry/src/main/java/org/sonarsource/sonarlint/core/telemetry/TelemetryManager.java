@@ -83,12 +83,19 @@ public class TelemetryManager implements TelemetryUserSetting {
     }
   }
 
+  /**
+   * The update is kept in memory and written to the persistent storage at the next {@link #flush()}.
+   */
   public void updateTelemetry(Consumer<TelemetryLocalStorage> updater) {
     if (isTelemetryEnabledByUser()) {
-      storageManager.tryUpdateAtomically(updater);
+      storageManager.bufferUpdate(updater);
     }
   }
 
+  public void flush() {
+    storageManager.flushPendingUpdates();
+  }
+
   @Override
   public boolean isTelemetryEnabledByUser() {
     return storageManager.isEnabled();
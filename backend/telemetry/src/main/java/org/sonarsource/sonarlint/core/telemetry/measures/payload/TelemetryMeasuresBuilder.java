@@ -104,6 +104,8 @@ public class TelemetryMeasuresBuilder {
     values.add(new TelemetryMeasuresValue("performance.largest_file_count_ms", String.valueOf(storage.getListingTimeForBiggestNumberConfigScopeFiles()), INTEGER, DAILY));
     values.add(new TelemetryMeasuresValue("performance.longest_file_count_ms", String.valueOf(storage.getLongestListingTimeForConfigScopeFiles()), INTEGER, DAILY));
     values.add(new TelemetryMeasuresValue("performance.longest_file_count", String.valueOf(storage.getNumberOfFilesForLongestFilesListingTimeConfigScope()), INTEGER, DAILY));
+    values.add(new TelemetryMeasuresValue("performance.db_max_pool_wait_ms", String.valueOf(storage.getMaxDatabasePoolWaitMs()), INTEGER, DAILY));
+    values.add(new TelemetryMeasuresValue("performance.db_max_query_ms", String.valueOf(storage.getMaxDatabaseQueryTimeMs()), INTEGER, DAILY));
   }
 
   private void addFindingInvestigationMeasures(ArrayList<TelemetryMeasuresValue> values) {
@@ -19,6 +19,8 @@
  */
 package org.sonarsource.sonarlint.core.telemetry;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -162,6 +164,56 @@ class TelemetryLocalStorageManagerTests {
     assertThat(data2.openHotspotInBrowserCount()).isEqualTo(2);
   }
 
+  @Test
+  void should_write_buffered_updates_only_on_flush() {
+    var storage = new TelemetryLocalStorageManager(filePath, mock(InitializeParams.class));
+
+    storage.bufferUpdate(TelemetryLocalStorage::incrementOpenHotspotInBrowserCount);
+    storage.bufferUpdate(TelemetryLocalStorage::incrementOpenHotspotInBrowserCount);
+    assertThat(filePath).doesNotExist();
+
+    storage.flushPendingUpdates();
+
+    assertThat(storage.tryRead().openHotspotInBrowserCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_keep_buffered_updates_when_flush_fails() throws IOException {
+    var storage = new TelemetryLocalStorageManager(filePath, mock(InitializeParams.class));
+    storage.bufferUpdate(TelemetryLocalStorage::incrementOpenHotspotInBrowserCount);
+    storage.bufferUpdate(TelemetryLocalStorage::incrementOpenHotspotInBrowserCount);
+    // a directory in place of the file makes the write fail
+    Files.createDirectories(filePath);
+
+    storage.flushPendingUpdates();
+    Files.delete(filePath);
+    storage.flushPendingUpdates();
+
+    assertThat(storage.tryRead().openHotspotInBrowserCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_merge_buffered_updates_with_changes_from_other_processes() {
+    var storage = new TelemetryLocalStorageManager(filePath, mock(InitializeParams.class));
+    var otherProcessStorage = new TelemetryLocalStorageManager(filePath, mock(InitializeParams.class));
+
+    storage.bufferUpdate(TelemetryLocalStorage::incrementOpenHotspotInBrowserCount);
+    otherProcessStorage.tryUpdateAtomically(TelemetryLocalStorage::incrementOpenHotspotInBrowserCount);
+    storage.flushPendingUpdates();
+
+    assertThat(storage.tryRead().openHotspotInBrowserCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_apply_buffered_updates_before_atomic_update() {
+    var storage = new TelemetryLocalStorageManager(filePath, mock(InitializeParams.class));
+
+    storage.bufferUpdate(TelemetryLocalStorage::incrementHotspotStatusChangedCount);
+    storage.tryUpdateAtomically(TelemetryLocalStorage::incrementHotspotStatusChangedCount);
+
+    assertThat(storage.tryRead().hotspotStatusChangedCount()).isEqualTo(2);
+  }
+
   @Test
   void should_increment_hotspot_status_changed() {
     var storage = new TelemetryLocalStorageManager(filePath, mock(InitializeParams.class));
@@ -455,6 +455,22 @@ class TelemetryLocalStorageTests {
     assertThat(data.ensureIdeInstallationId()).isEqualTo(minted);
   }
 
+  @Test
+  void should_keep_maximum_database_timings_until_cleared() {
+    var data = new TelemetryLocalStorage();
+
+    data.updateDatabasePerformance(12, 40);
+    data.updateDatabasePerformance(3, 75);
+
+    assertThat(data.getMaxDatabasePoolWaitMs()).isEqualTo(12);
+    assertThat(data.getMaxDatabaseQueryTimeMs()).isEqualTo(75);
+
+    data.clearAfterPing();
+
+    assertThat(data.getMaxDatabasePoolWaitMs()).isZero();
+    assertThat(data.getMaxDatabaseQueryTimeMs()).isZero();
+  }
+
   @Test
   void ideInstallationId_should_survive_clear_after_ping() {
     var data = new TelemetryLocalStorage();
@@ -19,18 +19,29 @@
  */
 package org.sonarsource.sonarlint.core.client.utils;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 import org.eclipse.jgit.lib.Constants;
-import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.lib.RepositoryBuilder;
+import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.revwalk.RevWalkUtils;
 import org.eclipse.jgit.revwalk.filter.RevFilter;
@@ -39,6 +50,14 @@ import static java.util.Comparator.naturalOrder;
 
 public class GitUtils {
 
+  private static final int DISTANCES_CACHE_SIZE = 16;
+  private static final Map<DistancesCacheKey, Map<String, Integer>> DISTANCES_CACHE = new LinkedHashMap<>(DISTANCES_CACHE_SIZE, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<DistancesCacheKey, Map<String, Integer>> eldest) {
+      return size() > DISTANCES_CACHE_SIZE;
+    }
+  };
+
   private GitUtils() {
     // util class
   }
@@ -72,24 +91,26 @@ public class GitUtils {
       }
 
       var head = repo.exactRef(Constants.HEAD);
-      if (head == null) {
+      if (head == null || head.getObjectId() == null) {
         // Not sure if this is possible to not have a HEAD, but just in case
         return null;
       }
 
-      Map<Integer, Set<String>> branchesPerDistance = new HashMap<>();
+      var tipsPerServerBranchName = new TreeMap<String, ObjectId>();
       for (String serverBranchName : serverCandidateNames) {
         var shortBranchName = Repository.shortenRefName(serverBranchName);
         var localFullBranchName = Constants.R_HEADS + shortBranchName;
 
         var branchRef = repo.exactRef(localFullBranchName);
-        if (branchRef == null) {
+        if (branchRef == null || branchRef.getObjectId() == null) {
           continue;
         }
-
-        int distance = distance(repo, head, branchRef);
-        branchesPerDistance.computeIfAbsent(distance, d -> new HashSet<>()).add(serverBranchName);
+        tipsPerServerBranchName.put(serverBranchName, branchRef.getObjectId());
       }
+
+      Map<Integer, Set<String>> branchesPerDistance = new HashMap<>();
+      distances(repo, head.getObjectId(), tipsPerServerBranchName)
+        .forEach((serverBranchName, distance) -> branchesPerDistance.computeIfAbsent(distance, d -> new HashSet<>()).add(serverBranchName));
       if (branchesPerDistance.isEmpty()) {
         return null;
       }
@@ -108,25 +129,203 @@ public class GitUtils {
     }
   }
 
-  private static int distance(Repository repository, Ref from, Ref to) throws IOException {
+  /**
+   * Computes the distance between HEAD and each branch tip, in a single walk of the history, and caches the result.
+   * The distance is the number of commits reachable from only one of the two commits.
+   */
+  static Map<String, Integer> distances(Repository repository, ObjectId headId, SortedMap<String, ObjectId> tipsPerBranchName) throws IOException {
+    if (tipsPerBranchName.isEmpty()) {
+      return Map.of();
+    }
+    var cacheKey = new DistancesCacheKey(repository.getDirectory(), headId.copy(), new TreeMap<>(tipsPerBranchName));
+    synchronized (DISTANCES_CACHE) {
+      var cached = DISTANCES_CACHE.get(cacheKey);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    var distances = computeDistances(repository, headId, tipsPerBranchName);
+    synchronized (DISTANCES_CACHE) {
+      DISTANCES_CACHE.put(cacheKey, distances);
+    }
+    return distances;
+  }
+
+  private static Map<String, Integer> computeDistances(Repository repository, ObjectId headId, SortedMap<String, ObjectId> tipsPerBranchName) throws IOException {
+    var branchNames = List.copyOf(tipsPerBranchName.keySet());
+    // source 0 is HEAD, source i is the branch i - 1
+    var sourceCount = branchNames.size() + 1;
+    var state = new HistoryWalkState(sourceCount);
+    try (var walk = new RevWalk(repository)) {
+      walk.setRetainBody(false);
+      state.reach(walk.parseCommit(headId), 0);
+      for (var i = 0; i < branchNames.size(); i++) {
+        state.reach(walk.parseCommit(tipsPerBranchName.get(branchNames.get(i))), i + 1);
+      }
+      // once all the commits still to visit are reached by every source, their ancestors are too, and they do not count in any distance
+      while (state.hasPendingCommit()) {
+        var commit = state.poll();
+        var reachingSources = state.reachingSourcesPerCommit.get(commit);
+        for (var parent : commit.getParents()) {
+          walk.parseHeaders(parent);
+          if (parent.getCommitTime() > commit.getCommitTime()) {
+            // clock skew, an ancestor could have been visited before all its descendants and the walk cannot know when to stop
+            return distancesFromMergeBases(repository, headId, tipsPerBranchName);
+          }
+          state.propagate(parent, reachingSources);
+        }
+      }
+    }
+    var distances = new int[branchNames.size()];
+    state.reachingSourcesPerCommit.values().forEach(reachingSources -> {
+      var reachedByHead = reachingSources.get(0);
+      for (var i = 1; i < sourceCount; i++) {
+        if (reachingSources.get(i) != reachedByHead) {
+          distances[i - 1]++;
+        }
+      }
+    });
+    var distancePerBranchName = new HashMap<String, Integer>();
+    for (var i = 0; i < branchNames.size(); i++) {
+      distancePerBranchName.put(branchNames.get(i), distances[i]);
+    }
+    return Collections.unmodifiableMap(distancePerBranchName);
+  }
 
+  private static Map<String, Integer> distancesFromMergeBases(Repository repository, ObjectId headId, SortedMap<String, ObjectId> tipsPerBranchName)
+    throws IOException {
+    var distancePerBranchName = new HashMap<String, Integer>();
     try (var walk = new RevWalk(repository)) {
+      var headCommit = walk.parseCommit(headId);
+      for (var entry : tipsPerBranchName.entrySet()) {
+        distancePerBranchName.put(entry.getKey(), distanceFromMergeBase(walk, headCommit, walk.parseCommit(entry.getValue())));
+      }
+    }
+    return Collections.unmodifiableMap(distancePerBranchName);
+  }
+
+  private static int distanceFromMergeBase(RevWalk walk, RevCommit from, RevCommit to) throws IOException {
+    walk.reset();
+    walk.setRevFilter(RevFilter.MERGE_BASE);
+    walk.markStart(from);
+    walk.markStart(to);
+    var mergeBase = walk.next();
+    walk.reset();
+    walk.setRevFilter(RevFilter.ALL);
+    return RevWalkUtils.count(walk, from, mergeBase) + RevWalkUtils.count(walk, to, mergeBase);
+  }
 
-      var fromCommit = walk.parseCommit(from.getObjectId());
-      var toCommit = walk.parseCommit(to.getObjectId());
+  /**
+   * The sources reaching each visited commit, and the commits still to visit, most recent first. The number of queued commits that may still
+   * bring new sources to their ancestors is maintained incrementally, to know when the walk can stop without scanning the queue.
+   */
+  private static class HistoryWalkState {
+    private final int sourceCount;
+    private final Map<RevCommit, BitSet> reachingSourcesPerCommit = new HashMap<>();
+    private final PriorityQueue<RevCommit> queue = new PriorityQueue<>(Comparator.comparingInt(RevCommit::getCommitTime).reversed());
+    private final Set<RevCommit> queued = new HashSet<>();
+    // visited commits queued again because they are reached by new sources, they are pending until visited again whatever their sources
+    private final Set<RevCommit> requeued = new HashSet<>();
+    private int pendingCount;
+    private int oldestPartiallyReachedVisitTime = Integer.MAX_VALUE;
 
-      walk.setRevFilter(RevFilter.MERGE_BASE);
-      walk.markStart(fromCommit);
-      walk.markStart(toCommit);
-      var mergeBase = walk.next();
+    private HistoryWalkState(int sourceCount) {
+      this.sourceCount = sourceCount;
+    }
+
+    private void reach(RevCommit commit, int sourceIndex) {
+      var sources = new BitSet();
+      sources.set(sourceIndex);
+      propagate(commit, sources);
+    }
+
+    private void propagate(RevCommit commit, BitSet sources) {
+      var reachingSources = reachingSourcesPerCommit.get(commit);
+      if (reachingSources == null) {
+        reachingSourcesPerCommit.put(commit, (BitSet) sources.clone());
+        enqueue(commit);
+      } else if (!isSubset(sources, reachingSources)) {
+        var wasReachedByEverySource = isReachedByEverySource(reachingSources);
+        reachingSources.or(sources);
+        if (queued.contains(commit)) {
+          if (!wasReachedByEverySource && isReachedByEverySource(reachingSources) && !requeued.contains(commit)) {
+            pendingCount--;
+          }
+        } else {
+          // propagate again to the ancestors, e.g. when a parent was visited before a child having the same commit time
+          requeued.add(commit);
+          enqueue(commit);
+        }
+      }
+    }
+
+    private void enqueue(RevCommit commit) {
+      queue.add(commit);
+      queued.add(commit);
+      if (requeued.contains(commit) || !isReachedByEverySource(reachingSourcesPerCommit.get(commit))) {
+        pendingCount++;
+      }
+    }
+
+    private RevCommit poll() {
+      var commit = queue.poll();
+      queued.remove(commit);
+      var wasRequeued = requeued.remove(commit);
+      if (!isReachedByEverySource(reachingSourcesPerCommit.get(commit))) {
+        oldestPartiallyReachedVisitTime = Math.min(oldestPartiallyReachedVisitTime, commit.getCommitTime());
+        pendingCount--;
+      } else if (wasRequeued) {
+        pendingCount--;
+      }
+      return commit;
+    }
 
-      walk.reset();
-      walk.setRevFilter(RevFilter.ALL);
-      int aheadCount = RevWalkUtils.count(walk, fromCommit, mergeBase);
-      int behindCount = RevWalkUtils.count(walk, toCommit,
-        mergeBase);
+    /**
+     * Commits reached by every source are pending as long as they are not older than a visited commit that is not: having the same commit
+     * time, it could be one of their ancestors and then miss some sources.
+     */
+    private boolean hasPendingCommit() {
+      return pendingCount > 0 || (!queue.isEmpty() && queue.peek().getCommitTime() >= oldestPartiallyReachedVisitTime);
+    }
+
+    private boolean isReachedByEverySource(BitSet reachingSources) {
+      return reachingSources.cardinality() == sourceCount;
+    }
+  }
+
+  private static boolean isSubset(BitSet subset, BitSet set) {
+    var missing = (BitSet) subset.clone();
+    missing.andNot(set);
+    return missing.isEmpty();
+  }
+
+  private static final class DistancesCacheKey {
+    @Nullable
+    private final File gitDir;
+    private final ObjectId headId;
+    private final SortedMap<String, ObjectId> tipsPerBranchName;
+
+    private DistancesCacheKey(@Nullable File gitDir, ObjectId headId, SortedMap<String, ObjectId> tipsPerBranchName) {
+      this.gitDir = gitDir;
+      this.headId = headId;
+      this.tipsPerBranchName = tipsPerBranchName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DistancesCacheKey)) {
+        return false;
+      }
+      var other = (DistancesCacheKey) o;
+      return Objects.equals(gitDir, other.gitDir) && headId.equals(other.headId) && tipsPerBranchName.equals(other.tipsPerBranchName);
+    }
 
-      return aheadCount + behindCount;
+    @Override
+    public int hashCode() {
+      return Objects.hash(gitDir, headId, tipsPerBranchName);
     }
   }
 
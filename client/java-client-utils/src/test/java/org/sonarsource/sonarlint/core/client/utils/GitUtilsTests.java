@@ -24,19 +24,35 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Date;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.RefDatabase;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.TreeFormatter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import static java.lang.String.format;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class GitUtilsTests {
@@ -155,6 +171,137 @@ class GitUtilsTests {
     }
   }
 
+  @Test
+  void shouldElectClosestBranchAmongManyCandidates(@TempDir File projectDir) throws Exception {
+    try (var git = Git.init().setDirectory(projectDir).setInitialBranch("main").call()) {
+      commit(git, "c1");
+      commit(git, "c2");
+      git.branchCreate().setName("old").call();
+      commit(git, "c3");
+      git.branchCreate().setName("feature").call();
+      for (var i = 0; i < 20; i++) {
+        git.branchCreate().setName("pr-" + i).call();
+        git.checkout().setName("pr-" + i).call();
+        commit(git, "pr commit " + i);
+        commit(git, "another pr commit " + i);
+        git.checkout().setName("main").call();
+      }
+      commit(git, "c4");
+      git.checkout().setName("feature").call();
+      commit(git, "f1");
+      git.checkout().setCreateBranch(true).setName("local").call();
+      commit(git, "l1");
+
+      var repo = git.getRepository();
+      var candidates = new HashSet<>(Set.of("main", "old", "feature"));
+      for (var i = 0; i < 20; i++) {
+        candidates.add("pr-" + i);
+      }
+
+      assertThat(GitUtils.electBestMatchingServerBranchForCurrentHead(repo, candidates, "main", fakeClientLogger)).isEqualTo("feature");
+      assertThat(GitUtils.electBestMatchingServerBranchForCurrentHead(repo, Set.of("main", "old"), "main", fakeClientLogger)).isEqualTo("main");
+    }
+  }
+
+  @Test
+  void shouldNotWalkHistoryAgainForSameHeadAndCandidates(@TempDir File projectDir) throws Exception {
+    try (var git = Git.init().setDirectory(projectDir).setInitialBranch("main").call()) {
+      commit(git, "c1");
+      git.checkout().setCreateBranch(true).setName("feature").call();
+      commit(git, "f1");
+      git.checkout().setCreateBranch(true).setName("local").call();
+      commit(git, "l1");
+      var candidates = Set.of("main", "feature");
+
+      var firstRepo = spy(git.getRepository());
+      assertThat(GitUtils.electBestMatchingServerBranchForCurrentHead(firstRepo, candidates, "main", fakeClientLogger)).isEqualTo("feature");
+      verify(firstRepo, atLeastOnce()).newObjectReader();
+
+      var secondRepo = spy(git.getRepository());
+      assertThat(GitUtils.electBestMatchingServerBranchForCurrentHead(secondRepo, candidates, "main", fakeClientLogger)).isEqualTo("feature");
+      verify(secondRepo, never()).newObjectReader();
+
+      commit(git, "l2");
+      var thirdRepo = spy(git.getRepository());
+      assertThat(GitUtils.electBestMatchingServerBranchForCurrentHead(thirdRepo, candidates, "main", fakeClientLogger)).isEqualTo("feature");
+      verify(thirdRepo, atLeastOnce()).newObjectReader();
+    }
+  }
+
+  @Test
+  void shouldComputeDistancesWhenCommitsHaveTheSameTime(@TempDir File projectDir) throws Exception {
+    try (var git = Git.init().setDirectory(projectDir).setInitialBranch("main").call()) {
+      var repo = git.getRepository();
+      var head = createHistory(repo, Map.of("c1", 100, "c2", 100, "c3", 100, "c4", 100, "f1", 100, "f2", 100, "l1", 100, "m", 100, "l2", 100));
+
+      assertThat(GitUtils.distances(repo, head, branchTips(repo))).containsOnly(entry("main", 6), entry("feature", 4));
+      assertThat(GitUtils.electBestMatchingServerBranchForCurrentHead(repo, Set.of("main", "feature"), "main", fakeClientLogger)).isEqualTo("feature");
+    }
+  }
+
+  @Test
+  void shouldComputeDistancesWhenParentsAreMoreRecentThanTheirChildren(@TempDir File projectDir) throws Exception {
+    try (var git = Git.init().setDirectory(projectDir).setInitialBranch("main").call()) {
+      var repo = git.getRepository();
+      var head = createHistory(repo, Map.of("c1", 100, "c2", 900, "c3", 300, "c4", 400, "f1", 200, "f2", 800, "l1", 300, "m", 300, "l2", 500));
+
+      assertThat(GitUtils.distances(repo, head, branchTips(repo))).containsOnly(entry("main", 6), entry("feature", 4));
+      assertThat(GitUtils.electBestMatchingServerBranchForCurrentHead(repo, Set.of("main", "feature"), "main", fakeClientLogger)).isEqualTo("feature");
+    }
+  }
+
+  /**
+   * main: c1 - c2 - c3 - c4, feature: c2 - f1 - f2, local (HEAD): f2 - l1 - m (merging c3) - l2
+   */
+  private static ObjectId createHistory(Repository repo, Map<String, Integer> commitTimes) throws Exception {
+    var c1 = commit(repo, "c1", commitTimes);
+    var c2 = commit(repo, "c2", commitTimes, c1);
+    var c3 = commit(repo, "c3", commitTimes, c2);
+    var c4 = commit(repo, "c4", commitTimes, c3);
+    var f1 = commit(repo, "f1", commitTimes, c2);
+    var f2 = commit(repo, "f2", commitTimes, f1);
+    var l1 = commit(repo, "l1", commitTimes, f2);
+    var m = commit(repo, "m", commitTimes, l1, c3);
+    var l2 = commit(repo, "l2", commitTimes, m);
+    updateBranch(repo, "main", c4);
+    updateBranch(repo, "feature", f2);
+    updateBranch(repo, "local", l2);
+    repo.updateRef(Constants.HEAD).link(Constants.R_HEADS + "local");
+    return l2;
+  }
+
+  private static ObjectId commit(Repository repo, String message, Map<String, Integer> commitTimes, ObjectId... parents) throws IOException {
+    try (var inserter = repo.newObjectInserter()) {
+      var ident = new PersonIdent("author", "author@example.com", new Date(commitTimes.get(message) * 1000L), TimeZone.getTimeZone("UTC"));
+      var builder = new CommitBuilder();
+      builder.setTreeId(inserter.insert(new TreeFormatter()));
+      builder.setAuthor(ident);
+      builder.setCommitter(ident);
+      builder.setParentIds(parents);
+      builder.setMessage(message);
+      var commitId = inserter.insert(builder);
+      inserter.flush();
+      return commitId;
+    }
+  }
+
+  private static void updateBranch(Repository repo, String branchName, ObjectId commitId) throws IOException {
+    var update = repo.updateRef(Constants.R_HEADS + branchName);
+    update.setNewObjectId(commitId);
+    update.forceUpdate();
+  }
+
+  private static TreeMap<String, ObjectId> branchTips(Repository repo) throws IOException {
+    var tips = new TreeMap<String, ObjectId>();
+    tips.put("main", repo.resolve("main"));
+    tips.put("feature", repo.resolve("feature"));
+    return tips;
+  }
+
+  private static void commit(Git git, String message) throws Exception {
+    git.commit().setMessage(message).setAllowEmpty(true).setSign(false).call();
+  }
+
   public void javaUnzip(String zipFileName, File toDir) throws IOException {
     File testRepos = new File("src/test/test-repos");
     File zipFile = new File(testRepos, zipFileName);
@@ -0,0 +1,178 @@
+/*
+ * SonarLint Core - RPC Java Client
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.CheckForNull;
+
+/**
+ * Dynamic application class-data sharing (AppCDS) for the backend process. The JVM records the classes loaded by the backend in an
+ * archive when it exits, and maps them from this archive on the next starts instead of loading and verifying them again.
+ * <p>
+ * There is one archive per backend distribution, JRE and set of plugins: the archive name is derived from them, so any change
+ * leads to a new archive being recorded. Only the most recent archives are kept in the archive directory.
+ * Requires a JRE 19+, otherwise the backend is started without class-data sharing.
+ */
+public class ClassDataSharing {
+  static final String ARCHIVE_PREFIX = "sonarlint-backend-";
+  static final String ARCHIVE_EXTENSION = ".jsa";
+  private static final int MIN_JAVA_VERSION = 19;
+  private static final int MAX_KEPT_ARCHIVES = 3;
+
+  private final Path archiveDirectory;
+  private final List<Path> pluginPaths;
+
+  /**
+   * @param archiveDirectory where archives are stored, e.g. a folder in the IDE system directory
+   * @param pluginPaths the plugins that will be provided to the backend
+   */
+  public ClassDataSharing(Path archiveDirectory, Collection<Path> pluginPaths) {
+    this.archiveDirectory = archiveDirectory;
+    this.pluginPaths = pluginPaths.stream().map(p -> p.toAbsolutePath().normalize()).sorted().collect(Collectors.toList());
+  }
+
+  /**
+   * @return the archive the backend will use, or null if the JRE does not support dynamic archives
+   */
+  @CheckForNull
+  Path prepareArchive(Path distPath, Path jreHomePath) throws IOException {
+    var javaVersion = readJavaVersion(jreHomePath);
+    if (javaVersion == null || majorVersion(javaVersion) < MIN_JAVA_VERSION) {
+      return null;
+    }
+    Files.createDirectories(archiveDirectory);
+    var archive = archiveDirectory.resolve(ARCHIVE_PREFIX + fingerprint(distPath, jreHomePath, javaVersion) + ARCHIVE_EXTENSION);
+    deleteOutdatedArchives(archive);
+    return archive;
+  }
+
+  static List<String> jvmOptions(Path archive) {
+    return List.of(
+      "-XX:SharedArchiveFile=" + archive.toAbsolutePath(),
+      // (re)create the archive at exit if it is missing or was recorded by another JVM
+      "-XX:+AutoCreateSharedArchive",
+      // JVM warnings go to stdout by default, which would corrupt the RPC messages
+      "-Xlog:disable",
+      "-Xlog:all=warning:stderr");
+  }
+
+  private String fingerprint(Path distPath, Path jreHomePath, String javaVersion) throws IOException {
+    var content = new StringBuilder();
+    content.append("jre:").append(jreHomePath.toAbsolutePath().normalize()).append(':').append(javaVersion).append('\n');
+    var libFolderPath = distPath.resolve("lib");
+    if (Files.isDirectory(libFolderPath)) {
+      try (Stream<Path> jars = Files.list(libFolderPath)) {
+        for (var jar : jars.sorted().collect(Collectors.toList())) {
+          appendFile(content, "lib", jar);
+        }
+      }
+    }
+    for (var pluginPath : pluginPaths) {
+      appendFile(content, "plugin", pluginPath);
+    }
+    return sha256(content.toString()).substring(0, 16);
+  }
+
+  private static void appendFile(StringBuilder content, String kind, Path file) throws IOException {
+    content.append(kind).append(':').append(file.getFileName());
+    if (Files.exists(file)) {
+      content.append(':').append(Files.size(file)).append(':').append(Files.getLastModifiedTime(file).toMillis());
+    }
+    content.append('\n');
+  }
+
+  private void deleteOutdatedArchives(Path currentArchive) throws IOException {
+    List<Path> otherArchives;
+    try (Stream<Path> files = Files.list(archiveDirectory)) {
+      otherArchives = files
+        .filter(f -> !f.equals(currentArchive))
+        .filter(f -> {
+          var fileName = f.getFileName().toString();
+          return fileName.startsWith(ARCHIVE_PREFIX) && fileName.endsWith(ARCHIVE_EXTENSION);
+        })
+        .sorted(Comparator.comparing(ClassDataSharing::lastModified).reversed())
+        .collect(Collectors.toList());
+    }
+    for (var outdatedArchive : otherArchives.subList(Math.min(otherArchives.size(), MAX_KEPT_ARCHIVES - 1), otherArchives.size())) {
+      try {
+        Files.deleteIfExists(outdatedArchive);
+      } catch (IOException e) {
+        // still in use by another backend, will be deleted by a next start
+      }
+    }
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  @CheckForNull
+  static String readJavaVersion(Path jreHomePath) throws IOException {
+    var releaseFile = jreHomePath.resolve("release");
+    if (!Files.isRegularFile(releaseFile)) {
+      return null;
+    }
+    for (var line : Files.readAllLines(releaseFile, StandardCharsets.UTF_8)) {
+      if (line.startsWith("JAVA_VERSION=")) {
+        return line.substring("JAVA_VERSION=".length()).replace("\"", "").trim();
+      }
+    }
+    return null;
+  }
+
+  static int majorVersion(String javaVersion) {
+    var parts = javaVersion.split("[.+\\-]");
+    try {
+      var major = Integer.parseInt(parts[0]);
+      // Java 8 and older are versioned 1.x
+      return major == 1 && parts.length > 1 ? Integer.parseInt(parts[1]) : major;
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static String sha256(String content) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+      var hex = new StringBuilder();
+      for (var b : digest) {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -67,8 +67,16 @@ public class SloopLauncher {
    * @param jvmOpts Each argument should be separated by a space, such as '-XX:+UseG1GC -XX:MaxHeapFreeRatio=50'
    */
   public Sloop start(Path distPath, @Nullable Path jrePath, @Nullable String jvmOpts) {
+    return start(distPath, jrePath, jvmOpts, null);
+  }
+
+  /**
+   * @param jvmOpts Each argument should be separated by a space, such as '-XX:+UseG1GC -XX:MaxHeapFreeRatio=50'
+   * @param classDataSharing if not null, record and reuse a class-data sharing archive to speed up the backend startup
+   */
+  public Sloop start(Path distPath, @Nullable Path jrePath, @Nullable String jvmOpts, @Nullable ClassDataSharing classDataSharing) {
     try {
-      return execute(distPath, jrePath, jvmOpts);
+      return execute(distPath, jrePath, jvmOpts, classDataSharing);
     } catch (Exception e) {
       logToClient(LogLevel.ERROR, "Unable to start the SonarLint backend", stackTraceToString(e));
       throw new IllegalStateException("Unable to start the SonarLint backend", e);
@@ -93,7 +101,7 @@ public class SloopLauncher {
     return osName.startsWith("Windows");
   }
 
-  private Sloop execute(Path distPath, @Nullable Path jrePath, @Nullable String jvmOpts) throws IOException {
+  private Sloop execute(Path distPath, @Nullable Path jrePath, @Nullable String jvmOpts, @Nullable ClassDataSharing classDataSharing) throws IOException {
     var jreHomePath = jrePath == null ? distPath.resolve("jre") : jrePath;
     logToClient(LogLevel.INFO, "Using JRE from " + jreHomePath, null);
     var binDirPath = jreHomePath.resolve("bin");
@@ -101,7 +109,8 @@ public class SloopLauncher {
     if (!Files.exists(jreJavaExePath)) {
       throw new IllegalArgumentException("The provided JRE path does not exist: " + jreJavaExePath);
     }
-    var processBuilder = processBuilderFactory.apply(createCommand(distPath, jreJavaExePath, jvmOpts));
+    var classDataSharingOpts = classDataSharing == null ? List.<String>of() : classDataSharingOptions(classDataSharing, distPath, jreHomePath);
+    var processBuilder = processBuilderFactory.apply(createCommand(distPath, jreJavaExePath, classDataSharingOpts, jvmOpts));
     processBuilder.directory(binDirPath.toFile());
     processBuilder.redirectOutput(ProcessBuilder.Redirect.PIPE);
     processBuilder.redirectInput(ProcessBuilder.Redirect.PIPE);
@@ -122,11 +131,31 @@ public class SloopLauncher {
     return new Sloop(serverProxy, process);
   }
 
-  private static List<String> createCommand(Path distPath, Path jreJavaExePath, @Nullable String clientJvmOpts) {
+  private List<String> classDataSharingOptions(ClassDataSharing classDataSharing, Path distPath, Path jreHomePath) {
+    try {
+      var archive = classDataSharing.prepareArchive(distPath, jreHomePath);
+      if (archive == null) {
+        logToClient(LogLevel.INFO, "Class data sharing requires Java 19+, starting without it", null);
+        return List.of();
+      }
+      if (Files.exists(archive)) {
+        logToClient(LogLevel.INFO, "Using class data sharing archive " + archive, null);
+      } else {
+        logToClient(LogLevel.INFO, "Recording class data sharing archive " + archive + " on exit", null);
+      }
+      return ClassDataSharing.jvmOptions(archive);
+    } catch (IOException e) {
+      logToClient(LogLevel.WARN, "Unable to prepare the class data sharing archive, starting without it", stackTraceToString(e));
+      return List.of();
+    }
+  }
+
+  private static List<String> createCommand(Path distPath, Path jreJavaExePath, List<String> classDataSharingOpts, @Nullable String clientJvmOpts) {
     var libFolderPath = distPath.resolve("lib");
     var classpath = libFolderPath.toAbsolutePath().normalize() + File.separator + '*';
     List<String> commands = new ArrayList<>();
     commands.add(jreJavaExePath.toAbsolutePath().normalize().toString());
+    commands.addAll(classDataSharingOpts);
     var sonarlintEnvJvmOpts = System.getenv("SONARLINT_JVM_OPTS");
     if (sonarlintEnvJvmOpts != null) {
       commands.addAll(Arrays.asList(sonarlintEnvJvmOpts.split(" ")));
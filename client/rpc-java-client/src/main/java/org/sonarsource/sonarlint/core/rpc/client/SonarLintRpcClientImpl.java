@@ -74,6 +74,7 @@ import org.sonarsource.sonarlint.core.rpc.protocol.client.info.GetClientLiveInfo
 import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.RaiseIssuesParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.ShowIssueParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogLevel;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogBatchParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.message.ShowMessageParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.message.ShowMessageRequestParams;
@@ -210,6 +211,11 @@ public class SonarLintRpcClientImpl implements SonarLintRpcClient {
     notify(() -> delegate.log(params));
   }
 
+  @Override
+  public void logBatch(LogBatchParams params) {
+    notify(() -> params.getLogs().forEach(delegate::log));
+  }
+
   @Override
   public void showSoonUnsupportedMessage(ShowSoonUnsupportedMessageParams params) {
     notify(() -> delegate.showSoonUnsupportedMessage(params));
@@ -117,6 +117,55 @@ class SloopLauncherTests {
     assertThat(sloop.getRpcServer()).isNotNull();
   }
 
+  @Test
+  void test_command_with_class_data_sharing(@TempDir Path distPath, @TempDir Path archiveDir) throws IOException {
+    Files.writeString(fakeJreHomePath.resolve("release"), "IMPLEMENTOR=\"Eclipse Adoptium\"\nJAVA_VERSION=\"21.0.10\"\n");
+    var plugin = Files.writeString(archiveDir.resolve("plugin.jar"), "plugin");
+
+    sloop = underTest.start(distPath, fakeJreHomePath, null, new ClassDataSharing(archiveDir.resolve("cds"), List.of(plugin)));
+
+    ArgumentCaptor<List<String>> captor = ArgumentCaptor.captor();
+    verify(mockPbFactory).apply(captor.capture());
+    var command = captor.getValue();
+    assertThat(command.get(1)).startsWith("-XX:SharedArchiveFile=" + archiveDir.resolve("cds").resolve(ClassDataSharing.ARCHIVE_PREFIX)).endsWith(".jsa");
+    assertThat(command.subList(2, 5)).containsExactly("-XX:+AutoCreateSharedArchive", "-Xlog:disable", "-Xlog:all=warning:stderr");
+    assertThat(command).endsWith("org.sonarsource.sonarlint.core.backend.cli.SonarLintServerCli");
+  }
+
+  @Test
+  void test_class_data_sharing_archive_changes_with_plugins(@TempDir Path distPath, @TempDir Path archiveDir) throws IOException {
+    Files.writeString(fakeJreHomePath.resolve("release"), "JAVA_VERSION=\"21.0.10\"\n");
+    var plugin1 = Files.writeString(archiveDir.resolve("plugin1.jar"), "plugin1");
+    var plugin2 = Files.writeString(archiveDir.resolve("plugin2.jar"), "plugin2");
+    var cdsDir = archiveDir.resolve("cds");
+
+    var archive = new ClassDataSharing(cdsDir, List.of(plugin1, plugin2)).prepareArchive(distPath, fakeJreHomePath);
+    var sameArchive = new ClassDataSharing(cdsDir, List.of(plugin2, plugin1)).prepareArchive(distPath, fakeJreHomePath);
+    var otherArchive = new ClassDataSharing(cdsDir, List.of(plugin1)).prepareArchive(distPath, fakeJreHomePath);
+
+    assertThat(sameArchive).isEqualTo(archive);
+    assertThat(otherArchive).isNotEqualTo(archive);
+  }
+
+  @Test
+  void test_command_without_class_data_sharing_on_old_jre(@TempDir Path distPath, @TempDir Path archiveDir) throws IOException {
+    Files.writeString(fakeJreHomePath.resolve("release"), "JAVA_VERSION=\"17.0.2\"\n");
+
+    sloop = underTest.start(distPath, fakeJreHomePath, null, new ClassDataSharing(archiveDir, List.of()));
+
+    verify(mockPbFactory)
+      .apply(List.of(fakeJreJavaLinuxPath.toString(), "-Djava.awt.headless=true",
+        "-classpath", distPath.resolve("lib") + File.separator + '*', "org.sonarsource.sonarlint.core.backend.cli.SonarLintServerCli"));
+  }
+
+  @Test
+  void test_java_major_version() {
+    assertThat(ClassDataSharing.majorVersion("21.0.10")).isEqualTo(21);
+    assertThat(ClassDataSharing.majorVersion("19")).isEqualTo(19);
+    assertThat(ClassDataSharing.majorVersion("1.8.0_392")).isEqualTo(8);
+    assertThat(ClassDataSharing.majorVersion("unknown")).isZero();
+  }
+
   @Test
   void test_redirect_stderr_to_client(@TempDir Path distPath) {
     when(mockProcess.getErrorStream()).thenReturn(new ByteArrayInputStream("Some errors\nSome other error".getBytes()));
@@ -0,0 +1,73 @@
+/*
+ * SonarLint Core - Medium Tests
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package mediumtest.monitoring;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.GetRecentTracesParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis.TraceDto;
+import org.sonarsource.sonarlint.core.rpc.protocol.common.ClientFileDto;
+import org.sonarsource.sonarlint.core.test.utils.junit5.SonarLintTest;
+import org.sonarsource.sonarlint.core.test.utils.junit5.SonarLintTestHarness;
+import utils.TestPlugin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static utils.AnalysisUtils.analyzeFileAndGetIssues;
+import static utils.AnalysisUtils.createFile;
+
+class LocalTracesMediumTests {
+
+  private static final String CONFIG_SCOPE_ID = "CONFIG_SCOPE_ID";
+
+  @SonarLintTest
+  void it_should_return_recent_analysis_traces_without_monitoring(SonarLintTestHarness harness, @TempDir Path baseDir) throws IOException {
+    var filePath = createFile(baseDir, "Foo.java", "public interface Foo {}");
+    var fileUri = filePath.toUri();
+    var client = harness.newFakeClient()
+      .withInitialFs(CONFIG_SCOPE_ID, baseDir, List.of(new ClientFileDto(fileUri, baseDir.relativize(filePath), CONFIG_SCOPE_ID, false, null, filePath, null, null, true)))
+      .build();
+    var backend = harness.newBackend()
+      .withUnboundConfigScope(CONFIG_SCOPE_ID)
+      .withStandaloneEmbeddedPluginAndEnabledLanguage(TestPlugin.JAVA)
+      .start(client);
+    analyzeFileAndGetIssues(fileUri, client, backend, CONFIG_SCOPE_ID);
+    var chromeTraceFile = baseDir.resolve("traces.json");
+
+    await().untilAsserted(() -> assertThat(backend.getAnalysisService().getRecentTraces(new GetRecentTracesParams(null, chromeTraceFile)).join().getTraces())
+      .extracting(TraceDto::getName, TraceDto::getOperation)
+      .contains(tuple("AnalysisService", "analyze")));
+
+    assertThat(Files.readString(chromeTraceFile)).contains("\"traceEvents\"");
+  }
+
+  @SonarLintTest
+  void it_should_limit_the_number_of_returned_traces(SonarLintTestHarness harness) {
+    var backend = harness.newBackend().start();
+
+    var traces = backend.getAnalysisService().getRecentTraces(new GetRecentTracesParams(1, null)).join().getTraces();
+
+    assertThat(traces).hasSizeLessThanOrEqualTo(1);
+  }
+}
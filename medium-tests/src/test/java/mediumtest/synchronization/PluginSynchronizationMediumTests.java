@@ -26,6 +26,7 @@ import org.jetbrains.annotations.NotNull;
 import org.sonarsource.sonarlint.core.rpc.protocol.common.Language;
 import org.sonarsource.sonarlint.core.serverconnection.proto.Sonarlint;
 import org.sonarsource.sonarlint.core.serverconnection.proto.Sonarlint.PluginReferences.PluginReference;
+import org.sonarsource.sonarlint.core.serverconnection.storage.PluginBlobStore;
 import org.sonarsource.sonarlint.core.serverconnection.storage.PluginsStorage;
 import org.sonarsource.sonarlint.core.serverconnection.storage.ProtobufFileUtil;
 import org.sonarsource.sonarlint.core.test.utils.SonarLintTestRpcServer;
@@ -219,7 +220,8 @@ class PluginSynchronizationMediumTests {
       .start(client);
 
     waitAtMost(3, SECONDS).untilAsserted(() -> {
-      assertThat(getPluginsStorageFolder(backend)).isDirectoryContaining(path -> path.getFileName().toString().equals("java-custom-plugin-4.3.0.1456.jar"));
+      assertThat(getSharedPluginFolder(backend, "de5308f43260d357acc97712ce4c5475"))
+        .isDirectoryContaining(path -> path.getFileName().toString().equals("java-custom-plugin-4.3.0.1456.jar"));
       assertThat(getPluginReferencesFilePath(backend))
         .exists()
         .extracting(this::readPluginReferences, as(MAP))
@@ -246,7 +248,9 @@ class PluginSynchronizationMediumTests {
 
     assertThat(getPluginsStorageFolder(backend).toFile().listFiles())
       .extracting(File::getName)
-      .containsOnly(PluginsStorage.PLUGIN_REFERENCES_PB, TestPlugin.PHP.getPath().getFileName().toString());
+      .containsOnly(PluginsStorage.PLUGIN_REFERENCES_PB);
+    assertThat(getSharedPluginFolder(backend, TestPlugin.PHP.getHash()))
+      .isDirectoryContaining(path -> path.getFileName().equals(TestPlugin.PHP.getPath().getFileName()));
     assertThat(client.getLogMessages()).contains("Cleaning up the plugins storage " + getPluginsStorageFolder(backend) + ", removing 1 unknown files:");
     assertThat(getPluginReferencesFilePath(backend))
       .exists()
@@ -264,6 +268,11 @@ class PluginSynchronizationMediumTests {
     return backend.getStorageRoot().resolve(encodeForFs("connectionId")).resolve("plugins");
   }
 
+  @NotNull
+  private Path getSharedPluginFolder(SonarLintTestRpcServer backend, String hash) {
+    return backend.getStorageRoot().resolve(PluginBlobStore.FOLDER_NAME).resolve(encodeForFs(hash));
+  }
+
   @NotNull
   private Path getPluginReferencesFilePath(SonarLintTestRpcServer backend) {
     return getPluginsStorageFolder(backend).resolve("plugin_references.pb");
@@ -208,6 +208,31 @@ class TaintVulnerabilitiesMediumTests {
     assertThat(ChronoUnit.MINUTES.between(taintVulnerabilities.get(0).getIntroductionDate(), newestIntroductionDate)).isZero();
   }
 
+  @SonarLintTest
+  void it_should_page_through_the_stored_taint_vulnerabilities(SonarLintTestHarness harness) throws ExecutionException, InterruptedException {
+    var server = harness.newFakeSonarQubeServer()
+      .withProject("projectKey", project -> project.withBranch("main"))
+      .start();
+    var backend = harness.newBackend()
+      .withSonarQubeConnection("connectionId", server,
+        storage -> storage.withProject("projectKey",
+          project -> project.withMainBranch("main",
+            branch -> branch.withTaintIssue(aServerTaintIssue("key1"))
+              .withTaintIssue(aServerTaintIssue("key2"))
+              .withTaintIssue(aServerTaintIssue("key3")))))
+      .withBoundConfigScope("configScopeId", "connectionId", "projectKey")
+      .start();
+    var service = backend.getTaintVulnerabilityTrackingService();
+
+    var firstPage = service.listAll(new ListAllParams("configScopeId", false, 2, null)).get();
+    var secondPage = service.listAll(new ListAllParams("configScopeId", false, 2, firstPage.getNextPageCursor())).get();
+
+    assertThat(firstPage.getTaintVulnerabilities()).extracting(TaintVulnerabilityDto::getSonarServerKey).containsExactly("key1", "key2");
+    assertThat(firstPage.getNextPageCursor()).isEqualTo("key2");
+    assertThat(secondPage.getTaintVulnerabilities()).extracting(TaintVulnerabilityDto::getSonarServerKey).containsExactly("key3");
+    assertThat(secondPage.getNextPageCursor()).isNull();
+  }
+
   private List<TaintVulnerabilityDto> listAllTaintVulnerabilities(SonarLintTestRpcServer backend, String configScopeId) {
     try {
       return backend.getTaintVulnerabilityTrackingService().listAll(new ListAllParams(configScopeId)).get().getTaintVulnerabilities();
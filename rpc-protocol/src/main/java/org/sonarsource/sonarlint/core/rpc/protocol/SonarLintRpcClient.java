@@ -66,6 +66,7 @@ import org.sonarsource.sonarlint.core.rpc.protocol.client.http.SelectProxiesResp
 import org.sonarsource.sonarlint.core.rpc.protocol.client.info.GetClientLiveInfoResponse;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.RaiseIssuesParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.issue.ShowIssueParams;
+import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogBatchParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.log.LogParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.message.ShowMessageParams;
 import org.sonarsource.sonarlint.core.rpc.protocol.client.message.ShowMessageRequestParams;
@@ -128,6 +129,14 @@ public interface SonarLintRpcClient {
   @JsonNotification
   void log(LogParams params);
 
+  /**
+   * Sent instead of {@link #log(LogParams)} when the client declared the {@link org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.BackendCapability#LOG_BATCHES} capability.
+   */
+  @JsonNotification
+  default void logBatch(LogBatchParams params) {
+    params.getLogs().forEach(this::log);
+  }
+
   /**
    * Display a one-time message to the user as a small notification.
    * The message is informative and a link to the documentation should be available.
@@ -139,4 +139,11 @@ public interface AnalysisRpcService {
    */
   @JsonRequest
   CompletableFuture<ShouldUseEnterpriseCSharpAnalyzerResponse> shouldUseEnterpriseCSharpAnalyzer(ShouldUseEnterpriseCSharpAnalyzerParams params);
+
+  /**
+   * Returns the most recent performance traces recorded locally by the backend, e.g. the analyses with their container startup and sensor timings.
+   * Traces are recorded in memory whether or not monitoring is enabled, and are never sent anywhere by this request.
+   */
+  @JsonRequest
+  CompletableFuture<GetRecentTracesResponse> getRecentTraces(GetRecentTracesParams params);
 }
@@ -0,0 +1,48 @@
+/*
+ * SonarLint Core - RPC Protocol
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis;
+
+import java.nio.file.Path;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+public class GetRecentTracesParams {
+  private final Integer maxCount;
+  private final Path chromeTraceFile;
+
+  /**
+   * @param maxCount maximum number of traces to return, all the recorded traces are returned if null
+   * @param chromeTraceFile if not null, the returned traces are also written to this file in the Chrome trace event format
+   */
+  public GetRecentTracesParams(@Nullable Integer maxCount, @Nullable Path chromeTraceFile) {
+    this.maxCount = maxCount;
+    this.chromeTraceFile = chromeTraceFile;
+  }
+
+  @CheckForNull
+  public Integer getMaxCount() {
+    return maxCount;
+  }
+
+  @CheckForNull
+  public Path getChromeTraceFile() {
+    return chromeTraceFile;
+  }
+}
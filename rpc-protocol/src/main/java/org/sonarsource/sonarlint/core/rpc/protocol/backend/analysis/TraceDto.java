@@ -0,0 +1,81 @@
+/*
+ * SonarLint Core - RPC Protocol
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Times are in microseconds, start times are relative to the epoch.
+ */
+public class TraceDto {
+  private final String name;
+  private final String operation;
+  private final long startEpochMicros;
+  private final long durationMicros;
+  private final String threadName;
+  private final boolean failed;
+  private final Map<String, String> data;
+  private final List<TraceSpanDto> spans;
+
+  public TraceDto(String name, String operation, long startEpochMicros, long durationMicros, String threadName, boolean failed, Map<String, String> data,
+    List<TraceSpanDto> spans) {
+    this.name = name;
+    this.operation = operation;
+    this.startEpochMicros = startEpochMicros;
+    this.durationMicros = durationMicros;
+    this.threadName = threadName;
+    this.failed = failed;
+    this.data = data;
+    this.spans = spans;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getOperation() {
+    return operation;
+  }
+
+  public long getStartEpochMicros() {
+    return startEpochMicros;
+  }
+
+  public long getDurationMicros() {
+    return durationMicros;
+  }
+
+  public String getThreadName() {
+    return threadName;
+  }
+
+  public boolean isFailed() {
+    return failed;
+  }
+
+  public Map<String, String> getData() {
+    return data;
+  }
+
+  public List<TraceSpanDto> getSpans() {
+    return spans;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * SonarLint Core - RPC Protocol
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.protocol.backend.analysis;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+/**
+ * Times are in microseconds, start times are relative to the epoch.
+ */
+public class TraceSpanDto {
+  private final String task;
+  private final String description;
+  private final long startEpochMicros;
+  private final long durationMicros;
+  private final String threadName;
+  private final boolean failed;
+
+  public TraceSpanDto(String task, @Nullable String description, long startEpochMicros, long durationMicros, String threadName, boolean failed) {
+    this.task = task;
+    this.description = description;
+    this.startEpochMicros = startEpochMicros;
+    this.durationMicros = durationMicros;
+    this.threadName = threadName;
+    this.failed = failed;
+  }
+
+  public String getTask() {
+    return task;
+  }
+
+  @CheckForNull
+  public String getDescription() {
+    return description;
+  }
+
+  public long getStartEpochMicros() {
+    return startEpochMicros;
+  }
+
+  public long getDurationMicros() {
+    return durationMicros;
+  }
+
+  public String getThreadName() {
+    return threadName;
+  }
+
+  public boolean isFailed() {
+    return failed;
+  }
+}
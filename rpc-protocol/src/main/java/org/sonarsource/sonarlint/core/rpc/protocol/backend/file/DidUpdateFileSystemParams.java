@@ -21,6 +21,7 @@ package org.sonarsource.sonarlint.core.rpc.protocol.backend.file;
 
 import java.net.URI;
 import java.util.List;
+import javax.annotation.Nullable;
 import org.sonarsource.sonarlint.core.rpc.protocol.common.ClientFileDto;
 
 public class DidUpdateFileSystemParams {
@@ -28,11 +29,19 @@ public class DidUpdateFileSystemParams {
   private final List<ClientFileDto> addedFiles;
   private final List<ClientFileDto> changedFiles;
   private final List<URI> removedFiles;
+  @Nullable
+  private final List<FileContentChangesDto> changedFileContents;
 
   public DidUpdateFileSystemParams(List<ClientFileDto> addedFiles, List<ClientFileDto> changedFiles, List<URI> removedFiles) {
+    this(addedFiles, changedFiles, removedFiles, List.of());
+  }
+
+  public DidUpdateFileSystemParams(List<ClientFileDto> addedFiles, List<ClientFileDto> changedFiles, List<URI> removedFiles,
+    List<FileContentChangesDto> changedFileContents) {
     this.addedFiles = addedFiles;
     this.changedFiles = changedFiles;
     this.removedFiles = removedFiles;
+    this.changedFileContents = changedFileContents;
   }
 
   public List<ClientFileDto> getAddedFiles() {
@@ -46,4 +55,11 @@ public class DidUpdateFileSystemParams {
     return removedFiles;
   }
 
+  /**
+   * Incremental changes of the content of dirty files, as an alternative to sending their full content in {@link #getChangedFiles()}
+   */
+  public List<FileContentChangesDto> getChangedFileContents() {
+    return changedFileContents != null ? changedFileContents : List.of();
+  }
+
 }
@@ -0,0 +1,60 @@
+/*
+ * SonarLint Core - RPC Protocol
+ * Copyright (C) SonarSource Sàrl
+ * mailto:info AT sonarsource DOT com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarsource.sonarlint.core.rpc.protocol.backend.file;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Incremental changes of the unsaved content of a file, only accepted when the client declared the
+ * {@link org.sonarsource.sonarlint.core.rpc.protocol.backend.initialize.BackendCapability#INCREMENTAL_FILE_CONTENT_CHANGES} capability.
+ * Edits are applied in order, each one relative to the content resulting from the previous one. The first changes sent after the full content
+ * of the file set the version, subsequent changes must increment it by one. When the backend detects a gap, it discards its copy of the file
+ * system for this configuration scope and lists the files again.
+ */
+public class FileContentChangesDto {
+  private final URI uri;
+  private final String configScopeId;
+  private final int version;
+  private final List<TextEditDto> edits;
+
+  public FileContentChangesDto(URI uri, String configScopeId, int version, List<TextEditDto> edits) {
+    this.uri = uri;
+    this.configScopeId = configScopeId;
+    this.version = version;
+    this.edits = edits;
+  }
+
+  public URI getUri() {
+    return uri;
+  }
+
+  public String getConfigScopeId() {
+    return configScopeId;
+  }
+
+  public int getVersion() {
+    return version;
+  }
+
+  public List<TextEditDto> getEdits() {
+    return edits;
+  }
+}
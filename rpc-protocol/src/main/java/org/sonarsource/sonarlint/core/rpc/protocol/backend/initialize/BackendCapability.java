@@ -34,5 +34,7 @@ public enum BackendCapability {
   SCA_SYNCHRONIZATION,
   @Deprecated(since = "11.9", forRemoval = true)
   CONTEXT_GENERATION,
-  PROMOTIONAL_CAMPAIGNS
+  PROMOTIONAL_CAMPAIGNS,
+  INCREMENTAL_FILE_CONTENT_CHANGES,
+  LOG_BATCHES
 }
@@ -19,17 +19,34 @@
  */
 package org.sonarsource.sonarlint.core.rpc.protocol.backend.tracking;
 
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
 public class ListAllParams {
   private final String configurationScopeId;
   private final boolean shouldRefresh;
+  @Nullable
+  private final Integer pageSize;
+  @Nullable
+  private final String pageCursor;
 
   public ListAllParams(String configurationScopeId) {
     this(configurationScopeId, false);
   }
 
   public ListAllParams(String configurationScopeId, boolean shouldRefresh) {
+    this(configurationScopeId, shouldRefresh, null, null);
+  }
+
+  /**
+   * @param pageSize when set, at most this many taint vulnerabilities are returned, and the response carries a cursor to the next page
+   * @param pageCursor the cursor returned with the previous page, or null to get the first page
+   */
+  public ListAllParams(String configurationScopeId, boolean shouldRefresh, @Nullable Integer pageSize, @Nullable String pageCursor) {
     this.configurationScopeId = configurationScopeId;
     this.shouldRefresh = shouldRefresh;
+    this.pageSize = pageSize;
+    this.pageCursor = pageCursor;
   }
 
   public String getConfigurationScopeId() {
@@ -39,4 +56,14 @@ public class ListAllParams {
   public boolean shouldRefresh() {
     return shouldRefresh;
   }
+
+  @CheckForNull
+  public Integer getPageSize() {
+    return pageSize;
+  }
+
+  @CheckForNull
+  public String getPageCursor() {
+    return pageCursor;
+  }
 }
@@ -20,15 +20,32 @@
 package org.sonarsource.sonarlint.core.rpc.protocol.backend.tracking;
 
 import java.util.List;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
 
 public class ListAllResponse {
   private final List<TaintVulnerabilityDto> taintVulnerabilities;
+  @Nullable
+  private final String nextPageCursor;
 
   public ListAllResponse(List<TaintVulnerabilityDto> taintVulnerabilities) {
+    this(taintVulnerabilities, null);
+  }
+
+  public ListAllResponse(List<TaintVulnerabilityDto> taintVulnerabilities, @Nullable String nextPageCursor) {
     this.taintVulnerabilities = taintVulnerabilities;
+    this.nextPageCursor = nextPageCursor;
   }
 
   public List<TaintVulnerabilityDto> getTaintVulnerabilities() {
     return taintVulnerabilities;
   }
+
+  /**
+   * @return the cursor to pass to get the next page, or null if this is the last page or paging was not requested
+   */
+  @CheckForNull
+  public String getNextPageCursor() {
+    return nextPageCursor;
+  }
 }
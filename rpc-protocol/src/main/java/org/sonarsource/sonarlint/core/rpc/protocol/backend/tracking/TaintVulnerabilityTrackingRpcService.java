@@ -28,6 +28,7 @@ public interface TaintVulnerabilityTrackingRpcService {
 
   /**
    * Returns the list of taint vulnerabilities detected for the given configuration scopes.
+   * When a page size is provided, the vulnerabilities are returned page by page, see {@link ListAllResponse#getNextPageCursor()}.
    */
   @JsonRequest
   CompletableFuture<ListAllResponse> listAll(ListAllParams params);
@@ -99,6 +99,7 @@ import org.sonarsource.sonarlint.core.rpc.protocol.common.Language;
 import org.sonarsource.sonarlint.core.rpc.protocol.common.SonarCloudRegion;
 import org.sonarsource.sonarlint.core.rpc.protocol.common.TokenDto;
 import org.sonarsource.sonarlint.core.rpc.protocol.common.UsernamePasswordDto;
+import org.sonarsource.sonarlint.core.telemetry.TelemetryLocalStorageManager;
 import org.sonarsource.sonarlint.core.test.utils.plugins.Plugin;
 import org.sonarsource.sonarlint.core.test.utils.server.ServerFixture;
 import org.sonarsource.sonarlint.core.test.utils.storage.ConfigurationScopeStorageFixture;
@@ -179,6 +180,7 @@ public class SonarLintBackendFixture {
     private String keyStoreType;
     private boolean automaticAnalysisEnabled = true;
     private TelemetryMigrationDto telemetryMigration;
+    private boolean unbufferedTelemetry;
     private LanguageSpecificRequirements languageSpecificRequirements;
     private final List<Consumer<SonarLintTestRpcServer>> beforeInitializeCallbacks = new ArrayList<>();
     private LogLevel logLevel = LogLevel.DEBUG;
@@ -473,6 +475,8 @@ public class SonarLintBackendFixture {
     public SonarLintBackendBuilder withTelemetryEnabled(String endpointUrl) {
       this.backendCapabilities.add(TELEMETRY);
       System.setProperty(PROPERTY_TELEMETRY_ENDPOINT, endpointUrl);
+      // tests read the telemetry file right after an action, so updates are not buffered
+      this.unbufferedTelemetry = true;
       return this;
     }
 
@@ -525,6 +529,9 @@ public class SonarLintBackendFixture {
         }
         database.shutdown();
         var sonarLintBackend = new SonarLintTestRpcServer(client);
+        if (unbufferedTelemetry) {
+          overrideSystemPropertyUntilShutdown(sonarLintBackend, TelemetryLocalStorageManager.PROPERTY_FLUSH_PERIOD, "0");
+        }
         beforeInitializeCallbacks.forEach(callback -> callback.accept(sonarLintBackend));
         var telemetryInitDto = new TelemetryClientConstantAttributesDto(productKey, productKey,
           "1.2.3", "4.5.6", emptyMap());
@@ -557,6 +564,22 @@ public class SonarLintBackendFixture {
       }
     }
 
+    /**
+     * The property is read by the backend components when they are created, it is restored once the backend stops so that it does not leak
+     * into the next tests of the same JVM
+     */
+    private static void overrideSystemPropertyUntilShutdown(SonarLintTestRpcServer backend, String key, String value) {
+      var previousValue = System.getProperty(key);
+      System.setProperty(key, value);
+      backend.afterShutdown(() -> {
+        if (previousValue == null) {
+          System.clearProperty(key);
+        } else {
+          System.setProperty(key, previousValue);
+        }
+      });
+    }
+
     private static URI createUriFromString(@Nullable String uri) {
       return uri == null ? null : URI.create(uri);
     }
@@ -30,7 +30,9 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.jetbrains.annotations.NotNull;
 import org.sonarsource.sonarlint.core.commons.storage.SonarLintDatabase;
@@ -83,6 +85,7 @@ public class SonarLintTestRpcServer implements SonarLintRpcServer {
   private Path workDir;
   private Path storageRoot;
   private String productKey;
+  private final List<Runnable> afterShutdownActions = new ArrayList<>();
 
   public SonarLintTestRpcServer(SonarLintRpcClientDelegate client) throws IOException {
     this.client = client;
@@ -266,6 +269,10 @@ public class SonarLintTestRpcServer implements SonarLintRpcServer {
     return serverUsingJava.getDatabase();
   }
 
+  void afterShutdown(Runnable action) {
+    afterShutdownActions.add(action);
+  }
+
   @Override
   public CompletableFuture<Void> shutdown() {
     try {
@@ -273,6 +280,7 @@ public class SonarLintTestRpcServer implements SonarLintRpcServer {
     } catch (Exception e) {
       throw new IllegalStateException(e);
     } finally {
+      afterShutdownActions.forEach(Runnable::run);
       try {
         serverLauncher.close();
       } catch (Exception e) {